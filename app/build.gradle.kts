@@ -26,18 +26,59 @@ android {
             )
         }
     }
+
+    // "stress" is a standard build plus developer tools that fill the local database with a
+    // large synthetic workload and simulate a large group (src/stress). Both flavours share
+    // the application id.
+    flavorDimensions += "workload"
+    productFlavors {
+        create("standard") {
+            dimension = "workload"
+        }
+        create("stress") {
+            dimension = "workload"
+            versionNameSuffix = "-stress"
+        }
+    }
+
+    // The workload generator, loader and Firestore stand-in (src/workload) ship only in the
+    // stress flavour, and double as fixtures for the standard flavour's unit-test benchmarks.
+    sourceSets {
+        getByName("stress").java.srcDir("src/workload/java")
+        getByName("testStandard").java.srcDir("src/workload/java")
+    }
+
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_17
         targetCompatibility = JavaVersion.VERSION_17
     }
     buildFeatures {
         viewBinding = true
+        buildConfig = true
+    }
+
+    testOptions {
+        unitTests.isIncludeAndroidResources = true
+    }
+}
+
+// *Benchmark classes under src/test are skipped by ordinary unit test runs.
+// ./gradlew :app:testStandardDebugUnitTest -Pbenchmarks runs only them.
+tasks.withType<Test>().configureEach {
+    if (project.hasProperty("benchmarks")) {
+        filter.includeTestsMatching("*Benchmark")
+        systemProperty("benchmark.reportDir", layout.buildDirectory.dir("reports/benchmarks").get().asFile.path)
+        testLogging.showStandardStreams = true
+        maxHeapSize = "2g"
+    } else {
+        exclude("**/*Benchmark.class")
     }
 }
 
 dependencies {
 
     implementation(libs.androidx.core)
+    implementation(libs.androidx.core.splashscreen)
     implementation(libs.androidx.lifecycle.runtime)
     implementation(libs.androidx.appcompat)
     implementation(libs.material)
@@ -68,6 +109,9 @@ dependencies {
     implementation("androidx.media3:media3-ui:1.5.1")
     
     testImplementation(libs.junit)
+    testImplementation(libs.robolectric)
+    testImplementation(libs.androidx.test.core)
+    testImplementation(libs.androidx.arch.core.testing)
     androidTestImplementation(libs.androidx.junit)
     androidTestImplementation(libs.androidx.espresso.core)
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.student.overcooked.ui.MainNavActivity;
+import com.student.overcooked.startup.LaunchTimer;
 import com.student.overcooked.util.SessionManager;
 import com.google.android.gms.auth.api.signin.GoogleSignIn;
 import com.google.android.gms.auth.api.signin.GoogleSignInAccount;
@@ -56,6 +57,8 @@ public class LoginActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_login);
+        // Ends the launch timing started by the splash, if this is where it landed
+        LaunchTimer.get().reportInteractive(this);
 
         auth = FirebaseAuth.getInstance();
 
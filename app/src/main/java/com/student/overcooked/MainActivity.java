@@ -6,34 +6,95 @@ import android.os.Handler;
 import android.os.Looper;
 
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.splashscreen.SplashScreen;
 
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseUser;
+import com.student.overcooked.startup.LaunchTimer;
+import com.student.overcooked.startup.StartupOrchestrator;
 import com.student.overcooked.ui.MainNavActivity;
 
 /**
  * Main Activity - Splash screen and entry point
- * Redirects to MainNavActivity after a short delay
- * In a complete app, this would check auth state and route accordingly
+ * Keeps the system splash up until auth state is known and, for a signed-in user, the
+ * database is open and the home snapshot loaded; then routes by auth state. Gives up waiting
+ * after {@link #READY_TIMEOUT_MS}.
  */
 public class MainActivity extends AppCompatActivity {
 
-    private static final long SPLASH_DELAY = 1500L; // 1.5 seconds
+    private static final long READY_TIMEOUT_MS = 3000;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable timeout = () -> {
+        LaunchTimer.get().mark("timeout");
+        navigate();
+    };
+
+    private FirebaseAuth.AuthStateListener authListener;
+    private int pendingSignals;
+    private boolean navigated;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        SplashScreen splashScreen = SplashScreen.installSplashScreen(this);
         super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_splash);
+        splashScreen.setKeepOnScreenCondition(() -> !navigated);
+
+        if (savedInstanceState == null) {
+            LaunchTimer.get().begin();
+        }
+        handler.postDelayed(timeout, READY_TIMEOUT_MS);
+
+        // The first callback comes once the persisted user, if any, has been restored
+        authListener = auth -> {
+            auth.removeAuthStateListener(authListener);
+            onAuthResolved(auth.getCurrentUser());
+        };
+        FirebaseAuth.getInstance().addAuthStateListener(authListener);
+    }
+
+    private void onAuthResolved(FirebaseUser user) {
+        LaunchTimer.get().mark("auth");
+        if (user == null) {
+            // The login screen needs neither the database nor the snapshot
+            navigate();
+            return;
+        }
+        StartupOrchestrator startup = OvercookedApplication.getInstance().getStartup();
+        pendingSignals = 2;
+        startup.whenDone("database", () -> onSignal("database"));
+        startup.whenDone("homeSnapshot", () -> onSignal("homeSnapshot"));
+    }
 
-        // Navigate to MainNavActivity after delay
-        new Handler(Looper.getMainLooper()).postDelayed(this::checkAuthAndNavigate, SPLASH_DELAY);
+    private void onSignal(String name) {
+        LaunchTimer.get().mark(name);
+        if (--pendingSignals == 0) {
+            navigate();
+        }
     }
 
-    private void checkAuthAndNavigate() {
-        com.google.firebase.auth.FirebaseAuth auth = com.google.firebase.auth.FirebaseAuth.getInstance();
-        if (auth.getCurrentUser() != null) {
+    private void navigate() {
+        if (navigated || isFinishing() || isDestroyed()) {
+            return;
+        }
+        navigated = true;
+        handler.removeCallbacks(timeout);
+        LaunchTimer.get().mark("splash");
+
+        if (FirebaseAuth.getInstance().getCurrentUser() != null) {
             startActivity(new Intent(this, MainNavActivity.class));
         } else {
             startActivity(new Intent(this, LoginActivity.class));
         }
         finish();
     }
+
+    @Override
+    protected void onDestroy() {
+        handler.removeCallbacks(timeout);
+        if (authListener != null) {
+            FirebaseAuth.getInstance().removeAuthStateListener(authListener);
+        }
+        super.onDestroy();
+    }
 }
@@ -1,20 +1,34 @@
 package com.student.overcooked;
 
 import android.app.Application;
-import android.util.Log;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
 
 import androidx.appcompat.app.AppCompatDelegate;
+import androidx.core.content.ContextCompat;
 
 import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.prefs.AppPreferences;
+import com.student.overcooked.data.repository.CookedMeterHistoryRepository;
+import com.student.overcooked.data.repository.DashboardRepository;
 import com.student.overcooked.data.repository.GroupRepository;
 import com.student.overcooked.data.repository.ProjectRepository;
+import com.student.overcooked.data.repository.SearchRepository;
 import com.student.overcooked.data.repository.TaskRepository;
+import com.student.overcooked.data.sync.CookedMeterHistoryWorker;
+import com.student.overcooked.data.sync.DataMigrationWorker;
+import com.student.overcooked.data.sync.DatabaseMaintenanceWorker;
+import com.student.overcooked.startup.Lazy;
+import com.student.overcooked.startup.StartupOrchestrator;
+import com.student.overcooked.ui.home.HomeSnapshotStore;
+import com.student.overcooked.util.DayClock;
 import com.student.overcooked.util.SessionManager;
-import com.student.overcooked.util.FirebaseDataMigration;
 import com.student.overcooked.util.UiModeSettings;
+import com.student.overcooked.widget.CookedMeterWidgetUpdater;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.firestore.FirebaseFirestore;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,49 +41,81 @@ public class OvercookedApplication extends Application {
 
     private static volatile OvercookedApplication instance;
 
-    // Lazy initialized instances
-    private OvercookedDatabase database;
-    private TaskRepository taskRepository;
-    private ProjectRepository projectRepository;
-    private GroupRepository groupRepository;
-    private com.student.overcooked.data.repository.UserRepository userRepository;
-    private SessionManager sessionManager;
+    // Lazy initialized instances, each behind its own lock so startup can build them in parallel
+    private final Object databaseLock = new Object();
+    private volatile OvercookedDatabase database;
+    private final Lazy<TaskRepository> taskRepository = new Lazy<>(() ->
+            new TaskRepository(getDatabase().taskDao(), getUserRepository()));
+    private final Lazy<ProjectRepository> projectRepository = new Lazy<>(() ->
+            new ProjectRepository(getDatabase().projectDao(), getDatabase().teamMemberDao()));
+    private final Lazy<GroupRepository> groupRepository = new Lazy<>(() ->
+            new GroupRepository(
+                    getDatabase().groupDao(),
+                    getDatabase().groupTaskDao(),
+                    getDatabase().groupMessageDao(),
+                    getDatabase().projectResourceDao(),
+                    getUserRepository()
+            ));
+    private final Lazy<DashboardRepository> dashboardRepository = new Lazy<>(() ->
+            new DashboardRepository(getDatabase().dashboardDao(), getDatabase().taskDao()));
+    private final Lazy<CookedMeterHistoryRepository> cookedMeterHistoryRepository = new Lazy<>(() ->
+            new CookedMeterHistoryRepository(getDatabase().cookedMeterHistoryDao()));
+    private final Lazy<SearchRepository> searchRepository = new Lazy<>(() ->
+            new SearchRepository(getDatabase().searchDao()));
+    private final Lazy<com.student.overcooked.data.repository.UserRepository> userRepository = new Lazy<>(
+            com.student.overcooked.data.repository.UserRepository::new);
+    private final Lazy<SessionManager> sessionManager = new Lazy<>(() -> new SessionManager(this));
+
+    private StartupOrchestrator startup;
 
     @Override
     public void onCreate() {
         super.onCreate();
         instance = this;
 
+        // Has to happen before anything touches the Realtime Database, so it stays off the
+        // startup graph: the disk cache cannot be turned on once an instance is in use
+        FirebaseDatabase.getInstance().setPersistenceEnabled(true);
+
+        // Start reading preferences now; the UI mode below is the first thing to need them
+        AppPreferences.get(this);
+
+        // Cached day boundaries go stale when the user changes zone or sets the clock
+        IntentFilter timeFilter = new IntentFilter(Intent.ACTION_TIMEZONE_CHANGED);
+        timeFilter.addAction(Intent.ACTION_TIME_CHANGED);
+        ContextCompat.registerReceiver(this, new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                DayClock.get().invalidate();
+            }
+        }, timeFilter, ContextCompat.RECEIVER_NOT_EXPORTED);
+
         // Apply persisted UI mode before Activities render.
         boolean dark = UiModeSettings.isDarkModeEnabled(this);
         AppCompatDelegate.setDefaultNightMode(dark
             ? AppCompatDelegate.MODE_NIGHT_YES
             : AppCompatDelegate.MODE_NIGHT_NO);
-        
-        // Configure Firebase Realtime Database
-        FirebaseDatabase.getInstance().setPersistenceEnabled(true);
-        
-        // Run Firebase data migration to populate missing user displayNames
-        runFirebaseDataMigration();
-    }
-
-    private void runFirebaseDataMigration() {
-        FirebaseDataMigration migration = new FirebaseDataMigration(
-                FirebaseFirestore.getInstance(),
-                FirebaseAuth.getInstance()
-        );
-        
-        migration.migrateUserDisplayNames(new FirebaseDataMigration.OnMigrationCompleteListener() {
-            @Override
-            public void onComplete(int migratedCount, int errorCount) {
-                Log.d("FirebaseMigration", "Migration complete. Migrated: " + migratedCount + ", Errors: " + errorCount);
-            }
 
-            @Override
-            public void onError(Exception e) {
-                Log.e("FirebaseMigration", "Migration failed: " + e.getMessage(), e);
-            }
-        });
+        startup = new StartupOrchestrator(this)
+                // Opening runs schema creation or the destructive fallback, if any
+                .add("database", () -> getDatabase().getOpenHelper().getWritableDatabase())
+                .add("userRepository", this::getUserRepository)
+                .add("taskRepository", this::getTaskRepository, "database", "userRepository")
+                .add("groupRepository", this::getGroupRepository, "database", "userRepository")
+                // Last rendered home screen, painted before the live queries answer
+                .add("homeSnapshot", () -> HomeSnapshotStore.preload(this))
+                // Tombstone purge and vacuum, deferred until the device is idle and charging
+                .add("workers", () -> {
+                    DatabaseMaintenanceWorker.schedule(this);
+                    CookedMeterHistoryWorker.schedule(this);
+                })
+                // One-shot fixes to the signed-in user's remote data; also picks up later sign-ins
+                .add("migrations", () -> FirebaseAuth.getInstance()
+                        .addAuthStateListener(auth -> DataMigrationWorker.enqueueIfNeeded(this)))
+                // Widgets survive process death; resume pushing meter changes to them
+                .addOnMainThread("widgetUpdater", () -> CookedMeterWidgetUpdater.startIfWidgetsPresent(this),
+                        "taskRepository");
+        startup.start();
     }
 
     public static OvercookedApplication getInstance() {
@@ -79,61 +125,77 @@ public class OvercookedApplication extends Application {
         return instance;
     }
 
-    public synchronized OvercookedDatabase getDatabase() {
-        if (database == null) {
-            database = OvercookedDatabase.getDatabase(this);
-        }
-        return database;
+    /**
+     * Startup work started in {@link #onCreate()}; use {@link StartupOrchestrator#whenDone}
+     * to wait for the parts a caller needs.
+     */
+    public StartupOrchestrator getStartup() {
+        return startup;
     }
 
-    public synchronized void resetLocalCache() {
-        if (database != null) {
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            executor.execute(() -> {
-                database.clearAllTables();
-                database.close();
-                OvercookedDatabase.closeDatabase();
-                database = null;
-            });
-            executor.shutdown();
+    public OvercookedDatabase getDatabase() {
+        OvercookedDatabase result = database;
+        if (result == null) {
+            synchronized (databaseLock) {
+                result = database;
+                if (result == null) {
+                    result = OvercookedDatabase.getDatabase(this);
+                    database = result;
+                }
+            }
         }
+        return result;
     }
 
-    public synchronized TaskRepository getTaskRepository() {
-        if (taskRepository == null) {
-            taskRepository = new TaskRepository(getDatabase().taskDao(), getUserRepository());
+    public void resetLocalCache() {
+        synchronized (databaseLock) {
+            if (database != null) {
+                ExecutorService executor = Executors.newSingleThreadExecutor();
+                executor.execute(() -> {
+                    synchronized (databaseLock) {
+                        if (database == null) {
+                            return;
+                        }
+                        database.clearAllTables();
+                        database.close();
+                        OvercookedDatabase.closeDatabase();
+                        database = null;
+                    }
+                });
+                executor.shutdown();
+            }
         }
-        return taskRepository;
     }
 
-    public synchronized ProjectRepository getProjectRepository() {
-        if (projectRepository == null) {
-            projectRepository = new ProjectRepository(
-                    getDatabase().projectDao(),
-                    getDatabase().teamMemberDao()
-            );
-        }
-        return projectRepository;
+    public TaskRepository getTaskRepository() {
+        return taskRepository.get();
     }
 
-    public synchronized GroupRepository getGroupRepository() {
-        if (groupRepository == null) {
-            groupRepository = new GroupRepository(getDatabase().groupDao(), getDatabase().groupTaskDao(), getUserRepository());
-        }
-        return groupRepository;
+    public ProjectRepository getProjectRepository() {
+        return projectRepository.get();
     }
 
-    public synchronized com.student.overcooked.data.repository.UserRepository getUserRepository() {
-        if (userRepository == null) {
-            userRepository = new com.student.overcooked.data.repository.UserRepository();
-        }
-        return userRepository;
+    public GroupRepository getGroupRepository() {
+        return groupRepository.get();
     }
 
-    public synchronized SessionManager getSessionManager() {
-        if (sessionManager == null) {
-            sessionManager = new SessionManager(this);
-        }
-        return sessionManager;
+    public DashboardRepository getDashboardRepository() {
+        return dashboardRepository.get();
+    }
+
+    public CookedMeterHistoryRepository getCookedMeterHistoryRepository() {
+        return cookedMeterHistoryRepository.get();
+    }
+
+    public SearchRepository getSearchRepository() {
+        return searchRepository.get();
+    }
+
+    public com.student.overcooked.data.repository.UserRepository getUserRepository() {
+        return userRepository.get();
+    }
+
+    public SessionManager getSessionManager() {
+        return sessionManager.get();
     }
 }
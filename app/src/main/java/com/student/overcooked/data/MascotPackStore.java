@@ -1,39 +1,34 @@
 package com.student.overcooked.data;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
 import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 
 import com.student.overcooked.R;
 import com.student.overcooked.data.model.CookedLevel;
+import com.student.overcooked.data.prefs.AppPreferences;
 
 public class MascotPackStore {
 
-    public static final String PREFS = "mascot_prefs";
-    public static final String KEY_SELECTED_PACK = "selected_pack";
-
-    public static final String PACK_DEFAULT = "default";
+    public static final String PACK_DEFAULT = AppPreferences.DEFAULT_MASCOT_PACK;
     public static final String PACK_GIGA_TOAST = "giga_toast";
     public static final String PACK_STUDENT = "student";
     public static final String PACK_POTATO = "potato";
 
-    private final Context context;
+    private final AppPreferences prefs;
 
     public MascotPackStore(@NonNull Context context) {
-        this.context = context.getApplicationContext();
+        this.prefs = AppPreferences.get(context);
     }
 
     @NonNull
     public String getSelectedPackId() {
-        SharedPreferences prefs = context.getSharedPreferences(PREFS, Context.MODE_PRIVATE);
-        return prefs.getString(KEY_SELECTED_PACK, PACK_DEFAULT);
+        return prefs.values().getMascotPackId();
     }
 
     public void setSelectedPackId(@NonNull String packId) {
-        SharedPreferences prefs = context.getSharedPreferences(PREFS, Context.MODE_PRIVATE);
-        prefs.edit().putString(KEY_SELECTED_PACK, packId).apply();
+        prefs.edit(editor -> editor.setMascotPackId(packId));
     }
 
     @DrawableRes
@@ -0,0 +1,46 @@
+package com.student.overcooked.data.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Upsert;
+
+import com.student.overcooked.data.model.CookedMeterDaily;
+import com.student.overcooked.data.model.CookedMeterTrendPoint;
+
+import java.util.List;
+
+/**
+ * Daily cooked meter rollups and their weekly and monthly downsamples.
+ * Every query reads only {@code cooked_meter_daily}, so a year of history is at most
+ * 365 rows however many tasks the student has.
+ */
+@Dao
+public interface CookedMeterHistoryDao {
+
+    /** strftime arguments for the stored midnight as a local date; weeks start on Monday (%W) */
+    String LOCAL_DAY = "(dayStart / 1000), 'unixepoch', 'localtime'";
+
+    @Upsert
+    void upsert(CookedMeterDaily day);
+
+    @Query("SELECT * FROM cooked_meter_daily WHERE dayStart = :dayStart")
+    CookedMeterDaily getDaySync(long dayStart);
+
+    @Query("SELECT dayStart AS bucketStart, percentage AS averagePercentage, "
+            + "peakPercentage, 1 AS days "
+            + "FROM cooked_meter_daily WHERE dayStart >= :from ORDER BY dayStart ASC")
+    LiveData<List<CookedMeterTrendPoint>> getDailyTrend(long from);
+
+    @Query("SELECT MIN(dayStart) AS bucketStart, CAST(ROUND(AVG(percentage)) AS INTEGER) AS averagePercentage, "
+            + "MAX(peakPercentage) AS peakPercentage, COUNT(*) AS days "
+            + "FROM cooked_meter_daily WHERE dayStart >= :from "
+            + "GROUP BY strftime('%Y-%W', " + LOCAL_DAY + ") ORDER BY bucketStart ASC")
+    LiveData<List<CookedMeterTrendPoint>> getWeeklyTrend(long from);
+
+    @Query("SELECT MIN(dayStart) AS bucketStart, CAST(ROUND(AVG(percentage)) AS INTEGER) AS averagePercentage, "
+            + "MAX(peakPercentage) AS peakPercentage, COUNT(*) AS days "
+            + "FROM cooked_meter_daily WHERE dayStart >= :from "
+            + "GROUP BY strftime('%Y-%m', " + LOCAL_DAY + ") ORDER BY bucketStart ASC")
+    LiveData<List<CookedMeterTrendPoint>> getMonthlyTrend(long from);
+}
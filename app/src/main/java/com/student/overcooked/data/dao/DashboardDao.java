@@ -0,0 +1,90 @@
+package com.student.overcooked.data.dao;
+
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.student.overcooked.data.model.CookedMeterStats;
+import com.student.overcooked.data.model.DashboardStats;
+import com.student.overcooked.util.DayClock;
+
+import java.util.Date;
+
+/**
+ * Aggregate queries backing the Home dashboard
+ */
+@Dao
+public interface DashboardDao {
+
+    /**
+     * Pending personal tasks plus, when {@code :userId} is not null, group tasks assigned to
+     * that user. Only the columns the cooked meter reads are carried through the union.
+     */
+    String METER_ROWS = "(SELECT priority, deadline, isCompleted FROM tasks WHERE pendingDelete = 0 "
+            + "UNION ALL "
+            + "SELECT priority, deadline, isCompleted FROM group_tasks "
+            + "WHERE pendingDelete = 0 AND :userId IS NOT NULL AND assigneeId = :userId)";
+
+    /** Whole days until the deadline, truncated toward zero like {@code DayClock.daysUntil} */
+    String DAYS_UNTIL = "((deadline - :now) / " + DayClock.DAY_MILLIS + ")";
+
+    /**
+     * The cooked meter aggregated in one pass, mirroring {@code CookedMeterCalculator}:
+     * priority weight 1/2/3 times a deadline multiplier of 3.0 (overdue by a whole day),
+     * 2.5 (within 2 days), 1.5 (within 7 days) or 1.0, summed in half units. Constant
+     * memory however many tasks there are.
+     */
+    String COOKED_METER_STATS = "SELECT "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 THEN "
+            + "    (CASE priority WHEN 'LOW' THEN 1 WHEN 'HIGH' THEN 3 ELSE 2 END) * "
+            + "    (CASE WHEN deadline = 0 THEN 2 "
+            + "          WHEN " + DAYS_UNTIL + " < 0 THEN 6 "
+            + "          WHEN " + DAYS_UNTIL + " <= 2 THEN 5 "
+            + "          WHEN " + DAYS_UNTIL + " <= 7 THEN 3 "
+            + "          ELSE 2 END) "
+            + "  ELSE 0 END), 0) AS stressHalfUnits, "
+            + "  COUNT(*) AS totalTasks, "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 THEN 1 ELSE 0 END), 0) AS pendingTasks, "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 1 THEN 1 ELSE 0 END), 0) AS completedTasks, "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 AND deadline > 0 AND deadline < :now "
+            + "    THEN 1 ELSE 0 END), 0) AS overdueTasks, "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 AND deadline > 0 AND deadline >= :now "
+            + "    AND " + DAYS_UNTIL + " <= 2 THEN 1 ELSE 0 END), 0) AS urgentTasks, "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 AND deadline >= :dayStart AND deadline < :dayEnd "
+            + "    THEN 1 ELSE 0 END), 0) AS todayTasks "
+            + "FROM " + METER_ROWS;
+
+    /**
+     * All quick stat counts in one statement. Each table is scanned once by its own
+     * aggregate sub-select and the three single-row results are joined together.
+     * Group task totals come from the per-group counters on {@code groups}, which cover
+     * every group the user belongs to rather than only the ones cached in {@code group_tasks}.
+     */
+    @Query("SELECT t.pendingTasks, t.completedTasks, t.overdueTasks, "
+            + "p.activeProjects, p.totalProjects, "
+            + "g.groupCount, g.totalGroupTasks, g.completedGroupTasks "
+            + "FROM (SELECT "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 THEN 1 ELSE 0 END), 0) AS pendingTasks, "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 1 THEN 1 ELSE 0 END), 0) AS completedTasks, "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 AND deadline > 0 AND deadline < :now THEN 1 ELSE 0 END), 0) AS overdueTasks "
+            + "  FROM tasks WHERE pendingDelete = 0) AS t, "
+            + "(SELECT "
+            + "  COALESCE(SUM(CASE WHEN isCompleted = 0 THEN 1 ELSE 0 END), 0) AS activeProjects, "
+            + "  COUNT(*) AS totalProjects "
+            + "  FROM projects) AS p, "
+            + "(SELECT "
+            + "  COUNT(*) AS groupCount, "
+            + "  COALESCE(SUM(totalTasks), 0) AS totalGroupTasks, "
+            + "  COALESCE(SUM(completedTasks), 0) AS completedGroupTasks "
+            + "  FROM groups) AS g")
+    LiveData<DashboardStats> getDashboardStats(Date now);
+
+    /**
+     * @param dayStart local midnight starting the day containing {@code now}
+     * @param dayEnd   local midnight ending it
+     * @param userId   include group tasks assigned to this user, or {@code null} for personal tasks only
+     */
+    @Query(COOKED_METER_STATS)
+    CookedMeterStats getCookedMeterStatsSync(long now, long dayStart, long dayEnd, @Nullable String userId);
+}
@@ -3,29 +3,82 @@ package com.student.overcooked.data.dao;
 import androidx.lifecycle.LiveData;
 import androidx.room.Dao;
 import androidx.room.Delete;
-import androidx.room.Insert;
-import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import com.student.overcooked.data.model.Group;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Dao
 public interface GroupDao {
+
+    int ID_CHUNK_SIZE = 500;
+
     @Query("SELECT * FROM groups")
     LiveData<List<Group>> getAllGroups();
 
     @Query("SELECT * FROM groups WHERE id = :groupId")
     LiveData<Group> getGroupById(String groupId);
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Upsert
     void insert(Group group);
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Upsert
     void insertAll(List<Group> groups);
 
+    @Query("SELECT * FROM groups WHERE id IN (:groupIds)")
+    List<Group> getGroupsByIdChunkSync(List<String> groupIds);
+
+    /**
+     * The cached groups among {@code groupIds}, looked up in chunks that stay below SQLite's
+     * bind variable limit.
+     */
+    @Transaction
+    default List<Group> getGroupsByIdsSync(List<String> groupIds) {
+        List<Group> groups = new ArrayList<>();
+        for (int from = 0; from < groupIds.size(); from += ID_CHUNK_SIZE) {
+            groups.addAll(getGroupsByIdChunkSync(
+                    groupIds.subList(from, Math.min(groupIds.size(), from + ID_CHUNK_SIZE))));
+        }
+        return groups;
+    }
+
+    /**
+     * Upsert only the groups whose content differs from the cached row.
+     *
+     * @return the number of rows written
+     */
+    @Transaction
+    default int upsertChanged(List<Group> groups) {
+        if (groups.isEmpty()) {
+            return 0;
+        }
+        List<String> ids = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            ids.add(group.getId());
+        }
+        Map<String, Group> cached = new HashMap<>();
+        for (Group group : getGroupsByIdsSync(ids)) {
+            cached.put(group.getId(), group);
+        }
+        List<Group> changed = new ArrayList<>();
+        for (Group group : groups) {
+            if (!group.equals(cached.get(group.getId()))) {
+                changed.add(group);
+            }
+        }
+        if (!changed.isEmpty()) {
+            insertAll(changed);
+        }
+        return changed.size();
+    }
+
     @Update
     void update(Group group);
 
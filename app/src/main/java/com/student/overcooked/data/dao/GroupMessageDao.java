@@ -0,0 +1,50 @@
+package com.student.overcooked.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import com.student.overcooked.data.model.GroupMessage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Local cache of group chat messages, used for search
+ */
+@Dao
+public interface GroupMessageDao {
+
+    int DELETE_CHUNK_SIZE = 500;
+
+    // Messages are never edited, so rows that are already cached are left alone
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void insertAll(List<GroupMessage> messages);
+
+    @Query("SELECT id FROM group_messages WHERE groupId = :groupId")
+    List<String> getIdsForGroup(String groupId);
+
+    @Query("DELETE FROM group_messages WHERE id IN (:ids)")
+    void deleteByIds(List<String> ids);
+
+    /**
+     * Mirror the latest snapshot of a group's messages. Only rows missing from the snapshot
+     * are deleted, in chunks that stay below SQLite's bind variable limit.
+     */
+    @Transaction
+    default void replaceForGroup(String groupId, List<GroupMessage> messages) {
+        Set<String> stale = new HashSet<>(getIdsForGroup(groupId));
+        for (GroupMessage message : messages) {
+            stale.remove(message.getId());
+        }
+        List<String> staleIds = new ArrayList<>(stale);
+        for (int from = 0; from < staleIds.size(); from += DELETE_CHUNK_SIZE) {
+            deleteByIds(staleIds.subList(from, Math.min(staleIds.size(), from + DELETE_CHUNK_SIZE)));
+        }
+        insertAll(messages);
+    }
+}
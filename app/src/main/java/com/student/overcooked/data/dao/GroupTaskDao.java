@@ -2,22 +2,31 @@ package com.student.overcooked.data.dao;
 
 import androidx.lifecycle.LiveData;
 import androidx.room.Dao;
-import androidx.room.Insert;
-import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Dao
 public interface GroupTaskDao {
 
-    @Query("SELECT * FROM group_tasks WHERE groupId = :groupId AND pendingDelete = 0 ORDER BY (deadline IS NULL) ASC, deadline ASC")
+    @Query("SELECT * FROM group_tasks WHERE groupId = :groupId AND pendingDelete = 0 ORDER BY (deadline = 0) ASC, deadline ASC")
     LiveData<List<GroupTask>> getGroupTasks(String groupId);
 
+    @Query("SELECT id, groupId, title, description, assigneeName, priority, deadline, isCompleted, status "
+            + "FROM group_tasks WHERE groupId = :groupId AND pendingDelete = 0 ORDER BY (deadline = 0) ASC, deadline ASC")
+    LiveData<List<GroupTaskSummary>> getGroupTaskSummaries(String groupId);
+
     @Query("SELECT * FROM group_tasks WHERE groupId = :groupId")
     List<GroupTask> getGroupTasksSync(String groupId);
 
@@ -30,10 +39,10 @@ public interface GroupTaskDao {
     @Query("SELECT * FROM group_tasks WHERE id = :taskId LIMIT 1")
     GroupTask getByIdSync(String taskId);
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Upsert
     void upsert(GroupTask task);
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Upsert
     void upsertAll(List<GroupTask> tasks);
 
     @Update
@@ -44,4 +53,55 @@ public interface GroupTaskDao {
 
     @Query("SELECT * FROM group_tasks WHERE pendingSync = 1")
     List<GroupTask> getPendingSyncTasksSync();
+
+    /**
+     * Drop synced copies of tasks whose group is no longer cached, e.g. after leaving or
+     * deleting a group. They are re-mirrored if the group is opened again. Skipped while the
+     * groups cache is empty, since that usually means it has not been filled yet.
+     */
+    @Query("DELETE FROM group_tasks WHERE pendingSync = 0 AND pendingDelete = 0 "
+            + "AND groupId NOT IN (SELECT id FROM groups) AND EXISTS (SELECT 1 FROM groups)")
+    int purgeOrphanedTasks();
+
+    /**
+     * Mirror a Firestore snapshot of one group's tasks in a single transaction.
+     * Rows with local pending changes are left alone and rows that already match the
+     * snapshot are not rewritten.
+     *
+     * @return the number of rows written or deleted
+     */
+    @Transaction
+    default int reconcile(String groupId, List<GroupTask> remoteTasks) {
+        Map<String, GroupTask> localById = new HashMap<>();
+        for (GroupTask local : getGroupTasksSync(groupId)) {
+            if (local != null && local.getId() != null) {
+                localById.put(local.getId(), local);
+            }
+        }
+        Set<String> remoteIds = new HashSet<>();
+        for (GroupTask remote : remoteTasks) {
+            remoteIds.add(remote.getId());
+        }
+
+        int writes = 0;
+        // Remove local tasks that were deleted remotely (but don't touch local pending items)
+        for (GroupTask local : localById.values()) {
+            if (!remoteIds.contains(local.getId())
+                    && !local.isPendingSync() && !local.isPendingDelete() && local.isLastSyncedExists()) {
+                deleteById(local.getId());
+                writes++;
+            }
+        }
+
+        // Upsert remote tasks unless there is a local pending change
+        for (GroupTask remote : remoteTasks) {
+            GroupTask local = localById.get(remote.getId());
+            if (local != null && (local.isPendingSync() || local.isPendingDelete() || local.sameRowAs(remote))) {
+                continue;
+            }
+            upsert(remote);
+            writes++;
+        }
+        return writes;
+    }
 }
@@ -12,7 +12,6 @@ import androidx.room.Update;
 import com.student.overcooked.data.model.Project;
 import com.student.overcooked.data.model.ProjectWithTasks;
 
-import java.util.Date;
 import java.util.List;
 
 /**
@@ -76,7 +75,7 @@ public interface ProjectDao {
     void deleteProjectById(long projectId);
 
     @Query("UPDATE projects SET isCompleted = :isCompleted, completedAt = :completedAt WHERE id = :projectId")
-    void updateProjectCompletion(long projectId, boolean isCompleted, Date completedAt);
+    void updateProjectCompletion(long projectId, boolean isCompleted, long completedAt);
 
     @Query("DELETE FROM projects")
     void deleteAllProjects();
@@ -0,0 +1,48 @@
+package com.student.overcooked.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.Upsert;
+
+import com.student.overcooked.data.model.ProjectResource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Local cache of workspace resources, used for search
+ */
+@Dao
+public interface ProjectResourceDao {
+
+    int DELETE_CHUNK_SIZE = 500;
+
+    @Upsert
+    void upsertAll(List<ProjectResource> resources);
+
+    @Query("SELECT id FROM project_resources WHERE groupId = :groupId")
+    List<String> getIdsForGroup(String groupId);
+
+    @Query("DELETE FROM project_resources WHERE id IN (:ids)")
+    void deleteByIds(List<String> ids);
+
+    /**
+     * Mirror the latest snapshot of a group's resources. Only rows missing from the snapshot
+     * are deleted, in chunks that stay below SQLite's bind variable limit.
+     */
+    @Transaction
+    default void replaceForGroup(String groupId, List<ProjectResource> resources) {
+        Set<String> stale = new HashSet<>(getIdsForGroup(groupId));
+        for (ProjectResource resource : resources) {
+            stale.remove(resource.getId());
+        }
+        List<String> staleIds = new ArrayList<>(stale);
+        for (int from = 0; from < staleIds.size(); from += DELETE_CHUNK_SIZE) {
+            deleteByIds(staleIds.subList(from, Math.min(staleIds.size(), from + DELETE_CHUNK_SIZE)));
+        }
+        upsertAll(resources);
+    }
+}
@@ -0,0 +1,71 @@
+package com.student.overcooked.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.student.overcooked.data.model.SearchResult;
+
+import java.util.List;
+
+/**
+ * Full-text search over the FTS4 indexes.
+ *
+ * {@code query} is an FTS MATCH expression over all indexed columns and {@code titleQuery}
+ * the same terms restricted to the title column; a title hit ranks above a body hit.
+ * Each statement first picks the top {@code limit} row ids from the index, and only those
+ * rows are joined back to their content table and get a snippet built.
+ */
+@Dao
+public interface SearchDao {
+
+    @Query("SELECT CAST(t.id AS TEXT) AS itemId, NULL AS groupId, t.title AS title, "
+            + "snippet(tasks_fts, '[', ']', '…', -1, 10) AS snippet, "
+            + "(t.id IN (SELECT rowid FROM tasks_fts WHERE tasks_fts MATCH :titleQuery)) AS titleMatch, "
+            + "t.deadline AS sortTime "
+            + "FROM tasks_fts JOIN tasks t ON t.id = tasks_fts.rowid "
+            + "WHERE tasks_fts MATCH :query AND tasks_fts.rowid IN ("
+            + "  SELECT c.id FROM tasks c "
+            + "  WHERE c.pendingDelete = 0 AND c.id IN (SELECT rowid FROM tasks_fts WHERE tasks_fts MATCH :query) "
+            + "  ORDER BY (c.id IN (SELECT rowid FROM tasks_fts WHERE tasks_fts MATCH :titleQuery)) DESC, "
+            + "  c.isCompleted ASC, c.deadline ASC LIMIT :limit) "
+            + "ORDER BY titleMatch DESC, t.isCompleted ASC, t.deadline ASC")
+    List<SearchResult> searchTasks(String query, String titleQuery, int limit);
+
+    @Query("SELECT gt.id AS itemId, gt.groupId AS groupId, gt.title AS title, "
+            + "snippet(group_tasks_fts, '[', ']', '…', -1, 10) AS snippet, "
+            + "(gt.rowid IN (SELECT rowid FROM group_tasks_fts WHERE group_tasks_fts MATCH :titleQuery)) AS titleMatch, "
+            + "gt.deadline AS sortTime "
+            + "FROM group_tasks_fts JOIN group_tasks gt ON gt.rowid = group_tasks_fts.rowid "
+            + "WHERE group_tasks_fts MATCH :query AND group_tasks_fts.rowid IN ("
+            + "  SELECT c.rowid FROM group_tasks c "
+            + "  WHERE c.pendingDelete = 0 AND c.rowid IN (SELECT rowid FROM group_tasks_fts WHERE group_tasks_fts MATCH :query) "
+            + "  ORDER BY (c.rowid IN (SELECT rowid FROM group_tasks_fts WHERE group_tasks_fts MATCH :titleQuery)) DESC, "
+            + "  c.isCompleted ASC, c.deadline ASC LIMIT :limit) "
+            + "ORDER BY titleMatch DESC, gt.isCompleted ASC, gt.deadline ASC")
+    List<SearchResult> searchGroupTasks(String query, String titleQuery, int limit);
+
+    @Query("SELECT m.id AS itemId, m.groupId AS groupId, m.senderName AS title, "
+            + "snippet(group_messages_fts, '[', ']', '…', 0, 10) AS snippet, "
+            + "0 AS titleMatch, "
+            + "m.timestamp AS sortTime "
+            + "FROM group_messages_fts JOIN group_messages m ON m.rowid = group_messages_fts.rowid "
+            + "WHERE group_messages_fts MATCH :query AND group_messages_fts.rowid IN ("
+            + "  SELECT c.rowid FROM group_messages c "
+            + "  WHERE c.rowid IN (SELECT rowid FROM group_messages_fts WHERE group_messages_fts MATCH :query) "
+            + "  ORDER BY c.timestamp DESC LIMIT :limit) "
+            + "ORDER BY m.timestamp DESC")
+    List<SearchResult> searchMessages(String query, int limit);
+
+    @Query("SELECT r.id AS itemId, r.groupId AS groupId, r.title AS title, "
+            + "snippet(project_resources_fts, '[', ']', '…', -1, 10) AS snippet, "
+            + "(r.rowid IN (SELECT rowid FROM project_resources_fts WHERE project_resources_fts MATCH :titleQuery)) AS titleMatch, "
+            + "r.createdAt AS sortTime "
+            + "FROM project_resources_fts JOIN project_resources r ON r.rowid = project_resources_fts.rowid "
+            + "WHERE project_resources_fts MATCH :query AND project_resources_fts.rowid IN ("
+            + "  SELECT c.rowid FROM project_resources c "
+            + "  WHERE c.rowid IN (SELECT rowid FROM project_resources_fts WHERE project_resources_fts MATCH :query) "
+            + "  ORDER BY (c.rowid IN (SELECT rowid FROM project_resources_fts WHERE project_resources_fts MATCH :titleQuery)) DESC, "
+            + "  c.createdAt DESC LIMIT :limit) "
+            + "ORDER BY titleMatch DESC, r.createdAt DESC")
+    List<SearchResult> searchResources(String query, String titleQuery, int limit);
+}
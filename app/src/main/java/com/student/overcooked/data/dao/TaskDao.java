@@ -3,16 +3,21 @@ package com.student.overcooked.data.dao;
 import androidx.lifecycle.LiveData;
 import androidx.room.Dao;
 import androidx.room.Delete;
-import androidx.room.Insert;
-import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import com.student.overcooked.data.model.Task;
 import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskSummary;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Data Access Object for Task operations
@@ -20,6 +25,12 @@ import java.util.List;
 @Dao
 public interface TaskDao {
 
+    // Time columns hold epoch millis with 0 for "not set", so range predicates that
+    // could match 0 (anything "before now") need an explicit deadline > 0.
+
+    /** Columns bound by the task list items, see {@link TaskSummary} */
+    String SUMMARY_COLUMNS = "id, title, course, taskType, deadline, priority, status, isCompleted";
+
     // ================= Query Operations =================
 
     @Query("SELECT * FROM tasks WHERE pendingDelete = 0 ORDER BY deadline ASC")
@@ -40,7 +51,18 @@ public interface TaskDao {
     @Query("SELECT * FROM tasks WHERE id = :taskId")
     Task getTaskById(long taskId);
 
-    @Query("SELECT * FROM tasks WHERE pendingDelete = 0 AND deadline < :now AND isCompleted = 0 ORDER BY deadline ASC")
+    // ================= List Projections =================
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM tasks WHERE pendingDelete = 0 ORDER BY deadline ASC")
+    LiveData<List<TaskSummary>> getAllTaskSummaries();
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM tasks WHERE pendingDelete = 0 ORDER BY deadline ASC")
+    List<TaskSummary> getAllTaskSummariesSync();
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM tasks WHERE pendingDelete = 0 AND projectId = :projectId ORDER BY deadline ASC")
+    LiveData<List<TaskSummary>> getTaskSummariesByProject(long projectId);
+
+    @Query("SELECT * FROM tasks WHERE pendingDelete = 0 AND deadline > 0 AND deadline < :now AND isCompleted = 0 ORDER BY deadline ASC")
     LiveData<List<Task>> getOverdueTasks(Date now);
 
     @Query("SELECT * FROM tasks WHERE pendingDelete = 0 AND deadline BETWEEN :start AND :end AND isCompleted = 0 ORDER BY deadline ASC")
@@ -58,9 +80,13 @@ public interface TaskDao {
     @Query("SELECT COUNT(*) FROM tasks WHERE pendingDelete = 0 AND isCompleted = 1")
     LiveData<Integer> getCompletedTaskCount();
 
-    @Query("SELECT COUNT(*) FROM tasks WHERE pendingDelete = 0 AND deadline < :now AND isCompleted = 0")
+    @Query("SELECT COUNT(*) FROM tasks WHERE pendingDelete = 0 AND deadline > 0 AND deadline < :now AND isCompleted = 0")
     LiveData<Integer> getOverdueTaskCount(Date now);
 
+    /** Earliest pending deadline that has not passed yet, i.e. when the overdue set next changes */
+    @Query("SELECT MIN(deadline) FROM tasks WHERE pendingDelete = 0 AND isCompleted = 0 AND deadline >= :now")
+    LiveData<Long> getNextPendingDeadline(Date now);
+
     // Synchronous query for sync operations
     @Query("SELECT * FROM tasks WHERE pendingDelete = 0 ORDER BY deadline ASC")
     List<Task> getAllTasksSync();
@@ -79,10 +105,12 @@ public interface TaskDao {
 
     // ================= Insert/Update/Delete Operations =================
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    // Upsert updates the existing row in place instead of REPLACE's delete + insert,
+    // so the rowid, index entries and FTS row survive an update.
+    @Upsert
     long insertTask(Task task);
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Upsert
     void insertTasks(List<Task> tasks);
 
     @Update
@@ -94,14 +122,77 @@ public interface TaskDao {
     @Query("DELETE FROM tasks WHERE id = :taskId")
     void deleteTaskById(long taskId);
 
+    /**
+     * Mirror the server's task list into Room in one transaction. Local rows with pending
+     * changes are never touched, and rows whose content already matches are not rewritten,
+     * so an unchanged snapshot costs reads only and does not invalidate observers.
+     *
+     * @return the number of rows written or deleted
+     */
+    @Transaction
+    default int reconcileRemote(List<Task> remoteTasks) {
+        Map<String, Task> localByFirestoreId = new HashMap<>();
+        for (Task local : getAllTasksIncludingDeletedSync()) {
+            String fid = local.getFirestoreId();
+            if (fid != null && !fid.isEmpty()) {
+                localByFirestoreId.put(fid, local);
+            }
+        }
+        Set<String> remoteIds = new HashSet<>();
+        for (Task remote : remoteTasks) {
+            remoteIds.add(remote.getFirestoreId());
+        }
+
+        int writes = 0;
+        // Apply remote deletions (but never override local pending changes).
+        for (Task local : localByFirestoreId.values()) {
+            if (local.isPendingSync() || local.isPendingDelete()) continue;
+            if (!remoteIds.contains(local.getFirestoreId()) && local.isLastSyncedExists()) {
+                deleteTask(local);
+                writes++;
+            }
+        }
+
+        // Upsert remote tasks (but never overwrite local pending changes).
+        for (Task remote : remoteTasks) {
+            String fid = remote.getFirestoreId();
+            if (fid == null || fid.isEmpty()) continue;
+
+            Task local = localByFirestoreId.get(fid);
+            if (local == null) {
+                remote.setPendingSync(false);
+                remote.setPendingDelete(false);
+                remote.setLastSyncedExists(true);
+                remote.setLastSyncedCompleted(remote.isCompleted());
+                if (remote.getId() == 0) {
+                    remote.setId(Math.abs(fid.hashCode()));
+                }
+                insertTask(remote);
+                writes++;
+            } else if (!local.isPendingSync() && !local.isPendingDelete() && local.applyRemote(remote)) {
+                updateTask(local);
+                writes++;
+            }
+        }
+        return writes;
+    }
+
+    /**
+     * Run several DAO calls atomically; observers are invalidated once, at commit.
+     */
+    @Transaction
+    default void runInTransaction(Runnable block) {
+        block.run();
+    }
+
     @Query("DELETE FROM tasks WHERE projectId = :projectId")
     void deleteTasksByProject(long projectId);
 
     @Query("UPDATE tasks SET isCompleted = :isCompleted, completedAt = :completedAt WHERE id = :taskId")
-    void updateTaskCompletion(long taskId, boolean isCompleted, Date completedAt);
+    void updateTaskCompletion(long taskId, boolean isCompleted, long completedAt);
 
     @Query("UPDATE tasks SET status = :status, isCompleted = :isCompleted, completedAt = :completedAt WHERE id = :taskId")
-    void updateTaskStatus(long taskId, TaskStatus status, boolean isCompleted, Date completedAt);
+    void updateTaskStatus(long taskId, TaskStatus status, boolean isCompleted, long completedAt);
 
     @Query("DELETE FROM tasks")
     void deleteAllTasks();
@@ -2,8 +2,10 @@ package com.student.overcooked.data.database;
 
 import androidx.room.TypeConverter;
 
+import com.student.overcooked.data.model.CookedLevel;
 import com.student.overcooked.data.model.MemberRole;
 import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.ProjectResourceType;
 import com.student.overcooked.data.model.TaskStatus;
 import com.student.overcooked.data.model.TaskType;
 
@@ -74,4 +76,31 @@ public class Converters {
     public static TaskStatus toTaskStatus(String value) {
         return value == null ? TaskStatus.NOT_STARTED : TaskStatus.fromString(value);
     }
+
+    // ProjectResourceType converters
+    @TypeConverter
+    public static String fromProjectResourceType(ProjectResourceType type) {
+        return type == null ? null : type.name();
+    }
+
+    @TypeConverter
+    public static ProjectResourceType toProjectResourceType(String value) {
+        return ProjectResourceType.fromString(value);
+    }
+
+    // CookedLevel converters
+    @TypeConverter
+    public static String fromCookedLevel(CookedLevel level) {
+        return level == null ? null : level.name();
+    }
+
+    @TypeConverter
+    public static CookedLevel toCookedLevel(String value) {
+        if (value == null) return CookedLevel.COZY;
+        try {
+            return CookedLevel.valueOf(value);
+        } catch (Exception e) {
+            return CookedLevel.COZY;
+        }
+    }
 }
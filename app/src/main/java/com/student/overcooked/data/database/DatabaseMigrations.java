@@ -0,0 +1,159 @@
+package com.student.overcooked.data.database;
+
+import androidx.annotation.NonNull;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+/**
+ * Schema migrations for {@link OvercookedDatabase}, so upgrades keep local-only data and
+ * unsynced changes instead of falling back to a destructive rebuild.
+ *
+ * The statements mirror what Room generates for the entities at each target version; Room
+ * checks the resulting schema against the entities after every step.
+ */
+final class DatabaseMigrations {
+
+    /**
+     * Chat and workspace resource caches, and the full-text indexes over them and the tasks.
+     */
+    static final Migration MIGRATION_9_10 = new Migration(9, 10) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `group_messages` (`id` TEXT NOT NULL, `groupId` TEXT, "
+                    + "`senderId` TEXT, `senderName` TEXT, `message` TEXT, `timestamp` INTEGER, "
+                    + "PRIMARY KEY(`id`))");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_group_messages_groupId` ON `group_messages` (`groupId`)");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `project_resources` (`id` TEXT NOT NULL, `groupId` TEXT, "
+                    + "`type` TEXT, `title` TEXT, `content` TEXT, `createdBy` TEXT, `createdAt` INTEGER, "
+                    + "`fileUrl` TEXT, `fileMimeType` TEXT, `fileName` TEXT, `fileSizeBytes` INTEGER NOT NULL, "
+                    + "`storagePath` TEXT, PRIMARY KEY(`id`))");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_project_resources_groupId` ON `project_resources` (`groupId`)");
+
+            createContentFts(db, "tasks_fts", "tasks", TASKS_FTS_COLUMNS);
+            createContentFts(db, "group_tasks_fts", "group_tasks", GROUP_TASKS_FTS_COLUMNS);
+            createContentFts(db, "group_messages_fts", "group_messages", "message", "senderName");
+            createContentFts(db, "project_resources_fts", "project_resources", "title", "content", "fileName");
+
+            // The two caches start empty and fill from the snapshot listeners
+            rebuildFts(db, "tasks_fts");
+            rebuildFts(db, "group_tasks_fts");
+        }
+    };
+
+    /**
+     * Task and project times go from nullable {@code Date} columns to epoch millis, with 0 for
+     * "not set". SQLite cannot add NOT NULL to a column, so each table is rebuilt.
+     */
+    static final Migration MIGRATION_10_11 = new Migration(10, 11) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            rebuildTable(db, "tasks", "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `firestoreId` TEXT, "
+                            + "`userId` TEXT, `course` TEXT, `taskType` TEXT, `projectId` INTEGER, `notes` TEXT, "
+                            + "`pendingSync` INTEGER NOT NULL, `pendingDelete` INTEGER NOT NULL, "
+                            + "`lastSyncedExists` INTEGER NOT NULL, `lastSyncedCompleted` INTEGER NOT NULL, "
+                            + BASE_TASK_COLUMNS,
+                    "`id`, `firestoreId`, `userId`, `course`, `taskType`, `projectId`, `notes`, `pendingSync`, "
+                            + "`pendingDelete`, `lastSyncedExists`, `lastSyncedCompleted`, " + BASE_TASK_COPY);
+            rebuildTable(db, "group_tasks", "`id` TEXT NOT NULL, `groupId` TEXT, `assigneeId` TEXT, "
+                            + "`assigneeName` TEXT, `createdBy` TEXT, `pendingSync` INTEGER NOT NULL, "
+                            + "`pendingDelete` INTEGER NOT NULL, `lastSyncedExists` INTEGER NOT NULL, "
+                            + "`lastSyncedCompleted` INTEGER NOT NULL, " + BASE_TASK_COLUMNS + ", PRIMARY KEY(`id`)",
+                    "`id`, `groupId`, `assigneeId`, `assigneeName`, `createdBy`, `pendingSync`, "
+                            + "`pendingDelete`, `lastSyncedExists`, `lastSyncedCompleted`, " + BASE_TASK_COPY);
+            rebuildTable(db, "projects", "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `name` TEXT, "
+                            + "`description` TEXT, `course` TEXT, `deadline` INTEGER NOT NULL, "
+                            + "`isTeamProject` INTEGER NOT NULL, `isCompleted` INTEGER NOT NULL, `colorHex` TEXT, "
+                            + "`createdAt` INTEGER NOT NULL, `completedAt` INTEGER NOT NULL",
+                    "`id`, `name`, `description`, `course`, " + millis("deadline") + ", `isTeamProject`, "
+                            + "`isCompleted`, `colorHex`, " + millis("createdAt") + ", " + millis("completedAt"));
+
+            // Dropping the old tables dropped their triggers. Task rowids are the kept ids, but
+            // group_tasks has a TEXT key and its rows were renumbered by the copy.
+            createFtsTriggers(db, "tasks_fts", "tasks", TASKS_FTS_COLUMNS);
+            createFtsTriggers(db, "group_tasks_fts", "group_tasks", GROUP_TASKS_FTS_COLUMNS);
+            rebuildFts(db, "group_tasks_fts");
+        }
+    };
+
+    /**
+     * Daily cooked meter history.
+     */
+    static final Migration MIGRATION_11_12 = new Migration(11, 12) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `cooked_meter_daily` (`dayStart` INTEGER NOT NULL, "
+                    + "`percentage` INTEGER NOT NULL, `peakPercentage` INTEGER NOT NULL, `level` TEXT NOT NULL, "
+                    + "`pendingTasks` INTEGER NOT NULL, `completedTasks` INTEGER NOT NULL, "
+                    + "`overdueTasks` INTEGER NOT NULL, `urgentTasks` INTEGER NOT NULL, "
+                    + "`todayTasks` INTEGER NOT NULL, `updatedAt` INTEGER NOT NULL, PRIMARY KEY(`dayStart`))");
+        }
+    };
+
+    static final Migration[] ALL = {MIGRATION_9_10, MIGRATION_10_11, MIGRATION_11_12};
+
+    private static final String[] TASKS_FTS_COLUMNS = {"title", "description", "course", "notes"};
+    private static final String[] GROUP_TASKS_FTS_COLUMNS = {"title", "description", "assigneeName"};
+
+    /** {@code BaseTask} columns as of version 11, in declaration order. */
+    private static final String BASE_TASK_COLUMNS = "`title` TEXT, `description` TEXT, `priority` TEXT, "
+            + "`deadline` INTEGER NOT NULL, `isCompleted` INTEGER NOT NULL, `completedAt` INTEGER NOT NULL, "
+            + "`createdAt` INTEGER NOT NULL, `status` TEXT, `rewardClaimed` INTEGER NOT NULL";
+    private static final String BASE_TASK_COPY = "`title`, `description`, `priority`, " + millis("deadline")
+            + ", `isCompleted`, " + millis("completedAt") + ", " + millis("createdAt") + ", `status`, `rewardClaimed`";
+
+    private DatabaseMigrations() {
+    }
+
+    /**
+     * An FTS4 index with external content, as declared by the {@code *Fts} entities, plus the
+     * triggers Room uses to keep it in sync with {@code content}.
+     */
+    private static void createContentFts(SupportSQLiteDatabase db, String fts, String content, String... columns) {
+        StringBuilder definitions = new StringBuilder();
+        for (String column : columns) {
+            definitions.append('`').append(column).append("` TEXT, ");
+        }
+        db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `" + fts + "` USING FTS4(" + definitions
+                + "tokenize=unicode61, content=`" + content + "`, prefix=`2,3`)");
+        createFtsTriggers(db, fts, content, columns);
+    }
+
+    private static void createFtsTriggers(SupportSQLiteDatabase db, String fts, String content, String... columns) {
+        StringBuilder names = new StringBuilder("`rowid`");
+        StringBuilder values = new StringBuilder("NEW.`rowid`");
+        for (String column : columns) {
+            names.append(", `").append(column).append('`');
+            values.append(", NEW.`").append(column).append('`');
+        }
+        String prefix = "CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_" + fts + "_";
+        for (String op : new String[]{"UPDATE", "DELETE"}) {
+            db.execSQL(prefix + "BEFORE_" + op + " BEFORE " + op + " ON `" + content + "` BEGIN "
+                    + "DELETE FROM `" + fts + "` WHERE `docid`=OLD.`rowid`; END");
+        }
+        for (String op : new String[]{"UPDATE", "INSERT"}) {
+            db.execSQL(prefix + "AFTER_" + op + " AFTER " + op + " ON `" + content + "` BEGIN "
+                    + "INSERT INTO `" + fts + "`(" + names + ") VALUES (" + values + "); END");
+        }
+    }
+
+    /**
+     * Recreate {@code table} with {@code definitions}, copying its rows through {@code select},
+     * which lists the new columns in order. Foreign keys are off while Room migrates, so
+     * dropping a parent table does not cascade.
+     */
+    private static void rebuildTable(SupportSQLiteDatabase db, String table, String definitions, String select) {
+        db.execSQL("CREATE TABLE `" + table + "_new` (" + definitions + ")");
+        db.execSQL("INSERT INTO `" + table + "_new` SELECT " + select + " FROM `" + table + "`");
+        db.execSQL("DROP TABLE `" + table + "`");
+        db.execSQL("ALTER TABLE `" + table + "_new` RENAME TO `" + table + "`");
+    }
+
+    /** A {@code Date} column read as millis, with 0 in place of null. */
+    private static String millis(String column) {
+        return "IFNULL(`" + column + "`, 0)";
+    }
+
+    private static void rebuildFts(SupportSQLiteDatabase db, String fts) {
+        db.execSQL("INSERT INTO `" + fts + "`(`" + fts + "`) VALUES('rebuild')");
+    }
+}
@@ -6,16 +6,32 @@ import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.room.TypeConverters;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.framework.FrameworkSQLiteOpenHelperFactory;
 
+import com.student.overcooked.BuildConfig;
+
+import com.student.overcooked.data.dao.CookedMeterHistoryDao;
+import com.student.overcooked.data.dao.DashboardDao;
 import com.student.overcooked.data.dao.GroupDao;
+import com.student.overcooked.data.dao.GroupMessageDao;
 import com.student.overcooked.data.dao.GroupTaskDao;
 import com.student.overcooked.data.dao.ProjectDao;
+import com.student.overcooked.data.dao.ProjectResourceDao;
+import com.student.overcooked.data.dao.SearchDao;
 import com.student.overcooked.data.dao.TaskDao;
 import com.student.overcooked.data.dao.TeamMemberDao;
+import com.student.overcooked.data.model.CookedMeterDaily;
 import com.student.overcooked.data.model.Group;
+import com.student.overcooked.data.model.GroupMessage;
+import com.student.overcooked.data.model.GroupMessageFts;
 import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskFts;
 import com.student.overcooked.data.model.Project;
+import com.student.overcooked.data.model.ProjectResource;
+import com.student.overcooked.data.model.ProjectResourceFts;
 import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskFts;
 import com.student.overcooked.data.model.TeamMember;
 
 /**
@@ -23,8 +39,10 @@ import com.student.overcooked.data.model.TeamMember;
  * Uses Room persistence library for local SQLite storage
  */
 @Database(
-    entities = {Task.class, Project.class, TeamMember.class, Group.class, GroupTask.class},
-    version = 9,
+    entities = {Task.class, Project.class, TeamMember.class, Group.class, GroupTask.class,
+            GroupMessage.class, ProjectResource.class, CookedMeterDaily.class,
+            TaskFts.class, GroupTaskFts.class, GroupMessageFts.class, ProjectResourceFts.class},
+    version = 12,
         exportSchema = false
 )
 @TypeConverters(Converters.class)
@@ -35,6 +53,11 @@ public abstract class OvercookedDatabase extends RoomDatabase {
     public abstract TeamMemberDao teamMemberDao();
     public abstract GroupDao groupDao();
     public abstract GroupTaskDao groupTaskDao();
+    public abstract DashboardDao dashboardDao();
+    public abstract GroupMessageDao groupMessageDao();
+    public abstract ProjectResourceDao projectResourceDao();
+    public abstract SearchDao searchDao();
+    public abstract CookedMeterHistoryDao cookedMeterHistoryDao();
 
     private static volatile OvercookedDatabase INSTANCE;
     private static final String DATABASE_NAME = "overcooked_database";
@@ -46,13 +69,31 @@ public abstract class OvercookedDatabase extends RoomDatabase {
         if (INSTANCE == null) {
             synchronized (OvercookedDatabase.class) {
                 if (INSTANCE == null) {
-                    INSTANCE = Room.databaseBuilder(
+                    RoomDatabase.Builder<OvercookedDatabase> builder = Room.databaseBuilder(
                             context.getApplicationContext(),
                             OvercookedDatabase.class,
                             DATABASE_NAME
                     )
-                            .fallbackToDestructiveMigration() // For development only
-                            .build();
+                            .addMigrations(DatabaseMigrations.ALL)
+                            // Only for development builds older than the first migration
+                            .fallbackToDestructiveMigration()
+                            .addCallback(new Callback() {
+                                @Override
+                                public void onOpen(SupportSQLiteDatabase db) {
+                                    // REPLACE inserts delete the old row without firing delete
+                                    // triggers unless this is on, which would leave the FTS
+                                    // indexes pointing at rows that no longer exist.
+                                    db.execSQL("PRAGMA recursive_triggers = ON");
+                                }
+                            });
+                    if (BuildConfig.DEBUG) {
+                        // Slow-query log, viewable from the debug menu on the Profile screen
+                        QueryProfiler profiler = QueryProfiler.getInstance();
+                        builder.openHelperFactory(new ProfilingOpenHelperFactory(
+                                        new FrameworkSQLiteOpenHelperFactory(), profiler))
+                                .setQueryCallback(profiler.queryCallback(), Runnable::run);
+                    }
+                    INSTANCE = builder.build();
                 }
             }
         }
@@ -0,0 +1,253 @@
+package com.student.overcooked.data.database;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+import androidx.sqlite.db.SupportSQLiteProgram;
+import androidx.sqlite.db.SupportSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteStatement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+/**
+ * Open helper factory that times every statement Room runs and reports it to {@link QueryProfiler}.
+ *
+ * The SupportSQLite interfaces are wrapped with dynamic proxies so only the handful of methods
+ * that execute SQL need special handling; everything else is forwarded untouched. Reads are
+ * timed through {@link Cursor#getCount()}, which forces SQLite to step through the whole result
+ * the same way Room's generated code does right after.
+ */
+final class ProfilingOpenHelperFactory implements SupportSQLiteOpenHelper.Factory {
+
+    private final SupportSQLiteOpenHelper.Factory delegate;
+    private final QueryProfiler profiler;
+
+    ProfilingOpenHelperFactory(@NonNull SupportSQLiteOpenHelper.Factory delegate,
+                               @NonNull QueryProfiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @NonNull
+    @Override
+    public SupportSQLiteOpenHelper create(@NonNull SupportSQLiteOpenHelper.Configuration configuration) {
+        SupportSQLiteOpenHelper helper = delegate.create(configuration);
+        return newProxy(SupportSQLiteOpenHelper.class, new OpenHelperHandler(helper));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newProxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object forward(Object target, Method method, @Nullable Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    // ================= Open helper =================
+
+    private final class OpenHelperHandler implements InvocationHandler {
+        private final SupportSQLiteOpenHelper helper;
+        private SupportSQLiteDatabase lastRaw;
+        private SupportSQLiteDatabase lastWrapped;
+
+        OpenHelperHandler(SupportSQLiteOpenHelper helper) {
+            this.helper = helper;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(helper, method, args);
+            String name = method.getName();
+            if (result instanceof SupportSQLiteDatabase
+                    && ("getWritableDatabase".equals(name) || "getReadableDatabase".equals(name))) {
+                return wrap((SupportSQLiteDatabase) result);
+            }
+            return result;
+        }
+
+        private synchronized SupportSQLiteDatabase wrap(SupportSQLiteDatabase raw) {
+            if (raw != lastRaw) {
+                lastRaw = raw;
+                lastWrapped = newProxy(SupportSQLiteDatabase.class, new DatabaseHandler(raw));
+            }
+            return lastWrapped;
+        }
+    }
+
+    // ================= Database =================
+
+    private final class DatabaseHandler implements InvocationHandler {
+        private final SupportSQLiteDatabase raw;
+
+        DatabaseHandler(SupportSQLiteDatabase raw) {
+            this.raw = raw;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "query":
+                    return timedQuery(method, args);
+                case "compileStatement": {
+                    SupportSQLiteStatement statement = (SupportSQLiteStatement) forward(raw, method, args);
+                    return newProxy(SupportSQLiteStatement.class,
+                            new StatementHandler(raw, (String) args[0], statement));
+                }
+                case "execSQL": {
+                    long start = System.nanoTime();
+                    Object result = forward(raw, method, args);
+                    Object[] bindArgs = args.length > 1 ? (Object[]) args[1] : null;
+                    profiler.record(raw, (String) args[0], bindArgs, -1, System.nanoTime() - start);
+                    return result;
+                }
+                default:
+                    return forward(raw, method, args);
+            }
+        }
+
+        private Object timedQuery(Method method, Object[] args) throws Throwable {
+            String sql;
+            Object[] bindArgs;
+            if (args[0] instanceof SupportSQLiteQuery) {
+                SupportSQLiteQuery query = (SupportSQLiteQuery) args[0];
+                sql = query.getSql();
+                bindArgs = BindingRecorder.capture(query);
+            } else {
+                sql = (String) args[0];
+                bindArgs = args.length > 1 ? (Object[]) args[1] : null;
+            }
+            long start = System.nanoTime();
+            Cursor cursor = (Cursor) forward(raw, method, args);
+            int rows = cursor.getCount();
+            profiler.record(raw, sql, bindArgs, rows, System.nanoTime() - start);
+            return cursor;
+        }
+    }
+
+    // ================= Compiled statements =================
+
+    private final class StatementHandler implements InvocationHandler {
+        private final SupportSQLiteDatabase raw;
+        private final String sql;
+        private final SupportSQLiteStatement statement;
+        private final BindingRecorder bindings = new BindingRecorder(4);
+
+        StatementHandler(SupportSQLiteDatabase raw, String sql, SupportSQLiteStatement statement) {
+            this.raw = raw;
+            this.sql = sql;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("bind")) {
+                Object value = "bindNull".equals(name) ? null : args[1];
+                bindings.set((Integer) args[0], value);
+                return forward(statement, method, args);
+            }
+            if ("clearBindings".equals(name)) {
+                bindings.clear();
+                return forward(statement, method, args);
+            }
+            if (name.startsWith("execute") || name.startsWith("simpleQuery")) {
+                long start = System.nanoTime();
+                Object result = forward(statement, method, args);
+                int rows;
+                if ("executeUpdateDelete".equals(name)) {
+                    rows = (Integer) result;
+                } else if ("executeInsert".equals(name)) {
+                    rows = ((Long) result) == -1L ? 0 : 1;
+                } else if (name.startsWith("simpleQuery")) {
+                    rows = 1;
+                } else {
+                    rows = -1;
+                }
+                profiler.record(raw, sql, bindings.snapshot(), rows, System.nanoTime() - start);
+                return result;
+            }
+            return forward(statement, method, args);
+        }
+    }
+
+    /**
+     * Collects the arguments Room binds so their shapes can be logged and replayed for EXPLAIN.
+     */
+    private static final class BindingRecorder implements SupportSQLiteProgram {
+        private Object[] args;
+        private int count;
+
+        BindingRecorder(int capacity) {
+            this.args = new Object[Math.max(capacity, 1)];
+        }
+
+        static Object[] capture(SupportSQLiteQuery query) {
+            BindingRecorder recorder = new BindingRecorder(query.getArgCount());
+            query.bindTo(recorder);
+            return recorder.snapshot();
+        }
+
+        void set(int index, @Nullable Object value) {
+            if (index > args.length) {
+                args = Arrays.copyOf(args, Math.max(index, args.length * 2));
+            }
+            args[index - 1] = value;
+            count = Math.max(count, index);
+        }
+
+        Object[] snapshot() {
+            return Arrays.copyOf(args, count);
+        }
+
+        void clear() {
+            Arrays.fill(args, null);
+            count = 0;
+        }
+
+        @Override
+        public void bindNull(int index) {
+            set(index, null);
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            set(index, value);
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            set(index, value);
+        }
+
+        @Override
+        public void bindString(int index, @NonNull String value) {
+            set(index, value);
+        }
+
+        @Override
+        public void bindBlob(int index, @NonNull byte[] value) {
+            set(index, value);
+        }
+
+        @Override
+        public void clearBindings() {
+            clear();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.student.overcooked.data.database;
+
+import android.database.Cursor;
+import android.text.TextUtils;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Debug-only profiler for Room statements.
+ *
+ * Timings come from {@link ProfilingOpenHelperFactory}, which wraps the SQLite connection, and are
+ * kept in a bounded ring buffer. Execution counts per statement come from Room's
+ * {@link RoomDatabase.QueryCallback}. Statements slower than {@link #SLOW_QUERY_THRESHOLD_MS}
+ * are flagged and, for reads, annotated with their EXPLAIN QUERY PLAN output.
+ * Bind arguments are recorded as type shapes only, so exports never contain user data.
+ */
+public final class QueryProfiler {
+
+    private static final String TAG = "QueryProfiler";
+
+    public static final long SLOW_QUERY_THRESHOLD_MS = 16L;
+    private static final int RING_CAPACITY = 256;
+    private static final int MAX_TRACKED_STATEMENTS = 128;
+
+    private static final QueryProfiler INSTANCE = new QueryProfiler();
+
+    private final Entry[] ring = new Entry[RING_CAPACITY];
+    private int nextIndex = 0;
+    private int size = 0;
+
+    private final Map<String, Integer> executionCounts = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_TRACKED_STATEMENTS;
+        }
+    };
+
+    private final Map<String, String> planCache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_TRACKED_STATEMENTS;
+        }
+    };
+
+    private QueryProfiler() {
+    }
+
+    public static QueryProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Callback handed to {@code RoomDatabase.Builder#setQueryCallback}; counts how often each
+     * statement is issued, including transaction control statements.
+     */
+    public RoomDatabase.QueryCallback queryCallback() {
+        return (sqlQuery, bindArgs) -> {
+            String key = normalize(sqlQuery);
+            synchronized (executionCounts) {
+                Integer current = executionCounts.get(key);
+                executionCounts.put(key, current == null ? 1 : current + 1);
+            }
+        };
+    }
+
+    // ================= Recording =================
+
+    void record(@NonNull SupportSQLiteDatabase rawDatabase,
+                @NonNull String sql,
+                @Nullable Object[] bindArgs,
+                int rowCount,
+                long durationNanos) {
+        long durationMs = durationNanos / 1_000_000L;
+        boolean slow = durationMs >= SLOW_QUERY_THRESHOLD_MS;
+        String plan = null;
+        if (slow) {
+            plan = explain(rawDatabase, sql, bindArgs);
+            Log.w(TAG, "Slow query (" + durationMs + " ms, " + rowCount + " rows): " + normalize(sql));
+        }
+        Entry entry = new Entry(
+                normalize(sql),
+                describeShape(bindArgs),
+                rowCount,
+                durationNanos / 1_000L,
+                System.currentTimeMillis(),
+                Thread.currentThread().getName(),
+                slow,
+                plan
+        );
+        synchronized (ring) {
+            ring[nextIndex] = entry;
+            nextIndex = (nextIndex + 1) % RING_CAPACITY;
+            if (size < RING_CAPACITY) {
+                size++;
+            }
+        }
+    }
+
+    @Nullable
+    private String explain(@NonNull SupportSQLiteDatabase rawDatabase,
+                           @NonNull String sql,
+                           @Nullable Object[] bindArgs) {
+        String trimmed = sql.trim();
+        String head = trimmed.length() > 6 ? trimmed.substring(0, 6).toUpperCase(Locale.US) : "";
+        if (!head.startsWith("SELECT") && !head.startsWith("WITH")) {
+            return null;
+        }
+        String key = normalize(sql);
+        synchronized (planCache) {
+            String cached = planCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String result;
+        try {
+            result = TextUtils.join("\n", queryPlan(rawDatabase, trimmed, bindArgs));
+        } catch (Exception e) {
+            Log.w(TAG, "EXPLAIN QUERY PLAN failed", e);
+            return null;
+        }
+        synchronized (planCache) {
+            planCache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * The detail lines of {@code EXPLAIN QUERY PLAN} for one statement, such as
+     * {@code SCAN tasks} or {@code SEARCH tasks USING INDEX ...}.
+     */
+    @NonNull
+    public static List<String> queryPlan(@NonNull SupportSQLiteDatabase database,
+                                         @NonNull String sql,
+                                         @Nullable Object[] bindArgs) {
+        List<String> plan = new ArrayList<>();
+        Object[] args = bindArgs != null ? bindArgs : new Object[0];
+        try (Cursor cursor = database.query("EXPLAIN QUERY PLAN " + sql.trim(), args)) {
+            int detailIndex = cursor.getColumnIndex("detail");
+            while (cursor.moveToNext()) {
+                plan.add(detailIndex >= 0 ? cursor.getString(detailIndex) : cursor.getString(cursor.getColumnCount() - 1));
+            }
+        }
+        return plan;
+    }
+
+    // ================= Reading =================
+
+    /**
+     * Recorded entries, oldest first.
+     */
+    @NonNull
+    public List<Entry> getEntries() {
+        List<Entry> result = new ArrayList<>();
+        synchronized (ring) {
+            int start = (nextIndex - size + RING_CAPACITY) % RING_CAPACITY;
+            for (int i = 0; i < size; i++) {
+                result.add(ring[(start + i) % RING_CAPACITY]);
+            }
+        }
+        return result;
+    }
+
+    @NonNull
+    public List<Entry> getSlowEntries() {
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : getEntries()) {
+            if (entry.isSlow()) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Statements ordered by how often Room issued them, most frequent first.
+     */
+    @NonNull
+    public List<Map.Entry<String, Integer>> getExecutionCounts() {
+        List<Map.Entry<String, Integer>> result;
+        synchronized (executionCounts) {
+            result = new ArrayList<>(executionCounts.entrySet().size());
+            for (Map.Entry<String, Integer> e : executionCounts.entrySet()) {
+                result.add(new java.util.AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue()));
+            }
+        }
+        Collections.sort(result, (a, b) -> Integer.compare(b.getValue(), a.getValue()));
+        return result;
+    }
+
+    public void clear() {
+        synchronized (ring) {
+            for (int i = 0; i < RING_CAPACITY; i++) {
+                ring[i] = null;
+            }
+            nextIndex = 0;
+            size = 0;
+        }
+        synchronized (executionCounts) {
+            executionCounts.clear();
+        }
+        // Plans may be stale after a schema or index change
+        synchronized (planCache) {
+            planCache.clear();
+        }
+    }
+
+    /**
+     * Export everything recorded so far, suitable for attaching to a bug report.
+     */
+    @NonNull
+    public String exportJson() {
+        JSONObject root = new JSONObject();
+        try {
+            root.put("exportedAt", System.currentTimeMillis());
+            root.put("slowThresholdMs", SLOW_QUERY_THRESHOLD_MS);
+
+            JSONArray queries = new JSONArray();
+            for (Entry entry : getEntries()) {
+                queries.put(entry.toJson());
+            }
+            root.put("queries", queries);
+
+            JSONArray counts = new JSONArray();
+            for (Map.Entry<String, Integer> e : getExecutionCounts()) {
+                JSONObject item = new JSONObject();
+                item.put("sql", e.getKey());
+                item.put("executions", e.getValue());
+                counts.put(item);
+            }
+            root.put("executionCounts", counts);
+            return root.toString(2);
+        } catch (JSONException e) {
+            Log.e(TAG, "Failed to export query profile", e);
+            return "{}";
+        }
+    }
+
+    // ================= Helpers =================
+
+    @NonNull
+    static String describeShape(@Nullable Object[] bindArgs) {
+        if (bindArgs == null || bindArgs.length == 0) {
+            return "()";
+        }
+        StringBuilder shape = new StringBuilder("(");
+        for (int i = 0; i < bindArgs.length; i++) {
+            if (i > 0) {
+                shape.append(", ");
+            }
+            Object arg = bindArgs[i];
+            if (arg == null) {
+                shape.append("NULL");
+            } else if (arg instanceof Long || arg instanceof Integer || arg instanceof Short
+                    || arg instanceof Byte || arg instanceof Boolean) {
+                shape.append("INTEGER");
+            } else if (arg instanceof Double || arg instanceof Float) {
+                shape.append("REAL");
+            } else if (arg instanceof byte[]) {
+                shape.append("BLOB");
+            } else {
+                shape.append("TEXT");
+            }
+        }
+        return shape.append(')').toString();
+    }
+
+    @NonNull
+    private static String normalize(@Nullable String sql) {
+        return sql == null ? "" : sql.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * A single timed statement.
+     */
+    public static final class Entry {
+        private final String sql;
+        private final String argumentShape;
+        private final int rowCount;
+        private final long durationMicros;
+        private final long timestamp;
+        private final String threadName;
+        private final boolean slow;
+        @Nullable
+        private final String queryPlan;
+
+        Entry(String sql, String argumentShape, int rowCount, long durationMicros,
+              long timestamp, String threadName, boolean slow, @Nullable String queryPlan) {
+            this.sql = sql;
+            this.argumentShape = argumentShape;
+            this.rowCount = rowCount;
+            this.durationMicros = durationMicros;
+            this.timestamp = timestamp;
+            this.threadName = threadName;
+            this.slow = slow;
+            this.queryPlan = queryPlan;
+        }
+
+        public String getSql() { return sql; }
+        public String getArgumentShape() { return argumentShape; }
+        public int getRowCount() { return rowCount; }
+        public long getDurationMicros() { return durationMicros; }
+        public long getTimestamp() { return timestamp; }
+        public String getThreadName() { return threadName; }
+        public boolean isSlow() { return slow; }
+        @Nullable
+        public String getQueryPlan() { return queryPlan; }
+
+        JSONObject toJson() throws JSONException {
+            JSONObject json = new JSONObject();
+            json.put("sql", sql);
+            json.put("args", argumentShape);
+            json.put("rows", rowCount);
+            json.put("durationMicros", durationMicros);
+            json.put("timestamp", timestamp);
+            json.put("thread", threadName);
+            json.put("slow", slow);
+            if (queryPlan != null) {
+                json.put("plan", queryPlan);
+            }
+            return json;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.student.overcooked.data.migration;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import com.google.firebase.auth.FirebaseUser;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+/**
+ * A one-shot fix to the signed-in user's remote data, run by
+ * {@link com.student.overcooked.data.sync.DataMigrationWorker}.
+ *
+ * Each migration has a version; a device records the highest version it has applied per user
+ * and only runs newer ones. Migrations must touch only documents the user owns, so their cost
+ * does not depend on how many accounts exist, and must be safe to repeat in case the worker
+ * is stopped before the version is saved.
+ */
+public interface DataMigration {
+
+    /**
+     * Position in the migration order; unique and increasing.
+     */
+    int getVersion();
+
+    /**
+     * Short identifier for logs and telemetry.
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Apply the migration, blocking until Firestore has confirmed every write.
+     *
+     * @return the number of documents written
+     */
+    @WorkerThread
+    int migrate(@NonNull FirebaseFirestore firestore, @NonNull FirebaseUser user) throws Exception;
+}
@@ -0,0 +1,76 @@
+package com.student.overcooked.data.migration;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.auth.FirebaseUser;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fills in a missing {@code displayName} or {@code username} on the user's own profile
+ * document, from the other field, the auth profile or the e-mail address.
+ */
+public final class UserDisplayNameMigration implements DataMigration {
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "user_display_names";
+    }
+
+    @WorkerThread
+    @Override
+    public int migrate(@NonNull FirebaseFirestore firestore, @NonNull FirebaseUser user) throws Exception {
+        DocumentSnapshot doc = Tasks.await(firestore.collection("users").document(user.getUid()).get());
+        if (!doc.exists()) {
+            return 0;
+        }
+        String email = doc.getString("email");
+        String displayName = doc.getString("displayName");
+        String username = doc.getString("username");
+        String nameFromAuth = user.getDisplayName();
+
+        Map<String, Object> updates = new HashMap<>();
+        if (isEmpty(displayName)) {
+            String value = firstNonEmpty(nameFromAuth, username, emailName(email));
+            if (value != null) updates.put("displayName", value);
+        }
+        if (isEmpty(username)) {
+            String value = firstNonEmpty(displayName, nameFromAuth, emailName(email));
+            if (value != null) updates.put("username", value);
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        Tasks.await(doc.getReference().update(updates));
+        return 1;
+    }
+
+    private static boolean isEmpty(@Nullable String value) {
+        return value == null || value.isEmpty();
+    }
+
+    @Nullable
+    private static String emailName(@Nullable String email) {
+        return isEmpty(email) ? null : email.split("@")[0];
+    }
+
+    @Nullable
+    private static String firstNonEmpty(String... values) {
+        for (String value : values) {
+            if (!isEmpty(value)) return value;
+        }
+        return null;
+    }
+}
@@ -1,5 +1,10 @@
 package com.student.overcooked.data.model;
 
+import androidx.room.ColumnInfo;
+
+import com.google.firebase.firestore.Exclude;
+import com.student.overcooked.util.DayClock;
+
 import java.util.Date;
 
 /**
@@ -7,28 +12,36 @@ import java.util.Date;
  *
  * Note: Concrete types (`Task`, `GroupTask`) still define their own identifiers and
  * additional fields (task type, assignee, group id, etc.).
+ *
+ * Times are kept as epoch millis, with {@link DayClock#NO_TIME} for "not set", so rows load
+ * without a {@code Date} per column and date checks are plain comparisons. The {@code Date}
+ * accessors remain for Firestore mapping and existing callers.
  */
 public class BaseTask {
     protected String title;
     protected String description;
     protected Priority priority;
-    protected Date deadline;
+    @ColumnInfo(name = "deadline")
+    protected long deadlineMillis;
     protected boolean isCompleted;
-    protected Date completedAt;
-    protected Date createdAt;
+    @ColumnInfo(name = "completedAt")
+    protected long completedAtMillis;
+    @ColumnInfo(name = "createdAt")
+    protected long createdAtMillis;
     protected TaskStatus status;
 
     // Coins should be granted only once per task.
     protected boolean rewardClaimed;
 
     public BaseTask() {
+        long now = DayClock.get().now();
         this.title = "";
         this.description = "";
         this.priority = Priority.MEDIUM;
-        this.deadline = new Date();
+        this.deadlineMillis = now;
         this.isCompleted = false;
-        this.completedAt = null;
-        this.createdAt = new Date();
+        this.completedAtMillis = DayClock.NO_TIME;
+        this.createdAtMillis = now;
         this.status = TaskStatus.NOT_STARTED;
         this.rewardClaimed = false;
     }
@@ -42,21 +55,44 @@ public class BaseTask {
     public Priority getPriority() { return priority; }
     public void setPriority(Priority priority) { this.priority = priority; }
 
-    public Date getDeadline() { return deadline; }
-    public void setDeadline(Date deadline) { this.deadline = deadline; }
+    @Exclude
+    public long getDeadlineMillis() { return deadlineMillis; }
+    @Exclude
+    public void setDeadlineMillis(long deadlineMillis) { this.deadlineMillis = deadlineMillis; }
+
+    public Date getDeadline() { return toDate(deadlineMillis); }
+    public void setDeadline(Date deadline) { this.deadlineMillis = toMillis(deadline); }
 
     public boolean isCompleted() { return isCompleted; }
     public void setCompleted(boolean completed) { isCompleted = completed; }
 
-    public Date getCompletedAt() { return completedAt; }
-    public void setCompletedAt(Date completedAt) { this.completedAt = completedAt; }
+    @Exclude
+    public long getCompletedAtMillis() { return completedAtMillis; }
+    @Exclude
+    public void setCompletedAtMillis(long completedAtMillis) { this.completedAtMillis = completedAtMillis; }
+
+    public Date getCompletedAt() { return toDate(completedAtMillis); }
+    public void setCompletedAt(Date completedAt) { this.completedAtMillis = toMillis(completedAt); }
 
-    public Date getCreatedAt() { return createdAt; }
-    public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
+    @Exclude
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    @Exclude
+    public void setCreatedAtMillis(long createdAtMillis) { this.createdAtMillis = createdAtMillis; }
+
+    public Date getCreatedAt() { return toDate(createdAtMillis); }
+    public void setCreatedAt(Date createdAt) { this.createdAtMillis = toMillis(createdAt); }
 
     public TaskStatus getStatus() { return status != null ? status : TaskStatus.NOT_STARTED; }
     public void setStatus(TaskStatus status) { this.status = status; }
 
     public boolean isRewardClaimed() { return rewardClaimed; }
     public void setRewardClaimed(boolean rewardClaimed) { this.rewardClaimed = rewardClaimed; }
+
+    static Date toDate(long millis) {
+        return millis == DayClock.NO_TIME ? null : new Date(millis);
+    }
+
+    static long toMillis(Date date) {
+        return date == null ? DayClock.NO_TIME : date.getTime();
+    }
 }
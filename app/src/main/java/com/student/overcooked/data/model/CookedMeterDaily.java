@@ -0,0 +1,87 @@
+package com.student.overcooked.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+import java.util.Objects;
+
+/**
+ * One day of cooked meter history. The row for today is overwritten as the meter moves;
+ * earlier rows are frozen, so history stays what the student actually saw rather than
+ * being recomputed from tasks that have since been edited or deleted.
+ */
+@Entity(tableName = "cooked_meter_daily")
+public class CookedMeterDaily {
+    /** Local midnight starting the day, epoch millis */
+    @PrimaryKey
+    private long dayStart;
+    private int percentage;
+    private int peakPercentage;
+    @NonNull
+    private CookedLevel level;
+    private int pendingTasks;
+    private int completedTasks;
+    private int overdueTasks;
+    private int urgentTasks;
+    private int todayTasks;
+    private long updatedAt;
+
+    public CookedMeterDaily() {
+        this.level = CookedLevel.COZY;
+    }
+
+    public long getDayStart() { return dayStart; }
+    public void setDayStart(long dayStart) { this.dayStart = dayStart; }
+
+    public int getPercentage() { return percentage; }
+    public void setPercentage(int percentage) { this.percentage = percentage; }
+
+    public int getPeakPercentage() { return peakPercentage; }
+    public void setPeakPercentage(int peakPercentage) { this.peakPercentage = peakPercentage; }
+
+    @NonNull
+    public CookedLevel getLevel() { return level; }
+    public void setLevel(@NonNull CookedLevel level) { this.level = level; }
+
+    public int getPendingTasks() { return pendingTasks; }
+    public void setPendingTasks(int pendingTasks) { this.pendingTasks = pendingTasks; }
+
+    public int getCompletedTasks() { return completedTasks; }
+    public void setCompletedTasks(int completedTasks) { this.completedTasks = completedTasks; }
+
+    public int getOverdueTasks() { return overdueTasks; }
+    public void setOverdueTasks(int overdueTasks) { this.overdueTasks = overdueTasks; }
+
+    public int getUrgentTasks() { return urgentTasks; }
+    public void setUrgentTasks(int urgentTasks) { this.urgentTasks = urgentTasks; }
+
+    public int getTodayTasks() { return todayTasks; }
+    public void setTodayTasks(int todayTasks) { this.todayTasks = todayTasks; }
+
+    public long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(long updatedAt) { this.updatedAt = updatedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CookedMeterDaily that = (CookedMeterDaily) o;
+        return dayStart == that.dayStart
+                && percentage == that.percentage
+                && peakPercentage == that.peakPercentage
+                && pendingTasks == that.pendingTasks
+                && completedTasks == that.completedTasks
+                && overdueTasks == that.overdueTasks
+                && urgentTasks == that.urgentTasks
+                && todayTasks == that.todayTasks
+                && updatedAt == that.updatedAt
+                && level == that.level;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dayStart, percentage, peakPercentage, level, pendingTasks, completedTasks,
+                overdueTasks, urgentTasks, todayTasks, updatedAt);
+    }
+}
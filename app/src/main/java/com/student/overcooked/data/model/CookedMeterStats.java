@@ -0,0 +1,67 @@
+package com.student.overcooked.data.model;
+
+/**
+ * Cooked meter inputs aggregated in SQL by {@code DashboardDao}: the weighted stress score
+ * and the task counts, with no task rows loaded.
+ *
+ * The score is in half units (priority weight times twice the deadline multiplier) so it
+ * can be summed as an exact integer; {@code CookedMeterCalculator#fromStats} turns it into
+ * the same result the in-memory calculator produces.
+ */
+public final class CookedMeterStats {
+
+    public static final CookedMeterStats EMPTY = new CookedMeterStats(0, 0, 0, 0, 0, 0, 0);
+
+    private final long stressHalfUnits;
+    private final int totalTasks;
+    private final int pendingTasks;
+    private final int completedTasks;
+    private final int overdueTasks;
+    private final int urgentTasks;
+    private final int todayTasks;
+
+    public CookedMeterStats(long stressHalfUnits, int totalTasks, int pendingTasks, int completedTasks,
+                            int overdueTasks, int urgentTasks, int todayTasks) {
+        this.stressHalfUnits = stressHalfUnits;
+        this.totalTasks = totalTasks;
+        this.pendingTasks = pendingTasks;
+        this.completedTasks = completedTasks;
+        this.overdueTasks = overdueTasks;
+        this.urgentTasks = urgentTasks;
+        this.todayTasks = todayTasks;
+    }
+
+    public long getStressHalfUnits() { return stressHalfUnits; }
+    public int getTotalTasks() { return totalTasks; }
+    public int getPendingTasks() { return pendingTasks; }
+    public int getCompletedTasks() { return completedTasks; }
+    public int getOverdueTasks() { return overdueTasks; }
+    public int getUrgentTasks() { return urgentTasks; }
+    public int getTodayTasks() { return todayTasks; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CookedMeterStats)) return false;
+        CookedMeterStats that = (CookedMeterStats) o;
+        return stressHalfUnits == that.stressHalfUnits
+                && totalTasks == that.totalTasks
+                && pendingTasks == that.pendingTasks
+                && completedTasks == that.completedTasks
+                && overdueTasks == that.overdueTasks
+                && urgentTasks == that.urgentTasks
+                && todayTasks == that.todayTasks;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(stressHalfUnits);
+        result = 31 * result + totalTasks;
+        result = 31 * result + pendingTasks;
+        result = 31 * result + completedTasks;
+        result = 31 * result + overdueTasks;
+        result = 31 * result + urgentTasks;
+        result = 31 * result + todayTasks;
+        return result;
+    }
+}
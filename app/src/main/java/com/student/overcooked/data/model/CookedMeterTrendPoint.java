@@ -0,0 +1,47 @@
+package com.student.overcooked.data.model;
+
+/**
+ * One point on the cooked meter trend chart: a day, week or month of history.
+ * Produced by the aggregate queries in {@code CookedMeterHistoryDao}.
+ */
+public final class CookedMeterTrendPoint {
+
+    private final long bucketStart;
+    private final int averagePercentage;
+    private final int peakPercentage;
+    private final int days;
+
+    public CookedMeterTrendPoint(long bucketStart, int averagePercentage, int peakPercentage, int days) {
+        this.bucketStart = bucketStart;
+        this.averagePercentage = averagePercentage;
+        this.peakPercentage = peakPercentage;
+        this.days = days;
+    }
+
+    /** Local midnight of the first recorded day in the bucket */
+    public long getBucketStart() { return bucketStart; }
+    public int getAveragePercentage() { return averagePercentage; }
+    public int getPeakPercentage() { return peakPercentage; }
+    /** Number of recorded days the bucket covers */
+    public int getDays() { return days; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CookedMeterTrendPoint)) return false;
+        CookedMeterTrendPoint that = (CookedMeterTrendPoint) o;
+        return bucketStart == that.bucketStart
+                && averagePercentage == that.averagePercentage
+                && peakPercentage == that.peakPercentage
+                && days == that.days;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(bucketStart);
+        result = 31 * result + averagePercentage;
+        result = 31 * result + peakPercentage;
+        result = 31 * result + days;
+        return result;
+    }
+}
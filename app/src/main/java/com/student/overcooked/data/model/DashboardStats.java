@@ -0,0 +1,70 @@
+package com.student.overcooked.data.model;
+
+/**
+ * Immutable snapshot of every count shown in the Home quick stats.
+ * Produced by a single query in {@code DashboardDao}, so all numbers
+ * always describe the same state of the database.
+ */
+public final class DashboardStats {
+
+    public static final DashboardStats EMPTY = new DashboardStats(0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final int pendingTasks;
+    private final int completedTasks;
+    private final int overdueTasks;
+    private final int activeProjects;
+    private final int totalProjects;
+    private final int groupCount;
+    private final int totalGroupTasks;
+    private final int completedGroupTasks;
+
+    public DashboardStats(int pendingTasks, int completedTasks, int overdueTasks,
+                          int activeProjects, int totalProjects,
+                          int groupCount, int totalGroupTasks, int completedGroupTasks) {
+        this.pendingTasks = pendingTasks;
+        this.completedTasks = completedTasks;
+        this.overdueTasks = overdueTasks;
+        this.activeProjects = activeProjects;
+        this.totalProjects = totalProjects;
+        this.groupCount = groupCount;
+        this.totalGroupTasks = totalGroupTasks;
+        this.completedGroupTasks = completedGroupTasks;
+    }
+
+    public int getPendingTasks() { return pendingTasks; }
+    public int getCompletedTasks() { return completedTasks; }
+    public int getOverdueTasks() { return overdueTasks; }
+    public int getActiveProjects() { return activeProjects; }
+    public int getTotalProjects() { return totalProjects; }
+    public int getGroupCount() { return groupCount; }
+    public int getTotalGroupTasks() { return totalGroupTasks; }
+    public int getCompletedGroupTasks() { return completedGroupTasks; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DashboardStats)) return false;
+        DashboardStats that = (DashboardStats) o;
+        return pendingTasks == that.pendingTasks
+                && completedTasks == that.completedTasks
+                && overdueTasks == that.overdueTasks
+                && activeProjects == that.activeProjects
+                && totalProjects == that.totalProjects
+                && groupCount == that.groupCount
+                && totalGroupTasks == that.totalGroupTasks
+                && completedGroupTasks == that.completedGroupTasks;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = pendingTasks;
+        result = 31 * result + completedTasks;
+        result = 31 * result + overdueTasks;
+        result = 31 * result + activeProjects;
+        result = 31 * result + totalProjects;
+        result = 31 * result + groupCount;
+        result = 31 * result + totalGroupTasks;
+        result = 31 * result + completedGroupTasks;
+        return result;
+    }
+}
@@ -1,13 +1,22 @@
 package com.student.overcooked.data.model;
 
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
 import java.util.Date;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Chat message in a group
+ * Cached in Room so chat history can be searched offline
  */
+@Entity(tableName = "group_messages", indices = {@Index("groupId")})
 public class GroupMessage {
+    @PrimaryKey
+    @NonNull
     private String id;
     private String groupId;
     private String senderId;
@@ -35,8 +44,9 @@ public class GroupMessage {
     }
 
     // Getters and Setters
+    @NonNull
     public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public void setId(@NonNull String id) { this.id = id; }
 
     public String getGroupId() { return groupId; }
     public void setGroupId(String groupId) { this.groupId = groupId; }
@@ -0,0 +1,30 @@
+package com.student.overcooked.data.model;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text index of cached group chat messages.
+ * External-content index over {@link GroupMessage}; Room keeps it in sync with triggers.
+ */
+@Fts4(contentEntity = GroupMessage.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = {2, 3})
+@Entity(tableName = "group_messages_fts")
+public class GroupMessageFts {
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    private long rowId;
+    private String message;
+    private String senderName;
+
+    public long getRowId() { return rowId; }
+    public void setRowId(long rowId) { this.rowId = rowId; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public String getSenderName() { return senderName; }
+    public void setSenderName(String senderName) { this.senderName = senderName; }
+}
@@ -4,6 +4,7 @@ import androidx.room.Entity;
 import androidx.room.PrimaryKey;
 
 import com.google.firebase.firestore.Exclude;
+import com.student.overcooked.util.DayClock;
 
 import java.util.Date;
 import java.util.Objects;
@@ -54,11 +55,11 @@ public class GroupTask extends BaseTask {
         this.assigneeId = assigneeId;
         this.assigneeName = assigneeName;
         this.priority = priority != null ? priority : Priority.MEDIUM;
-        this.deadline = deadline;
+        this.deadlineMillis = toMillis(deadline);
         this.isCompleted = isCompleted;
-        this.completedAt = completedAt;
+        this.completedAtMillis = toMillis(completedAt);
         this.createdBy = createdBy;
-        this.createdAt = createdAt != null ? createdAt : new Date();
+        this.createdAtMillis = createdAt != null ? createdAt.getTime() : DayClock.get().now();
         this.status = isCompleted ? TaskStatus.DONE : TaskStatus.NOT_STARTED;
 
         this.pendingSync = false;
@@ -110,10 +111,25 @@ public class GroupTask extends BaseTask {
 
 
     public boolean isOverdue() {
-        return !isCompleted && deadline != null && deadline.before(new Date());
+        return DayClock.isOverdue(deadlineMillis, isCompleted, DayClock.get().now());
     }
     public void setOverdue(boolean overdue) { /* Firestore compatibility - computed property */ }
 
+    /**
+     * Whether every persisted column matches, including the sync bookkeeping that
+     * {@link #equals(Object)} leaves out. Used to skip writes that would change nothing.
+     */
+    public boolean sameRowAs(GroupTask other) {
+        return other != null
+                && equals(other)
+                && priority == other.priority
+                && rewardClaimed == other.rewardClaimed
+                && pendingSync == other.pendingSync
+                && pendingDelete == other.pendingDelete
+                && lastSyncedExists == other.lastSyncedExists
+                && lastSyncedCompleted == other.lastSyncedCompleted;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -126,16 +142,16 @@ public class GroupTask extends BaseTask {
                 Objects.equals(description, groupTask.description) &&
                 Objects.equals(assigneeId, groupTask.assigneeId) &&
                 Objects.equals(assigneeName, groupTask.assigneeName) &&
-                Objects.equals(deadline, groupTask.deadline) &&
-                Objects.equals(completedAt, groupTask.completedAt) &&
+                deadlineMillis == groupTask.deadlineMillis &&
+                completedAtMillis == groupTask.completedAtMillis &&
                 Objects.equals(createdBy, groupTask.createdBy) &&
-            Objects.equals(createdAt, groupTask.createdAt) &&
+            createdAtMillis == groupTask.createdAtMillis &&
             status == groupTask.status;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(id, groupId, title, description, assigneeId, assigneeName,
-            deadline, isCompleted, completedAt, createdBy, createdAt, status);
+            deadlineMillis, isCompleted, completedAtMillis, createdBy, createdAtMillis, status);
     }
 }
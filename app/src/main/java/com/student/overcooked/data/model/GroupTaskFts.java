@@ -0,0 +1,34 @@
+package com.student.overcooked.data.model;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text index of cached group tasks.
+ * External-content index over {@link GroupTask}; Room keeps it in sync with triggers.
+ */
+@Fts4(contentEntity = GroupTask.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = {2, 3})
+@Entity(tableName = "group_tasks_fts")
+public class GroupTaskFts {
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    private long rowId;
+    private String title;
+    private String description;
+    private String assigneeName;
+
+    public long getRowId() { return rowId; }
+    public void setRowId(long rowId) { this.rowId = rowId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getAssigneeName() { return assigneeName; }
+    public void setAssigneeName(String assigneeName) { this.assigneeName = assigneeName; }
+}
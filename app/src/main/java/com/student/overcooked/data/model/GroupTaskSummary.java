@@ -0,0 +1,89 @@
+package com.student.overcooked.data.model;
+
+import androidx.room.ColumnInfo;
+
+import com.student.overcooked.util.DayClock;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Lightweight projection of a {@link GroupTask} row for the group task list.
+ * Sync flags, reward state and audit fields stay in the database until an
+ * action needs the full row.
+ */
+public class GroupTaskSummary {
+    private String id;
+    private String groupId;
+    private String title;
+    private String description;
+    private String assigneeName;
+    private Priority priority;
+    @ColumnInfo(name = "deadline")
+    private long deadlineMillis;
+    private boolean isCompleted;
+    private TaskStatus status;
+
+    public GroupTaskSummary() {
+        this.id = "";
+        this.groupId = "";
+        this.title = "";
+        this.description = "";
+        this.priority = Priority.MEDIUM;
+        this.status = TaskStatus.NOT_STARTED;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getGroupId() { return groupId; }
+    public void setGroupId(String groupId) { this.groupId = groupId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getAssigneeName() { return assigneeName; }
+    public void setAssigneeName(String assigneeName) { this.assigneeName = assigneeName; }
+
+    public Priority getPriority() { return priority; }
+    public void setPriority(Priority priority) { this.priority = priority; }
+
+    public long getDeadlineMillis() { return deadlineMillis; }
+    public void setDeadlineMillis(long deadlineMillis) { this.deadlineMillis = deadlineMillis; }
+
+    public Date getDeadline() { return BaseTask.toDate(deadlineMillis); }
+
+    public boolean isCompleted() { return isCompleted; }
+    public void setCompleted(boolean completed) { isCompleted = completed; }
+
+    public TaskStatus getStatus() { return status != null ? status : TaskStatus.NOT_STARTED; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+
+    public boolean isOverdue() {
+        return DayClock.isOverdue(deadlineMillis, isCompleted, DayClock.get().now());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GroupTaskSummary that = (GroupTaskSummary) o;
+        return isCompleted == that.isCompleted &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(groupId, that.groupId) &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(description, that.description) &&
+                Objects.equals(assigneeName, that.assigneeName) &&
+                priority == that.priority &&
+                deadlineMillis == that.deadlineMillis &&
+                status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, groupId, title, description, assigneeName, priority, deadlineMillis, isCompleted, status);
+    }
+}
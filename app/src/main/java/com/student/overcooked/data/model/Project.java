@@ -1,8 +1,11 @@
 package com.student.overcooked.data.model;
 
+import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.PrimaryKey;
 
+import com.student.overcooked.util.DayClock;
+
 import java.util.Date;
 import java.util.Objects;
 
@@ -17,24 +20,28 @@ public class Project {
     private String name;
     private String description;
     private String course;
-    private Date deadline;
+    @ColumnInfo(name = "deadline")
+    private long deadlineMillis;
     private boolean isTeamProject;
     private boolean isCompleted;
     private String colorHex;
-    private Date createdAt;
-    private Date completedAt;
+    @ColumnInfo(name = "createdAt")
+    private long createdAtMillis;
+    @ColumnInfo(name = "completedAt")
+    private long completedAtMillis;
 
     public Project() {
+        long now = DayClock.get().now();
         this.id = 0;
         this.name = "";
         this.description = "";
         this.course = "";
-        this.deadline = new Date();
+        this.deadlineMillis = now;
         this.isTeamProject = false;
         this.isCompleted = false;
         this.colorHex = "#FF6B35";
-        this.createdAt = new Date();
-        this.completedAt = null;
+        this.createdAtMillis = now;
+        this.completedAtMillis = DayClock.NO_TIME;
     }
 
     public Project(long id, String name, String description, String course, Date deadline,
@@ -44,12 +51,12 @@ public class Project {
         this.name = name;
         this.description = description != null ? description : "";
         this.course = course != null ? course : "";
-        this.deadline = deadline;
+        this.deadlineMillis = BaseTask.toMillis(deadline);
         this.isTeamProject = isTeamProject;
         this.isCompleted = isCompleted;
         this.colorHex = colorHex != null ? colorHex : "#FF6B35";
-        this.createdAt = createdAt != null ? createdAt : new Date();
-        this.completedAt = completedAt;
+        this.createdAtMillis = createdAt != null ? createdAt.getTime() : DayClock.get().now();
+        this.completedAtMillis = BaseTask.toMillis(completedAt);
     }
 
     // Getters and Setters
@@ -68,8 +75,11 @@ public class Project {
     // Alias for adapter compatibility
     public String getSubject() { return course; }
 
-    public Date getDeadline() { return deadline; }
-    public void setDeadline(Date deadline) { this.deadline = deadline; }
+    public long getDeadlineMillis() { return deadlineMillis; }
+    public void setDeadlineMillis(long deadlineMillis) { this.deadlineMillis = deadlineMillis; }
+
+    public Date getDeadline() { return BaseTask.toDate(deadlineMillis); }
+    public void setDeadline(Date deadline) { this.deadlineMillis = BaseTask.toMillis(deadline); }
 
     public boolean isTeamProject() { return isTeamProject; }
     public void setTeamProject(boolean teamProject) { isTeamProject = teamProject; }
@@ -80,26 +90,30 @@ public class Project {
     public String getColorHex() { return colorHex; }
     public void setColorHex(String colorHex) { this.colorHex = colorHex; }
 
-    public Date getCreatedAt() { return createdAt; }
-    public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public void setCreatedAtMillis(long createdAtMillis) { this.createdAtMillis = createdAtMillis; }
+
+    public Date getCreatedAt() { return BaseTask.toDate(createdAtMillis); }
+    public void setCreatedAt(Date createdAt) { this.createdAtMillis = BaseTask.toMillis(createdAt); }
+
+    public long getCompletedAtMillis() { return completedAtMillis; }
+    public void setCompletedAtMillis(long completedAtMillis) { this.completedAtMillis = completedAtMillis; }
 
-    public Date getCompletedAt() { return completedAt; }
-    public void setCompletedAt(Date completedAt) { this.completedAt = completedAt; }
+    public Date getCompletedAt() { return BaseTask.toDate(completedAtMillis); }
+    public void setCompletedAt(Date completedAt) { this.completedAtMillis = BaseTask.toMillis(completedAt); }
 
     /**
      * Check if the project is overdue
      */
     public boolean isOverdue() {
-        return !isCompleted && deadline.before(new Date());
+        return DayClock.isOverdue(deadlineMillis, isCompleted, DayClock.get().now());
     }
 
     /**
      * Get days until deadline (negative if overdue)
      */
     public int daysUntilDeadline() {
-        Date now = new Date();
-        long diffInMillis = deadline.getTime() - now.getTime();
-        return (int) (diffInMillis / (1000 * 60 * 60 * 24));
+        return DayClock.daysUntil(deadlineMillis, DayClock.get().now());
     }
 
     @Override
@@ -113,15 +127,15 @@ public class Project {
                 Objects.equals(name, project.name) &&
                 Objects.equals(description, project.description) &&
                 Objects.equals(course, project.course) &&
-                Objects.equals(deadline, project.deadline) &&
+                deadlineMillis == project.deadlineMillis &&
                 Objects.equals(colorHex, project.colorHex) &&
-                Objects.equals(createdAt, project.createdAt) &&
-                Objects.equals(completedAt, project.completedAt);
+                createdAtMillis == project.createdAtMillis &&
+                completedAtMillis == project.completedAtMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, description, course, deadline,
-                isTeamProject, isCompleted, colorHex, createdAt, completedAt);
+        return Objects.hash(id, name, description, course, deadlineMillis,
+                isTeamProject, isCompleted, colorHex, createdAtMillis, completedAtMillis);
     }
 }
@@ -1,6 +1,9 @@
 package com.student.overcooked.data.model;
 
 import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
 
 import java.util.Date;
 import java.util.Objects;
@@ -8,8 +11,11 @@ import java.util.UUID;
 
 /**
  * Resource stored within a project (individual workspace)
+ * Cached in Room so notes and titles can be searched offline
  */
+@Entity(tableName = "project_resources", indices = {@Index("groupId")})
 public class ProjectResource {
+    @PrimaryKey
     @NonNull
     private String id;
     private String groupId;
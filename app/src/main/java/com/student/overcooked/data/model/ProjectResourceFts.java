@@ -0,0 +1,34 @@
+package com.student.overcooked.data.model;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text index of workspace resource titles and notes.
+ * External-content index over {@link ProjectResource}; Room keeps it in sync with triggers.
+ */
+@Fts4(contentEntity = ProjectResource.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = {2, 3})
+@Entity(tableName = "project_resources_fts")
+public class ProjectResourceFts {
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    private long rowId;
+    private String title;
+    private String content;
+    private String fileName;
+
+    public long getRowId() { return rowId; }
+    public void setRowId(long rowId) { this.rowId = rowId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+}
@@ -0,0 +1,65 @@
+package com.student.overcooked.data.model;
+
+import androidx.room.Ignore;
+
+import java.util.Objects;
+
+/**
+ * A single hit from the unified full-text search.
+ * The snippet marks matched terms with {@code [} and {@code ]}.
+ */
+public class SearchResult {
+
+    public enum Type {
+        TASK,
+        GROUP_TASK,
+        MESSAGE,
+        RESOURCE
+    }
+
+    @Ignore
+    private Type type;
+    private String itemId;
+    private String groupId;
+    private String title;
+    private String snippet;
+    private boolean titleMatch;
+    private Long sortTime;
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    /** Local task id for {@link Type#TASK}, Firestore document id otherwise */
+    public String getItemId() { return itemId; }
+    public void setItemId(String itemId) { this.itemId = itemId; }
+
+    /** Owning group, or null for personal tasks */
+    public String getGroupId() { return groupId; }
+    public void setGroupId(String groupId) { this.groupId = groupId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getSnippet() { return snippet; }
+    public void setSnippet(String snippet) { this.snippet = snippet; }
+
+    public boolean isTitleMatch() { return titleMatch; }
+    public void setTitleMatch(boolean titleMatch) { this.titleMatch = titleMatch; }
+
+    /** Deadline for tasks, creation/send time for resources and messages */
+    public Long getSortTime() { return sortTime; }
+    public void setSortTime(Long sortTime) { this.sortTime = sortTime; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchResult that = (SearchResult) o;
+        return type == that.type && Objects.equals(itemId, that.itemId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, itemId);
+    }
+}
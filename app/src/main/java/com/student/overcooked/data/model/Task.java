@@ -3,7 +3,8 @@ package com.student.overcooked.data.model;
 import androidx.room.Entity;
 import androidx.room.PrimaryKey;
 
-import java.util.Calendar;
+import com.student.overcooked.util.DayClock;
+
 import java.util.Date;
 import java.util.Objects;
 
@@ -53,12 +54,12 @@ public class Task extends BaseTask {
         this.description = description != null ? description : "";
         this.course = course != null ? course : "";
         this.taskType = taskType != null ? taskType : TaskType.HOMEWORK;
-        this.deadline = deadline;
+        this.deadlineMillis = toMillis(deadline);
         this.isCompleted = isCompleted;
         this.projectId = projectId;
         this.priority = priority != null ? priority : Priority.MEDIUM;
-        this.createdAt = createdAt != null ? createdAt : new Date();
-        this.completedAt = completedAt;
+        this.createdAtMillis = createdAt != null ? createdAt.getTime() : DayClock.get().now();
+        this.completedAtMillis = toMillis(completedAt);
         this.notes = notes != null ? notes : "";
         this.status = isCompleted ? TaskStatus.DONE : TaskStatus.NOT_STARTED;
 
@@ -77,12 +78,12 @@ public class Task extends BaseTask {
         this.description = description != null ? description : "";
         this.course = course != null ? course : "";
         this.taskType = taskType != null ? taskType : TaskType.HOMEWORK;
-        this.deadline = deadline;
+        this.deadlineMillis = toMillis(deadline);
         this.isCompleted = isCompleted;
         this.projectId = projectId;
         this.priority = priority != null ? priority : Priority.MEDIUM;
-        this.createdAt = createdAt != null ? createdAt : new Date();
-        this.completedAt = completedAt;
+        this.createdAtMillis = createdAt != null ? createdAt.getTime() : DayClock.get().now();
+        this.completedAtMillis = toMillis(completedAt);
         this.notes = notes != null ? notes : "";
         this.status = status != null ? status : TaskStatus.NOT_STARTED;
 
@@ -130,44 +131,86 @@ public class Task extends BaseTask {
      * Check if the task is overdue
      */
     public boolean isOverdue() {
-        return !isCompleted && deadline != null && deadline.before(new Date());
+        return DayClock.isOverdue(deadlineMillis, isCompleted, DayClock.get().now());
     }
 
     /**
      * Check if the task is due today
      */
     public boolean isDueToday() {
-        if (deadline == null) return false;
-        
-        Date now = new Date();
-        Calendar todayCal = Calendar.getInstance();
-        todayCal.setTime(now);
-        todayCal.set(Calendar.HOUR_OF_DAY, 0);
-        todayCal.set(Calendar.MINUTE, 0);
-        todayCal.set(Calendar.SECOND, 0);
-        todayCal.set(Calendar.MILLISECOND, 0);
-        Date today = todayCal.getTime();
-
-        Calendar tomorrowCal = Calendar.getInstance();
-        tomorrowCal.setTime(now);
-        tomorrowCal.add(Calendar.DAY_OF_YEAR, 1);
-        tomorrowCal.set(Calendar.HOUR_OF_DAY, 0);
-        tomorrowCal.set(Calendar.MINUTE, 0);
-        tomorrowCal.set(Calendar.SECOND, 0);
-        tomorrowCal.set(Calendar.MILLISECOND, 0);
-        Date tomorrow = tomorrowCal.getTime();
-
-        return !deadline.before(today) && deadline.before(tomorrow);
+        DayClock clock = DayClock.get();
+        return clock.isDueToday(deadlineMillis, clock.now());
     }
 
     /**
      * Get days until deadline (negative if overdue)
      */
     public int daysUntilDeadline() {
-        if (deadline == null) return Integer.MAX_VALUE;
-        Date now = new Date();
-        long diffInMillis = deadline.getTime() - now.getTime();
-        return (int) (diffInMillis / (1000 * 60 * 60 * 24));
+        return DayClock.daysUntil(deadlineMillis, DayClock.get().now());
+    }
+
+    /**
+     * Take over the fields synced from Firebase and mark this row as in sync with the server.
+     * The local id and reward flag are kept.
+     *
+     * @return whether any persisted column changed
+     */
+    public boolean applyRemote(Task remote) {
+        boolean changed = !(Objects.equals(userId, remote.userId)
+                && Objects.equals(firestoreId, remote.firestoreId)
+                && Objects.equals(title, remote.title)
+                && Objects.equals(description, remote.description)
+                && Objects.equals(course, remote.course)
+                && taskType == remote.taskType
+                && priority == remote.priority
+                && status == remote.status
+                && deadlineMillis == remote.deadlineMillis
+                && createdAtMillis == remote.createdAtMillis
+                && isCompleted == remote.isCompleted
+                && completedAtMillis == remote.completedAtMillis
+                && Objects.equals(projectId, remote.projectId)
+                && Objects.equals(notes, remote.notes)
+                && !pendingSync
+                && !pendingDelete
+                && lastSyncedExists
+                && lastSyncedCompleted == remote.isCompleted);
+
+        userId = remote.userId;
+        firestoreId = remote.firestoreId;
+        title = remote.title;
+        description = remote.description;
+        course = remote.course;
+        taskType = remote.taskType;
+        priority = remote.priority;
+        status = remote.status;
+        deadlineMillis = remote.deadlineMillis;
+        createdAtMillis = remote.createdAtMillis;
+        isCompleted = remote.isCompleted;
+        completedAtMillis = remote.completedAtMillis;
+        projectId = remote.projectId;
+        notes = remote.notes;
+
+        pendingSync = false;
+        pendingDelete = false;
+        lastSyncedExists = true;
+        lastSyncedCompleted = remote.isCompleted;
+        return changed;
+    }
+
+    /**
+     * Whether every persisted column matches, including the sync bookkeeping that
+     * {@link #equals(Object)} leaves out. Used to skip writes that would change nothing.
+     */
+    public boolean sameRowAs(Task other) {
+        return other != null
+                && equals(other)
+                && Objects.equals(firestoreId, other.firestoreId)
+                && Objects.equals(userId, other.userId)
+                && rewardClaimed == other.rewardClaimed
+                && pendingSync == other.pendingSync
+                && pendingDelete == other.pendingDelete
+                && lastSyncedExists == other.lastSyncedExists
+                && lastSyncedCompleted == other.lastSyncedCompleted;
     }
 
     @Override
@@ -181,18 +224,18 @@ public class Task extends BaseTask {
                 Objects.equals(description, task.description) &&
                 Objects.equals(course, task.course) &&
                 taskType == task.taskType &&
-                Objects.equals(deadline, task.deadline) &&
+                deadlineMillis == task.deadlineMillis &&
                 Objects.equals(projectId, task.projectId) &&
                 priority == task.priority &&
-                Objects.equals(createdAt, task.createdAt) &&
-                Objects.equals(completedAt, task.completedAt) &&
+                createdAtMillis == task.createdAtMillis &&
+                completedAtMillis == task.completedAtMillis &&
                 Objects.equals(notes, task.notes) &&
                 status == task.status;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, title, description, course, taskType, deadline,
-                isCompleted, projectId, priority, createdAt, completedAt, notes, status);
+        return Objects.hash(id, title, description, course, taskType, deadlineMillis,
+                isCompleted, projectId, priority, createdAtMillis, completedAtMillis, notes, status);
     }
 }
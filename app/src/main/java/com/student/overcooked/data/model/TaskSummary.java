@@ -0,0 +1,112 @@
+package com.student.overcooked.data.model;
+
+import androidx.room.ColumnInfo;
+
+import com.student.overcooked.util.DayClock;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Lightweight projection of a {@link Task} row for list screens.
+ * Only carries the columns the list items bind; the full row is loaded
+ * through {@code TaskRepository#loadTask} when a task is opened or edited.
+ */
+public class TaskSummary {
+    private long id;
+    private String title;
+    private String course;
+    private TaskType taskType;
+    @ColumnInfo(name = "deadline")
+    private long deadlineMillis;
+    private Priority priority;
+    private TaskStatus status;
+    private boolean isCompleted;
+
+    public TaskSummary() {
+        this.title = "";
+        this.course = "";
+        this.taskType = TaskType.HOMEWORK;
+        this.priority = Priority.MEDIUM;
+        this.status = TaskStatus.NOT_STARTED;
+    }
+
+    public long getId() { return id; }
+    public void setId(long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getCourse() { return course; }
+    public void setCourse(String course) { this.course = course; }
+
+    public TaskType getTaskType() { return taskType; }
+    public void setTaskType(TaskType taskType) { this.taskType = taskType; }
+
+    public long getDeadlineMillis() { return deadlineMillis; }
+    public void setDeadlineMillis(long deadlineMillis) { this.deadlineMillis = deadlineMillis; }
+
+    public Date getDeadline() { return BaseTask.toDate(deadlineMillis); }
+
+    public Priority getPriority() { return priority; }
+    public void setPriority(Priority priority) { this.priority = priority; }
+
+    public TaskStatus getStatus() { return status != null ? status : TaskStatus.NOT_STARTED; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+
+    public boolean isCompleted() { return isCompleted; }
+    public void setCompleted(boolean completed) { isCompleted = completed; }
+
+    /**
+     * Check if the task is overdue
+     */
+    public boolean isOverdue() {
+        return isOverdue(DayClock.get().now());
+    }
+
+    public boolean isOverdue(long now) {
+        return DayClock.isOverdue(deadlineMillis, isCompleted, now);
+    }
+
+    /**
+     * Check if the task is due today
+     */
+    public boolean isDueToday() {
+        return isDueToday(DayClock.get().now());
+    }
+
+    public boolean isDueToday(long now) {
+        return DayClock.get().isDueToday(deadlineMillis, now);
+    }
+
+    /**
+     * Get days until deadline (negative if overdue)
+     */
+    public int daysUntilDeadline() {
+        return daysUntilDeadline(DayClock.get().now());
+    }
+
+    public int daysUntilDeadline(long now) {
+        return DayClock.daysUntil(deadlineMillis, now);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskSummary that = (TaskSummary) o;
+        return id == that.id &&
+                isCompleted == that.isCompleted &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(course, that.course) &&
+                taskType == that.taskType &&
+                deadlineMillis == that.deadlineMillis &&
+                priority == that.priority &&
+                status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title, course, taskType, deadlineMillis, priority, status, isCompleted);
+    }
+}
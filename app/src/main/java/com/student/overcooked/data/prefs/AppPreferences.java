@@ -0,0 +1,511 @@
+package com.student.overcooked.data.prefs;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The app's local settings and small state, kept in one file and served from memory.
+ *
+ * The file is read once on a background thread, started by {@link #get}; the first
+ * {@link #values()} call waits for that read, later ones never touch the disk. Changes go
+ * through {@link #edit}, which applies a whole batch at once to the in-memory values and
+ * queues a write of the file; edits made before the queued write runs share it. Listeners
+ * hear about changes on the main thread.
+ *
+ * On first run the values are copied from the SharedPreferences files this replaces, which
+ * are deleted once the new file is written.
+ */
+public final class AppPreferences {
+    private static final String TAG = "AppPreferences";
+
+    static final String FILE_NAME = "app_prefs.bin";
+
+    private static final int FORMAT_VERSION = 2;
+    /** Files written before data migration versions were kept here. */
+    private static final int FORMAT_VERSION_1 = 1;
+
+    public static final String DEFAULT_MASCOT_PACK = "default";
+
+    /**
+     * Called on the main thread after an edit changed something.
+     */
+    public interface Listener {
+        void onPreferencesChanged(@NonNull Values values);
+    }
+
+    /**
+     * One batch of changes, applied atomically by {@link #edit}.
+     */
+    public interface Edit {
+        void apply(@NonNull Editor editor);
+    }
+
+    private static volatile AppPreferences instance;
+
+    private final Context appContext;
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Future<Values> initialLoad;
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    @Nullable
+    private Values values;
+    private boolean writePending;
+
+    private AppPreferences(Context context) {
+        appContext = context.getApplicationContext();
+        initialLoad = ioExecutor.submit(this::load);
+    }
+
+    /**
+     * The shared store; the first call starts reading the file.
+     */
+    @NonNull
+    public static AppPreferences get(@NonNull Context context) {
+        AppPreferences result = instance;
+        if (result == null) {
+            synchronized (AppPreferences.class) {
+                result = instance;
+                if (result == null) {
+                    result = new AppPreferences(context);
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The current values. Blocks only until the file has been read the first time.
+     */
+    @NonNull
+    public Values values() {
+        synchronized (lock) {
+            if (values != null) {
+                return values;
+            }
+        }
+        Values loaded;
+        try {
+            loaded = initialLoad.get();
+        } catch (ExecutionException e) {
+            Log.w(TAG, "Reading preferences failed", e);
+            loaded = Values.DEFAULTS;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            loaded = Values.DEFAULTS;
+        }
+        synchronized (lock) {
+            if (values == null) {
+                values = loaded;
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Apply {@code edit} to the current values as one change. The editor reads back what it has
+     * set so far, so read-modify-write updates do not race with other threads.
+     */
+    public void edit(@NonNull Edit edit) {
+        values();
+        Values next;
+        synchronized (lock) {
+            Editor editor = new Editor(values);
+            edit.apply(editor);
+            next = editor.build();
+            if (next.equals(values)) {
+                return;
+            }
+            values = next;
+            if (!writePending) {
+                writePending = true;
+                ioExecutor.execute(this::write);
+            }
+        }
+        mainHandler.post(() -> {
+            for (Listener listener : listeners) {
+                listener.onPreferencesChanged(next);
+            }
+        });
+    }
+
+    /**
+     * Wait for queued writes, e.g. before a worker returns and the process may be stopped.
+     */
+    @WorkerThread
+    public void flush() {
+        try {
+            ioExecutor.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            Log.w(TAG, "Flushing preferences failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @MainThread
+    public void addListener(@NonNull Listener listener) {
+        listeners.add(listener);
+    }
+
+    @MainThread
+    public void removeListener(@NonNull Listener listener) {
+        listeners.remove(listener);
+    }
+
+    // ================= Storage =================
+
+    private Values load() {
+        File file = file();
+        if (file.exists()) {
+            Values read = readFrom(file);
+            return read != null ? read : Values.DEFAULTS;
+        }
+        Values migrated = LegacyPreferences.read(appContext);
+        try {
+            writeTo(file, migrated);
+            LegacyPreferences.delete(appContext);
+        } catch (IOException e) {
+            // Keep the old files so the next start can try again
+            Log.w(TAG, "Failed to write migrated preferences", e);
+        }
+        return migrated;
+    }
+
+    private void write() {
+        Values snapshot;
+        synchronized (lock) {
+            writePending = false;
+            snapshot = values;
+        }
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            writeTo(file(), snapshot);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write preferences", e);
+        }
+    }
+
+    private File file() {
+        return new File(appContext.getFilesDir(), FILE_NAME);
+    }
+
+    static void writeTo(@NonNull File file, @NonNull Values values) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(values.coinBalance);
+            out.writeInt(values.pendingCoinDelta);
+            out.writeUTF(values.mascotPackId);
+            out.writeBoolean(values.lastUserId != null);
+            if (values.lastUserId != null) {
+                out.writeUTF(values.lastUserId);
+            }
+            out.writeBoolean(values.notificationsEnabled);
+            out.writeBoolean(values.darkMode);
+            out.writeInt(values.deadlineNotifiedAt.size());
+            for (Map.Entry<String, Long> entry : values.deadlineNotifiedAt.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+            out.writeInt(values.dataMigrationVersions.size());
+            for (Map.Entry<String, Integer> entry : values.dataMigrationVersions.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+        if (!temp.renameTo(file)) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    @Nullable
+    static Values readFrom(@NonNull File file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            int format = in.readByte();
+            if (format != FORMAT_VERSION && format != FORMAT_VERSION_1) {
+                return null;
+            }
+            Editor editor = new Editor(Values.DEFAULTS);
+            editor.coinBalance = in.readInt();
+            editor.pendingCoinDelta = in.readInt();
+            editor.mascotPackId = in.readUTF();
+            editor.lastUserId = in.readBoolean() ? in.readUTF() : null;
+            editor.notificationsEnabled = in.readBoolean();
+            editor.darkMode = in.readBoolean();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                editor.deadlineNotifiedAt.put(in.readUTF(), in.readLong());
+            }
+            if (format != FORMAT_VERSION_1) {
+                count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    editor.dataMigrationVersions.put(in.readUTF(), in.readInt());
+                }
+            }
+            return editor.build();
+        } catch (IOException e) {
+            Log.w(TAG, "Ignoring unreadable preferences", e);
+            return null;
+        }
+    }
+
+    // ================= Values =================
+
+    /**
+     * An immutable snapshot of every preference.
+     */
+    public static final class Values {
+        static final Values DEFAULTS = new Values(0, 0, DEFAULT_MASCOT_PACK, null, false, false,
+                Collections.emptyMap(), Collections.emptyMap());
+
+        private final int coinBalance;
+        private final int pendingCoinDelta;
+        @NonNull private final String mascotPackId;
+        @Nullable private final String lastUserId;
+        private final boolean notificationsEnabled;
+        private final boolean darkMode;
+        @NonNull private final Map<String, Long> deadlineNotifiedAt;
+        @NonNull private final Map<String, Integer> dataMigrationVersions;
+
+        Values(int coinBalance, int pendingCoinDelta, @NonNull String mascotPackId, @Nullable String lastUserId,
+               boolean notificationsEnabled, boolean darkMode, @NonNull Map<String, Long> deadlineNotifiedAt,
+               @NonNull Map<String, Integer> dataMigrationVersions) {
+            this.coinBalance = coinBalance;
+            this.pendingCoinDelta = pendingCoinDelta;
+            this.mascotPackId = mascotPackId;
+            this.lastUserId = lastUserId;
+            this.notificationsEnabled = notificationsEnabled;
+            this.darkMode = darkMode;
+            this.deadlineNotifiedAt = deadlineNotifiedAt;
+            this.dataMigrationVersions = dataMigrationVersions;
+        }
+
+        /** Local mirror of the user's coins, including rewards not yet synced. */
+        public int getCoinBalance() { return coinBalance; }
+        /** Coins earned or spent offline, still to be applied remotely. */
+        public int getPendingCoinDelta() { return pendingCoinDelta; }
+        @NonNull public String getMascotPackId() { return mascotPackId; }
+        /** The last user signed in on this device, to detect a switch of accounts. */
+        @Nullable public String getLastUserId() { return lastUserId; }
+        public boolean areNotificationsEnabled() { return notificationsEnabled; }
+        public boolean isDarkMode() { return darkMode; }
+
+        /**
+         * When a deadline notification was last shown for a task, or 0 if it has not been.
+         */
+        public long getDeadlineNotifiedAt(@NonNull String stableId) {
+            Long at = deadlineNotifiedAt.get(stableId);
+            return at != null ? at : 0L;
+        }
+
+        /**
+         * The highest remote data migration applied for a user, or 0 if none has been.
+         */
+        public int getDataMigrationVersion(@NonNull String userId) {
+            Integer version = dataMigrationVersions.get(userId);
+            return version != null ? version : 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Values)) return false;
+            Values that = (Values) o;
+            return coinBalance == that.coinBalance
+                    && pendingCoinDelta == that.pendingCoinDelta
+                    && notificationsEnabled == that.notificationsEnabled
+                    && darkMode == that.darkMode
+                    && mascotPackId.equals(that.mascotPackId)
+                    && Objects.equals(lastUserId, that.lastUserId)
+                    && deadlineNotifiedAt.equals(that.deadlineNotifiedAt)
+                    && dataMigrationVersions.equals(that.dataMigrationVersions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(coinBalance, pendingCoinDelta, mascotPackId, lastUserId, notificationsEnabled,
+                    darkMode, deadlineNotifiedAt, dataMigrationVersions);
+        }
+    }
+
+    /**
+     * Collects the changes of one {@link #edit}. Getters return the edited values.
+     */
+    public static final class Editor {
+        private int coinBalance;
+        private int pendingCoinDelta;
+        private String mascotPackId;
+        private String lastUserId;
+        private boolean notificationsEnabled;
+        private boolean darkMode;
+        private final Map<String, Long> deadlineNotifiedAt;
+        private final Map<String, Integer> dataMigrationVersions;
+
+        Editor(@NonNull Values base) {
+            coinBalance = base.coinBalance;
+            pendingCoinDelta = base.pendingCoinDelta;
+            mascotPackId = base.mascotPackId;
+            lastUserId = base.lastUserId;
+            notificationsEnabled = base.notificationsEnabled;
+            darkMode = base.darkMode;
+            deadlineNotifiedAt = new HashMap<>(base.deadlineNotifiedAt);
+            dataMigrationVersions = new HashMap<>(base.dataMigrationVersions);
+        }
+
+        public int getCoinBalance() { return coinBalance; }
+        public int getPendingCoinDelta() { return pendingCoinDelta; }
+
+        @NonNull
+        public Editor setCoinBalance(int coinBalance) {
+            this.coinBalance = coinBalance;
+            return this;
+        }
+
+        @NonNull
+        public Editor setPendingCoinDelta(int pendingCoinDelta) {
+            this.pendingCoinDelta = pendingCoinDelta;
+            return this;
+        }
+
+        @NonNull
+        public Editor setMascotPackId(@NonNull String mascotPackId) {
+            this.mascotPackId = mascotPackId;
+            return this;
+        }
+
+        @NonNull
+        public Editor setLastUserId(@Nullable String lastUserId) {
+            this.lastUserId = lastUserId;
+            return this;
+        }
+
+        @NonNull
+        public Editor setNotificationsEnabled(boolean enabled) {
+            this.notificationsEnabled = enabled;
+            return this;
+        }
+
+        @NonNull
+        public Editor setDarkMode(boolean darkMode) {
+            this.darkMode = darkMode;
+            return this;
+        }
+
+        @NonNull
+        public Editor setDeadlineNotifiedAt(@NonNull String stableId, long timeMillis) {
+            deadlineNotifiedAt.put(stableId, timeMillis);
+            return this;
+        }
+
+        /**
+         * Forget deadline notifications shown before {@code timeMillis}.
+         */
+        @NonNull
+        public Editor removeDeadlineNotificationsBefore(long timeMillis) {
+            Iterator<Long> it = deadlineNotifiedAt.values().iterator();
+            while (it.hasNext()) {
+                if (it.next() < timeMillis) {
+                    it.remove();
+                }
+            }
+            return this;
+        }
+
+        @NonNull
+        public Editor setDataMigrationVersion(@NonNull String userId, int version) {
+            dataMigrationVersions.put(userId, version);
+            return this;
+        }
+
+        @NonNull
+        Values build() {
+            return new Values(coinBalance, pendingCoinDelta, mascotPackId, lastUserId, notificationsEnabled,
+                    darkMode, Collections.unmodifiableMap(new HashMap<>(deadlineNotifiedAt)),
+                    Collections.unmodifiableMap(new HashMap<>(dataMigrationVersions)));
+        }
+    }
+
+    // ================= Migration =================
+
+    /**
+     * The SharedPreferences files these preferences used to live in.
+     */
+    static final class LegacyPreferences {
+        private static final String LOCAL_COINS = "local_coins";
+        private static final String MASCOT = "mascot_prefs";
+        private static final String SESSION = "session_prefs";
+        private static final String NOTIFICATIONS = "notification_settings";
+        private static final String UI = "ui_settings";
+        private static final String DEADLINES = "deadline_notification_prefs";
+        private static final String DEADLINE_KEY_PREFIX = "last_notified_";
+
+        private static final String[] FILES = {LOCAL_COINS, MASCOT, SESSION, NOTIFICATIONS, UI, DEADLINES};
+
+        private LegacyPreferences() {
+        }
+
+        @WorkerThread
+        static Values read(@NonNull Context context) {
+            Editor editor = new Editor(Values.DEFAULTS);
+            SharedPreferences coins = prefs(context, LOCAL_COINS);
+            editor.setCoinBalance(coins.getInt("balance", 0))
+                    .setPendingCoinDelta(coins.getInt("pending_delta", 0))
+                    .setMascotPackId(prefs(context, MASCOT).getString("selected_pack", DEFAULT_MASCOT_PACK))
+                    .setLastUserId(prefs(context, SESSION).getString("last_user_id", null))
+                    .setNotificationsEnabled(prefs(context, NOTIFICATIONS).getBoolean("enabled", false))
+                    .setDarkMode(prefs(context, UI).getBoolean("dark_mode", false));
+            for (Map.Entry<String, ?> entry : prefs(context, DEADLINES).getAll().entrySet()) {
+                if (entry.getKey().startsWith(DEADLINE_KEY_PREFIX) && entry.getValue() instanceof Long) {
+                    editor.setDeadlineNotifiedAt(entry.getKey().substring(DEADLINE_KEY_PREFIX.length()),
+                            (Long) entry.getValue());
+                }
+            }
+            return editor.build();
+        }
+
+        @WorkerThread
+        static void delete(@NonNull Context context) {
+            for (String name : FILES) {
+                context.deleteSharedPreferences(name);
+            }
+        }
+
+        private static SharedPreferences prefs(Context context, String name) {
+            return context.getSharedPreferences(name, Context.MODE_PRIVATE);
+        }
+    }
+}
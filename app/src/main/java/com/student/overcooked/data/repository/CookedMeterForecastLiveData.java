@@ -0,0 +1,81 @@
+package com.student.overcooked.data.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.util.CookedMeterForecast;
+import com.student.overcooked.util.DayClock;
+
+import java.util.List;
+
+/**
+ * Forecast curve kept current by a {@link CookedMeterForecast}.
+ *
+ * Task edits are applied to the cached forecast incrementally. Once a step has passed the
+ * forecast is re-anchored at the current time and rebuilt from the last task list, so the
+ * first sample always matches the live meter.
+ */
+final class CookedMeterForecastLiveData extends MediatorLiveData<CookedMeterForecast.Curve> {
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable reanchorRunnable = this::reanchor;
+
+    @Nullable
+    private List<TaskSummary> lastTasks;
+    @Nullable
+    private CookedMeterForecast forecast;
+
+    CookedMeterForecastLiveData(@NonNull LiveData<List<TaskSummary>> tasks) {
+        addSource(tasks, this::onTasksChanged);
+    }
+
+    @Override
+    protected void onActive() {
+        super.onActive();
+        if (forecast != null && DayClock.get().now() - forecast.getStart() >= CookedMeterForecast.STEP_MILLIS) {
+            reanchor();
+        } else {
+            scheduleReanchor();
+        }
+    }
+
+    @Override
+    protected void onInactive() {
+        super.onInactive();
+        handler.removeCallbacks(reanchorRunnable);
+    }
+
+    private void onTasksChanged(@Nullable List<TaskSummary> tasks) {
+        lastTasks = tasks;
+        if (forecast == null) {
+            forecast = new CookedMeterForecast(DayClock.get().now());
+        }
+        forecast.submitList(tasks);
+        setValue(forecast.getCurve());
+        scheduleReanchor();
+    }
+
+    private void reanchor() {
+        forecast = new CookedMeterForecast(DayClock.get().now());
+        forecast.submitList(lastTasks);
+        setValue(forecast.getCurve());
+        scheduleReanchor();
+    }
+
+    private void scheduleReanchor() {
+        handler.removeCallbacks(reanchorRunnable);
+        if (forecast == null || !hasActiveObservers()) {
+            return;
+        }
+        long due = forecast.getStart() + CookedMeterForecast.STEP_MILLIS;
+        long delay = Math.max(0L, due - DayClock.get().now());
+        handler.postAtTime(reanchorRunnable, SystemClock.uptimeMillis() + delay);
+    }
+}
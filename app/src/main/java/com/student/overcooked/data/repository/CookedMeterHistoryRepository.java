@@ -0,0 +1,110 @@
+package com.student.overcooked.data.repository;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+import androidx.lifecycle.LiveData;
+
+import com.student.overcooked.data.dao.CookedMeterHistoryDao;
+import com.student.overcooked.data.model.CookedMeterDaily;
+import com.student.overcooked.data.model.CookedMeterTrendPoint;
+import com.student.overcooked.util.CookedMeterResult;
+import com.student.overcooked.util.DayClock;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Daily cooked meter snapshots and the trend chart built from them.
+ *
+ * Today's row is written by {@code CookedMeterHistoryWorker} once a day and whenever the
+ * live meter moves noticeably; past rows are never rewritten.
+ */
+public class CookedMeterHistoryRepository {
+
+    /** Percentage points the meter has to move before an intra-day snapshot is written */
+    private static final int SIGNIFICANT_CHANGE = 5;
+
+    /**
+     * Chart ranges. {@link #MONTH} returns the last 30 daily rows as they are and {@link #YEAR}
+     * the last 365 downsampled to weeks; {@link #ALL} reads every row ever recorded and comes
+     * back downsampled to months. The downsampling is done in SQL.
+     */
+    public enum TrendRange {
+        MONTH(30),
+        YEAR(365),
+        ALL(0);
+
+        private final int days;
+
+        TrendRange(int days) {
+            this.days = days;
+        }
+    }
+
+    private final CookedMeterHistoryDao historyDao;
+    private final ExecutorService executorService;
+
+    public CookedMeterHistoryRepository(CookedMeterHistoryDao historyDao) {
+        this.historyDao = historyDao;
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Store the live meter if it changed level, moved by {@link #SIGNIFICANT_CHANGE} points
+     * or set a new high for the day.
+     */
+    public void recordIfSignificant(@NonNull CookedMeterResult result) {
+        executorService.execute(() -> record(result, false));
+    }
+
+    /**
+     * Store the meter unconditionally; used by the daily worker.
+     */
+    @WorkerThread
+    public void recordSync(@NonNull CookedMeterResult result) {
+        record(result, true);
+    }
+
+    public LiveData<List<CookedMeterTrendPoint>> getTrend(@NonNull TrendRange range) {
+        long from = range.days == 0 ? 0L
+                : DayClock.get().startOfDay(DayClock.get().now()) - (range.days - 1) * DayClock.DAY_MILLIS;
+        switch (range) {
+            case MONTH:
+                return DistinctLiveData.of("history.daily", historyDao.getDailyTrend(from));
+            case YEAR:
+                return DistinctLiveData.of("history.weekly", historyDao.getWeeklyTrend(from));
+            case ALL:
+            default:
+                return DistinctLiveData.of("history.monthly", historyDao.getMonthlyTrend(from));
+        }
+    }
+
+    // Synchronized so the worker thread and the executor never interleave a read-modify-write
+    private synchronized void record(@NonNull CookedMeterResult result, boolean force) {
+        long now = DayClock.get().now();
+        long dayStart = DayClock.get().startOfDay(now);
+        CookedMeterDaily existing = historyDao.getDaySync(dayStart);
+        if (!force && existing != null
+                && existing.getLevel() == result.getLevel()
+                && Math.abs(existing.getPercentage() - result.getPercentage()) < SIGNIFICANT_CHANGE
+                && result.getPercentage() <= existing.getPeakPercentage()) {
+            return;
+        }
+
+        CookedMeterDaily day = new CookedMeterDaily();
+        day.setDayStart(dayStart);
+        day.setPercentage(result.getPercentage());
+        day.setPeakPercentage(existing != null
+                ? Math.max(existing.getPeakPercentage(), result.getPercentage())
+                : result.getPercentage());
+        day.setLevel(result.getLevel());
+        day.setPendingTasks(result.getPendingTasks());
+        day.setCompletedTasks(result.getCompletedTasks());
+        day.setOverdueTasks(result.getOverdueTasks());
+        day.setUrgentTasks(result.getUrgentTasks());
+        day.setTodayTasks(result.getTodayTasks());
+        day.setUpdatedAt(now);
+        historyDao.upsert(day);
+    }
+}
@@ -0,0 +1,77 @@
+package com.student.overcooked.data.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.util.CookedMeterEngine;
+import com.student.overcooked.util.CookedMeterResult;
+import com.student.overcooked.util.DayClock;
+
+import java.util.List;
+
+/**
+ * Cooked meter result kept current by a {@link CookedMeterEngine}.
+ *
+ * Task list emissions are fed to the engine as diffs, and a single wakeup is scheduled for
+ * the next instant a task changes urgency band, so the meter moves on its own as deadlines
+ * approach without re-scoring the whole list on a timer.
+ */
+final class CookedMeterLiveData extends MediatorLiveData<CookedMeterResult> {
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable tickRunnable = this::tick;
+    private final CookedMeterEngine engine = new CookedMeterEngine(DayClock.get().now());
+
+    private boolean hasTasks;
+
+    CookedMeterLiveData(@NonNull LiveData<List<TaskSummary>> tasks) {
+        addSource(tasks, this::onTasksChanged);
+    }
+
+    @Override
+    protected void onActive() {
+        super.onActive();
+        if (hasTasks) {
+            // Local midnight may have moved while nobody was watching (time zone change)
+            engine.recalculate();
+            tick();
+        }
+    }
+
+    @Override
+    protected void onInactive() {
+        super.onInactive();
+        handler.removeCallbacks(tickRunnable);
+    }
+
+    private void onTasksChanged(List<TaskSummary> tasks) {
+        hasTasks = true;
+        engine.submitList(tasks, DayClock.get().now());
+        publish();
+    }
+
+    private void tick() {
+        engine.advanceTo(DayClock.get().now());
+        publish();
+    }
+
+    private void publish() {
+        setValue(engine.getResult());
+        handler.removeCallbacks(tickRunnable);
+        if (!hasActiveObservers()) {
+            return;
+        }
+        long boundary = engine.nextBoundary();
+        if (boundary == CookedMeterEngine.NO_BOUNDARY) {
+            return;
+        }
+        long delay = Math.max(0L, boundary - DayClock.get().now());
+        handler.postAtTime(tickRunnable, SystemClock.uptimeMillis() + delay);
+    }
+}
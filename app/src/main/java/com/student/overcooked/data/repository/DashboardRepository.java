@@ -0,0 +1,60 @@
+package com.student.overcooked.data.repository;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.lifecycle.LiveData;
+
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseUser;
+import com.student.overcooked.data.dao.DashboardDao;
+import com.student.overcooked.data.dao.TaskDao;
+import com.student.overcooked.data.model.DashboardStats;
+import com.student.overcooked.util.CookedMeterCalculator;
+import com.student.overcooked.util.CookedMeterResult;
+import com.student.overcooked.util.DayClock;
+
+import java.util.Date;
+
+/**
+ * Read-only repository for the aggregated Home dashboard numbers
+ */
+public class DashboardRepository {
+    private final DashboardDao dashboardDao;
+    private final TaskDao taskDao;
+
+    public DashboardRepository(DashboardDao dashboardDao, TaskDao taskDao) {
+        this.dashboardDao = dashboardDao;
+        this.taskDao = taskDao;
+    }
+
+    /**
+     * Emits only when a count actually changes; Room re-runs the query on any write to
+     * tasks, projects or groups, most of which leave the totals untouched. The overdue
+     * count is re-evaluated as soon as the next pending deadline passes.
+     */
+    public LiveData<DashboardStats> getDashboardStats() {
+        return DistinctLiveData.of("dashboard.stats", new TimeWindowLiveData<>(
+                now -> dashboardDao.getDashboardStats(new Date(now)),
+                now -> taskDao.getNextPendingDeadline(new Date(now)),
+                false));
+    }
+
+    /**
+     * Cooked meter computed entirely in SQL, for callers that do not already hold the task list.
+     *
+     * @param includeGroupTasks also count group tasks assigned to the signed-in user
+     */
+    @WorkerThread
+    public CookedMeterResult getCookedMeterSync(boolean includeGroupTasks) {
+        long now = DayClock.get().now();
+        return CookedMeterCalculator.fromStats(dashboardDao.getCookedMeterStatsSync(now,
+                DayClock.get().startOfDay(now), DayClock.get().startOfNextDay(now),
+                includeGroupTasks ? currentUserId() : null));
+    }
+
+    @Nullable
+    private static String currentUserId() {
+        FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
+        return user != null ? user.getUid() : null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.student.overcooked.data.repository;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Forwards a query result only when its content differs from the last one delivered.
+ *
+ * Room re-runs an observed query after any write to the tables it reads, even when the
+ * write cannot affect the result, and hands observers a fresh but identical list. Each
+ * result is fingerprinted with {@link Object#hashCode()}; a matching fingerprint is
+ * confirmed with {@link Object#equals(Object)} before the emission is dropped, so a hash
+ * collision can never hide a real change. The models' equality deliberately ignores the
+ * local sync flags, so sync bookkeeping does not reach the UI either.
+ *
+ * Emitted and suppressed counts are kept per name for the debug menu.
+ */
+public final class DistinctLiveData<T> extends MediatorLiveData<T> {
+
+    private static final Map<String, Counter> COUNTERS = new LinkedHashMap<>();
+
+    private final Counter counter;
+    private boolean hasValue;
+    private int lastFingerprint;
+    @Nullable
+    private T lastValue;
+
+    private DistinctLiveData(@NonNull String name, @NonNull LiveData<T> source) {
+        this.counter = counterFor(name);
+        addSource(source, this::onSourceChanged);
+    }
+
+    /**
+     * @param name   label for the counters, usually the repository method
+     * @param source the query to de-duplicate
+     */
+    @NonNull
+    public static <T> LiveData<T> of(@NonNull String name, @NonNull LiveData<T> source) {
+        return new DistinctLiveData<>(name, source);
+    }
+
+    private void onSourceChanged(@Nullable T value) {
+        int fingerprint = Objects.hashCode(value);
+        if (hasValue && fingerprint == lastFingerprint && Objects.equals(value, lastValue)) {
+            counter.suppressed++;
+            return;
+        }
+        hasValue = true;
+        lastFingerprint = fingerprint;
+        lastValue = value;
+        counter.emitted++;
+        setValue(value);
+    }
+
+    // ================= Counters =================
+
+    private static Counter counterFor(String name) {
+        synchronized (COUNTERS) {
+            Counter counter = COUNTERS.get(name);
+            if (counter == null) {
+                counter = new Counter(name);
+                COUNTERS.put(name, counter);
+            }
+            return counter;
+        }
+    }
+
+    /**
+     * Per-name counts since process start or the last {@link #resetStats()}.
+     */
+    @NonNull
+    public static List<Stats> getStats() {
+        List<Stats> result = new ArrayList<>();
+        synchronized (COUNTERS) {
+            for (Counter counter : COUNTERS.values()) {
+                result.add(new Stats(counter.name, counter.emitted, counter.suppressed));
+            }
+        }
+        return result;
+    }
+
+    public static void resetStats() {
+        synchronized (COUNTERS) {
+            for (Counter counter : COUNTERS.values()) {
+                counter.emitted = 0;
+                counter.suppressed = 0;
+            }
+        }
+    }
+
+    // Only touched on the main thread apart from the reads above, which tolerate stale values
+    private static final class Counter {
+        final String name;
+        volatile long emitted;
+        volatile long suppressed;
+
+        Counter(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Snapshot of one counter.
+     */
+    public static final class Stats {
+        private final String name;
+        private final long emitted;
+        private final long suppressed;
+
+        Stats(String name, long emitted, long suppressed) {
+            this.name = name;
+            this.emitted = emitted;
+            this.suppressed = suppressed;
+        }
+
+        public String getName() { return name; }
+        public long getEmitted() { return emitted; }
+        public long getSuppressed() { return suppressed; }
+    }
+}
@@ -3,11 +3,14 @@ package com.student.overcooked.data.repository;
 import androidx.lifecycle.LiveData;
 
 import com.student.overcooked.data.dao.GroupDao;
+import com.student.overcooked.data.dao.GroupMessageDao;
 import com.student.overcooked.data.dao.GroupTaskDao;
+import com.student.overcooked.data.dao.ProjectResourceDao;
 import com.student.overcooked.data.model.Group;
 import com.student.overcooked.data.model.GroupMember;
 import com.student.overcooked.data.model.GroupMessage;
 import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 import com.student.overcooked.data.model.Priority;
 import com.student.overcooked.data.model.TaskStatus;
 import com.student.overcooked.data.model.ProjectInvitation;
@@ -58,7 +61,11 @@ public class GroupRepository {
     private final GroupInvitationDataSource groupInvitationDataSource;
     private final UserRepository userRepository;
 
-    public GroupRepository(GroupDao groupDao, GroupTaskDao groupTaskDao, UserRepository userRepository) {
+    public GroupRepository(GroupDao groupDao,
+                           GroupTaskDao groupTaskDao,
+                           GroupMessageDao groupMessageDao,
+                           ProjectResourceDao projectResourceDao,
+                           UserRepository userRepository) {
         this.firestore = FirebaseFirestore.getInstance();
         this.auth = FirebaseAuth.getInstance();
         this.executorService = Executors.newSingleThreadExecutor();
@@ -95,8 +102,8 @@ public class GroupRepository {
                 executorService,
                 com.student.overcooked.OvercookedApplication.getInstance()
         );
-        this.groupResourceDataSource = new GroupResourceDataSource(auth, storageRoot, resourcesCollection);
-        this.groupMessageDataSource = new GroupMessageDataSource(auth, messagesCollection, usersCollection);
+        this.groupResourceDataSource = new GroupResourceDataSource(auth, storageRoot, resourcesCollection, projectResourceDao, executorService);
+        this.groupMessageDataSource = new GroupMessageDataSource(auth, messagesCollection, usersCollection, groupMessageDao, executorService);
         this.groupMemberDataSource = new GroupMemberDataSource(auth, membersCollection, usersCollection, groupsCollection);
         this.groupInvitationDataSource = new GroupInvitationDataSource(auth, invitationsCollection, usersCollection, membersCollection, groupsCollection);
     }
@@ -105,6 +112,10 @@ public class GroupRepository {
         return groupInfoDataSource.getUserGroups();
     }
 
+    public void refreshUserGroups() {
+        groupInfoDataSource.refreshUserGroups();
+    }
+
     public void createGroup(String name, String subject, String description,
                             boolean individualProject, java.util.Date deadline,
                             OnSuccessListener<Group> onSuccess,
@@ -128,6 +139,14 @@ public class GroupRepository {
         return groupTasksDataSource.getGroupTasks(groupId);
     }
 
+    public LiveData<List<GroupTaskSummary>> getGroupTaskSummaries(String groupId) {
+        return groupTasksDataSource.getGroupTaskSummaries(groupId);
+    }
+
+    public void getGroupTask(String taskId, OnSuccessListener<GroupTask> onSuccess, OnFailureListener onFailure) {
+        groupTasksDataSource.getGroupTask(taskId, onSuccess, onFailure);
+    }
+
     public void createGroupTask(String groupId, String title, String description, java.util.Date deadline,
                                 String assigneeId, String assigneeName, Priority priority,
                                 OnSuccessListener<GroupTask> onSuccess, OnFailureListener onFailure) {
@@ -8,7 +8,8 @@ import com.student.overcooked.data.model.Project;
 import com.student.overcooked.data.model.ProjectWithTasks;
 import com.student.overcooked.data.model.TeamMember;
 
-import java.util.Date;
+import com.student.overcooked.util.DayClock;
+
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -96,7 +97,7 @@ public class ProjectRepository {
 
     public void toggleProjectCompletion(long projectId, boolean isCompleted) {
         executorService.execute(() -> {
-            Date completedAt = isCompleted ? new Date() : null;
+            long completedAt = isCompleted ? DayClock.get().now() : DayClock.NO_TIME;
             projectDao.updateProjectCompletion(projectId, isCompleted, completedAt);
         });
     }
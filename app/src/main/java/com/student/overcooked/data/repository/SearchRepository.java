@@ -0,0 +1,123 @@
+package com.student.overcooked.data.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.student.overcooked.data.dao.SearchDao;
+import com.student.overcooked.data.model.SearchResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unified search over personal tasks, group tasks, cached chat messages and workspace resources.
+ *
+ * Every word typed is matched as a prefix, so results update while the user is still typing.
+ * Searches run on a dedicated thread; when a newer search is issued before an older one
+ * finishes, the older result is dropped instead of being delivered out of order.
+ */
+public class SearchRepository {
+
+    public static final int DEFAULT_LIMIT = 30;
+    private static final int MAX_TERMS = 8;
+
+    public interface Callback {
+        void onResults(@NonNull String query, @NonNull List<SearchResult> results);
+    }
+
+    private final SearchDao searchDao;
+    private final ExecutorService executorService;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final AtomicInteger generation = new AtomicInteger();
+
+    public SearchRepository(SearchDao searchDao) {
+        this.searchDao = searchDao;
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    public void search(@NonNull String query, @NonNull Callback callback) {
+        search(query, DEFAULT_LIMIT, callback);
+    }
+
+    public void search(@NonNull String query, int limit, @NonNull Callback callback) {
+        int token = generation.incrementAndGet();
+        executorService.execute(() -> {
+            if (token != generation.get()) {
+                return;
+            }
+            List<SearchResult> results = searchSync(query, limit);
+            mainHandler.post(() -> {
+                if (token == generation.get()) {
+                    callback.onResults(query, results);
+                }
+            });
+        });
+    }
+
+    /**
+     * Run a search on the calling thread. Results are ranked title matches first,
+     * then personal tasks, group tasks, resources and messages, at most {@code limit} in total.
+     */
+    @NonNull
+    public List<SearchResult> searchSync(@NonNull String query, int limit) {
+        String match = buildMatchQuery(query, null);
+        if (match == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String titleMatch = buildMatchQuery(query, "title");
+
+        List<SearchResult> results = new ArrayList<>();
+        addAll(results, searchDao.searchTasks(match, titleMatch, limit), SearchResult.Type.TASK);
+        addAll(results, searchDao.searchGroupTasks(match, titleMatch, limit), SearchResult.Type.GROUP_TASK);
+        addAll(results, searchDao.searchResources(match, titleMatch, limit), SearchResult.Type.RESOURCE);
+        addAll(results, searchDao.searchMessages(match, limit), SearchResult.Type.MESSAGE);
+
+        // Stable sort keeps each source's own ordering within the two buckets
+        results.sort((a, b) -> Boolean.compare(b.isTitleMatch(), a.isTitleMatch()));
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    private static void addAll(List<SearchResult> target, List<SearchResult> hits, SearchResult.Type type) {
+        for (SearchResult hit : hits) {
+            hit.setType(type);
+            target.add(hit);
+        }
+    }
+
+    /**
+     * Turn free text into an FTS4 MATCH expression: every word becomes a prefix term, and all
+     * terms must match. Punctuation and FTS operators in the input are dropped, so user
+     * text can never produce a malformed query.
+     *
+     * @param column restrict every term to this column, or null to match any column
+     * @return the expression, or null when the input has no searchable words
+     */
+    @Nullable
+    static String buildMatchQuery(@NonNull String raw, @Nullable String column) {
+        String[] words = raw.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        StringBuilder match = new StringBuilder();
+        int terms = 0;
+        for (String word : words) {
+            if (word.isEmpty() || terms == MAX_TERMS) {
+                continue;
+            }
+            if (match.length() > 0) {
+                match.append(' ');
+            }
+            if (column != null) {
+                match.append(column).append(':');
+            }
+            match.append(word).append('*');
+            terms++;
+        }
+        return terms == 0 ? null : match.toString();
+    }
+}
@@ -5,6 +5,7 @@ import androidx.lifecycle.LiveData;
 
 import com.student.overcooked.data.dao.TaskDao;
 import com.student.overcooked.data.model.Task;
+import com.student.overcooked.util.DayClock;
 
 import java.util.Calendar;
 import java.util.Date;
@@ -13,30 +14,22 @@ import java.util.List;
 final class TaskDateRangeQueries {
 
     static LiveData<List<Task>> dueToday(@NonNull TaskDao taskDao) {
-        Date startOfDay = startOfToday();
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(startOfDay);
-        calendar.add(Calendar.DAY_OF_YEAR, 1);
-        Date endOfDay = calendar.getTime();
-        return taskDao.getTasksDueBetween(startOfDay, endOfDay);
+        return dueWithinDays(taskDao, 1);
     }
 
+    /**
+     * Pending tasks due between the start of today and {@code days} days later.
+     * The window moves forward at every local midnight while the result is observed.
+     */
     static LiveData<List<Task>> dueWithinDays(@NonNull TaskDao taskDao, int days) {
-        Date startOfDay = startOfToday();
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(startOfDay);
-        calendar.add(Calendar.DAY_OF_YEAR, days);
-        Date end = calendar.getTime();
-        return taskDao.getTasksDueBetween(startOfDay, end);
-    }
-
-    private static Date startOfToday() {
-        Calendar calendar = Calendar.getInstance();
-        calendar.set(Calendar.HOUR_OF_DAY, 0);
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.SECOND, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
-        return calendar.getTime();
+        return new TimeWindowLiveData<>(now -> {
+            Date startOfDay = new Date(DayClock.get().startOfDay(now));
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTime(startOfDay);
+            calendar.add(Calendar.DAY_OF_YEAR, days);
+            Date end = calendar.getTime();
+            return taskDao.getTasksDueBetween(startOfDay, end);
+        }, null, true);
     }
 
     private TaskDateRangeQueries() {
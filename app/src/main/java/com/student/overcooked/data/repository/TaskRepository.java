@@ -1,15 +1,27 @@
 package com.student.overcooked.data.repository;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import androidx.lifecycle.LiveData;
 
+import com.student.overcooked.data.LocalCoinStore;
 import com.student.overcooked.data.dao.TaskDao;
 import com.student.overcooked.data.model.Task;
 import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.data.repository.task.TaskBatchResult;
+import com.student.overcooked.data.repository.task.TaskOperation;
 import com.student.overcooked.data.repository.task.TaskRealtimeDataSource;
 import com.student.overcooked.data.repository.UserRepository;
+import com.student.overcooked.util.CookedMeterForecast;
+import com.student.overcooked.util.CookedMeterResult;
+import com.student.overcooked.util.DayClock;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.database.FirebaseDatabase;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -28,9 +40,13 @@ public class TaskRepository {
     private final TaskRealtimeDataSource realtimeDataSource;
     private final UserRepository userRepository;
     private final android.content.Context appContext;
+    private final LocalCoinStore localCoins;
 
     // Observable LiveData
     private final LiveData<List<Task>> allTasks;
+    private final LiveData<List<TaskSummary>> allTaskSummaries;
+    private final LiveData<CookedMeterResult> cookedMeter;
+    private final LiveData<CookedMeterForecast.Curve> cookedMeterForecast;
     private final LiveData<List<Task>> pendingTasks;
     private final LiveData<List<Task>> completedTasks;
     private final LiveData<List<Task>> standaloneTasks;
@@ -43,6 +59,7 @@ public class TaskRepository {
         this.executorService = Executors.newSingleThreadExecutor();
         // Try to capture application context from UserRepository if available
         this.appContext = com.student.overcooked.OvercookedApplication.getInstance();
+        this.localCoins = new LocalCoinStore(appContext);
         // Configure Firebase Realtime Database with correct Europe West region URL
         FirebaseDatabase database = FirebaseDatabase.getInstance("https://studnetovercooked-default-rtdb.europe-west1.firebasedatabase.app");
         
@@ -54,12 +71,15 @@ public class TaskRepository {
             appContext
         );
 
-        this.allTasks = taskDao.getAllTasks();
-        this.pendingTasks = taskDao.getPendingTasks();
-        this.completedTasks = taskDao.getCompletedTasks();
-        this.standaloneTasks = taskDao.getStandaloneTasks();
-        this.pendingTaskCount = taskDao.getPendingTaskCount();
-        this.completedTaskCount = taskDao.getCompletedTaskCount();
+        this.allTasks = DistinctLiveData.of("tasks.all", taskDao.getAllTasks());
+        this.allTaskSummaries = DistinctLiveData.of("tasks.summaries", taskDao.getAllTaskSummaries());
+        this.pendingTasks = DistinctLiveData.of("tasks.pending", taskDao.getPendingTasks());
+        this.completedTasks = DistinctLiveData.of("tasks.completed", taskDao.getCompletedTasks());
+        this.standaloneTasks = DistinctLiveData.of("tasks.standalone", taskDao.getStandaloneTasks());
+        this.pendingTaskCount = DistinctLiveData.of("tasks.pendingCount", taskDao.getPendingTaskCount());
+        this.completedTaskCount = DistinctLiveData.of("tasks.completedCount", taskDao.getCompletedTaskCount());
+        this.cookedMeter = DistinctLiveData.of("tasks.cookedMeter", new CookedMeterLiveData(allTaskSummaries));
+        this.cookedMeterForecast = new CookedMeterForecastLiveData(allTaskSummaries);
         // Start real-time sync with Firebase Realtime Database
         realtimeDataSource.startSync();
     }
@@ -67,24 +87,49 @@ public class TaskRepository {
     // ================= Observe Tasks =================
 
     public LiveData<List<Task>> getAllTasks() { return allTasks; }
+    public LiveData<List<TaskSummary>> getAllTaskSummaries() { return allTaskSummaries; }
     public LiveData<List<Task>> getPendingTasks() { return pendingTasks; }
     public LiveData<List<Task>> getCompletedTasks() { return completedTasks; }
     public LiveData<List<Task>> getStandaloneTasks() { return standaloneTasks; }
     public LiveData<Integer> getPendingTaskCount() { return pendingTaskCount; }
     public LiveData<Integer> getCompletedTaskCount() { return completedTaskCount; }
 
+    /**
+     * Cooked meter for all personal tasks, updated incrementally as tasks change and as
+     * deadlines move them into a more urgent band.
+     */
+    public LiveData<CookedMeterResult> getCookedMeter() { return cookedMeter; }
+
+    /**
+     * Hourly cooked meter forecast for the next two weeks if nothing changes.
+     */
+    public LiveData<CookedMeterForecast.Curve> getCookedMeterForecast() { return cookedMeterForecast; }
+
+    /**
+     * Overdue tasks, re-queried whenever the next pending deadline passes.
+     */
     public LiveData<List<Task>> getOverdueTasks() {
-        return taskDao.getOverdueTasks(new Date());
+        return DistinctLiveData.of("tasks.overdue", new TimeWindowLiveData<>(
+                now -> taskDao.getOverdueTasks(new Date(now)),
+                now -> taskDao.getNextPendingDeadline(new Date(now)),
+                false));
     }
 
     public LiveData<Integer> getOverdueTaskCount() {
-        return taskDao.getOverdueTaskCount(new Date());
+        return DistinctLiveData.of("tasks.overdueCount", new TimeWindowLiveData<>(
+                now -> taskDao.getOverdueTaskCount(new Date(now)),
+                now -> taskDao.getNextPendingDeadline(new Date(now)),
+                false));
     }
 
     public LiveData<List<Task>> getTasksByProject(long projectId) {
         return taskDao.getTasksByProject(projectId);
     }
 
+    public LiveData<List<TaskSummary>> getTaskSummariesByProject(long projectId) {
+        return DistinctLiveData.of("tasks.summariesByProject", taskDao.getTaskSummariesByProject(projectId));
+    }
+
     public LiveData<List<Task>> getTasksDueToday() {
         return TaskDateRangeQueries.dueToday(taskDao);
     }
@@ -106,6 +151,17 @@ public class TaskRepository {
         });
     }
 
+    /**
+     * Load the full row behind a list item. The callback runs on the main thread
+     * and receives null if the task no longer exists.
+     */
+    public void loadTask(long taskId, Callback<Task> callback) {
+        executorService.execute(() -> {
+            Task task = taskDao.getTaskById(taskId);
+            new Handler(Looper.getMainLooper()).post(() -> callback.onResult(task));
+        });
+    }
+
     public void insertTask(Task task, Callback<Long> callback) {
         if (task.getCreatedAt() == null) {
             task.setCreatedAt(new Date());
@@ -128,9 +184,11 @@ public class TaskRepository {
     }
 
     public void insertTasks(List<Task> tasks) {
+        List<TaskOperation> operations = new ArrayList<>(tasks.size());
         for (Task task : tasks) {
-            insertTask(task);
+            operations.add(TaskOperation.create(task));
         }
+        batch(operations, null);
     }
 
     public void updateTask(Task task) {
@@ -168,86 +226,138 @@ public class TaskRepository {
 
     public void toggleTaskCompletion(long taskId, boolean isCompleted) {
         android.util.Log.d("TaskRepository", "toggleTaskCompletion called: taskId=" + taskId + ", isCompleted=" + isCompleted);
+        batch(Collections.singletonList(TaskOperation.setCompleted(taskId, isCompleted)), null);
+    }
+
+    public void updateTaskStatus(long taskId, TaskStatus status) {
+        android.util.Log.d("TaskRepository", "🔄 updateTaskStatus called - taskId: " + taskId + ", status: " + status);
+        batch(Collections.singletonList(TaskOperation.setStatus(taskId, status)), null);
+    }
+
+    // ================= Batch =================
+
+    /**
+     * Apply several task mutations at once.
+     * All rows are written in a single Room transaction, so observers see one change.
+     * Completion rewards are added up and applied as a single coin delta.
+     * Exactly one sync is scheduled, however many tasks changed.
+     *
+     * @param callback invoked on the main thread, may be null
+     */
+    public void batch(List<TaskOperation> operations, Callback<TaskBatchResult> callback) {
         executorService.execute(() -> {
-            Task task = taskDao.getTaskById(taskId);
-            if (task != null) {
-                android.util.Log.d("TaskRepository", "Task found: " + task.getTitle() + ", was completed: " + task.isCompleted());
-                boolean wasCompleted = task.isCompleted();
-                if (wasCompleted == isCompleted) {
-                    android.util.Log.d("TaskRepository", "No state change, returning");
-                    return;
-                }
-                task.setCompleted(isCompleted);
-                task.setCompletedAt(isCompleted ? new Date() : null);
-                if (isCompleted) {
-                    task.setStatus(TaskStatus.DONE);
-                } else {
-                    task.setStatus(TaskStatus.NOT_STARTED);
-                }
+            TaskBatchResult result = applyBatch(operations);
+            if (callback != null) {
+                new Handler(Looper.getMainLooper()).post(() -> callback.onResult(result));
+            }
+        });
+    }
 
-                // Award coins only once per task (first time it reaches DONE).
-                if (isCompleted && !task.isRewardClaimed()) {
-                    task.setRewardClaimed(true);
-                    applyCompletionReward(true);
-                }
+    private TaskBatchResult applyBatch(List<TaskOperation> operations) {
+        String userId = realtimeDataSource.currentUserId();
+        if (userId == null) {
+            android.util.Log.w("TaskRepository", "Batch rejected, no user signed in");
+            return TaskBatchResult.failed(operations.size());
+        }
 
-                updateTaskWithCallback(task,
-                        () -> android.util.Log.d("TaskRepository", "Remote update confirmed"),
-                        () -> android.util.Log.e("TaskRepository", "Remote update failed"));
-            } else {
-                android.util.Log.e("TaskRepository", "Task not found for ID: " + taskId);
+        int[] counts = new int[2]; // applied, rewarded
+        taskDao.runInTransaction(() -> {
+            for (TaskOperation operation : operations) {
+                Outcome outcome = applyOperation(operation, userId);
+                if (outcome != Outcome.SKIPPED) {
+                    counts[0]++;
+                }
+                if (outcome == Outcome.REWARDED) {
+                    counts[1]++;
+                }
             }
         });
+
+        int applied = counts[0];
+        int coins = counts[1] * TASK_COMPLETION_REWARD;
+        if (applied > 0) {
+            realtimeDataSource.requestSync();
+        }
+        if (coins > 0) {
+            applyCoinDelta(coins);
+        }
+        android.util.Log.d("TaskRepository", "Batch applied " + applied + "/" + operations.size() + " operations, coins +" + coins);
+        return new TaskBatchResult(true, applied, operations.size() - applied, coins);
     }
 
-    public void updateTaskStatus(long taskId, TaskStatus status) {
-        android.util.Log.d("TaskRepository", "🔄 updateTaskStatus called - taskId: " + taskId + ", status: " + status);
-        executorService.execute(() -> {
-            Task task = taskDao.getTaskById(taskId);
-            if (task != null) {
+    private enum Outcome { SKIPPED, APPLIED, REWARDED }
+
+    /**
+     * Write one operation; runs inside the batch transaction on the executor.
+     */
+    private Outcome applyOperation(TaskOperation operation, String userId) {
+        switch (operation.getKind()) {
+            case CREATE: {
+                Task task = operation.getTask();
+                if (task.getCreatedAt() == null) {
+                    task.setCreatedAt(new Date());
+                }
+                realtimeDataSource.markForCreate(task, userId);
+                taskDao.insertTask(task);
+                return Outcome.APPLIED;
+            }
+            case UPDATE: {
+                Task task = operation.getTask();
+                realtimeDataSource.markForUpdate(task, userId);
+                taskDao.updateTask(task);
+                return Outcome.APPLIED;
+            }
+            case SET_COMPLETED:
+            case SET_STATUS: {
+                Task task = taskDao.getTaskById(operation.getTaskId());
+                if (task == null) {
+                    android.util.Log.e("TaskRepository", "Task not found for ID: " + operation.getTaskId());
+                    return Outcome.SKIPPED;
+                }
                 boolean wasCompleted = task.isCompleted();
-                android.util.Log.d("TaskRepository", "Task found: " + task.getTitle() + ", wasCompleted: " + wasCompleted);
-                
-                task.setStatus(status);
-                boolean isCompleted = (status == TaskStatus.DONE);
+                boolean isCompleted = operation.isCompleted();
+                if (operation.getKind() == TaskOperation.Kind.SET_COMPLETED) {
+                    if (wasCompleted == isCompleted) {
+                        return Outcome.SKIPPED;
+                    }
+                    task.setStatus(isCompleted ? TaskStatus.DONE : TaskStatus.NOT_STARTED);
+                } else {
+                    task.setStatus(operation.getStatus());
+                }
                 task.setCompleted(isCompleted);
-                task.setCompletedAt(isCompleted ? new Date() : null);
-                
-                final boolean shouldAwardCoins = wasCompleted != isCompleted;
-                final boolean rewardCompleted = isCompleted;
-                
-                android.util.Log.d("TaskRepository", "shouldAwardCoins: " + shouldAwardCoins + ", rewardCompleted: " + rewardCompleted);
-                
-                if (shouldAwardCoins && rewardCompleted && !task.isRewardClaimed()) {
+                task.setCompletedAtMillis(isCompleted ? DayClock.get().now() : DayClock.NO_TIME);
+
+                // Award coins only once per task (first time it reaches DONE).
+                boolean rewarded = false;
+                if (!wasCompleted && isCompleted && !task.isRewardClaimed()) {
                     task.setRewardClaimed(true);
-                    applyCompletionReward(true);
+                    rewarded = true;
                 }
-
-                updateTaskWithCallback(task,
-                        () -> android.util.Log.d("TaskRepository", "✅ Remote update success"),
-                        () -> android.util.Log.e("TaskRepository", "❌ Remote update failed"));
-            } else {
-                android.util.Log.e("TaskRepository", "❌ Task not found for ID: " + taskId);
+                realtimeDataSource.markForUpdate(task, userId);
+                taskDao.updateTask(task);
+                return rewarded ? Outcome.REWARDED : Outcome.APPLIED;
             }
-        });
-    }
-
-    private void applyCompletionReward(boolean completed) {
-        if (!completed) {
-            return;
-        }
-        int delta = TASK_COMPLETION_REWARD;
-        android.util.Log.d("TaskRepository", "Applying coin reward. Completed: " + completed + ", Delta: " + delta);
-        // Always persist locally for offline-first behavior
-        try {
-            if (appContext != null) {
-                com.student.overcooked.data.LocalCoinStore local = new com.student.overcooked.data.LocalCoinStore(appContext);
-                local.addCoins(delta);
-                android.util.Log.d("TaskRepository", "Local coins updated (mirror + pending delta)");
+            case DELETE: {
+                Task task = taskDao.getTaskById(operation.getTaskId());
+                if (task == null) {
+                    return Outcome.SKIPPED;
+                }
+                if (realtimeDataSource.markForDelete(task, userId)) {
+                    taskDao.updateTask(task);
+                } else {
+                    taskDao.deleteTask(task);
+                }
+                return Outcome.APPLIED;
             }
-        } catch (Exception e) {
-            android.util.Log.w("TaskRepository", "Failed to update local coins", e);
+            default:
+                return Outcome.SKIPPED;
         }
+    }
+    private void applyCoinDelta(int delta) {
+        android.util.Log.d("TaskRepository", "Applying coin reward. Delta: " + delta);
+        // Always persist locally for offline-first behavior
+        localCoins.addCoins(delta);
+        android.util.Log.d("TaskRepository", "Local coins updated (mirror + pending delta)");
         if (userRepository == null) {
             android.util.Log.e("TaskRepository", "ERROR: userRepository is null!");
             return;
@@ -256,12 +366,7 @@ public class TaskRepository {
         userRepository.updateCoinsBy(delta, 
             newBalance -> {
                 android.util.Log.d("TaskRepository", "Coins updated successfully: " + newBalance);
-                try {
-                    if (appContext != null) {
-                        com.student.overcooked.data.LocalCoinStore local = new com.student.overcooked.data.LocalCoinStore(appContext);
-                        local.setBalanceFromServer(newBalance);
-                    }
-                } catch (Exception ignore) {}
+                localCoins.setBalanceFromServer(newBalance);
             },
             e -> android.util.Log.e("TaskRepository", "Failed to update coins", e));
     }
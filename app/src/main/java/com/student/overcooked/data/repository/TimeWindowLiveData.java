@@ -0,0 +1,121 @@
+package com.student.overcooked.data.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+
+import com.student.overcooked.util.DayClock;
+
+/**
+ * LiveData for queries whose result depends on the current time, such as "overdue" or
+ * "due today". The query is bound to a fixed {@code now} and re-bound exactly when that
+ * snapshot goes stale: at the next deadline crossing (read from a {@code MIN(deadline)}
+ * query) or, when requested, at the next local midnight.
+ *
+ * Only one wakeup is ever scheduled. It is dropped while there are no active observers and
+ * re-checked against the wall clock on the next activation, so time spent in the background
+ * or with the device asleep is caught up immediately.
+ */
+final class TimeWindowLiveData<T> extends MediatorLiveData<T> {
+
+    /** Builds the time-dependent query for a given instant. */
+    interface WindowQuery<R> {
+        @NonNull
+        LiveData<R> query(long now);
+    }
+
+    private static final long NO_BOUNDARY = Long.MAX_VALUE;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable rebindRunnable = this::rebind;
+
+    private final WindowQuery<T> resultQuery;
+    @Nullable
+    private final WindowQuery<Long> nextDeadlineQuery;
+    private final boolean dayBoundaries;
+
+    @Nullable
+    private LiveData<T> resultSource;
+    @Nullable
+    private LiveData<Long> nextDeadlineSource;
+    private long nextDeadline = NO_BOUNDARY;
+    private long nextDayBoundary = NO_BOUNDARY;
+
+    /**
+     * @param resultQuery       the query to keep fresh
+     * @param nextDeadlineQuery earliest deadline at or after {@code now} that would change the
+     *                          result, or {@code null} when only day boundaries matter
+     * @param dayBoundaries     whether the result also changes at local midnight
+     */
+    TimeWindowLiveData(@NonNull WindowQuery<T> resultQuery,
+                       @Nullable WindowQuery<Long> nextDeadlineQuery,
+                       boolean dayBoundaries) {
+        this.resultQuery = resultQuery;
+        this.nextDeadlineQuery = nextDeadlineQuery;
+        this.dayBoundaries = dayBoundaries;
+    }
+
+    @Override
+    protected void onActive() {
+        super.onActive();
+        if (resultSource == null || DayClock.get().now() >= nextBoundary()) {
+            rebind();
+        } else {
+            scheduleWakeup();
+        }
+    }
+
+    @Override
+    protected void onInactive() {
+        super.onInactive();
+        handler.removeCallbacks(rebindRunnable);
+    }
+
+    private void rebind() {
+        handler.removeCallbacks(rebindRunnable);
+        long now = DayClock.get().now();
+
+        if (resultSource != null) {
+            removeSource(resultSource);
+        }
+        resultSource = resultQuery.query(now);
+        addSource(resultSource, this::setValue);
+
+        if (nextDeadlineQuery != null) {
+            if (nextDeadlineSource != null) {
+                removeSource(nextDeadlineSource);
+            }
+            nextDeadline = NO_BOUNDARY;
+            nextDeadlineSource = nextDeadlineQuery.query(now);
+            addSource(nextDeadlineSource, deadline -> {
+                // The result only flips once "now" is strictly past the deadline
+                nextDeadline = deadline != null ? deadline + 1 : NO_BOUNDARY;
+                scheduleWakeup();
+            });
+        }
+        nextDayBoundary = dayBoundaries ? DayClock.get().startOfNextDay(now) : NO_BOUNDARY;
+        scheduleWakeup();
+    }
+
+    private void scheduleWakeup() {
+        handler.removeCallbacks(rebindRunnable);
+        if (!hasActiveObservers()) {
+            return;
+        }
+        long boundary = nextBoundary();
+        if (boundary == NO_BOUNDARY) {
+            return;
+        }
+        long delay = Math.max(0L, boundary - DayClock.get().now());
+        handler.postAtTime(rebindRunnable, SystemClock.uptimeMillis() + delay);
+    }
+
+    private long nextBoundary() {
+        return Math.min(nextDayBoundary, nextDeadline);
+    }
+}
@@ -12,6 +12,7 @@ import com.student.overcooked.data.model.Group;
 import com.student.overcooked.data.model.GroupMember;
 import com.student.overcooked.data.model.GroupRole;
 import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.repository.DistinctLiveData;
 import com.google.android.gms.tasks.OnFailureListener;
 import com.google.android.gms.tasks.OnSuccessListener;
 import com.google.android.gms.tasks.Task;
@@ -71,10 +72,14 @@ public class GroupInfoDataSource {
 
     public LiveData<List<Group>> getUserGroups() {
         refreshUserGroups();
-        return groupDao.getAllGroups();
+        return DistinctLiveData.of("groups.all", groupDao.getAllGroups());
     }
 
-    private void refreshUserGroups() {
+    /**
+     * Start listening for the user's memberships and mirror their groups into Room,
+     * for screens that read group counters from the cache without observing the list.
+     */
+    public void refreshUserGroups() {
         FirebaseUser currentUser = auth.getCurrentUser();
         if (currentUser == null) return;
 
@@ -126,7 +131,7 @@ public class GroupInfoDataSource {
                     }
 
                     executorService.execute(() -> {
-                        groupDao.insertAll(groups);
+                        groupDao.upsertChanged(groups);
                         if (!groupIds.isEmpty()) {
                             groupDao.deleteAllExcept(groupIds);
                         } else {
@@ -4,6 +4,7 @@ import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import com.student.overcooked.data.dao.GroupMessageDao;
 import com.student.overcooked.data.model.GroupMessage;
 import com.google.android.gms.tasks.OnFailureListener;
 import com.google.android.gms.tasks.OnSuccessListener;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Handles chat message streaming and sending for group conversations.
@@ -25,13 +27,19 @@ public class GroupMessageDataSource {
     private final FirebaseAuth auth;
     private final com.google.firebase.firestore.CollectionReference messagesCollection;
     private final com.google.firebase.firestore.CollectionReference usersCollection;
+    private final GroupMessageDao groupMessageDao;
+    private final ExecutorService executorService;
 
     public GroupMessageDataSource(@NonNull FirebaseAuth auth,
                                   @NonNull com.google.firebase.firestore.CollectionReference messagesCollection,
-                                  @NonNull com.google.firebase.firestore.CollectionReference usersCollection) {
+                                  @NonNull com.google.firebase.firestore.CollectionReference usersCollection,
+                                  @NonNull GroupMessageDao groupMessageDao,
+                                  @NonNull ExecutorService executorService) {
         this.auth = auth;
         this.messagesCollection = messagesCollection;
         this.usersCollection = usersCollection;
+        this.groupMessageDao = groupMessageDao;
+        this.executorService = executorService;
     }
 
     public LiveData<List<GroupMessage>> getGroupMessages(String groupId) {
@@ -46,6 +54,7 @@ public class GroupMessageDataSource {
                     for (DocumentSnapshot doc : snapshot.getDocuments()) {
                         GroupMessage message = doc.toObject(GroupMessage.class);
                         if (message != null) {
+                            message.setId(doc.getId());
                             messages.add(message);
                         }
                     }
@@ -57,6 +66,9 @@ public class GroupMessageDataSource {
                         return m1.getTimestamp().compareTo(m2.getTimestamp());
                     });
                     liveData.setValue(messages);
+                    // Mirror into Room so the conversation is searchable offline
+                    List<GroupMessage> cached = new ArrayList<>(messages);
+                    executorService.execute(() -> groupMessageDao.replaceForGroup(groupId, cached));
                 });
         return liveData;
     }
@@ -4,6 +4,7 @@ import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import com.student.overcooked.data.dao.ProjectResourceDao;
 import com.student.overcooked.data.model.ProjectResource;
 import com.student.overcooked.data.model.ProjectResourceType;
 import com.google.android.gms.tasks.OnFailureListener;
@@ -18,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Manages workspace resources (notes/files) for a group.
@@ -27,13 +29,19 @@ public class GroupResourceDataSource {
     private final FirebaseAuth auth;
     private final StorageReference storageRoot;
     private final com.google.firebase.firestore.CollectionReference resourcesCollection;
+    private final ProjectResourceDao projectResourceDao;
+    private final ExecutorService executorService;
 
     public GroupResourceDataSource(@NonNull FirebaseAuth auth,
                                    @NonNull StorageReference storageRoot,
-                                   @NonNull com.google.firebase.firestore.CollectionReference resourcesCollection) {
+                                   @NonNull com.google.firebase.firestore.CollectionReference resourcesCollection,
+                                   @NonNull ProjectResourceDao projectResourceDao,
+                                   @NonNull ExecutorService executorService) {
         this.auth = auth;
         this.storageRoot = storageRoot;
         this.resourcesCollection = resourcesCollection;
+        this.projectResourceDao = projectResourceDao;
+        this.executorService = executorService;
     }
 
     public LiveData<List<ProjectResource>> getProjectResources(String groupId) {
@@ -48,6 +56,7 @@ public class GroupResourceDataSource {
                     for (DocumentSnapshot doc : snapshot.getDocuments()) {
                         ProjectResource resource = doc.toObject(ProjectResource.class);
                         if (resource != null) {
+                            resource.setId(doc.getId());
                             resources.add(resource);
                         }
                     }
@@ -59,6 +68,8 @@ public class GroupResourceDataSource {
                         return r2.getCreatedAt().compareTo(r1.getCreatedAt());
                     });
                     liveData.setValue(resources);
+                    List<ProjectResource> cached = new ArrayList<>(resources);
+                    executorService.execute(() -> projectResourceDao.replaceForGroup(groupId, cached));
                 });
         return liveData;
     }
@@ -5,6 +5,7 @@ import android.os.Handler;
 import android.os.Looper;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
 
 import com.google.firebase.firestore.ListenerRegistration;
@@ -13,8 +14,10 @@ import com.student.overcooked.data.LocalCoinStore;
 import com.student.overcooked.data.dao.GroupTaskDao;
 import com.student.overcooked.data.model.Group;
 import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 import com.student.overcooked.data.model.Priority;
 import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.repository.DistinctLiveData;
 import com.student.overcooked.data.repository.UserRepository;
 import com.student.overcooked.data.sync.GroupTaskSyncWorker;
 import com.google.android.gms.tasks.OnFailureListener;
@@ -26,10 +29,8 @@ import com.google.firebase.firestore.DocumentSnapshot;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 
@@ -79,7 +80,28 @@ public class GroupTasksDataSource {
 
     public LiveData<List<GroupTask>> getGroupTasks(String groupId) {
         startSync(groupId);
-        return groupTaskDao.getGroupTasks(groupId);
+        return DistinctLiveData.of("groupTasks.all", groupTaskDao.getGroupTasks(groupId));
+    }
+
+    public LiveData<List<GroupTaskSummary>> getGroupTaskSummaries(String groupId) {
+        startSync(groupId);
+        return DistinctLiveData.of("groupTasks.summaries", groupTaskDao.getGroupTaskSummaries(groupId));
+    }
+
+    /**
+     * Load the full row behind a list item; both callbacks run on the main thread.
+     */
+    public void getGroupTask(String taskId, OnSuccessListener<GroupTask> onSuccess, OnFailureListener onFailure) {
+        executorService.execute(() -> {
+            GroupTask task = groupTaskDao.getByIdSync(taskId);
+            new Handler(Looper.getMainLooper()).post(() -> {
+                if (task != null) {
+                    onSuccess.onSuccess(task);
+                } else {
+                    onFailure.onFailure(new IllegalStateException("Group task not found: " + taskId));
+                }
+            });
+        });
     }
 
     private void startSync(@NonNull String groupId) {
@@ -96,60 +118,39 @@ public class GroupTasksDataSource {
                         }
 
                         List<GroupTask> remoteTasks = new ArrayList<>();
-                        Set<String> remoteIds = new HashSet<>();
 
                         for (DocumentSnapshot doc : snapshot.getDocuments()) {
                             GroupTask task = doc.toObject(GroupTask.class);
                             if (task == null) {
                                 continue;
                             }
-
-                            // Ensure TaskStatus is always available (Firestore stores it as a string)
-                            String statusStr = doc.getString("status");
-                            TaskStatus status = statusStr != null ? TaskStatus.valueOf(statusStr)
-                                    : (task.isCompleted() ? TaskStatus.DONE : TaskStatus.NOT_STARTED);
-                            task.setStatus(status);
-
-                                Boolean rewardClaimed = doc.getBoolean("rewardClaimed");
-                                task.setRewardClaimed(rewardClaimed != null ? rewardClaimed : task.isCompleted());
-
-                            // Clear local sync flags for remote truth
-                            task.setPendingSync(false);
-                            task.setPendingDelete(false);
-                            task.setLastSyncedExists(true);
-                            task.setLastSyncedCompleted(task.isCompleted());
-
+                            applyRemoteState(task, doc.getString("status"), doc.getBoolean("rewardClaimed"));
                             remoteTasks.add(task);
-                            remoteIds.add(task.getId());
                         }
 
-                        executorService.execute(() -> {
-                            // Remove local tasks that were deleted remotely (but don't touch local pending items)
-                            List<GroupTask> localTasks = groupTaskDao.getGroupTasksSync(groupId);
-                            for (GroupTask local : localTasks) {
-                                if (local == null || local.getId() == null) continue;
-                                if (!remoteIds.contains(local.getId())) {
-                                    if (!local.isPendingSync() && !local.isPendingDelete() && local.isLastSyncedExists()) {
-                                        groupTaskDao.deleteById(local.getId());
-                                    }
-                                }
-                            }
-
-                            // Upsert remote tasks unless there is a local pending change
-                            for (GroupTask remote : remoteTasks) {
-                                GroupTask local = groupTaskDao.getByIdSync(remote.getId());
-                                if (local != null && (local.isPendingSync() || local.isPendingDelete())) {
-                                    continue;
-                                }
-                                groupTaskDao.upsert(remote);
-                            }
-                        });
+                        executorService.execute(() -> groupTaskDao.reconcile(groupId, remoteTasks));
                     });
 
             listenersByGroupId.put(groupId, registration);
         }
     }
 
+    /**
+     * Turn a task decoded from a snapshot into remote truth before it is reconciled into Room.
+     * Firestore stores the status as a string and older documents lack it or the reward flag,
+     * so both fall back to the completion state. Local sync flags are cleared.
+     */
+    public static void applyRemoteState(@NonNull GroupTask task, @Nullable String status,
+                                        @Nullable Boolean rewardClaimed) {
+        task.setStatus(status != null ? TaskStatus.valueOf(status)
+                : (task.isCompleted() ? TaskStatus.DONE : TaskStatus.NOT_STARTED));
+        task.setRewardClaimed(rewardClaimed != null ? rewardClaimed : task.isCompleted());
+        task.setPendingSync(false);
+        task.setPendingDelete(false);
+        task.setLastSyncedExists(true);
+        task.setLastSyncedCompleted(task.isCompleted());
+    }
+
     public void createGroupTask(String groupId, String title, String description, Date deadline,
                                 String assigneeId, String assigneeName, Priority priority,
                                 OnSuccessListener<GroupTask> onSuccess, OnFailureListener onFailure) {
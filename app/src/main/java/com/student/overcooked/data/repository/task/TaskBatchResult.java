@@ -0,0 +1,33 @@
+package com.student.overcooked.data.repository.task;
+
+/**
+ * Outcome of a {@code TaskRepository#batch} call.
+ */
+public final class TaskBatchResult {
+
+    private final boolean success;
+    private final int appliedCount;
+    private final int skippedCount;
+    private final int coinsAwarded;
+
+    public TaskBatchResult(boolean success, int appliedCount, int skippedCount, int coinsAwarded) {
+        this.success = success;
+        this.appliedCount = appliedCount;
+        this.skippedCount = skippedCount;
+        this.coinsAwarded = coinsAwarded;
+    }
+
+    public static TaskBatchResult failed(int operationCount) {
+        return new TaskBatchResult(false, 0, operationCount, 0);
+    }
+
+    /** False when nothing was written, e.g. because no user is signed in */
+    public boolean isSuccess() { return success; }
+
+    public int getAppliedCount() { return appliedCount; }
+
+    /** Operations that addressed a missing task or would not change anything */
+    public int getSkippedCount() { return skippedCount; }
+
+    public int getCoinsAwarded() { return coinsAwarded; }
+}
@@ -0,0 +1,106 @@
+package com.student.overcooked.data.repository.task;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskType;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Realtime Database representation of a {@link Task}, shared by the live listener and the
+ * sync worker so both read and write exactly the same fields.
+ *
+ * Dates travel as epoch millis. Decoding works on the plain map a {@code DataSnapshot}
+ * returns from {@code getValue()}, where whole numbers arrive as {@link Long}.
+ */
+public final class TaskMapCodec {
+
+    private TaskMapCodec() {
+    }
+
+    @NonNull
+    public static Map<String, Object> toMap(@NonNull Task task) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", task.getId());
+        map.put("firestoreId", task.getFirestoreId());
+        map.put("userId", task.getUserId());
+        map.put("title", task.getTitle());
+        map.put("description", task.getDescription());
+        map.put("course", task.getCourse());
+        map.put("taskType", task.getTaskType() != null ? task.getTaskType().name() : TaskType.HOMEWORK.name());
+        map.put("priority", task.getPriority() != null ? task.getPriority().name() : Priority.MEDIUM.name());
+        map.put("status", task.getStatus() != null ? task.getStatus().name() : TaskStatus.NOT_STARTED.name());
+        map.put("deadline", task.getDeadline() != null ? task.getDeadline().getTime() : null);
+        map.put("createdAt", task.getCreatedAt() != null ? task.getCreatedAt().getTime() : new Date().getTime());
+        map.put("completedAt", task.getCompletedAt() != null ? task.getCompletedAt().getTime() : null);
+        map.put("isCompleted", task.isCompleted());
+        map.put("rewardClaimed", task.isRewardClaimed());
+        map.put("projectId", task.getProjectId());
+        map.put("notes", task.getNotes());
+        return map;
+    }
+
+    /**
+     * @param key the node key, which is the task's Firestore id
+     * @throws IllegalArgumentException if an enum field holds an unknown name
+     */
+    @NonNull
+    public static Task fromMap(@NonNull String key, @NonNull Map<String, Object> map) {
+        Task task = new Task();
+        task.setFirestoreId(key);
+        Long id = getLong(map, "id");
+        task.setId(id != null ? id : Math.abs(key.hashCode()));
+        task.setUserId(getString(map, "userId"));
+        task.setTitle(getString(map, "title"));
+        task.setDescription(getString(map, "description"));
+        task.setCourse(getString(map, "course"));
+
+        String typeStr = getString(map, "taskType");
+        task.setTaskType(typeStr != null ? TaskType.valueOf(typeStr) : TaskType.HOMEWORK);
+        String priorityStr = getString(map, "priority");
+        task.setPriority(priorityStr != null ? Priority.valueOf(priorityStr) : Priority.MEDIUM);
+        String statusStr = getString(map, "status");
+        task.setStatus(statusStr != null ? TaskStatus.valueOf(statusStr) : TaskStatus.NOT_STARTED);
+
+        Long deadlineMs = getLong(map, "deadline");
+        task.setDeadline(deadlineMs != null ? new Date(deadlineMs) : null);
+        Long createdAtMs = getLong(map, "createdAt");
+        task.setCreatedAt(createdAtMs != null ? new Date(createdAtMs) : new Date());
+        Long completedAtMs = getLong(map, "completedAt");
+        task.setCompletedAt(completedAtMs != null ? new Date(completedAtMs) : null);
+
+        Boolean isCompleted = getBoolean(map, "isCompleted");
+        task.setCompleted(isCompleted != null ? isCompleted : false);
+        Boolean rewardClaimed = getBoolean(map, "rewardClaimed");
+        // If missing, treat already-completed tasks as claimed to prevent farming.
+        task.setRewardClaimed(rewardClaimed != null ? rewardClaimed : task.isCompleted());
+
+        task.setProjectId(getLong(map, "projectId"));
+        task.setNotes(getString(map, "notes"));
+        return task;
+    }
+
+    @Nullable
+    private static String getString(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value instanceof String ? (String) value : null;
+    }
+
+    @Nullable
+    private static Long getLong(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    @Nullable
+    private static Boolean getBoolean(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value instanceof Boolean ? (Boolean) value : null;
+    }
+}
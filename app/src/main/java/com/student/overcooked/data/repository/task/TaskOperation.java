@@ -0,0 +1,61 @@
+package com.student.overcooked.data.repository.task;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskStatus;
+
+/**
+ * A single mutation in a {@code TaskRepository#batch} call.
+ * Create and update carry the full task; the others address an existing task by its local id.
+ */
+public final class TaskOperation {
+
+    public enum Kind {
+        CREATE,
+        UPDATE,
+        SET_COMPLETED,
+        SET_STATUS,
+        DELETE
+    }
+
+    private final Kind kind;
+    private final Task task;
+    private final long taskId;
+    private final boolean completed;
+    private final TaskStatus status;
+
+    private TaskOperation(Kind kind, Task task, long taskId, boolean completed, TaskStatus status) {
+        this.kind = kind;
+        this.task = task;
+        this.taskId = taskId;
+        this.completed = completed;
+        this.status = status;
+    }
+
+    public static TaskOperation create(@NonNull Task task) {
+        return new TaskOperation(Kind.CREATE, task, task.getId(), false, null);
+    }
+
+    public static TaskOperation update(@NonNull Task task) {
+        return new TaskOperation(Kind.UPDATE, task, task.getId(), false, null);
+    }
+
+    public static TaskOperation setCompleted(long taskId, boolean completed) {
+        return new TaskOperation(Kind.SET_COMPLETED, null, taskId, completed, null);
+    }
+
+    public static TaskOperation setStatus(long taskId, @NonNull TaskStatus status) {
+        return new TaskOperation(Kind.SET_STATUS, null, taskId, status == TaskStatus.DONE, status);
+    }
+
+    public static TaskOperation delete(long taskId) {
+        return new TaskOperation(Kind.DELETE, null, taskId, false, null);
+    }
+
+    public Kind getKind() { return kind; }
+    public Task getTask() { return task; }
+    public long getTaskId() { return taskId; }
+    public boolean isCompleted() { return completed; }
+    public TaskStatus getStatus() { return status; }
+}
@@ -15,15 +15,10 @@ import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
 import com.google.firebase.database.ValueEventListener;
 import com.student.overcooked.data.dao.TaskDao;
-import com.student.overcooked.data.model.Priority;
 import com.student.overcooked.data.model.Task;
-import com.student.overcooked.data.model.TaskStatus;
-import com.student.overcooked.data.model.TaskType;
 import com.student.overcooked.data.sync.TaskSyncWorker;
 
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -87,83 +82,19 @@ public class TaskRealtimeDataSource {
                 Log.d(TAG, "Real-time sync triggered - processing " + snapshot.getChildrenCount() + " tasks");
                 
                 List<Task> remoteTasks = new ArrayList<>();
-                java.util.Set<String> remoteTaskIds = new java.util.HashSet<>();
-                
                 for (DataSnapshot taskSnapshot : snapshot.getChildren()) {
-                    String taskId = taskSnapshot.getKey();
-                    if (taskId == null) continue;
-                    
+                    if (taskSnapshot.getKey() == null) continue;
+
                     Task task = snapshotToTask(taskSnapshot);
                     if (task != null) {
                         remoteTasks.add(task);
-                        remoteTaskIds.add(taskId);
                     }
                 }
-                
-                // Update local database
-                executorService.execute(() -> {
-                    List<Task> localAll = taskDao.getAllTasksIncludingDeletedSync();
-
-                    // Apply remote deletions (but never override local pending changes).
-                    for (Task local : localAll) {
-                        String fid = local.getFirestoreId();
-                        if (fid == null || fid.isEmpty()) continue;
-                        if (local.isPendingSync() || local.isPendingDelete()) continue;
-
-                        if (!remoteTaskIds.contains(fid)) {
-                            if (local.isLastSyncedExists()) {
-                                Log.d(TAG, "Removing task deleted remotely: " + local.getTitle());
-                                taskDao.deleteTask(local);
-                            }
-                        }
-                    }
 
-                    // Upsert remote tasks into Room (but never overwrite local pending changes).
-                    for (Task remote : remoteTasks) {
-                        String fid = remote.getFirestoreId();
-                        if (fid == null || fid.isEmpty()) continue;
-
-                        Task local = taskDao.getTaskByFirestoreIdSync(fid);
-                        if (local != null && (local.isPendingSync() || local.isPendingDelete())) {
-                            continue;
-                        }
-
-                        remote.setPendingSync(false);
-                        remote.setPendingDelete(false);
-                        remote.setLastSyncedExists(true);
-                        remote.setLastSyncedCompleted(remote.isCompleted());
-
-                        if (local == null) {
-                            if (remote.getId() == 0) {
-                                remote.setId(Math.abs(fid.hashCode()));
-                            }
-                            taskDao.insertTask(remote);
-                        } else {
-                            local.setUserId(remote.getUserId());
-                            local.setFirestoreId(remote.getFirestoreId());
-                            local.setTitle(remote.getTitle());
-                            local.setDescription(remote.getDescription());
-                            local.setCourse(remote.getCourse());
-                            local.setTaskType(remote.getTaskType());
-                            local.setPriority(remote.getPriority());
-                            local.setStatus(remote.getStatus());
-                            local.setDeadline(remote.getDeadline());
-                            local.setCreatedAt(remote.getCreatedAt());
-                            local.setCompleted(remote.isCompleted());
-                            local.setCompletedAt(remote.getCompletedAt());
-                            local.setProjectId(remote.getProjectId());
-                            local.setNotes(remote.getNotes());
-
-                            local.setPendingSync(false);
-                            local.setPendingDelete(false);
-                            local.setLastSyncedExists(true);
-                            local.setLastSyncedCompleted(remote.isCompleted());
-
-                            taskDao.updateTask(local);
-                        }
-                    }
-                    
-                    Log.d(TAG, "Sync complete - " + remoteTasks.size() + " tasks synced");
+                // Update local database; unchanged rows are skipped
+                executorService.execute(() -> {
+                    int writes = taskDao.reconcileRemote(remoteTasks);
+                    Log.d(TAG, "Sync complete - " + remoteTasks.size() + " tasks synced, " + writes + " rows written");
                 });
             }
 
@@ -206,25 +137,8 @@ public class TaskRealtimeDataSource {
             return;
         }
 
-        // Generate ID if needed
-        String taskId = task.getFirestoreId();
-        if (taskId == null || taskId.isEmpty()) {
-            taskId = UUID.randomUUID().toString();
-            task.setFirestoreId(taskId);
-        }
-        task.setUserId(user.getUid());
-        
-        // Use hash of ID as numeric Room ID if not set
-        if (task.getId() == 0) {
-            task.setId(Math.abs(taskId.hashCode()));
-        }
-
-        Log.d(TAG, "Creating task (Room-first): " + task.getTitle() + " (ID: " + taskId + ")");
-
-        task.setPendingSync(true);
-        task.setPendingDelete(false);
-        task.setLastSyncedExists(false);
-        task.setLastSyncedCompleted(task.isCompleted());
+        markForCreate(task, user.getUid());
+        Log.d(TAG, "Creating task (Room-first): " + task.getTitle() + " (ID: " + task.getFirestoreId() + ")");
 
         executorService.execute(() -> {
             taskDao.insertTask(task);
@@ -243,22 +157,8 @@ public class TaskRealtimeDataSource {
             return;
         }
 
-        String taskId = task.getFirestoreId();
-        if (taskId == null || taskId.isEmpty()) {
-            taskId = UUID.randomUUID().toString();
-            task.setFirestoreId(taskId);
-            if (task.getId() == 0) {
-                task.setId(Math.abs(taskId.hashCode()));
-            }
-            task.setLastSyncedExists(false);
-        }
-
-        task.setUserId(user.getUid());
-        task.setPendingSync(true);
-        task.setPendingDelete(false);
-        task.setLastSyncedCompleted(task.isCompleted());
-
-        Log.d(TAG, "Updating task (Room-first): " + task.getTitle() + " (ID: " + taskId + ")");
+        markForUpdate(task, user.getUid());
+        Log.d(TAG, "Updating task (Room-first): " + task.getTitle() + " (ID: " + task.getFirestoreId() + ")");
 
         executorService.execute(() -> {
             taskDao.updateTask(task);
@@ -277,8 +177,7 @@ public class TaskRealtimeDataSource {
             return;
         }
 
-        String taskId = task.getFirestoreId();
-        if (taskId == null || taskId.isEmpty()) {
+        if (!markForDelete(task, user.getUid())) {
             // No Firebase ID, just delete locally
             Log.d(TAG, "Deleting local-only task: " + task.getTitle());
             executorService.execute(() -> {
@@ -289,10 +188,7 @@ public class TaskRealtimeDataSource {
             return;
         }
 
-        Log.d(TAG, "Deleting task (Room-first tombstone): " + task.getTitle() + " (ID: " + taskId + ")");
-        task.setUserId(user.getUid());
-        task.setPendingDelete(true);
-        task.setPendingSync(true);
+        Log.d(TAG, "Deleting task (Room-first tombstone): " + task.getTitle() + " (ID: " + task.getFirestoreId() + ")");
 
         executorService.execute(() -> {
             taskDao.updateTask(task);
@@ -301,6 +197,80 @@ public class TaskRealtimeDataSource {
         });
     }
 
+    // ================= Local-first bookkeeping =================
+    // Shared by the single-task methods above and TaskRepository#batch, which writes the
+    // prepared rows itself inside one transaction.
+
+    /**
+     * Signed-in user id, or null when mutations must be rejected.
+     */
+    public String currentUserId() {
+        FirebaseUser user = auth.getCurrentUser();
+        return user != null ? user.getUid() : null;
+    }
+
+    /**
+     * Assign ids and mark a new task as pending upload.
+     */
+    public void markForCreate(@NonNull Task task, @NonNull String userId) {
+        String taskId = task.getFirestoreId();
+        if (taskId == null || taskId.isEmpty()) {
+            taskId = UUID.randomUUID().toString();
+            task.setFirestoreId(taskId);
+        }
+        task.setUserId(userId);
+
+        // Use hash of ID as numeric Room ID if not set
+        if (task.getId() == 0) {
+            task.setId(Math.abs(taskId.hashCode()));
+        }
+
+        task.setPendingSync(true);
+        task.setPendingDelete(false);
+        task.setLastSyncedExists(false);
+        task.setLastSyncedCompleted(task.isCompleted());
+    }
+
+    /**
+     * Mark an edited task as pending upload.
+     */
+    public void markForUpdate(@NonNull Task task, @NonNull String userId) {
+        String taskId = task.getFirestoreId();
+        if (taskId == null || taskId.isEmpty()) {
+            taskId = UUID.randomUUID().toString();
+            task.setFirestoreId(taskId);
+            if (task.getId() == 0) {
+                task.setId(Math.abs(taskId.hashCode()));
+            }
+            task.setLastSyncedExists(false);
+        }
+
+        task.setUserId(userId);
+        task.setPendingSync(true);
+        task.setPendingDelete(false);
+        task.setLastSyncedCompleted(task.isCompleted());
+    }
+
+    /**
+     * Turn a task into a tombstone for the sync worker.
+     *
+     * @return false when the task never reached Firebase and can simply be deleted locally
+     */
+    public boolean markForDelete(@NonNull Task task, @NonNull String userId) {
+        String taskId = task.getFirestoreId();
+        if (taskId == null || taskId.isEmpty()) {
+            return false;
+        }
+        task.setUserId(userId);
+        task.setPendingDelete(true);
+        task.setPendingSync(true);
+        return true;
+    }
+
+    public void requestSync() {
+        TaskSyncWorker.enqueue(appContext);
+    }
+
     /**
      * Get reference to user's tasks
      */
@@ -311,84 +281,18 @@ public class TaskRealtimeDataSource {
     /**
      * Convert DataSnapshot to Task
      */
+    @SuppressWarnings("unchecked")
     private Task snapshotToTask(DataSnapshot snapshot) {
         try {
-            String taskId = snapshot.getKey();
-            
-            Task task = new Task();
-            task.setFirestoreId(taskId);
-            task.setId(snapshot.child("id").getValue(Long.class) != null ? 
-                    snapshot.child("id").getValue(Long.class) : Math.abs(taskId.hashCode()));
-            task.setUserId(snapshot.child("userId").getValue(String.class));
-            task.setTitle(snapshot.child("title").getValue(String.class));
-            task.setDescription(snapshot.child("description").getValue(String.class));
-            task.setCourse(snapshot.child("course").getValue(String.class));
-            
-            // TaskType
-            String typeStr = snapshot.child("taskType").getValue(String.class);
-            task.setTaskType(typeStr != null ? TaskType.valueOf(typeStr) : TaskType.HOMEWORK);
-            
-            // Priority
-            String priorityStr = snapshot.child("priority").getValue(String.class);
-            task.setPriority(priorityStr != null ? Priority.valueOf(priorityStr) : Priority.MEDIUM);
-            
-            // TaskStatus
-            String statusStr = snapshot.child("status").getValue(String.class);
-            task.setStatus(statusStr != null ? TaskStatus.valueOf(statusStr) : TaskStatus.NOT_STARTED);
-            
-            // Dates
-            Long deadlineMs = snapshot.child("deadline").getValue(Long.class);
-            task.setDeadline(deadlineMs != null ? new Date(deadlineMs) : null);
-            
-            Long createdAtMs = snapshot.child("createdAt").getValue(Long.class);
-            task.setCreatedAt(createdAtMs != null ? new Date(createdAtMs) : new Date());
-            
-            Long completedAtMs = snapshot.child("completedAt").getValue(Long.class);
-            task.setCompletedAt(completedAtMs != null ? new Date(completedAtMs) : null);
-            
-            // Boolean
-            Boolean isCompleted = snapshot.child("isCompleted").getValue(Boolean.class);
-            task.setCompleted(isCompleted != null ? isCompleted : false);
-
-            Boolean rewardClaimed = snapshot.child("rewardClaimed").getValue(Boolean.class);
-            // If missing, treat already-completed tasks as claimed to prevent farming.
-            task.setRewardClaimed(rewardClaimed != null ? rewardClaimed : task.isCompleted());
-            
-            // Long
-            Long projectId = snapshot.child("projectId").getValue(Long.class);
-            task.setProjectId(projectId);
-            
-            // Notes
-            task.setNotes(snapshot.child("notes").getValue(String.class));
-            
-            return task;
+            // One getValue() walks the node once instead of a child lookup per field
+            Object value = snapshot.getValue();
+            if (!(value instanceof Map)) {
+                return null;
+            }
+            return TaskMapCodec.fromMap(snapshot.getKey(), (Map<String, Object>) value);
         } catch (Exception e) {
             Log.e(TAG, "Error converting snapshot to task", e);
             return null;
         }
     }
-
-    /**
-     * Convert Task to Map for Firebase
-     */
-    private Map<String, Object> taskToMap(Task task) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", task.getId());
-        map.put("firestoreId", task.getFirestoreId());
-        map.put("userId", task.getUserId());
-        map.put("title", task.getTitle());
-        map.put("description", task.getDescription());
-        map.put("course", task.getCourse());
-        map.put("taskType", task.getTaskType() != null ? task.getTaskType().name() : TaskType.HOMEWORK.name());
-        map.put("priority", task.getPriority() != null ? task.getPriority().name() : Priority.MEDIUM.name());
-        map.put("status", task.getStatus() != null ? task.getStatus().name() : TaskStatus.NOT_STARTED.name());
-        map.put("deadline", task.getDeadline() != null ? task.getDeadline().getTime() : null);
-        map.put("createdAt", task.getCreatedAt() != null ? task.getCreatedAt().getTime() : new Date().getTime());
-        map.put("completedAt", task.getCompletedAt() != null ? task.getCompletedAt().getTime() : null);
-        map.put("isCompleted", task.isCompleted());
-        map.put("rewardClaimed", task.isRewardClaimed());
-        map.put("projectId", task.getProjectId());
-        map.put("notes", task.getNotes());
-        return map;
-    }
 }
@@ -0,0 +1,53 @@
+package com.student.overcooked.data.sync;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.student.overcooked.OvercookedApplication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the day's cooked meter snapshot, so days without any app use still appear in
+ * the history. The meter is computed in SQL; no task rows are loaded.
+ */
+public class CookedMeterHistoryWorker extends Worker {
+    private static final String TAG = "CookedMeterHistory";
+
+    public static final String UNIQUE_WORK_NAME = "cooked_meter_history";
+
+    public static void schedule(@NonNull Context context) {
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(
+                CookedMeterHistoryWorker.class,
+                1, TimeUnit.DAYS
+        ).build();
+
+        WorkManager.getInstance(context)
+                .enqueueUniquePeriodicWork(UNIQUE_WORK_NAME, ExistingPeriodicWorkPolicy.KEEP, request);
+    }
+
+    public CookedMeterHistoryWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        try {
+            OvercookedApplication app = (OvercookedApplication) getApplicationContext();
+            app.getCookedMeterHistoryRepository()
+                    .recordSync(app.getDashboardRepository().getCookedMeterSync(false));
+            return Result.success();
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to record cooked meter snapshot", e);
+            return Result.retry();
+        }
+    }
+}
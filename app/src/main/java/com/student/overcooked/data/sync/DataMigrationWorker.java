@@ -0,0 +1,124 @@
+package com.student.overcooked.data.sync;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseUser;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.student.overcooked.data.migration.DataMigration;
+import com.student.overcooked.data.migration.UserDisplayNameMigration;
+import com.student.overcooked.data.prefs.AppPreferences;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies pending {@link DataMigration}s for the signed-in user, once per install and user.
+ *
+ * The highest applied version is kept per user id in {@link AppPreferences} and saved after
+ * each migration, so a run that is stopped resumes where it left off. Only enqueued while that version is behind
+ * {@link #MIGRATIONS}, and only runs with a network connection and battery not low. Timing is
+ * written to {@link SyncTelemetry}.
+ */
+public class DataMigrationWorker extends Worker {
+    private static final String TAG = "DataMigration";
+
+    public static final String UNIQUE_WORK_NAME = "data_migration";
+    public static final String TELEMETRY_TYPE = "data_migration";
+
+    // In version order; append new migrations at the end
+    private static final List<DataMigration> MIGRATIONS = Arrays.asList(
+            new UserDisplayNameMigration()
+    );
+
+    public static void enqueueIfNeeded(@NonNull Context context) {
+        FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
+        if (user == null || appliedVersion(context, user.getUid()) >= latestVersion()) {
+            return;
+        }
+
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.CONNECTED)
+                .setRequiresBatteryNotLow(true)
+                .build();
+
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(DataMigrationWorker.class)
+                .setConstraints(constraints)
+                .build();
+
+        WorkManager.getInstance(context)
+                .enqueueUniqueWork(UNIQUE_WORK_NAME, ExistingWorkPolicy.KEEP, request);
+    }
+
+    public DataMigrationWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
+        if (user == null) {
+            // Signed out since enqueueing; the next sign-in enqueues again
+            return Result.success();
+        }
+        Context context = getApplicationContext();
+        FirebaseFirestore firestore = FirebaseFirestore.getInstance();
+        int fromVersion = appliedVersion(context, user.getUid());
+        int version = fromVersion;
+        long start = SystemClock.elapsedRealtime();
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("fromVersion", (long) fromVersion);
+        long written = 0;
+        Result result = Result.success();
+
+        for (DataMigration migration : MIGRATIONS) {
+            if (migration.getVersion() <= version) {
+                continue;
+            }
+            if (isStopped()) {
+                result = Result.retry();
+                break;
+            }
+            long migrationStart = SystemClock.elapsedRealtime();
+            try {
+                written += migration.migrate(firestore, user);
+            } catch (Exception e) {
+                Log.e(TAG, "Migration " + migration.getName() + " failed", e);
+                result = Result.retry();
+                break;
+            }
+            metrics.put(migration.getName() + "Ms", SystemClock.elapsedRealtime() - migrationStart);
+            version = migration.getVersion();
+            int applied = version;
+            AppPreferences.get(context).edit(editor -> editor.setDataMigrationVersion(user.getUid(), applied));
+        }
+        AppPreferences.get(context).flush();
+
+        metrics.put("toVersion", (long) version);
+        metrics.put("documentsWritten", written);
+        new SyncTelemetry(context).record(TELEMETRY_TYPE, SystemClock.elapsedRealtime() - start, metrics);
+        return result;
+    }
+
+    private static int latestVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).getVersion();
+    }
+
+    private static int appliedVersion(Context context, String userId) {
+        return AppPreferences.get(context).values().getDataMigrationVersion(userId);
+    }
+}
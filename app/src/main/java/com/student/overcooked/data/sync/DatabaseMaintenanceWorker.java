@@ -0,0 +1,152 @@
+package com.student.overcooked.data.sync;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.student.overcooked.data.database.OvercookedDatabase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily housekeeping for the local database, run only while the device is idle and charging.
+ *
+ * Drops cached group tasks whose group is gone, returns free pages to the file system with
+ * {@code PRAGMA incremental_vacuum} in bounded steps, and refreshes planner statistics with
+ * {@code PRAGMA optimize}. Results are written to {@link SyncTelemetry}.
+ *
+ * Delete tombstones are not purged here: the sync workers remove each one as soon as its
+ * remote delete is confirmed, or right away if it never reached the server, so the ones left
+ * are exactly those still waiting to sync.
+ *
+ * The first run switches the file to incremental auto-vacuum with a full {@code VACUUM}; the
+ * full-text indexes whose rowids that can move are rebuilt in the same run.
+ */
+public class DatabaseMaintenanceWorker extends Worker {
+    private static final String TAG = "DbMaintenance";
+
+    public static final String UNIQUE_WORK_NAME = "database_maintenance";
+    public static final String TELEMETRY_TYPE = "db_maintenance";
+
+    private static final int AUTO_VACUUM_INCREMENTAL = 2;
+    // 256 pages is 1 MB at the default page size; small enough to hold the write lock briefly
+    private static final int PAGES_PER_STEP = 256;
+    private static final int MAX_STEPS = 64;
+
+    // tasks_fts is left alone: tasks.id is an INTEGER PRIMARY KEY, so its rowids survive VACUUM
+    private static final String[] FTS_OVER_IMPLICIT_ROWIDS = {
+            "group_tasks_fts", "group_messages_fts", "project_resources_fts"
+    };
+
+    public static void schedule(@NonNull Context context) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiresDeviceIdle(true)
+                .setRequiresCharging(true)
+                .build();
+
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(
+                DatabaseMaintenanceWorker.class,
+                1, TimeUnit.DAYS
+        )
+                .setConstraints(constraints)
+                .build();
+
+        WorkManager.getInstance(context)
+                .enqueueUniquePeriodicWork(UNIQUE_WORK_NAME, ExistingPeriodicWorkPolicy.KEEP, request);
+    }
+
+    /**
+     * Run once immediately, without the idle/charging constraints (debug menu).
+     */
+    public static void runNow(@NonNull Context context) {
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(DatabaseMaintenanceWorker.class).build();
+        WorkManager.getInstance(context)
+                .enqueueUniqueWork(UNIQUE_WORK_NAME + "_now", ExistingWorkPolicy.KEEP, request);
+    }
+
+    public DatabaseMaintenanceWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        long start = SystemClock.elapsedRealtime();
+        try {
+            OvercookedDatabase database = OvercookedDatabase.getDatabase(getApplicationContext());
+            SupportSQLiteDatabase db = database.getOpenHelper().getWritableDatabase();
+            Map<String, Long> metrics = new LinkedHashMap<>();
+
+            metrics.put("orphanedGroupTasks", (long) database.groupTaskDao().purgeOrphanedTasks());
+
+            long pageSize = pragmaLong(db, "page_size");
+            long pagesBefore = pragmaLong(db, "page_count");
+            metrics.put("freePagesBefore", pragmaLong(db, "freelist_count"));
+
+            if (pragmaLong(db, "auto_vacuum") != AUTO_VACUUM_INCREMENTAL) {
+                // auto_vacuum can only be switched by rebuilding the file once; after that
+                // every run takes the incremental path below.
+                db.execSQL("PRAGMA auto_vacuum = INCREMENTAL");
+                db.execSQL("VACUUM");
+                metrics.put("fullVacuum", 1L);
+                // VACUUM may renumber the implicit rowids of tables keyed by TEXT ids, and the
+                // external-content FTS indexes over them are keyed by those rowids
+                database.runInTransaction(() -> {
+                    for (String fts : FTS_OVER_IMPLICIT_ROWIDS) {
+                        db.execSQL("INSERT INTO `" + fts + "`(`" + fts + "`) VALUES('rebuild')");
+                    }
+                });
+            } else {
+                int steps = 0;
+                while (steps < MAX_STEPS && !isStopped() && pragmaLong(db, "freelist_count") > 0) {
+                    drain(db, "PRAGMA incremental_vacuum(" + PAGES_PER_STEP + ")");
+                    steps++;
+                }
+                metrics.put("vacuumSteps", (long) steps);
+            }
+
+            drain(db, "PRAGMA optimize");
+            drain(db, "PRAGMA wal_checkpoint(TRUNCATE)");
+
+            long pagesAfter = pragmaLong(db, "page_count");
+            metrics.put("reclaimedBytes", Math.max(0L, pagesBefore - pagesAfter) * pageSize);
+            metrics.put("databaseBytes", pagesAfter * pageSize);
+
+            new SyncTelemetry(getApplicationContext())
+                    .record(TELEMETRY_TYPE, SystemClock.elapsedRealtime() - start, metrics);
+            return Result.success();
+        } catch (Exception e) {
+            Log.e(TAG, "Maintenance failed", e);
+            return Result.retry();
+        }
+    }
+
+    private static long pragmaLong(SupportSQLiteDatabase db, String pragma) {
+        try (Cursor cursor = db.query("PRAGMA " + pragma)) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+        }
+    }
+
+    // Pragmas that return rows have to go through query() and be stepped to completion
+    private static void drain(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            while (cursor.moveToNext()) {
+                // no-op
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.student.overcooked.data.sync;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Small on-device log of background sync and maintenance runs.
+ * Keeps the most recent {@link #MAX_EVENTS} events in SharedPreferences so they survive
+ * process death and can be inspected from the debug menu.
+ */
+public final class SyncTelemetry {
+    private static final String TAG = "SyncTelemetry";
+
+    public static final String PREFS = "sync_telemetry";
+    private static final String KEY_EVENTS = "events";
+    private static final int MAX_EVENTS = 50;
+
+    private final SharedPreferences prefs;
+
+    public SyncTelemetry(@NonNull Context context) {
+        this.prefs = context.getApplicationContext().getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Append an event.
+     *
+     * @param type       short identifier such as {@code "db_maintenance"}
+     * @param durationMs how long the run took
+     * @param metrics    named counters for the run, in display order
+     */
+    public synchronized void record(@NonNull String type, long durationMs, @NonNull Map<String, Long> metrics) {
+        Log.i(TAG, type + " took " + durationMs + " ms " + metrics);
+        try {
+            JSONObject event = new JSONObject();
+            event.put("type", type);
+            event.put("timestamp", System.currentTimeMillis());
+            event.put("durationMs", durationMs);
+            JSONObject values = new JSONObject();
+            for (Map.Entry<String, Long> metric : metrics.entrySet()) {
+                values.put(metric.getKey(), metric.getValue());
+            }
+            event.put("metrics", values);
+
+            JSONArray events = readEvents();
+            events.put(event);
+            JSONArray trimmed = new JSONArray();
+            for (int i = Math.max(0, events.length() - MAX_EVENTS); i < events.length(); i++) {
+                trimmed.put(events.get(i));
+            }
+            prefs.edit().putString(KEY_EVENTS, trimmed.toString()).apply();
+        } catch (JSONException e) {
+            Log.w(TAG, "Failed to record " + type, e);
+        }
+    }
+
+    /**
+     * Recorded events, newest first.
+     */
+    @NonNull
+    public synchronized List<Event> getEvents() {
+        List<Event> result = new ArrayList<>();
+        JSONArray events = readEvents();
+        for (int i = 0; i < events.length(); i++) {
+            JSONObject json = events.optJSONObject(i);
+            if (json != null) {
+                result.add(Event.fromJson(json));
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public synchronized void clear() {
+        prefs.edit().remove(KEY_EVENTS).apply();
+    }
+
+    private JSONArray readEvents() {
+        String raw = prefs.getString(KEY_EVENTS, null);
+        if (raw == null) {
+            return new JSONArray();
+        }
+        try {
+            return new JSONArray(raw);
+        } catch (JSONException e) {
+            Log.w(TAG, "Discarding unreadable telemetry", e);
+            return new JSONArray();
+        }
+    }
+
+    /**
+     * One recorded run.
+     */
+    public static final class Event {
+        private final String type;
+        private final long timestamp;
+        private final long durationMs;
+        private final Map<String, Long> metrics;
+
+        Event(String type, long timestamp, long durationMs, Map<String, Long> metrics) {
+            this.type = type;
+            this.timestamp = timestamp;
+            this.durationMs = durationMs;
+            this.metrics = metrics;
+        }
+
+        static Event fromJson(JSONObject json) {
+            Map<String, Long> metrics = new LinkedHashMap<>();
+            JSONObject values = json.optJSONObject("metrics");
+            if (values != null) {
+                Iterator<String> keys = values.keys();
+                while (keys.hasNext()) {
+                    String key = keys.next();
+                    metrics.put(key, values.optLong(key));
+                }
+            }
+            return new Event(json.optString("type"), json.optLong("timestamp"), json.optLong("durationMs"), metrics);
+        }
+
+        public String getType() { return type; }
+        public long getTimestamp() { return timestamp; }
+        public long getDurationMs() { return durationMs; }
+        public Map<String, Long> getMetrics() { return metrics; }
+    }
+}
@@ -17,13 +17,9 @@ import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
 import com.student.overcooked.data.dao.TaskDao;
 import com.student.overcooked.data.database.OvercookedDatabase;
-import com.student.overcooked.data.model.Priority;
 import com.student.overcooked.data.model.Task;
-import com.student.overcooked.data.model.TaskStatus;
-import com.student.overcooked.data.model.TaskType;
+import com.student.overcooked.data.repository.task.TaskMapCodec;
 
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -96,7 +92,7 @@ public class TaskSyncWorker extends Worker {
                 }
 
                 // Upsert to RTDB
-                Map<String, Object> map = taskToMap(task);
+                Map<String, Object> map = TaskMapCodec.toMap(task);
                 Tasks.await(taskRef.setValue(map));
 
                 task.setPendingSync(false);
@@ -112,25 +108,4 @@ public class TaskSyncWorker extends Worker {
             return Result.retry();
         }
     }
-
-    private static Map<String, Object> taskToMap(@NonNull Task task) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", task.getId());
-        map.put("firestoreId", task.getFirestoreId());
-        map.put("userId", task.getUserId());
-        map.put("title", task.getTitle());
-        map.put("description", task.getDescription());
-        map.put("course", task.getCourse());
-        map.put("taskType", task.getTaskType() != null ? task.getTaskType().name() : TaskType.HOMEWORK.name());
-        map.put("priority", task.getPriority() != null ? task.getPriority().name() : Priority.MEDIUM.name());
-        map.put("status", task.getStatus() != null ? task.getStatus().name() : TaskStatus.NOT_STARTED.name());
-        map.put("deadline", task.getDeadline() != null ? task.getDeadline().getTime() : null);
-        map.put("createdAt", task.getCreatedAt() != null ? task.getCreatedAt().getTime() : new Date().getTime());
-        map.put("completedAt", task.getCompletedAt() != null ? task.getCompletedAt().getTime() : null);
-        map.put("isCompleted", task.isCompleted());
-        map.put("rewardClaimed", task.isRewardClaimed());
-        map.put("projectId", task.getProjectId());
-        map.put("notes", task.getNotes());
-        return map;
-    }
 }
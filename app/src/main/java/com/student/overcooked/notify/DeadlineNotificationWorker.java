@@ -1,7 +1,6 @@
 package com.student.overcooked.notify;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
 import androidx.annotation.NonNull;
 import androidx.work.Constraints;
@@ -18,23 +17,26 @@ import com.student.overcooked.data.dao.TaskDao;
 import com.student.overcooked.data.model.Group;
 import com.student.overcooked.data.model.GroupTask;
 import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.prefs.AppPreferences;
 import com.student.overcooked.util.NotificationHelper;
 import com.student.overcooked.util.NotificationSettings;
 
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 public class DeadlineNotificationWorker extends Worker {
 
     private static final String UNIQUE_WORK_NAME = "deadline_notifications";
 
-    private static final String PREFS = "deadline_notification_prefs";
-    private static final String KEY_LAST_NOTIFIED_PREFIX = "last_notified_";
-
     // Notify when within 24 hours.
     private static final long WINDOW_MILLIS = 24L * 60L * 60L * 1000L;
 
+    // Avoid spamming: notify each task at most once every 12 hours.
+    private static final long RENOTIFY_MILLIS = 12L * 60L * 60L * 1000L;
+
     public DeadlineNotificationWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
         super(context, workerParams);
     }
@@ -72,7 +74,9 @@ public class DeadlineNotificationWorker extends Worker {
         GroupDao groupDao = app.getDatabase().groupDao();
 
         NotificationHelper notifications = new NotificationHelper(context);
-        SharedPreferences prefs = context.getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        AppPreferences prefs = AppPreferences.get(context);
+        AppPreferences.Values values = prefs.values();
+        Set<String> notified = new LinkedHashSet<>();
 
         Date now = new Date();
         Date end = new Date(now.getTime() + WINDOW_MILLIS);
@@ -82,7 +86,8 @@ public class DeadlineNotificationWorker extends Worker {
             if (task.getDeadline() == null) continue;
             long hoursRemaining = Math.max(0, (task.getDeadline().getTime() - now.getTime()) / (60L * 60L * 1000L));
             maybeNotifyDeadline(
-                    prefs,
+                    values,
+                    notified,
                     notifications,
                     "task_" + task.getId(),
                     task.getTitle(),
@@ -104,7 +109,8 @@ public class DeadlineNotificationWorker extends Worker {
             }
 
             maybeNotifyDeadline(
-                    prefs,
+                    values,
+                    notified,
                     notifications,
                     "group_task_" + task.getId(),
                     task.getTitle(),
@@ -113,25 +119,35 @@ public class DeadlineNotificationWorker extends Worker {
             );
         }
 
+        // One write for the whole run; times past the renotify window no longer matter
+        long notifiedAt = System.currentTimeMillis();
+        prefs.edit(editor -> {
+            editor.removeDeadlineNotificationsBefore(notifiedAt - RENOTIFY_MILLIS);
+            for (String stableId : notified) {
+                editor.setDeadlineNotifiedAt(stableId, notifiedAt);
+            }
+        });
+        prefs.flush();
+
         return Result.success();
     }
 
     private static void maybeNotifyDeadline(
-            @NonNull SharedPreferences prefs,
+            @NonNull AppPreferences.Values values,
+            @NonNull Set<String> notified,
             @NonNull NotificationHelper notifications,
             @NonNull String stableId,
             @NonNull String title,
             @NonNull String projectName,
             long hoursRemaining
     ) {
-        // Avoid spamming: notify each task at most once every 12 hours.
         long now = System.currentTimeMillis();
-        long last = prefs.getLong(KEY_LAST_NOTIFIED_PREFIX + stableId, 0L);
-        if (last != 0L && (now - last) < (12L * 60L * 60L * 1000L)) {
+        long last = values.getDeadlineNotifiedAt(stableId);
+        if (last != 0L && (now - last) < RENOTIFY_MILLIS) {
             return;
         }
 
         notifications.showDeadlineNotification(stableId, title, projectName, hoursRemaining);
-        prefs.edit().putLong(KEY_LAST_NOTIFIED_PREFIX + stableId, now).apply();
+        notified.add(stableId);
     }
 }
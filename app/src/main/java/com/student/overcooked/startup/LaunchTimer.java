@@ -0,0 +1,116 @@
+package com.student.overcooked.startup;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.data.sync.SyncTelemetry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures time to interactive for each launch through the splash screen: from process start
+ * (or from the splash activity, when the process was already running) to the first frame of
+ * the screen the user lands on.
+ *
+ * The splash marks the readiness signals it waited for along the way. Each launch is logged,
+ * reported to the platform with {@link Activity#reportFullyDrawn()} and written to
+ * {@link SyncTelemetry}.
+ */
+public final class LaunchTimer {
+    private static final String TAG = "Launch";
+
+    public static final String TELEMETRY_TYPE = "launch";
+
+    private static final LaunchTimer INSTANCE = new LaunchTimer();
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService telemetryExecutor = Executors.newSingleThreadExecutor();
+
+    // Main thread only
+    private boolean processLaunched;
+    private long startMs = -1;
+    private boolean cold;
+    private final Map<String, Long> metrics = new LinkedHashMap<>();
+
+    private LaunchTimer() {
+    }
+
+    @NonNull
+    public static LaunchTimer get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start timing a launch. The first launch in a process counts from process start.
+     */
+    @MainThread
+    public void begin() {
+        cold = !processLaunched;
+        processLaunched = true;
+        startMs = cold ? Process.getStartElapsedRealtime() : SystemClock.elapsedRealtime();
+        metrics.clear();
+    }
+
+    /**
+     * Record how far into the launch {@code name} happened, e.g. a readiness signal.
+     */
+    @MainThread
+    public void mark(@NonNull String name) {
+        if (startMs >= 0) {
+            metrics.put(name + "Ms", SystemClock.elapsedRealtime() - startMs);
+        }
+    }
+
+    /**
+     * Finish timing when {@code activity} draws its first frame. Does nothing if no launch is
+     * being timed, so destinations can call it unconditionally.
+     */
+    @MainThread
+    public void reportInteractive(@NonNull Activity activity) {
+        if (startMs < 0) {
+            return;
+        }
+        long start = startMs;
+        Map<String, Long> launch = new LinkedHashMap<>(metrics);
+        launch.put("cold", cold ? 1L : 0L);
+        startMs = -1;
+
+        View decor = activity.getWindow().getDecorView();
+        decor.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+            private boolean drawn;
+
+            @Override
+            public void onDraw() {
+                if (drawn) {
+                    return;
+                }
+                drawn = true;
+                long ttiMs = SystemClock.elapsedRealtime() - start;
+                // Listeners cannot be removed from inside onDraw
+                mainHandler.post(() -> {
+                    decor.getViewTreeObserver().removeOnDrawListener(this);
+                    activity.reportFullyDrawn();
+                });
+                record(activity.getApplicationContext(), activity.getClass().getSimpleName(), ttiMs, launch);
+            }
+        });
+    }
+
+    private void record(Context context, String destination, long ttiMs, Map<String, Long> launch) {
+        Log.i(TAG, destination + " interactive after " + ttiMs + " ms " + launch);
+        telemetryExecutor.execute(() -> new SyncTelemetry(context).record(TELEMETRY_TYPE, ttiMs, launch));
+    }
+}
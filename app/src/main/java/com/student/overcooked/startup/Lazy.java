@@ -0,0 +1,34 @@
+package com.student.overcooked.startup;
+
+import androidx.annotation.NonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * A value created on first use, once, with its own lock, so that creating one lazy value
+ * never waits for an unrelated one to finish.
+ */
+public final class Lazy<T> {
+
+    private final Supplier<T> factory;
+    private volatile T value;
+
+    public Lazy(@NonNull Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    @NonNull
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = factory.get();
+                    value = result;
+                }
+            }
+        }
+        return result;
+    }
+}
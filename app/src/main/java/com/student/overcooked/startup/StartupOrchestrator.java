@@ -0,0 +1,244 @@
+package com.student.overcooked.startup;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.data.sync.SyncTelemetry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the app's startup work as a dependency graph instead of in sequence on the main thread.
+ *
+ * Each initializer names the ones it needs. Initializers whose dependencies are done run
+ * right away, in parallel on a small pool, or on the main thread if they have to. Callers wait
+ * for the initializers they need with {@link #whenDone}. When the last one finishes the
+ * timings are logged and written to {@link SyncTelemetry}. Each run is also a
+ * {@code startup:<name>} section in system traces.
+ *
+ * A failing initializer is logged and counted as done; whatever it was warming up is
+ * created lazily on first use instead.
+ */
+public final class StartupOrchestrator {
+    private static final String TAG = "Startup";
+
+    public static final String TELEMETRY_TYPE = "startup";
+
+    private static final int THREADS = 3;
+
+    private static final class Node {
+        final String name;
+        final boolean mainThread;
+        final Runnable work;
+        final List<String> dependencies;
+        final List<Node> dependents = new ArrayList<>();
+        final AtomicInteger remaining;
+        // Main thread only
+        boolean done;
+        final List<Runnable> doneCallbacks = new ArrayList<>();
+
+        Node(String name, boolean mainThread, Runnable work, List<String> dependencies) {
+            this.name = name;
+            this.mainThread = mainThread;
+            this.work = work;
+            this.dependencies = dependencies;
+            this.remaining = new AtomicInteger(dependencies.size());
+        }
+    }
+
+    private final Context appContext;
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final StartupTrace trace = new StartupTrace();
+    private final AtomicInteger pending = new AtomicInteger();
+    private ExecutorService executor;
+
+    public StartupOrchestrator(@NonNull Context context) {
+        this.appContext = context.getApplicationContext();
+    }
+
+    /**
+     * Add an initializer that runs off the main thread.
+     */
+    @NonNull
+    public StartupOrchestrator add(@NonNull String name, @NonNull Runnable work, @NonNull String... dependsOn) {
+        return add(name, false, work, dependsOn);
+    }
+
+    /**
+     * Add an initializer that must run on the main thread, such as one that observes LiveData.
+     */
+    @NonNull
+    public StartupOrchestrator addOnMainThread(@NonNull String name, @NonNull Runnable work,
+                                               @NonNull String... dependsOn) {
+        return add(name, true, work, dependsOn);
+    }
+
+    private StartupOrchestrator add(String name, boolean mainThread, Runnable work, String[] dependsOn) {
+        if (executor != null) {
+            throw new IllegalStateException("Startup already running");
+        }
+        if (nodes.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate initializer: " + name);
+        }
+        nodes.put(name, new Node(name, mainThread, work, Arrays.asList(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Start every initializer whose dependencies are met.
+     *
+     * @throws IllegalStateException if a dependency is missing or the graph has a cycle
+     */
+    @MainThread
+    public void start() {
+        for (Node node : nodes.values()) {
+            for (String dependency : node.dependencies) {
+                Node required = nodes.get(dependency);
+                if (required == null) {
+                    throw new IllegalStateException(node.name + " depends on unknown " + dependency);
+                }
+                required.dependents.add(node);
+            }
+        }
+        checkAcyclic();
+
+        pending.set(nodes.size());
+        executor = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(@NonNull Runnable r) {
+                return new Thread(r, "startup-" + count.incrementAndGet());
+            }
+        });
+        if (nodes.isEmpty()) {
+            finish();
+            return;
+        }
+        for (Node node : nodes.values()) {
+            if (node.dependencies.isEmpty()) {
+                dispatch(node);
+            }
+        }
+    }
+
+    /**
+     * Run {@code callback} on the main thread once the initializer {@code name} has finished,
+     * without waiting for the rest; right away if it already has.
+     *
+     * @throws IllegalArgumentException if there is no such initializer
+     */
+    @MainThread
+    public void whenDone(@NonNull String name, @NonNull Runnable callback) {
+        Node node = nodes.get(name);
+        if (node == null) {
+            throw new IllegalArgumentException("Unknown initializer: " + name);
+        }
+        if (node.done) {
+            callback.run();
+        } else {
+            node.doneCallbacks.add(callback);
+        }
+    }
+
+    private void dispatch(Node node) {
+        if (node.mainThread) {
+            mainHandler.post(() -> run(node));
+        } else {
+            executor.execute(() -> run(node));
+        }
+    }
+
+    private void run(Node node) {
+        long start = SystemClock.elapsedRealtime();
+        boolean failed = false;
+        Trace.beginSection("startup:" + node.name);
+        try {
+            node.work.run();
+        } catch (Throwable e) {
+            // Errors too, e.g. a class that fails to load: an initializer that never counts as
+            // done would hold back its dependents and every whenDone callback waiting on it
+            Log.e(TAG, "Initializer " + node.name + " failed", e);
+            failed = true;
+        } finally {
+            Trace.endSection();
+        }
+        long end = SystemClock.elapsedRealtime();
+        trace.add(new StartupTrace.Entry(node.name, Thread.currentThread().getName(),
+                start - Process.getStartElapsedRealtime(), end - start, failed));
+        mainHandler.post(() -> {
+            node.done = true;
+            for (Runnable callback : node.doneCallbacks) {
+                callback.run();
+            }
+            node.doneCallbacks.clear();
+        });
+
+        for (Node dependent : node.dependents) {
+            if (dependent.remaining.decrementAndGet() == 0) {
+                dispatch(dependent);
+            }
+        }
+        if (pending.decrementAndGet() == 0) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        trace.setReadyMs(SystemClock.elapsedRealtime() - Process.getStartElapsedRealtime());
+        Log.i(TAG, trace.toString());
+        executor.execute(this::recordTelemetry);
+        executor.shutdown();
+    }
+
+    private void recordTelemetry() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("readyMs", trace.getReadyMs());
+        for (StartupTrace.Entry entry : trace.getEntries()) {
+            metrics.put(entry.getName() + "Ms", entry.getDurationMs());
+        }
+        new SyncTelemetry(appContext).record(TELEMETRY_TYPE, trace.getReadyMs(), metrics);
+    }
+
+    private void checkAcyclic() {
+        Map<Node, Integer> inDegree = new HashMap<>();
+        Deque<Node> free = new ArrayDeque<>();
+        for (Node node : nodes.values()) {
+            inDegree.put(node, node.dependencies.size());
+            if (node.dependencies.isEmpty()) free.add(node);
+        }
+        int visited = 0;
+        while (!free.isEmpty()) {
+            Node node = free.poll();
+            visited++;
+            for (Node dependent : node.dependents) {
+                int left = inDegree.get(dependent) - 1;
+                inDegree.put(dependent, left);
+                if (left == 0) free.add(dependent);
+            }
+        }
+        if (visited != nodes.size()) {
+            throw new IllegalStateException("Startup initializers have a dependency cycle");
+        }
+    }
+}
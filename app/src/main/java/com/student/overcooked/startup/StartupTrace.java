@@ -0,0 +1,77 @@
+package com.student.overcooked.startup;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Timings of one app start, as recorded by {@link StartupOrchestrator}. Offsets are
+ * milliseconds since the process started.
+ */
+public final class StartupTrace {
+
+    /**
+     * One initializer run.
+     */
+    public static final class Entry {
+        private final String name;
+        private final String thread;
+        private final long startMs;
+        private final long durationMs;
+        private final boolean failed;
+
+        Entry(String name, String thread, long startMs, long durationMs, boolean failed) {
+            this.name = name;
+            this.thread = thread;
+            this.startMs = startMs;
+            this.durationMs = durationMs;
+            this.failed = failed;
+        }
+
+        public String getName() { return name; }
+        public String getThread() { return thread; }
+        public long getStartMs() { return startMs; }
+        public long getDurationMs() { return durationMs; }
+        public boolean isFailed() { return failed; }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private long readyMs = -1;
+
+    synchronized void add(Entry entry) {
+        entries.add(entry);
+    }
+
+    synchronized void setReadyMs(long readyMs) {
+        this.readyMs = readyMs;
+    }
+
+    /**
+     * Entries in the order the initializers finished.
+     */
+    @NonNull
+    public synchronized List<Entry> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * When the last initializer finished, or -1 while startup is still running.
+     */
+    public synchronized long getReadyMs() {
+        return readyMs;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        StringBuilder text = new StringBuilder(String.format(Locale.US, "ready at %d ms", readyMs));
+        for (Entry entry : entries) {
+            text.append(String.format(Locale.US, "%n  %-18s %5d +%4d ms  %s%s", entry.name, entry.startMs,
+                    entry.durationMs, entry.thread, entry.failed ? "  FAILED" : ""));
+        }
+        return text.toString();
+    }
+}
@@ -10,6 +10,7 @@ import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
 import com.student.overcooked.data.LocalCoinStore;
+import com.student.overcooked.data.prefs.AppPreferences;
 import com.student.overcooked.data.repository.UserRepository;
 
 import java.util.concurrent.CountDownLatch;
@@ -59,6 +60,8 @@ public class SyncWorker extends Worker {
             return Result.retry();
         }
 
+        // The process may be stopped once the work returns
+        AppPreferences.get(getApplicationContext()).flush();
         return resultHolder[0];
     }
 
@@ -13,6 +13,7 @@ import android.widget.Toast;
 import com.student.overcooked.R;
 import com.student.overcooked.OvercookedApplication;
 import com.student.overcooked.data.repository.GroupRepository;
+import com.student.overcooked.startup.LaunchTimer;
 import com.student.overcooked.ui.fragments.GroupDetailFragment;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.student.overcooked.util.ConnectivityObserver;
@@ -46,6 +47,8 @@ public class MainNavActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main_nav);
+        // Ends the launch timing started by the splash, if this is where it landed
+        LaunchTimer.get().reportInteractive(this);
 
         groupRepository = ((OvercookedApplication) getApplication()).getGroupRepository();
         notificationHelper = new NotificationHelper(this);
@@ -7,6 +7,7 @@ import com.student.overcooked.data.model.Group;
 import com.student.overcooked.data.model.GroupMessage;
 import com.student.overcooked.data.model.GroupTask;
 import com.student.overcooked.data.repository.GroupRepository;
+import com.student.overcooked.util.DayClock;
 import com.student.overcooked.util.NotificationHelper;
 import com.student.overcooked.util.NotificationSettings;
 import com.google.firebase.auth.FirebaseAuth;
@@ -148,8 +149,8 @@ final class MainNavInAppNotifications {
     private static GroupTask newestGroupTask(@NonNull List<GroupTask> tasks) {
         GroupTask best = null;
         for (GroupTask t : tasks) {
-            if (t == null || t.getCreatedAt() == null) continue;
-            if (best == null || t.getCreatedAt().after(best.getCreatedAt())) {
+            if (t == null || t.getCreatedAtMillis() == DayClock.NO_TIME) continue;
+            if (best == null || t.getCreatedAtMillis() > best.getCreatedAtMillis()) {
                 best = t;
             }
         }
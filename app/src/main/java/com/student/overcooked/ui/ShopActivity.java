@@ -5,8 +5,6 @@ import android.util.Log;
 import android.widget.TextView;
 import android.widget.Toast;
 
-import android.content.SharedPreferences;
-
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
@@ -17,6 +15,7 @@ import com.student.overcooked.data.LocalCoinStore;
 import com.student.overcooked.data.model.Mascot;
 import com.student.overcooked.data.model.ShopItem;
 import com.student.overcooked.data.model.User;
+import com.student.overcooked.data.prefs.AppPreferences;
 import com.student.overcooked.data.repository.UserRepository;
 import com.student.overcooked.ui.adapter.ShopAdapter;
 import com.student.overcooked.ui.dialog.MascotPreviewDialog;
@@ -36,7 +35,7 @@ public class ShopActivity extends AppCompatActivity {
 
     private LocalCoinStore localCoinStore;
     private int lastRemoteCoins = 0;
-    private SharedPreferences.OnSharedPreferenceChangeListener coinPrefsListener;
+    private AppPreferences.Listener coinPrefsListener;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -55,18 +54,16 @@ public class ShopActivity extends AppCompatActivity {
     protected void onStart() {
         super.onStart();
         if (coinPrefsListener == null) {
-            coinPrefsListener = (prefs, key) -> updateCoinText();
+            coinPrefsListener = values -> updateCoinText();
         }
-        getSharedPreferences(LocalCoinStore.PREFS, MODE_PRIVATE)
-                .registerOnSharedPreferenceChangeListener(coinPrefsListener);
+        AppPreferences.get(this).addListener(coinPrefsListener);
         updateCoinText();
     }
 
     @Override
     protected void onStop() {
         if (coinPrefsListener != null) {
-            getSharedPreferences(LocalCoinStore.PREFS, MODE_PRIVATE)
-                    .unregisterOnSharedPreferenceChangeListener(coinPrefsListener);
+            AppPreferences.get(this).removeListener(coinPrefsListener);
         }
         super.onStop();
     }
@@ -6,6 +6,7 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListAdapter;
@@ -29,7 +30,8 @@ public class GroupChatAdapter extends ListAdapter<GroupMessage, RecyclerView.Vie
 
     private final String currentUserId;
 
-    private static final DiffUtil.ItemCallback<GroupMessage> DIFF_CALLBACK = new DiffUtil.ItemCallback<GroupMessage>() {
+    @VisibleForTesting
+    static final DiffUtil.ItemCallback<GroupMessage> DIFF_CALLBACK = new DiffUtil.ItemCallback<GroupMessage>() {
         @Override
         public boolean areItemsTheSame(@NonNull GroupMessage oldItem, @NonNull GroupMessage newItem) {
             return Objects.equals(oldItem.getId(), newItem.getId());
@@ -42,9 +44,16 @@ public class GroupChatAdapter extends ListAdapter<GroupMessage, RecyclerView.Vie
     };
 
     public GroupChatAdapter() {
+        this(FirebaseAuth.getInstance().getCurrentUser() != null
+                ? FirebaseAuth.getInstance().getCurrentUser().getUid() : "");
+    }
+
+    /**
+     * @param currentUserId messages from this sender are drawn as sent bubbles
+     */
+    public GroupChatAdapter(@NonNull String currentUserId) {
         super(DIFF_CALLBACK);
-        this.currentUserId = FirebaseAuth.getInstance().getCurrentUser() != null 
-                ? FirebaseAuth.getInstance().getCurrentUser().getUid() : "";
+        this.currentUserId = currentUserId;
     }
 
     @Override
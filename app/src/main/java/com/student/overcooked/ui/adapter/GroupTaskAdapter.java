@@ -9,6 +9,7 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 import androidx.core.graphics.drawable.DrawableCompat;
 import androidx.recyclerview.widget.DiffUtil;
@@ -16,43 +17,43 @@ import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.student.overcooked.R;
-import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 import com.student.overcooked.data.model.Priority;
 import com.student.overcooked.data.model.TaskStatus;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.card.MaterialCardView;
 
 import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.Locale;
 import java.util.Objects;
 
 /**
  * Adapter for Group Tasks List
  */
-public class GroupTaskAdapter extends ListAdapter<GroupTask, GroupTaskAdapter.TaskViewHolder> {
+public class GroupTaskAdapter extends ListAdapter<GroupTaskSummary, GroupTaskAdapter.TaskViewHolder> {
 
     public interface TaskInteractionListener {
-        void onTaskSelected(GroupTask task);
-        void onTaskCompletionToggle(GroupTask task);
-        void onTaskMenuRequested(@NonNull View anchor, GroupTask task);
-        void onTaskLongPressed(@NonNull View anchor, GroupTask task);
+        void onTaskSelected(GroupTaskSummary task);
+        void onTaskCompletionToggle(GroupTaskSummary task);
+        void onTaskMenuRequested(@NonNull View anchor, GroupTaskSummary task);
+        void onTaskLongPressed(@NonNull View anchor, GroupTaskSummary task);
     }
 
     private final TaskInteractionListener interactionListener;
 
-    private static final DiffUtil.ItemCallback<GroupTask> DIFF_CALLBACK = new DiffUtil.ItemCallback<GroupTask>() {
+    @VisibleForTesting
+    static final DiffUtil.ItemCallback<GroupTaskSummary> DIFF_CALLBACK = new DiffUtil.ItemCallback<GroupTaskSummary>() {
         @Override
-        public boolean areItemsTheSame(@NonNull GroupTask oldItem, @NonNull GroupTask newItem) {
+        public boolean areItemsTheSame(@NonNull GroupTaskSummary oldItem, @NonNull GroupTaskSummary newItem) {
             return Objects.equals(oldItem.getId(), newItem.getId());
         }
 
         @Override
-        public boolean areContentsTheSame(@NonNull GroupTask oldItem, @NonNull GroupTask newItem) {
+        public boolean areContentsTheSame(@NonNull GroupTaskSummary oldItem, @NonNull GroupTaskSummary newItem) {
             return Objects.equals(oldItem.getTitle(), newItem.getTitle()) &&
                    oldItem.isCompleted() == newItem.isCompleted() &&
                    Objects.equals(oldItem.getStatus(), newItem.getStatus()) &&
-                   Objects.equals(oldItem.getDeadline(), newItem.getDeadline()) &&
+                   oldItem.getDeadlineMillis() == newItem.getDeadlineMillis() &&
                    Objects.equals(oldItem.getDescription(), newItem.getDescription()) &&
                    Objects.equals(oldItem.getAssigneeName(), newItem.getAssigneeName()) &&
                    Objects.equals(oldItem.getPriority(), newItem.getPriority());
@@ -103,7 +104,7 @@ public class GroupTaskAdapter extends ListAdapter<GroupTask, GroupTaskAdapter.Ta
             menuButton = itemView.findViewById(R.id.taskMenu);
         }
 
-        void bind(GroupTask task, TaskInteractionListener interactionListener) {
+        void bind(GroupTaskSummary task, TaskInteractionListener interactionListener) {
             taskTitle.setText(task.getTitle());
 
             if (task.getDeadline() != null) {
@@ -112,13 +113,12 @@ public class GroupTaskAdapter extends ListAdapter<GroupTask, GroupTaskAdapter.Ta
                 taskDeadline.setText(itemView.getContext().getString(R.string.project_deadline_placeholder));
             }
 
-            Date now = new Date();
-            boolean overdue = !task.isCompleted() && task.getDeadline() != null && task.getDeadline().before(now);
+            boolean overdue = task.isOverdue();
             taskDeadline.setTextColor(ContextCompat.getColor(itemView.getContext(), overdue ? R.color.tomatoRed : R.color.textSecondary));
 
             if (assigneeChip != null) {
-                if (task.getAssignedToName() != null && !task.getAssignedToName().isEmpty()) {
-                    assigneeChip.setText(itemView.getContext().getString(R.string.task_assigned_to_template, task.getAssignedToName()));
+                if (task.getAssigneeName() != null && !task.getAssigneeName().isEmpty()) {
+                    assigneeChip.setText(itemView.getContext().getString(R.string.task_assigned_to_template, task.getAssigneeName()));
                 } else {
                     assigneeChip.setText(itemView.getContext().getString(R.string.task_assignee_unassigned));
                 }
@@ -40,7 +40,7 @@ public class ProjectAdapter extends ListAdapter<Project, ProjectAdapter.ProjectV
         @Override
         public boolean areContentsTheSame(@NonNull Project oldItem, @NonNull Project newItem) {
             return Objects.equals(oldItem.getName(), newItem.getName()) &&
-                   Objects.equals(oldItem.getDeadline(), newItem.getDeadline());
+                   oldItem.getDeadlineMillis() == newItem.getDeadlineMillis();
         }
     };
 
@@ -11,6 +11,7 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 import androidx.core.graphics.drawable.DrawableCompat;
 import androidx.recyclerview.widget.DiffUtil;
@@ -37,7 +38,8 @@ public class ProjectResourceAdapter extends ListAdapter<ProjectResource, Project
 
     private final ResourceActionListener listener;
 
-    private static final DiffUtil.ItemCallback<ProjectResource> DIFF_CALLBACK = new DiffUtil.ItemCallback<ProjectResource>() {
+    @VisibleForTesting
+    static final DiffUtil.ItemCallback<ProjectResource> DIFF_CALLBACK = new DiffUtil.ItemCallback<ProjectResource>() {
         @Override
         public boolean areItemsTheSame(@NonNull ProjectResource oldItem, @NonNull ProjectResource newItem) {
             return Objects.equals(oldItem.getId(), newItem.getId());
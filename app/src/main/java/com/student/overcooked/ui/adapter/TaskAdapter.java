@@ -15,7 +15,7 @@ import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.student.overcooked.R;
-import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskSummary;
 import com.student.overcooked.data.model.TaskStatus;
 import com.google.android.material.card.MaterialCardView;
 
@@ -26,28 +26,28 @@ import java.util.Objects;
 /**
  * Adapter for Tasks in Project Details
  */
-public class TaskAdapter extends ListAdapter<Task, TaskAdapter.TaskViewHolder> {
+public class TaskAdapter extends ListAdapter<TaskSummary, TaskAdapter.TaskViewHolder> {
 
     public interface OnTaskClickListener {
-        void onTaskClick(Task task);
+        void onTaskClick(TaskSummary task);
     }
 
     public interface OnTaskMenuListener {
-        void onEditTask(Task task);
-        void onDeleteTask(Task task);
+        void onEditTask(TaskSummary task);
+        void onDeleteTask(TaskSummary task);
     }
 
     private final OnTaskClickListener onTaskClick;
     private final OnTaskMenuListener onTaskMenu;
 
-    private static final DiffUtil.ItemCallback<Task> DIFF_CALLBACK = new DiffUtil.ItemCallback<Task>() {
+    private static final DiffUtil.ItemCallback<TaskSummary> DIFF_CALLBACK = new DiffUtil.ItemCallback<TaskSummary>() {
         @Override
-        public boolean areItemsTheSame(@NonNull Task oldItem, @NonNull Task newItem) {
+        public boolean areItemsTheSame(@NonNull TaskSummary oldItem, @NonNull TaskSummary newItem) {
             return oldItem.getId() == newItem.getId();
         }
 
         @Override
-        public boolean areContentsTheSame(@NonNull Task oldItem, @NonNull Task newItem) {
+        public boolean areContentsTheSame(@NonNull TaskSummary oldItem, @NonNull TaskSummary newItem) {
             return Objects.equals(oldItem.getTitle(), newItem.getTitle()) &&
                    oldItem.isCompleted() == newItem.isCompleted() &&
                    Objects.equals(oldItem.getStatus(), newItem.getStatus());
@@ -95,7 +95,7 @@ public class TaskAdapter extends ListAdapter<Task, TaskAdapter.TaskViewHolder> {
             taskMenu = itemView.findViewById(R.id.taskMenu);
         }
 
-        void bind(Task task, OnTaskClickListener onTaskClick, OnTaskMenuListener onTaskMenu) {
+        void bind(TaskSummary task, OnTaskClickListener onTaskClick, OnTaskMenuListener onTaskMenu) {
             taskTitle.setText(task.getTitle());
             taskDeadline.setText(task.getDeadline() != null ? dateFormat.format(task.getDeadline()) : "No deadline");
 
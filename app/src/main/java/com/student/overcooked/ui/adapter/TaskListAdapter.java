@@ -9,6 +9,7 @@ import android.widget.PopupMenu;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListAdapter;
@@ -16,46 +17,59 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.student.overcooked.R;
 import com.student.overcooked.data.model.Priority;
-import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskSummary;
 import com.student.overcooked.data.model.TaskStatus;
 import com.google.android.material.card.MaterialCardView;
 
 import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Adapter for Task List in Tasks Fragment
  */
-public class TaskListAdapter extends ListAdapter<Task, TaskListAdapter.TaskViewHolder> {
+public class TaskListAdapter extends ListAdapter<TaskSummary, TaskListAdapter.TaskViewHolder> {
 
     public interface OnTaskClickListener {
-        void onTaskClick(Task task);
+        void onTaskClick(TaskSummary task);
     }
 
     public interface OnCheckChangeListener {
-        void onCheckChange(Task task);
+        void onCheckChange(TaskSummary task);
     }
 
     public interface OnTaskMenuListener {
-        void onEditTask(Task task);
-        void onDeleteTask(Task task);
+        void onEditTask(TaskSummary task);
+        void onDeleteTask(TaskSummary task);
+    }
+
+    /**
+     * Long-press starts multi-select; while anything is selected, taps toggle selection instead.
+     */
+    public interface OnSelectionToggleListener {
+        void onSelectionToggle(TaskSummary task);
     }
 
     private final OnTaskClickListener onTaskClick;
     private final OnCheckChangeListener onCheckChange;
     private final OnTaskMenuListener onTaskMenu;
+    private OnSelectionToggleListener onSelectionToggle;
+    private Set<Long> selectedIds = Collections.emptySet();
 
-    private static final DiffUtil.ItemCallback<Task> DIFF_CALLBACK = new DiffUtil.ItemCallback<Task>() {
+    @VisibleForTesting
+    static final DiffUtil.ItemCallback<TaskSummary> DIFF_CALLBACK = new DiffUtil.ItemCallback<TaskSummary>() {
         @Override
-        public boolean areItemsTheSame(@NonNull Task oldItem, @NonNull Task newItem) {
+        public boolean areItemsTheSame(@NonNull TaskSummary oldItem, @NonNull TaskSummary newItem) {
             return oldItem.getId() == newItem.getId();
         }
 
         @Override
-        public boolean areContentsTheSame(@NonNull Task oldItem, @NonNull Task newItem) {
+        public boolean areContentsTheSame(@NonNull TaskSummary oldItem, @NonNull TaskSummary newItem) {
             return Objects.equals(oldItem.getTitle(), newItem.getTitle()) &&
-                   Objects.equals(oldItem.getDeadline(), newItem.getDeadline()) &&
+                   oldItem.getDeadlineMillis() == newItem.getDeadlineMillis() &&
                    oldItem.isCompleted() == newItem.isCompleted() &&
                    Objects.equals(oldItem.getPriority(), newItem.getPriority()) &&
                    Objects.equals(oldItem.getStatus(), newItem.getStatus());
@@ -69,6 +83,15 @@ public class TaskListAdapter extends ListAdapter<Task, TaskListAdapter.TaskViewH
         this.onTaskMenu = onTaskMenu;
     }
 
+    public void setOnSelectionToggleListener(OnSelectionToggleListener listener) {
+        this.onSelectionToggle = listener;
+    }
+
+    public void setSelectedIds(@NonNull Set<Long> ids) {
+        selectedIds = new HashSet<>(ids);
+        notifyItemRangeChanged(0, getItemCount());
+    }
+
     @NonNull
     @Override
     public TaskViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -79,7 +102,9 @@ public class TaskListAdapter extends ListAdapter<Task, TaskListAdapter.TaskViewH
 
     @Override
     public void onBindViewHolder(@NonNull TaskViewHolder holder, int position) {
-        holder.bind(getItem(position), onTaskClick, onCheckChange, onTaskMenu);
+        TaskSummary task = getItem(position);
+        holder.bind(task, onTaskClick, onCheckChange, onTaskMenu);
+        holder.bindSelection(task, selectedIds, onSelectionToggle);
     }
 
     static class TaskViewHolder extends RecyclerView.ViewHolder {
@@ -106,7 +131,7 @@ public class TaskListAdapter extends ListAdapter<Task, TaskListAdapter.TaskViewH
             btnMenu = itemView.findViewById(R.id.btnMenu);
         }
 
-        void bind(Task task, OnTaskClickListener onTaskClick, OnCheckChangeListener onCheckChange, OnTaskMenuListener onTaskMenu) {
+        void bind(TaskSummary task, OnTaskClickListener onTaskClick, OnCheckChangeListener onCheckChange, OnTaskMenuListener onTaskMenu) {
             taskTitle.setText(task.getTitle());
             if (taskSubject != null) {
                 String taskTypeName = task.getTaskType() != null ? task.getTaskType().name() : "OTHER";
@@ -196,6 +221,27 @@ public class TaskListAdapter extends ListAdapter<Task, TaskListAdapter.TaskViewH
             }
         }
 
+        void bindSelection(TaskSummary task, Set<Long> selectedIds, OnSelectionToggleListener onSelectionToggle) {
+            boolean selectionMode = !selectedIds.isEmpty();
+            cardView.setCheckable(onSelectionToggle != null);
+            cardView.setChecked(selectedIds.contains(task.getId()));
+            checkbox.setEnabled(!selectionMode);
+            if (btnMenu != null) {
+                btnMenu.setVisibility(selectionMode ? View.INVISIBLE : View.VISIBLE);
+            }
+            if (onSelectionToggle == null) {
+                cardView.setOnLongClickListener(null);
+                return;
+            }
+            cardView.setOnLongClickListener(v -> {
+                onSelectionToggle.onSelectionToggle(task);
+                return true;
+            });
+            if (selectionMode) {
+                cardView.setOnClickListener(v -> onSelectionToggle.onSelectionToggle(task));
+            }
+        }
+
         private String formatTaskType(String type) {
             // Convert HOMEWORK to Homework, etc.
             return type.charAt(0) + type.substring(1).toLowerCase().replace("_", " ");
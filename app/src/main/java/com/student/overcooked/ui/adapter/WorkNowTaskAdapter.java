@@ -9,6 +9,7 @@ import android.widget.PopupMenu;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListAdapter;
@@ -16,8 +17,9 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.student.overcooked.R;
 import com.student.overcooked.data.model.Priority;
-import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskSummary;
 import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.util.DayClock;
 import com.google.android.material.card.MaterialCardView;
 
 import java.text.SimpleDateFormat;
@@ -28,35 +30,36 @@ import java.util.concurrent.TimeUnit;
 /**
  * Adapter for Work Now tasks list in Home Fragment
  */
-public class WorkNowTaskAdapter extends ListAdapter<Task, WorkNowTaskAdapter.TaskViewHolder> {
+public class WorkNowTaskAdapter extends ListAdapter<TaskSummary, WorkNowTaskAdapter.TaskViewHolder> {
 
     public interface OnTaskClickListener {
-        void onTaskClick(Task task);
+        void onTaskClick(TaskSummary task);
     }
 
     public interface OnCompleteClickListener {
-        void onCompleteClick(Task task);
+        void onCompleteClick(TaskSummary task);
     }
 
     public interface OnTaskMenuListener {
-        void onEditTask(Task task);
-        void onDeleteTask(Task task);
+        void onEditTask(TaskSummary task);
+        void onDeleteTask(TaskSummary task);
     }
 
     private final OnTaskClickListener onTaskClick;
     private final OnCompleteClickListener onCompleteClick;
     private final OnTaskMenuListener onTaskMenu;
 
-    private static final DiffUtil.ItemCallback<Task> DIFF_CALLBACK = new DiffUtil.ItemCallback<Task>() {
+    @VisibleForTesting
+    static final DiffUtil.ItemCallback<TaskSummary> DIFF_CALLBACK = new DiffUtil.ItemCallback<TaskSummary>() {
         @Override
-        public boolean areItemsTheSame(@NonNull Task oldItem, @NonNull Task newItem) {
+        public boolean areItemsTheSame(@NonNull TaskSummary oldItem, @NonNull TaskSummary newItem) {
             return oldItem.getId() == newItem.getId();
         }
 
         @Override
-        public boolean areContentsTheSame(@NonNull Task oldItem, @NonNull Task newItem) {
+        public boolean areContentsTheSame(@NonNull TaskSummary oldItem, @NonNull TaskSummary newItem) {
             return Objects.equals(oldItem.getTitle(), newItem.getTitle()) &&
-                   Objects.equals(oldItem.getDeadline(), newItem.getDeadline()) &&
+                   oldItem.getDeadlineMillis() == newItem.getDeadlineMillis() &&
                    oldItem.isCompleted() == newItem.isCompleted() &&
                    Objects.equals(oldItem.getPriority(), newItem.getPriority()) &&
                    Objects.equals(oldItem.getStatus(), newItem.getStatus());
@@ -107,7 +110,7 @@ public class WorkNowTaskAdapter extends ListAdapter<Task, WorkNowTaskAdapter.Tas
             btnMenu = itemView.findViewById(R.id.btnMenu);
         }
 
-        void bind(Task task, OnTaskClickListener onTaskClick, OnCompleteClickListener onCompleteClick, OnTaskMenuListener onTaskMenu) {
+        void bind(TaskSummary task, OnTaskClickListener onTaskClick, OnCompleteClickListener onCompleteClick, OnTaskMenuListener onTaskMenu) {
             taskTitle.setText(task.getTitle());
             taskDeadline.setText(getTimeRemaining(task));
             
@@ -186,11 +189,11 @@ public class WorkNowTaskAdapter extends ListAdapter<Task, WorkNowTaskAdapter.Tas
             }
         }
 
-        private String getTimeRemaining(Task task) {
-            if (task.getDeadline() == null) {
+        private String getTimeRemaining(TaskSummary task) {
+            if (task.getDeadlineMillis() == DayClock.NO_TIME) {
                 return "No deadline";
             }
-            long diff = task.getDeadline().getTime() - System.currentTimeMillis();
+            long diff = task.getDeadlineMillis() - DayClock.get().now();
             
             if (diff < 0) {
                 long days = TimeUnit.MILLISECONDS.toDays(Math.abs(diff));
@@ -2,7 +2,6 @@ package com.student.overcooked.ui.common;
 
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.view.View;
 import android.widget.TextView;
 
@@ -14,6 +13,7 @@ import androidx.lifecycle.LifecycleOwner;
 
 import com.student.overcooked.R;
 import com.student.overcooked.data.LocalCoinStore;
+import com.student.overcooked.data.prefs.AppPreferences;
 import com.student.overcooked.data.repository.UserRepository;
 import com.student.overcooked.ui.ShopActivity;
 
@@ -31,8 +31,9 @@ public final class CoinTopBarController implements DefaultLifecycleObserver {
 
     private @Nullable TextView coinScoreText;
     private int lastRemoteCoins;
+    private boolean remoteKnown;
 
-    private @Nullable SharedPreferences.OnSharedPreferenceChangeListener prefsListener;
+    private @Nullable AppPreferences.Listener prefsListener;
 
     public CoinTopBarController(
             @NonNull Fragment fragment,
@@ -62,6 +63,7 @@ public final class CoinTopBarController implements DefaultLifecycleObserver {
             userRepository.getCurrentUser().observe(fragment.getViewLifecycleOwner(), user -> {
                 if (user == null) return;
                 lastRemoteCoins = user.getCoins();
+                remoteKnown = true;
                 if (localCoinStore.getPendingDelta() == 0) {
                     localCoinStore.setBalanceFromServer(lastRemoteCoins);
                 }
@@ -75,12 +77,10 @@ public final class CoinTopBarController implements DefaultLifecycleObserver {
     @Override
     public void onStart(@NonNull LifecycleOwner owner) {
         if (prefsListener == null) {
-            prefsListener = (prefs, key) -> updateCoinText();
+            prefsListener = values -> updateCoinText();
         }
 
-        fragment.requireContext()
-                .getSharedPreferences(LocalCoinStore.PREFS, Context.MODE_PRIVATE)
-                .registerOnSharedPreferenceChangeListener(prefsListener);
+        AppPreferences.get(fragment.requireContext()).addListener(prefsListener);
 
         updateCoinText();
     }
@@ -88,15 +88,25 @@ public final class CoinTopBarController implements DefaultLifecycleObserver {
     @Override
     public void onStop(@NonNull LifecycleOwner owner) {
         if (prefsListener != null) {
-            fragment.requireContext()
-                    .getSharedPreferences(LocalCoinStore.PREFS, Context.MODE_PRIVATE)
-                    .unregisterOnSharedPreferenceChangeListener(prefsListener);
+            AppPreferences.get(fragment.requireContext()).removeListener(prefsListener);
         }
     }
 
+    /**
+     * Show a balance remembered from the last session until the user document arrives.
+     */
+    public void showCachedBalance(int coins) {
+        if (remoteKnown) return;
+        lastRemoteCoins = coins;
+        updateCoinText();
+    }
+
     private void updateCoinText() {
         if (coinScoreText == null) return;
+        coinScoreText.setText(String.valueOf(getDisplayedBalance()));
+    }
 
+    public int getDisplayedBalance() {
         int display;
         if (userRepository == null) {
             display = localCoinStore.getBalance();
@@ -105,7 +115,6 @@ public final class CoinTopBarController implements DefaultLifecycleObserver {
                     ? localCoinStore.getBalance()
                     : lastRemoteCoins;
         }
-
-        coinScoreText.setText(String.valueOf(Math.max(0, display)));
+        return Math.max(0, display);
     }
 }
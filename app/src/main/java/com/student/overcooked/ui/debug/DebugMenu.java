@@ -0,0 +1,49 @@
+package com.student.overcooked.ui.debug;
+
+import androidx.annotation.NonNull;
+import androidx.fragment.app.Fragment;
+
+import com.student.overcooked.R;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Developer tools entry point, only reachable from debug builds. Tools that ship with a single
+ * flavour are appended through {@link FlavorDebugTools}.
+ */
+public final class DebugMenu {
+
+    private DebugMenu() {
+    }
+
+    public static void show(@NonNull Fragment fragment) {
+        if (!fragment.isAdded()) {
+            return;
+        }
+        List<CharSequence> items = new ArrayList<>(Arrays.asList(
+                fragment.getString(R.string.debug_query_profiler),
+                fragment.getString(R.string.debug_emission_stats),
+                fragment.getString(R.string.debug_sync_telemetry)
+        ));
+        int flavorStart = items.size();
+        items.addAll(FlavorDebugTools.titles(fragment.requireContext()));
+        new MaterialAlertDialogBuilder(fragment.requireContext())
+                .setTitle(R.string.debug_tools)
+                .setItems(items.toArray(new CharSequence[0]), (dialog, which) -> {
+                    if (which == 0) {
+                        QueryProfilerDialog.show(fragment.requireContext());
+                    } else if (which == 1) {
+                        EmissionStatsDialog.show(fragment.requireContext());
+                    } else if (which == 2) {
+                        SyncTelemetryDialog.show(fragment.requireContext());
+                    } else if (which >= flavorStart) {
+                        FlavorDebugTools.show(fragment.requireContext(), which - flavorStart);
+                    }
+                })
+                .setNegativeButton(R.string.debug_close, null)
+                .show();
+    }
+}
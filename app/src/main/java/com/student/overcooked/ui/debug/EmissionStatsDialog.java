@@ -0,0 +1,64 @@
+package com.student.overcooked.ui.debug;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.widget.HorizontalScrollView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.R;
+import com.student.overcooked.data.repository.DistinctLiveData;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Shows how many query results {@link DistinctLiveData} forwarded and how many it dropped.
+ */
+final class EmissionStatsDialog {
+
+    private EmissionStatsDialog() {
+    }
+
+    static void show(@NonNull Context context) {
+        int padding = (int) (16 * context.getResources().getDisplayMetrics().density);
+        TextView body = new TextView(context);
+        body.setTypeface(Typeface.MONOSPACE);
+        body.setTextSize(11f);
+        body.setTextIsSelectable(true);
+        body.setPadding(padding, padding, padding, padding);
+        body.setText(buildReport(context));
+
+        HorizontalScrollView scrollView = new HorizontalScrollView(context);
+        scrollView.addView(body);
+
+        new MaterialAlertDialogBuilder(context)
+                .setTitle(R.string.debug_emission_stats)
+                .setView(scrollView)
+                .setNeutralButton(R.string.debug_clear, (dialog, which) -> DistinctLiveData.resetStats())
+                .setNegativeButton(R.string.debug_close, null)
+                .show();
+    }
+
+    @NonNull
+    private static String buildReport(@NonNull Context context) {
+        List<DistinctLiveData.Stats> stats = DistinctLiveData.getStats();
+        if (stats.isEmpty()) {
+            return context.getString(R.string.debug_emission_stats_empty);
+        }
+        long totalEmitted = 0;
+        long totalSuppressed = 0;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.US, "%-26s %8s %10s\n", "source", "emitted", "suppressed"));
+        for (DistinctLiveData.Stats stat : stats) {
+            report.append(String.format(Locale.US, "%-26s %8d %10d\n",
+                    stat.getName(), stat.getEmitted(), stat.getSuppressed()));
+            totalEmitted += stat.getEmitted();
+            totalSuppressed += stat.getSuppressed();
+        }
+        report.append(String.format(Locale.US, "\n%-26s %8d %10d\n", "total", totalEmitted, totalSuppressed));
+        return report.toString();
+    }
+}
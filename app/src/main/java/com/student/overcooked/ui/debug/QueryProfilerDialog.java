@@ -0,0 +1,103 @@
+package com.student.overcooked.ui.debug;
+
+import android.content.Context;
+import android.content.Intent;
+import android.graphics.Typeface;
+import android.widget.ScrollView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.R;
+import com.student.overcooked.data.database.QueryProfiler;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Shows the slow-query log and statement counts recorded by {@link QueryProfiler}.
+ */
+final class QueryProfilerDialog {
+
+    private static final int MAX_RECENT = 40;
+    private static final int MAX_FREQUENT = 15;
+
+    private QueryProfilerDialog() {
+    }
+
+    static void show(@NonNull Context context) {
+        QueryProfiler profiler = QueryProfiler.getInstance();
+
+        int padding = (int) (16 * context.getResources().getDisplayMetrics().density);
+        TextView body = new TextView(context);
+        body.setTypeface(Typeface.MONOSPACE);
+        body.setTextSize(11f);
+        body.setTextIsSelectable(true);
+        body.setPadding(padding, padding, padding, padding);
+        body.setText(buildReport(context, profiler));
+
+        ScrollView scrollView = new ScrollView(context);
+        scrollView.addView(body);
+
+        new MaterialAlertDialogBuilder(context)
+                .setTitle(R.string.debug_query_profiler)
+                .setView(scrollView)
+                .setPositiveButton(R.string.debug_export_json, (dialog, which) -> export(context, profiler))
+                .setNeutralButton(R.string.debug_clear, (dialog, which) -> profiler.clear())
+                .setNegativeButton(R.string.debug_close, null)
+                .show();
+    }
+
+    @NonNull
+    private static String buildReport(@NonNull Context context, @NonNull QueryProfiler profiler) {
+        List<QueryProfiler.Entry> entries = profiler.getEntries();
+        if (entries.isEmpty()) {
+            return context.getString(R.string.debug_query_profiler_empty);
+        }
+        StringBuilder report = new StringBuilder();
+
+        List<QueryProfiler.Entry> slow = profiler.getSlowEntries();
+        report.append(String.format(Locale.US, "SLOW (>= %d ms): %d of %d\n\n",
+                QueryProfiler.SLOW_QUERY_THRESHOLD_MS, slow.size(), entries.size()));
+        for (QueryProfiler.Entry entry : slow) {
+            appendEntry(report, entry);
+            if (entry.getQueryPlan() != null) {
+                report.append("  plan: ").append(entry.getQueryPlan().replace("\n", "\n        ")).append('\n');
+            }
+            report.append('\n');
+        }
+
+        report.append("MOST FREQUENT\n\n");
+        List<Map.Entry<String, Integer>> counts = profiler.getExecutionCounts();
+        for (int i = 0; i < Math.min(MAX_FREQUENT, counts.size()); i++) {
+            Map.Entry<String, Integer> count = counts.get(i);
+            report.append(String.format(Locale.US, "%5dx  %s\n", count.getValue(), count.getKey()));
+        }
+
+        report.append("\nRECENT\n\n");
+        for (int i = entries.size() - 1; i >= Math.max(0, entries.size() - MAX_RECENT); i--) {
+            appendEntry(report, entries.get(i));
+        }
+        return report.toString();
+    }
+
+    private static void appendEntry(@NonNull StringBuilder report, @NonNull QueryProfiler.Entry entry) {
+        report.append(String.format(Locale.US, "%7.2f ms  %5s rows  %s %s\n",
+                entry.getDurationMicros() / 1000.0,
+                entry.getRowCount() >= 0 ? String.valueOf(entry.getRowCount()) : "-",
+                entry.getSql(),
+                entry.getArgumentShape()));
+    }
+
+    private static void export(@NonNull Context context, @NonNull QueryProfiler profiler) {
+        Intent send = new Intent(Intent.ACTION_SEND);
+        send.setType("application/json");
+        send.putExtra(Intent.EXTRA_SUBJECT, "Overcooked query profile");
+        send.putExtra(Intent.EXTRA_TEXT, profiler.exportJson());
+        Intent chooser = Intent.createChooser(send, context.getString(R.string.debug_export_json));
+        chooser.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+        context.startActivity(chooser);
+    }
+}
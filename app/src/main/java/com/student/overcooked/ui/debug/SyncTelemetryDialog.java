@@ -0,0 +1,71 @@
+package com.student.overcooked.ui.debug;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.text.format.DateFormat;
+import android.widget.ScrollView;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.R;
+import com.student.overcooked.data.sync.DatabaseMaintenanceWorker;
+import com.student.overcooked.data.sync.SyncTelemetry;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists the background runs recorded in {@link SyncTelemetry}.
+ */
+final class SyncTelemetryDialog {
+
+    private SyncTelemetryDialog() {
+    }
+
+    static void show(@NonNull Context context) {
+        SyncTelemetry telemetry = new SyncTelemetry(context);
+
+        int padding = (int) (16 * context.getResources().getDisplayMetrics().density);
+        TextView body = new TextView(context);
+        body.setTypeface(Typeface.MONOSPACE);
+        body.setTextSize(11f);
+        body.setTextIsSelectable(true);
+        body.setPadding(padding, padding, padding, padding);
+        body.setText(buildReport(context, telemetry.getEvents()));
+
+        ScrollView scrollView = new ScrollView(context);
+        scrollView.addView(body);
+
+        new MaterialAlertDialogBuilder(context)
+                .setTitle(R.string.debug_sync_telemetry)
+                .setView(scrollView)
+                .setPositiveButton(R.string.debug_run_maintenance, (dialog, which) -> {
+                    DatabaseMaintenanceWorker.runNow(context.getApplicationContext());
+                    Toast.makeText(context, R.string.debug_maintenance_queued, Toast.LENGTH_SHORT).show();
+                })
+                .setNeutralButton(R.string.debug_clear, (dialog, which) -> telemetry.clear())
+                .setNegativeButton(R.string.debug_close, null)
+                .show();
+    }
+
+    @NonNull
+    private static String buildReport(@NonNull Context context, @NonNull List<SyncTelemetry.Event> events) {
+        if (events.isEmpty()) {
+            return context.getString(R.string.debug_sync_telemetry_empty);
+        }
+        StringBuilder report = new StringBuilder();
+        for (SyncTelemetry.Event event : events) {
+            report.append(DateFormat.format("yyyy-MM-dd HH:mm:ss", event.getTimestamp()))
+                    .append("  ").append(event.getType())
+                    .append("  ").append(event.getDurationMs()).append(" ms\n");
+            for (Map.Entry<String, Long> metric : event.getMetrics().entrySet()) {
+                report.append("    ").append(metric.getKey()).append(" = ").append(metric.getValue()).append('\n');
+            }
+            report.append('\n');
+        }
+        return report.toString();
+    }
+}
@@ -16,15 +16,23 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.student.overcooked.OvercookedApplication;
 import com.student.overcooked.R;
-import com.student.overcooked.data.repository.ProjectRepository;
+import com.student.overcooked.data.repository.CookedMeterHistoryRepository;
+import com.student.overcooked.data.repository.DashboardRepository;
 import com.student.overcooked.data.repository.TaskRepository;
 import com.student.overcooked.ui.MainNavActivity;
 import com.student.overcooked.ui.home.CookedMeterController;
+import com.student.overcooked.ui.home.ForecastSparklineView;
+import com.student.overcooked.ui.home.HomeSnapshot;
+import com.student.overcooked.ui.home.HomeSnapshotStore;
 import com.student.overcooked.ui.home.HomeStatsController;
 import com.student.overcooked.ui.home.WorkNowController;
 import com.student.overcooked.data.LocalCoinStore;
 import com.student.overcooked.data.MascotPackStore;
+import com.student.overcooked.data.model.DashboardStats;
 import com.student.overcooked.ui.common.CoinTopBarController;
+import com.student.overcooked.widget.CookedMeterWidgetUpdater;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseUser;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.android.material.progressindicator.LinearProgressIndicator;
 
@@ -34,6 +42,9 @@ import com.google.android.material.progressindicator.LinearProgressIndicator;
  */
 public class HomeFragment extends Fragment {
 
+    // Save the snapshot once the screen has stopped changing for this long
+    private static final long SNAPSHOT_DELAY_MS = 500L;
+
     // Views
     private TextView cookedLevelText;
     private TextView cookedPercentage;
@@ -41,6 +52,8 @@ public class HomeFragment extends Fragment {
     private TextView cookedContextText;
     private LinearProgressIndicator cookedProgressBar;
     private ImageView cookedIcon;
+    private ForecastSparklineView cookedForecastSparkline;
+    private TextView cookedForecastText;
     private RecyclerView quickStatsRecycler;
     private RecyclerView workNowRecycler;
     private FloatingActionButton fabAddTask;
@@ -49,7 +62,9 @@ public class HomeFragment extends Fragment {
     private View btnChangeMascot;
 
     private java.util.List<String> currentInventory;
-    private java.util.List<com.student.overcooked.data.model.Task> lastTasks;
+    private com.student.overcooked.util.CookedMeterResult lastCookedMeter;
+    private DashboardStats lastStats;
+    private final Runnable saveSnapshot = this::saveSnapshot;
 
     // Controllers
     private CookedMeterController cookedMeterController;
@@ -58,7 +73,8 @@ public class HomeFragment extends Fragment {
 
     // Repositories
     private TaskRepository taskRepository;
-    private ProjectRepository projectRepository;
+    private DashboardRepository dashboardRepository;
+    private CookedMeterHistoryRepository cookedMeterHistoryRepository;
     private com.student.overcooked.data.repository.UserRepository userRepository;
     private CoinTopBarController coinTopBar;
 
@@ -73,7 +89,8 @@ public class HomeFragment extends Fragment {
         super.onViewCreated(view, savedInstanceState);
         
         taskRepository = ((OvercookedApplication) requireActivity().getApplication()).getTaskRepository();
-        projectRepository = ((OvercookedApplication) requireActivity().getApplication()).getProjectRepository();
+        dashboardRepository = ((OvercookedApplication) requireActivity().getApplication()).getDashboardRepository();
+        cookedMeterHistoryRepository = ((OvercookedApplication) requireActivity().getApplication()).getCookedMeterHistoryRepository();
         userRepository = ((OvercookedApplication) requireActivity().getApplication()).getUserRepository();
         coinTopBar = new CoinTopBarController(this, new LocalCoinStore(requireContext()), userRepository);
         
@@ -81,9 +98,19 @@ public class HomeFragment extends Fragment {
         coinTopBar.bind(view);
         initializeControllers();
         setupClickListeners();
+        showSnapshot();
         observeData();
     }
 
+    @Override
+    public void onDestroyView() {
+        View view = getView();
+        if (view != null) {
+            view.removeCallbacks(saveSnapshot);
+        }
+        super.onDestroyView();
+    }
+
     private void initializeViews(View view) {
         cookedLevelText = view.findViewById(R.id.cookedLevelText);
         cookedPercentage = view.findViewById(R.id.cookedPercentage);
@@ -91,6 +118,8 @@ public class HomeFragment extends Fragment {
         cookedContextText = view.findViewById(R.id.cookedContextText);
         cookedProgressBar = view.findViewById(R.id.cookedProgressBar);
         cookedIcon = view.findViewById(R.id.cookedIcon);
+        cookedForecastSparkline = view.findViewById(R.id.cookedForecastSparkline);
+        cookedForecastText = view.findViewById(R.id.cookedForecastText);
         quickStatsRecycler = view.findViewById(R.id.quickStatsRecycler);
         workNowRecycler = view.findViewById(R.id.workNowRecycler);
         fabAddTask = view.findViewById(R.id.fabAddTask);
@@ -109,6 +138,7 @@ public class HomeFragment extends Fragment {
                 cookedProgressBar,
                 cookedIcon
         );
+        cookedMeterController.bindForecast(cookedForecastSparkline, cookedForecastText);
         homeStatsController = new HomeStatsController(this, quickStatsRecycler);
         workNowController = new WorkNowController(this, taskRepository, workNowRecycler, emptyStateLayout, fabAddTask);
     }
@@ -163,7 +193,9 @@ public class HomeFragment extends Fragment {
                 .setSingleChoiceItems(options.toArray(new String[0]), checkedIndex, (dialog, which) -> {
                     String packId = optionIds.get(which);
                     new MascotPackStore(requireContext()).setSelectedPackId(packId);
-                    cookedMeterController.render(lastTasks);
+                    cookedMeterController.render(lastCookedMeter);
+                    CookedMeterWidgetUpdater.refresh(requireContext());
+                    scheduleSnapshot();
                     dialog.dismiss();
                 })
                 .setNegativeButton("Cancel", null)
@@ -174,50 +206,82 @@ public class HomeFragment extends Fragment {
         userRepository.getCurrentUser().observe(getViewLifecycleOwner(), user -> {
             if (user != null) {
                 currentInventory = user.getInventory();
+                scheduleSnapshot();
             }
         });
 
-        // Observe tasks for cooked meter and work now list
-        taskRepository.getAllTasks().observe(getViewLifecycleOwner(), tasks -> {
-            lastTasks = tasks;
-            cookedMeterController.render(tasks);
-            workNowController.submitTasks(tasks);
+        // The meter is maintained incrementally and also ticks on its own as deadlines approach
+        taskRepository.getCookedMeter().observe(getViewLifecycleOwner(), result -> {
+            lastCookedMeter = result;
+            cookedMeterController.render(result);
+            if (result != null) {
+                cookedMeterHistoryRepository.recordIfSignificant(result);
+                scheduleSnapshot();
+            }
         });
 
-        // Observe individual stats - store the value and update
-        taskRepository.getPendingTaskCount().observe(getViewLifecycleOwner(), pending -> {
-            if (pending != null) homeStatsController.setPendingCount(pending);
-        });
-        taskRepository.getCompletedTaskCount().observe(getViewLifecycleOwner(), completed -> {
-            if (completed != null) homeStatsController.setCompletedCount(completed);
-        });
-        taskRepository.getOverdueTaskCount().observe(getViewLifecycleOwner(), overdue -> {
-            if (overdue != null) homeStatsController.setOverdueCount(overdue);
-        });
-        projectRepository.getActiveProjectCount().observe(getViewLifecycleOwner(), projects -> {
-            if (projects != null) homeStatsController.setProjectCount(projects);
+        taskRepository.getCookedMeterForecast().observe(getViewLifecycleOwner(), cookedMeterController::renderForecast);
+
+        taskRepository.getAllTaskSummaries().observe(getViewLifecycleOwner(), tasks -> {
+            workNowController.submitTasks(tasks);
+            scheduleSnapshot();
         });
-        
-        // Also observe total projects for better tracking
-        projectRepository.getAllProjects().observe(getViewLifecycleOwner(), projects -> {
-            if (projects != null) homeStatsController.setTotalProjectCount(projects.size());
+
+        // All quick stats come from one aggregate query, so they render once per change
+        dashboardRepository.getDashboardStats().observe(getViewLifecycleOwner(), stats -> {
+            if (stats != null) {
+                lastStats = stats;
+                homeStatsController.render(stats);
+                scheduleSnapshot();
+            }
         });
 
-        // Observe groups (collaborative projects) to include in stats
-        com.student.overcooked.data.repository.GroupRepository groupRepository = 
-                ((OvercookedApplication) requireActivity().getApplication()).getGroupRepository();
-        groupRepository.getUserGroups().observe(getViewLifecycleOwner(), groups -> {
-            if (groups != null) {
-                homeStatsController.setGroupCount(groups.size());
-                // Calculate total group tasks
-                int totalGroupTasks = 0;
-                int completedGroupTasks = 0;
-                for (com.student.overcooked.data.model.Group group : groups) {
-                    totalGroupTasks += group.getTotalTasks();
-                    completedGroupTasks += group.getCompletedTasks();
-                }
-                homeStatsController.setGroupTaskStats(completedGroupTasks, totalGroupTasks);
+        // Keep the cached groups (and their task counters) in sync for the stats query
+        ((OvercookedApplication) requireActivity().getApplication()).getGroupRepository().refreshUserGroups();
+    }
+
+    /**
+     * Paint the last session's home screen right away; each part is replaced as its live data
+     * arrives, which renders the same values when nothing changed in between.
+     */
+    private void showSnapshot() {
+        FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
+        if (user == null) {
+            return;
+        }
+        HomeSnapshotStore.get(requireContext(), user.getUid(), snapshot -> {
+            if (snapshot == null || getView() == null) {
+                return;
             }
+            if (lastCookedMeter == null) {
+                cookedMeterController.renderCached(snapshot.getMeter(), snapshot.getMascotPackId());
+            }
+            if (lastStats == null) {
+                homeStatsController.render(snapshot.getStats());
+            }
+            workNowController.showCachedTasks(snapshot.getWorkNow());
+            coinTopBar.showCachedBalance(snapshot.getCoins());
         });
     }
+
+    private void scheduleSnapshot() {
+        View view = getView();
+        if (view == null) {
+            return;
+        }
+        view.removeCallbacks(saveSnapshot);
+        view.postDelayed(saveSnapshot, SNAPSHOT_DELAY_MS);
+    }
+
+    // Only once every part has live data, so a half-loaded screen is never saved
+    private void saveSnapshot() {
+        FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
+        java.util.List<com.student.overcooked.data.model.TaskSummary> workNow = workNowController.getLiveTasks();
+        if (!isAdded() || user == null || lastCookedMeter == null || lastStats == null || workNow == null) {
+            return;
+        }
+        HomeSnapshotStore.save(requireContext(), new HomeSnapshot(user.getUid(), lastCookedMeter, lastStats,
+                workNow, coinTopBar.getDisplayedBalance(),
+                new MascotPackStore(requireContext()).getSelectedPackId()));
+    }
 }
@@ -20,6 +20,7 @@ import androidx.fragment.app.Fragment;
 import androidx.activity.result.ActivityResultLauncher;
 import androidx.activity.result.contract.ActivityResultContracts;
 
+import com.student.overcooked.BuildConfig;
 import com.student.overcooked.MainActivity;
 import com.student.overcooked.OvercookedApplication;
 import com.student.overcooked.R;
@@ -28,8 +29,11 @@ import com.student.overcooked.data.LocalCoinStore;
 import com.student.overcooked.data.repository.TaskRepository;
 import com.student.overcooked.notify.DeadlineNotificationWorker;
 import com.student.overcooked.ui.common.CoinTopBarController;
+import com.student.overcooked.ui.debug.DebugMenu;
+import com.student.overcooked.ui.profile.CookedTrendController;
 import com.student.overcooked.util.NotificationSettings;
 import com.student.overcooked.util.UiModeSettings;
+import com.student.overcooked.ui.home.HomeSnapshotStore;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.android.material.button.MaterialButton;
 import com.google.firebase.auth.FirebaseAuth;
@@ -52,11 +56,13 @@ public class ProfileFragment extends Fragment {
     private Switch darkModeSwitch;
     private Switch notificationsSwitch;
     private View logoutSection;
+    private View debugToolsSection;
 
     private FirebaseAuth auth;
     private UserRepository userRepository;
     private TaskRepository taskRepository;
     private CoinTopBarController coinTopBar;
+    private CookedTrendController cookedTrendController;
 
     @Nullable
     @Override
@@ -110,6 +116,7 @@ public class ProfileFragment extends Fragment {
         darkModeSwitch = view.findViewById(R.id.darkModeSwitch);
         notificationsSwitch = view.findViewById(R.id.notificationsSwitch);
         logoutSection = view.findViewById(R.id.logoutSection);
+        debugToolsSection = view.findViewById(R.id.debugToolsSection);
     }
 
     private void setupUserInfo() {
@@ -184,12 +191,26 @@ public class ProfileFragment extends Fragment {
             logoutSection.setOnClickListener(v -> showLogoutConfirmation());
         }
 
+        if (debugToolsSection != null && BuildConfig.DEBUG) {
+            debugToolsSection.setVisibility(View.VISIBLE);
+            View debugToolsRow = debugToolsSection.findViewById(R.id.debugToolsRow);
+            debugToolsRow.setOnClickListener(v -> DebugMenu.show(this));
+        }
+
         // Working list controller
         // (Upcoming deadlines removed from Profile)
     }
 
     private void observeData() {
-        // (Upcoming deadlines removed from Profile)
+        // Cooked meter history, read from the daily rollups only
+        View view = requireView();
+        cookedTrendController = new CookedTrendController(
+                this,
+                ((OvercookedApplication) requireActivity().getApplication()).getCookedMeterHistoryRepository(),
+                view.findViewById(R.id.cookedTrendChart),
+                view.findViewById(R.id.cookedTrendEmpty),
+                view.findViewById(R.id.cookedTrendRange)
+        );
     }
 
     private void showEditNameDialog() {
@@ -245,6 +266,7 @@ public class ProfileFragment extends Fragment {
                     OvercookedApplication app = (OvercookedApplication) requireActivity().getApplication();
                     app.resetLocalCache();
                     app.getSessionManager().clear();
+                    HomeSnapshotStore.clear(app);
                     auth.signOut();
                     navigateToLogin();
                 })
@@ -2,6 +2,8 @@ package com.student.overcooked.ui.fragments;
 
 import android.os.Bundle;
 import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
@@ -10,6 +12,8 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AlertDialog;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.view.ActionMode;
 import androidx.fragment.app.Fragment;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
@@ -18,20 +22,28 @@ import com.student.overcooked.OvercookedApplication;
 import com.student.overcooked.R;
 import com.student.overcooked.data.model.Task;
 import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskSummary;
 import com.student.overcooked.data.repository.TaskRepository;
 import com.student.overcooked.data.repository.UserRepository;
+import com.student.overcooked.data.repository.task.TaskBatchResult;
+import com.student.overcooked.data.repository.task.TaskOperation;
 import com.student.overcooked.ui.adapter.TaskListAdapter;
 import com.student.overcooked.ui.dialog.AddEditTaskDialog;
 import com.student.overcooked.ui.dialog.TaskDetailsDialog;
 import com.student.overcooked.data.LocalCoinStore;
 import com.student.overcooked.ui.common.CoinTopBarController;
+import com.student.overcooked.util.DayClock;
+import com.student.overcooked.util.TaskFilters;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.chip.ChipGroup;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Tasks Fragment - Personal Tasks List
@@ -55,8 +67,12 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
     private UserRepository userRepository;
     private CoinTopBarController coinTopBar;
 
-    private List<Task> allTasks = new ArrayList<>();
-    private TaskFilter currentFilter = TaskFilter.ALL;
+    private List<TaskSummary> allTasks = new ArrayList<>();
+    private TaskFilters.Filter currentFilter = TaskFilters.Filter.ALL;
+
+    // Multi-select
+    private final Set<Long> selectedIds = new LinkedHashSet<>();
+    private ActionMode actionMode;
 
     @Nullable
     @Override
@@ -95,8 +111,8 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
     private void setupAdapters() {
         taskAdapter = new TaskListAdapter(
                 task -> {
-                    // Open task detail dialog
-                    showTaskDetailsDialog(task);
+                    // Open task detail dialog with the full row
+                    withFullTask(task, this::showTaskDetailsDialog);
                 },
                 task -> {
                     android.util.Log.d("TasksFragment", "Toggle task called: " + task.getTitle() + ", current completed: " + task.isCompleted());
@@ -104,7 +120,6 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
                     boolean newCompleted = !task.isCompleted();
                     TaskStatus newStatus = newCompleted ? TaskStatus.DONE : TaskStatus.NOT_STARTED;
                     task.setCompleted(newCompleted);
-                    task.setCompletedAt(newCompleted ? new java.util.Date() : null);
                     task.setStatus(newStatus);
                     // Update the currently displayed list immediately
                     applyFilter();
@@ -113,21 +128,158 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
                 },
                 new TaskListAdapter.OnTaskMenuListener() {
                     @Override
-                    public void onEditTask(Task task) {
+                    public void onEditTask(TaskSummary task) {
                         // Launch edit task dialog
-                        showEditTaskDialog(task);
+                        withFullTask(task, TasksFragment.this::showEditTaskDialog);
                     }
 
                     @Override
-                    public void onDeleteTask(Task task) {
+                    public void onDeleteTask(TaskSummary task) {
                         showDeleteConfirmation(task);
                     }
                 }
         );
+        taskAdapter.setOnSelectionToggleListener(this::toggleSelection);
         tasksRecycler.setLayoutManager(new LinearLayoutManager(requireContext()));
         tasksRecycler.setAdapter(taskAdapter);
     }
 
+    @Override
+    public void onDestroyView() {
+        if (actionMode != null) {
+            actionMode.finish();
+        }
+        super.onDestroyView();
+    }
+
+    // ================= Multi-select =================
+
+    private void toggleSelection(TaskSummary task) {
+        if (!selectedIds.remove(task.getId())) {
+            selectedIds.add(task.getId());
+        }
+        onSelectionChanged();
+    }
+
+    private void onSelectionChanged() {
+        if (selectedIds.isEmpty()) {
+            if (actionMode != null) {
+                actionMode.finish();
+            }
+            return;
+        }
+        if (actionMode == null) {
+            actionMode = ((AppCompatActivity) requireActivity()).startSupportActionMode(selectionCallback);
+        }
+        if (actionMode != null) {
+            actionMode.setTitle(getString(R.string.tasks_selected_count, selectedIds.size()));
+        }
+        taskAdapter.setSelectedIds(selectedIds);
+    }
+
+    private final ActionMode.Callback selectionCallback = new ActionMode.Callback() {
+        @Override
+        public boolean onCreateActionMode(ActionMode mode, Menu menu) {
+            mode.getMenuInflater().inflate(R.menu.menu_task_selection, menu);
+            return true;
+        }
+
+        @Override
+        public boolean onPrepareActionMode(ActionMode mode, Menu menu) {
+            return false;
+        }
+
+        @Override
+        public boolean onActionItemClicked(ActionMode mode, MenuItem item) {
+            int itemId = item.getItemId();
+            if (itemId == R.id.action_complete_selected) {
+                applyToSelection(id -> TaskOperation.setCompleted(id, true));
+                return true;
+            } else if (itemId == R.id.action_reopen_selected) {
+                applyToSelection(id -> TaskOperation.setCompleted(id, false));
+                return true;
+            } else if (itemId == R.id.action_delete_selected) {
+                confirmDeleteSelection();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void onDestroyActionMode(ActionMode mode) {
+            actionMode = null;
+            selectedIds.clear();
+            if (taskAdapter != null) {
+                taskAdapter.setSelectedIds(selectedIds);
+            }
+        }
+    };
+
+    private interface SelectionOperation {
+        TaskOperation forTask(long taskId);
+    }
+
+    private void applyToSelection(SelectionOperation factory) {
+        List<TaskOperation> operations = new ArrayList<>(selectedIds.size());
+        for (Long id : selectedIds) {
+            operations.add(factory.forTask(id));
+        }
+        taskRepository.batch(operations, this::showBatchResult);
+        if (actionMode != null) {
+            actionMode.finish();
+        }
+    }
+
+    private void confirmDeleteSelection() {
+        int count = selectedIds.size();
+        new AlertDialog.Builder(requireContext())
+                .setTitle(R.string.delete_task_title)
+                .setMessage(getResources().getQuantityString(R.plurals.tasks_delete_selected_confirm, count, count))
+                .setPositiveButton(R.string.delete, (dialog, which) -> applyToSelection(TaskOperation::delete))
+                .setNegativeButton(R.string.cancel, null)
+                .show();
+    }
+
+    private void showBatchResult(TaskBatchResult result) {
+        if (!isAdded()) {
+            return;
+        }
+        if (!result.isSuccess()) {
+            Toast.makeText(requireContext(), R.string.tasks_batch_failed, Toast.LENGTH_SHORT).show();
+            return;
+        }
+        int count = result.getAppliedCount();
+        String message = getResources().getQuantityString(R.plurals.tasks_batch_updated, count, count);
+        if (result.getCoinsAwarded() > 0) {
+            message = getString(R.string.tasks_batch_coins_suffix, message, result.getCoinsAwarded());
+        }
+        Toast.makeText(requireContext(), message, Toast.LENGTH_SHORT).show();
+    }
+
+    /**
+     * List items only carry a {@link TaskSummary}; fetch the full row before opening dialogs
+     * or deleting so notes and sync state are preserved.
+     */
+    private void withFullTask(TaskSummary summary, TaskRepository.Callback<Task> action) {
+        taskRepository.loadTask(summary.getId(), task -> {
+            if (task != null && isAdded()) {
+                action.onResult(task);
+            }
+        });
+    }
+
+    /**
+     * Unlike {@link #withFullTask}, goes ahead when the fragment has gone away in the meantime;
+     * the user has already been told the task is deleted.
+     */
+    private void deleteTask(TaskSummary summary) {
+        taskRepository.loadTask(summary.getId(), task -> {
+            if (task != null) {
+                taskRepository.deleteTask(task);
+            }
+        });
+    }
+
     private void showEditTaskDialog(Task task) {
         AddEditTaskDialog dialog = AddEditTaskDialog.newInstanceEdit(task);
         dialog.setOnTaskSavedListener(this);
@@ -152,12 +304,12 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
         }
     }
 
-    private void showDeleteConfirmation(Task task) {
+    private void showDeleteConfirmation(TaskSummary task) {
         new AlertDialog.Builder(requireContext())
                 .setTitle(R.string.delete_task)
                 .setMessage(getString(R.string.delete_task_confirm, task.getTitle()))
                 .setPositiveButton(R.string.delete, (dialog, which) -> {
-                    taskRepository.deleteTask(task);
+                    deleteTask(task);
                     Toast.makeText(requireContext(), R.string.task_deleted, Toast.LENGTH_SHORT).show();
                 })
                 .setNegativeButton(R.string.cancel, null)
@@ -179,19 +331,23 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
 
     private void setupFilterChips() {
         chipAll.setOnClickListener(v -> {
-            currentFilter = TaskFilter.ALL;
+            currentFilter = TaskFilters.Filter.ALL;
+            if (actionMode != null) actionMode.finish();
             applyFilter();
         });
         chipUpcoming.setOnClickListener(v -> {
-            currentFilter = TaskFilter.UPCOMING;
+            currentFilter = TaskFilters.Filter.UPCOMING;
+            if (actionMode != null) actionMode.finish();
             applyFilter();
         });
         chipCompleted.setOnClickListener(v -> {
-            currentFilter = TaskFilter.COMPLETED;
+            currentFilter = TaskFilters.Filter.COMPLETED;
+            if (actionMode != null) actionMode.finish();
             applyFilter();
         });
         chipOverdue.setOnClickListener(v -> {
-            currentFilter = TaskFilter.OVERDUE;
+            currentFilter = TaskFilters.Filter.OVERDUE;
+            if (actionMode != null) actionMode.finish();
             applyFilter();
         });
     }
@@ -201,7 +357,7 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
     }
 
     private void observeData() {
-        taskRepository.getAllTasks().observe(getViewLifecycleOwner(), tasks -> {
+        taskRepository.getAllTaskSummaries().observe(getViewLifecycleOwner(), tasks -> {
             allTasks = tasks != null ? tasks : new ArrayList<>();
             applyFilter();
         });
@@ -212,42 +368,29 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
             allTasks = new ArrayList<>();
         }
         
-        List<Task> filteredTasks = new ArrayList<>();
-        
-        switch (currentFilter) {
-            case ALL:
-                for (Task task : allTasks) {
-                    if (!task.isCompleted()) filteredTasks.add(task);
-                }
-                break;
-            case UPCOMING:
-                for (Task task : allTasks) {
-                    if (!task.isCompleted() && !task.isOverdue()) filteredTasks.add(task);
-                }
-                // Null-safe sorting
-                filteredTasks.sort((t1, t2) -> {
-                    if (t1.getDeadline() == null && t2.getDeadline() == null) return 0;
-                    if (t1.getDeadline() == null) return 1;
-                    if (t2.getDeadline() == null) return -1;
-                    return t1.getDeadline().compareTo(t2.getDeadline());
-                });
-                break;
-            case COMPLETED:
-                for (Task task : allTasks) {
-                    if (task.isCompleted()) filteredTasks.add(task);
-                }
-                break;
-            case OVERDUE:
-                for (Task task : allTasks) {
-                    if (!task.isCompleted() && task.isOverdue()) filteredTasks.add(task);
-                }
-                break;
-        }
+        List<TaskSummary> filteredTasks = TaskFilters.apply(allTasks, currentFilter, DayClock.get().now());
 
+        pruneSelection(filteredTasks);
         updateTaskList(filteredTasks);
     }
 
-    private void updateTaskList(List<Task> tasks) {
+    /**
+     * Drop selected tasks that are no longer visible, e.g. deleted or completed elsewhere.
+     */
+    private void pruneSelection(List<TaskSummary> visible) {
+        if (selectedIds.isEmpty()) {
+            return;
+        }
+        Set<Long> visibleIds = new HashSet<>();
+        for (TaskSummary task : visible) {
+            visibleIds.add(task.getId());
+        }
+        if (selectedIds.retainAll(visibleIds)) {
+            onSelectionChanged();
+        }
+    }
+
+    private void updateTaskList(List<TaskSummary> tasks) {
         if (tasks == null || tasks.isEmpty()) {
             if (emptyStateLayout != null) emptyStateLayout.setVisibility(View.VISIBLE);
             if (tasksRecycler != null) tasksRecycler.setVisibility(View.GONE);
@@ -270,8 +413,4 @@ public class TasksFragment extends Fragment implements TaskDetailsDialog.OnTaskA
             }
         }
     }
-
-    public enum TaskFilter {
-        ALL, UPCOMING, COMPLETED, OVERDUE
-    }
 }
@@ -131,7 +131,7 @@ public final class GroupDetailDataLoader {
         }, e -> {
         });
 
-        groupRepository.getGroupTasks(groupId).observe(fragment.getViewLifecycleOwner(), tasks -> {
+        groupRepository.getGroupTaskSummaries(groupId).observe(fragment.getViewLifecycleOwner(), tasks -> {
             if (tasksController != null) tasksController.submitTasks(tasks);
         });
 
@@ -7,22 +7,22 @@ import androidx.annotation.NonNull;
 import androidx.fragment.app.Fragment;
 
 import com.student.overcooked.R;
-import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 import com.student.overcooked.data.model.TaskStatus;
 
 final class GroupTaskActionsMenu {
 
     interface TaskHandler {
-        void handle(@NonNull GroupTask task);
+        void handle(@NonNull GroupTaskSummary task);
     }
 
     interface TaskStatusHandler {
-        void handle(@NonNull GroupTask task, @NonNull TaskStatus status);
+        void handle(@NonNull GroupTaskSummary task, @NonNull TaskStatus status);
     }
 
     static void show(@NonNull Fragment fragment,
                      @NonNull View anchor,
-                     @NonNull GroupTask task,
+                     @NonNull GroupTaskSummary task,
                      @NonNull TaskHandler viewHandler,
                      @NonNull TaskStatusHandler statusHandler,
                      @NonNull TaskHandler toggleHandler,
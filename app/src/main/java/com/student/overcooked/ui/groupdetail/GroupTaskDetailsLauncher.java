@@ -4,22 +4,22 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 
-import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 import com.student.overcooked.data.model.TaskStatus;
 import com.student.overcooked.ui.dialog.GroupTaskDetailsDialog;
 
 final class GroupTaskDetailsLauncher {
 
     interface FindTaskById {
-        @Nullable GroupTask find(@NonNull String taskId);
+        @Nullable GroupTaskSummary find(@NonNull String taskId);
     }
 
     interface StatusUpdater {
-        void update(@NonNull GroupTask task, @NonNull TaskStatus status);
+        void update(@NonNull GroupTaskSummary task, @NonNull TaskStatus status);
     }
 
     static void show(@NonNull Fragment fragment,
-                     @NonNull GroupTask task,
+                     @NonNull GroupTaskSummary task,
                      @NonNull FindTaskById findTaskById,
                      @NonNull StatusUpdater statusUpdater) {
         GroupTaskDetailsDialog dialog = GroupTaskDetailsDialog.newInstance(
@@ -33,7 +33,7 @@ final class GroupTaskDetailsLauncher {
         );
 
         dialog.setOnGroupTaskActionListener((taskId, newStatus) -> {
-            GroupTask target = findTaskById.find(taskId);
+            GroupTaskSummary target = findTaskById.find(taskId);
             if (target != null) {
                 statusUpdater.update(target, newStatus);
             }
@@ -4,17 +4,17 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.ItemTouchHelper;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 import com.student.overcooked.ui.adapter.GroupTaskAdapter;
 
 final class GroupTaskSwipeGestures {
 
     interface ToggleHandler {
-        void toggle(@NonNull GroupTask task);
+        void toggle(@NonNull GroupTaskSummary task);
     }
 
     interface DeleteHandler {
-        void delete(@NonNull GroupTask task);
+        void delete(@NonNull GroupTaskSummary task);
     }
 
     static void attach(@NonNull RecyclerView recyclerView,
@@ -36,7 +36,7 @@ final class GroupTaskSwipeGestures {
                 if (position == RecyclerView.NO_POSITION || position >= adapter.getCurrentList().size()) {
                     return;
                 }
-                GroupTask task = adapter.getCurrentList().get(position);
+                GroupTaskSummary task = adapter.getCurrentList().get(position);
                 if (task == null) {
                     recyclerView.post(() -> adapter.notifyItemChanged(position));
                     return;
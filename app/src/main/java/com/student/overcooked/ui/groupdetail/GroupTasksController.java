@@ -1,11 +1,13 @@
 package com.student.overcooked.ui.groupdetail;
 
+import android.app.Activity;
 import android.text.TextUtils;
 import android.view.View;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.StringRes;
 import androidx.fragment.app.Fragment;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
@@ -13,6 +15,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.student.overcooked.R;
 import com.student.overcooked.data.model.GroupMember;
 import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
 import com.student.overcooked.data.model.TaskStatus;
 import com.student.overcooked.data.repository.GroupRepository;
 import com.student.overcooked.ui.adapter.GroupTaskAdapter;
@@ -29,6 +32,10 @@ import java.util.List;
  */
 public class GroupTasksController {
 
+    private interface FullTaskAction {
+        void run(@NonNull GroupTask task);
+    }
+
     private final Fragment fragment;
     private final GroupRepository groupRepository;
     private final String groupId;
@@ -42,7 +49,7 @@ public class GroupTasksController {
     @Nullable
     private final ChipGroup statusFilterChipGroup;
     @NonNull
-    private List<GroupTask> latestTasks = new ArrayList<>();
+    private List<GroupTaskSummary> latestTasks = new ArrayList<>();
     @Nullable
     private TaskStatus activeStatusFilter;
 
@@ -59,22 +66,22 @@ public class GroupTasksController {
         this.composerDialog = new GroupTaskComposerDialog(fragment, groupRepository, groupId);
         this.taskAdapter = new GroupTaskAdapter(new GroupTaskAdapter.TaskInteractionListener() {
             @Override
-            public void onTaskSelected(GroupTask task) {
+            public void onTaskSelected(GroupTaskSummary task) {
                 showGroupTaskDetailsDialog(task);
             }
 
             @Override
-            public void onTaskCompletionToggle(GroupTask task) {
+            public void onTaskCompletionToggle(GroupTaskSummary task) {
                 toggleTaskCompletion(task);
             }
 
             @Override
-            public void onTaskMenuRequested(@NonNull View anchor, GroupTask task) {
+            public void onTaskMenuRequested(@NonNull View anchor, GroupTaskSummary task) {
                 showTaskOverflowMenu(anchor, task);
             }
 
             @Override
-            public void onTaskLongPressed(@NonNull View anchor, GroupTask task) {
+            public void onTaskLongPressed(@NonNull View anchor, GroupTaskSummary task) {
                 showTaskOverflowMenu(anchor, task);
             }
         });
@@ -84,7 +91,7 @@ public class GroupTasksController {
         configureStatusFilterChips();
     }
 
-    public void submitTasks(@Nullable List<GroupTask> tasks) {
+    public void submitTasks(@Nullable List<GroupTaskSummary> tasks) {
         latestTasks = tasks != null ? new ArrayList<>(tasks) : new ArrayList<>();
         applyFilterAndSubmit();
     }
@@ -113,11 +120,11 @@ public class GroupTasksController {
     }
 
     private void applyFilterAndSubmit() {
-        List<GroupTask> filtered = new ArrayList<>();
+        List<GroupTaskSummary> filtered = new ArrayList<>();
         if (activeStatusFilter == null) {
             filtered.addAll(latestTasks);
         } else {
-            for (GroupTask task : latestTasks) {
+            for (GroupTaskSummary task : latestTasks) {
                 TaskStatus status = task != null ? task.getStatus() : null;
                 if (status == activeStatusFilter) {
                     filtered.add(task);
@@ -127,9 +134,9 @@ public class GroupTasksController {
         taskAdapter.submitList(filtered);
     }
 
-    private void updateCachedTask(@NonNull GroupTask updatedTask) {
+    private void updateCachedTask(@NonNull GroupTaskSummary updatedTask) {
         for (int i = 0; i < latestTasks.size(); i++) {
-            GroupTask existing = latestTasks.get(i);
+            GroupTaskSummary existing = latestTasks.get(i);
             if (existing != null && TextUtils.equals(existing.getId(), updatedTask.getId())) {
                 latestTasks.set(i, updatedTask);
                 return;
@@ -162,7 +169,7 @@ public class GroupTasksController {
         fab.setOnClickListener(v -> showTaskComposerDialog(null));
     }
 
-    private void showTaskOverflowMenu(@NonNull View anchor, @Nullable GroupTask task) {
+    private void showTaskOverflowMenu(@NonNull View anchor, @Nullable GroupTaskSummary task) {
         if (!fragment.isAdded() || task == null) {
             return;
         }
@@ -173,19 +180,19 @@ public class GroupTasksController {
                 this::showGroupTaskDetailsDialog,
                 this::setTaskStatus,
                 this::toggleTaskCompletion,
-                this::showTaskComposerDialog,
+                this::editTask,
                 this::confirmDeleteTask
         );
     }
 
     @Nullable
-    private GroupTask findTaskById(@NonNull String taskId) {
-        for (GroupTask t : latestTasks) {
+    private GroupTaskSummary findTaskById(@NonNull String taskId) {
+        for (GroupTaskSummary t : latestTasks) {
             if (t != null && TextUtils.equals(t.getId(), taskId)) {
                 return t;
             }
         }
-        for (GroupTask t : taskAdapter.getCurrentList()) {
+        for (GroupTaskSummary t : taskAdapter.getCurrentList()) {
             if (t != null && TextUtils.equals(t.getId(), taskId)) {
                 return t;
             }
@@ -193,41 +200,63 @@ public class GroupTasksController {
         return null;
     }
 
-    private void setTaskStatus(@NonNull GroupTask task, @NonNull com.student.overcooked.data.model.TaskStatus status) {
+    /**
+     * List items only carry a {@link GroupTaskSummary}; mutations need the full row from Room.
+     * The action runs even if the fragment has gone away in the meantime, so a confirmed change
+     * is not dropped; actions that touch the UI check for themselves.
+     */
+    private void withFullTask(@NonNull GroupTaskSummary summary, @NonNull FullTaskAction action) {
+        groupRepository.getGroupTask(summary.getId(),
+                action::run,
+                e -> showToast(R.string.error_occurred));
+    }
+
+    /**
+     * Toast from any thread, if the fragment is still attached.
+     */
+    private void showToast(@StringRes int message) {
+        Activity activity = fragment.getActivity();
+        if (activity == null) {
+            return;
+        }
+        activity.runOnUiThread(() -> {
+            if (fragment.isAdded()) {
+                Toast.makeText(fragment.requireContext(), message, Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    private void setTaskStatus(@NonNull GroupTaskSummary task, @NonNull com.student.overcooked.data.model.TaskStatus status) {
         // Optimistic UI update
         boolean newCompleted = (status == com.student.overcooked.data.model.TaskStatus.DONE);
         task.setStatus(status);
         task.setCompleted(newCompleted);
-        task.setCompletedAt(newCompleted ? new java.util.Date() : null);
         updateCachedTask(task);
         tasksRecycler.post(this::applyFilterAndSubmit);
 
-        groupRepository.updateGroupTaskStatus(task, status,
+        withFullTask(task, fullTask -> groupRepository.updateGroupTaskStatus(fullTask, status,
                 aVoid -> {
                 },
-                e -> fragment.requireActivity().runOnUiThread(() ->
-                        Toast.makeText(fragment.requireContext(), R.string.error_occurred, Toast.LENGTH_SHORT).show()));
+                e -> showToast(R.string.error_occurred)));
     }
 
-    private void toggleTaskCompletion(@Nullable GroupTask task) {
+    private void toggleTaskCompletion(@Nullable GroupTaskSummary task) {
         if (task == null) {
             return;
         }
         // Optimistic UI update: flip completion and refresh list immediately
         boolean newCompleted = !task.isCompleted();
         task.setCompleted(newCompleted);
-        task.setCompletedAt(newCompleted ? new java.util.Date() : null);
         task.setStatus(newCompleted ? com.student.overcooked.data.model.TaskStatus.DONE : com.student.overcooked.data.model.TaskStatus.NOT_STARTED);
         updateCachedTask(task);
         tasksRecycler.post(this::applyFilterAndSubmit);
-        groupRepository.toggleGroupTaskCompletion(task,
+        withFullTask(task, fullTask -> groupRepository.toggleGroupTaskCompletion(fullTask,
                 aVoid -> {
                 },
-                e -> fragment.requireActivity().runOnUiThread(() ->
-                        Toast.makeText(fragment.requireContext(), R.string.error_occurred, Toast.LENGTH_SHORT).show()));
+                e -> showToast(R.string.error_occurred)));
     }
 
-    private void confirmDeleteTask(@Nullable GroupTask task) {
+    private void confirmDeleteTask(@Nullable GroupTaskSummary task) {
         if (!fragment.isAdded() || task == null) {
             return;
         }
@@ -235,11 +264,9 @@ public class GroupTasksController {
                 .setTitle(R.string.delete_task_title)
                 .setMessage(fragment.getString(R.string.delete_task_confirm, task.getTitle()))
                 .setPositiveButton(R.string.delete_task, (dialog, which) ->
-                        groupRepository.deleteGroupTask(task,
-                                aVoid -> fragment.requireActivity().runOnUiThread(() ->
-                                        Toast.makeText(fragment.requireContext(), R.string.task_deleted, Toast.LENGTH_SHORT).show()),
-                                e -> fragment.requireActivity().runOnUiThread(() ->
-                                        Toast.makeText(fragment.requireContext(), R.string.error_occurred, Toast.LENGTH_SHORT).show())))
+                        withFullTask(task, fullTask -> groupRepository.deleteGroupTask(fullTask,
+                                aVoid -> showToast(R.string.task_deleted),
+                                e -> showToast(R.string.error_occurred))))
                 .setNegativeButton(R.string.cancel, null)
                 .show();
     }
@@ -248,7 +275,15 @@ public class GroupTasksController {
         composerDialog.show(taskToEdit, isIndividualProject, currentMembers);
     }
 
-    private void showGroupTaskDetailsDialog(@Nullable GroupTask task) {
+    private void editTask(@NonNull GroupTaskSummary task) {
+        withFullTask(task, fullTask -> {
+            if (fragment.isAdded()) {
+                showTaskComposerDialog(fullTask);
+            }
+        });
+    }
+
+    private void showGroupTaskDetailsDialog(@Nullable GroupTaskSummary task) {
         if (!fragment.isAdded() || task == null) {
             return;
         }
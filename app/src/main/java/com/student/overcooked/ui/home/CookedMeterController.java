@@ -1,5 +1,6 @@
 package com.student.overcooked.ui.home;
 
+import android.text.format.DateFormat;
 import android.widget.ImageView;
 import android.widget.TextView;
 
@@ -10,14 +11,11 @@ import androidx.fragment.app.Fragment;
 
 import com.student.overcooked.R;
 import com.student.overcooked.data.MascotPackStore;
-import com.student.overcooked.data.model.Task;
-import com.student.overcooked.util.CookedMeterCalculator;
+import com.student.overcooked.data.model.CookedLevel;
+import com.student.overcooked.util.CookedMeterForecast;
 import com.student.overcooked.util.CookedMeterResult;
 import com.google.android.material.progressindicator.LinearProgressIndicator;
 
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Handles cooked meter UI updates for the Home screen.
  */
@@ -30,6 +28,10 @@ public class CookedMeterController {
     private final TextView cookedContextText;
     private final LinearProgressIndicator cookedProgressBar;
     private final ImageView cookedIcon;
+    @Nullable
+    private ForecastSparklineView forecastSparkline;
+    @Nullable
+    private TextView forecastText;
 
     public CookedMeterController(@NonNull Fragment fragment,
                                  @Nullable TextView cookedLevelText,
@@ -47,16 +49,28 @@ public class CookedMeterController {
         this.cookedIcon = cookedIcon;
     }
 
-    public void render(@Nullable List<Task> tasks) {
+    public void render(@Nullable CookedMeterResult result) {
+        if (!fragment.isAdded() || result == null) {
+            return;
+        }
+        render(result, new MascotPackStore(fragment.requireContext()).getSelectedPackId(), true);
+    }
+
+    /**
+     * Paint a meter remembered from the last session, without animating the bar, so the live
+     * value can replace it without a visible change when nothing moved.
+     */
+    public void renderCached(@NonNull CookedMeterResult result, @NonNull String mascotPackId) {
         if (!fragment.isAdded()) {
             return;
         }
-        List<Task> safeTasks = tasks != null ? tasks : Collections.emptyList();
-        CookedMeterResult result = CookedMeterCalculator.getCookedMeterResult(safeTasks);
+        render(result, mascotPackId, false);
+    }
 
+    private void render(@NonNull CookedMeterResult result, @NonNull String mascotPackId, boolean animate) {
         if (cookedLevelText != null) {
             cookedLevelText.setText(result.getLevelDisplayText());
-            cookedLevelText.setTextColor(ContextCompat.getColor(fragment.requireContext(), getLevelColor(result)));
+            cookedLevelText.setTextColor(ContextCompat.getColor(fragment.requireContext(), getLevelColor(result.getLevel())));
         }
         if (cookedPercentageText != null) {
             cookedPercentageText.setText(result.getPercentage() + "%");
@@ -68,17 +82,46 @@ public class CookedMeterController {
             cookedContextText.setText(result.getContextMessage());
         }
         if (cookedProgressBar != null) {
-            cookedProgressBar.setProgressCompat(result.getPercentage(), true);
-            cookedProgressBar.setIndicatorColor(ContextCompat.getColor(fragment.requireContext(), getLevelColor(result)));
+            cookedProgressBar.setProgressCompat(result.getPercentage(), animate);
+            cookedProgressBar.setIndicatorColor(ContextCompat.getColor(fragment.requireContext(), getLevelColor(result.getLevel())));
         }
         if (cookedIcon != null) {
-            cookedIcon.setImageResource(getLevelIcon(result));
+            cookedIcon.setImageResource(MascotPackStore.getDrawableForLevel(mascotPackId, result.getLevel()));
+        }
+    }
+
+    /**
+     * Optional forecast views; without them {@link #renderForecast} is a no-op.
+     */
+    public void bindForecast(@Nullable ForecastSparklineView sparkline, @Nullable TextView text) {
+        this.forecastSparkline = sparkline;
+        this.forecastText = text;
+    }
+
+    public void renderForecast(@Nullable CookedMeterForecast.Curve curve) {
+        if (!fragment.isAdded() || curve == null) {
+            return;
+        }
+        int peak = curve.getPeakIndex();
+        if (forecastSparkline != null) {
+            forecastSparkline.setCurve(curve);
+            forecastSparkline.setColor(ContextCompat.getColor(fragment.requireContext(),
+                    getLevelColor(CookedLevel.fromPercentage(curve.getPercentage(peak)))));
+        }
+        if (forecastText != null) {
+            if (peak == 0) {
+                forecastText.setText(fragment.getString(R.string.cooked_forecast_no_peak));
+            } else {
+                String day = DateFormat.format("EEE", curve.getTimeAt(peak)).toString();
+                forecastText.setText(fragment.getString(R.string.cooked_forecast_peak,
+                        curve.getPercentage(peak), day));
+            }
         }
     }
 
-    private int getLevelColor(@NonNull CookedMeterResult result) {
+    private int getLevelColor(@NonNull CookedLevel level) {
         int colorRes;
-        switch (result.getLevel()) {
+        switch (level) {
             case COZY:
                 colorRes = R.color.successGreen;
                 break;
@@ -95,9 +138,4 @@ public class CookedMeterController {
         }
         return colorRes;
     }
-
-    private int getLevelIcon(@NonNull CookedMeterResult result) {
-        String selectedPackId = new MascotPackStore(fragment.requireContext()).getSelectedPackId();
-        return MascotPackStore.getDrawableForLevel(selectedPackId, result.getLevel());
-    }
 }
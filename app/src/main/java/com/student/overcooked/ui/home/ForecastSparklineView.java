@@ -0,0 +1,110 @@
+package com.student.overcooked.ui.home;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.util.AttributeSet;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+
+import com.student.overcooked.R;
+import com.student.overcooked.util.CookedMeterForecast;
+
+/**
+ * Compact line of the cooked meter forecast, with the peak marked. The vertical scale is
+ * always 0-100% so the line height reads the same as the progress bar above it.
+ */
+public class ForecastSparklineView extends View {
+
+    private final Paint linePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint fillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint peakPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Path linePath = new Path();
+    private final Path fillPath = new Path();
+
+    @Nullable
+    private CookedMeterForecast.Curve curve;
+
+    public ForecastSparklineView(Context context) {
+        super(context);
+        init();
+    }
+
+    public ForecastSparklineView(Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    public ForecastSparklineView(Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        init();
+    }
+
+    private void init() {
+        linePaint.setStyle(Paint.Style.STROKE);
+        linePaint.setStrokeWidth(dp(2f));
+        linePaint.setStrokeJoin(Paint.Join.ROUND);
+        fillPaint.setStyle(Paint.Style.FILL);
+        peakPaint.setStyle(Paint.Style.FILL);
+        setColor(ContextCompat.getColor(getContext(), R.color.burntOrange));
+    }
+
+    public void setColor(int color) {
+        linePaint.setColor(color);
+        fillPaint.setColor(color);
+        fillPaint.setAlpha(36);
+        peakPaint.setColor(color);
+        invalidate();
+    }
+
+    public void setCurve(@Nullable CookedMeterForecast.Curve curve) {
+        this.curve = curve;
+        invalidate();
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        CookedMeterForecast.Curve data = curve;
+        if (data == null || data.size() < 2) return;
+
+        float radius = dp(3f);
+        float left = getPaddingLeft() + radius;
+        float top = getPaddingTop() + radius;
+        float right = getWidth() - getPaddingRight() - radius;
+        float bottom = getHeight() - getPaddingBottom() - radius;
+        if (right <= left || bottom <= top) return;
+
+        float stepX = (right - left) / (data.size() - 1);
+        linePath.reset();
+        fillPath.reset();
+        fillPath.moveTo(left, bottom);
+        for (int i = 0; i < data.size(); i++) {
+            float x = left + i * stepX;
+            float y = bottom - (bottom - top) * (data.getPercentage(i) / 100f);
+            if (i == 0) {
+                linePath.moveTo(x, y);
+            } else {
+                linePath.lineTo(x, y);
+            }
+            fillPath.lineTo(x, y);
+        }
+        fillPath.lineTo(right, bottom);
+        fillPath.close();
+
+        canvas.drawPath(fillPath, fillPaint);
+        canvas.drawPath(linePath, linePaint);
+
+        int peak = data.getPeakIndex();
+        canvas.drawCircle(left + peak * stepX,
+                bottom - (bottom - top) * (data.getPercentage(peak) / 100f), radius, peakPaint);
+    }
+
+    private float dp(float dp) {
+        return dp * getResources().getDisplayMetrics().density;
+    }
+}
@@ -0,0 +1,176 @@
+package com.student.overcooked.ui.home;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.student.overcooked.data.model.CookedLevel;
+import com.student.overcooked.data.model.DashboardStats;
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.data.model.TaskType;
+import com.student.overcooked.util.CookedMeterResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The home screen as last rendered from live data: the meter, the quick stats, the Work Now
+ * tasks, the coin balance and the mascot. Painted on the next launch before Room and
+ * Firestore have answered.
+ *
+ * Stored as a short versioned binary file, like the widget snapshot. An unreadable or older
+ * file is treated as missing.
+ */
+public final class HomeSnapshot {
+    private static final String TAG = "HomeSnapshot";
+
+    static final int MAX_TASKS = 5;
+
+    private static final int FORMAT_VERSION = 1;
+
+    @NonNull private final String userId;
+    @NonNull private final CookedMeterResult meter;
+    @NonNull private final DashboardStats stats;
+    @NonNull private final List<TaskSummary> workNow;
+    private final int coins;
+    @NonNull private final String mascotPackId;
+
+    public HomeSnapshot(@NonNull String userId, @NonNull CookedMeterResult meter, @NonNull DashboardStats stats,
+                        @NonNull List<TaskSummary> workNow, int coins, @NonNull String mascotPackId) {
+        this.userId = userId;
+        this.meter = meter;
+        this.stats = stats;
+        this.workNow = Collections.unmodifiableList(
+                new ArrayList<>(workNow.subList(0, Math.min(workNow.size(), MAX_TASKS))));
+        this.coins = coins;
+        this.mascotPackId = mascotPackId;
+    }
+
+    @NonNull public String getUserId() { return userId; }
+    @NonNull public CookedMeterResult getMeter() { return meter; }
+    @NonNull public DashboardStats getStats() { return stats; }
+    @NonNull public List<TaskSummary> getWorkNow() { return workNow; }
+    public int getCoins() { return coins; }
+    @NonNull public String getMascotPackId() { return mascotPackId; }
+
+    // ================= Storage =================
+
+    void writeTo(@NonNull File file) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(userId);
+
+            out.writeByte(meter.getPercentage());
+            out.writeUTF(meter.getLevel().name());
+            out.writeInt(meter.getTotalTasks());
+            out.writeInt(meter.getPendingTasks());
+            out.writeInt(meter.getCompletedTasks());
+            out.writeInt(meter.getOverdueTasks());
+            out.writeInt(meter.getUrgentTasks());
+            out.writeInt(meter.getTodayTasks());
+            out.writeUTF(nonNull(meter.getMotivationalMessage()));
+            out.writeUTF(nonNull(meter.getStatusText()));
+
+            out.writeInt(stats.getPendingTasks());
+            out.writeInt(stats.getCompletedTasks());
+            out.writeInt(stats.getOverdueTasks());
+            out.writeInt(stats.getActiveProjects());
+            out.writeInt(stats.getTotalProjects());
+            out.writeInt(stats.getGroupCount());
+            out.writeInt(stats.getTotalGroupTasks());
+            out.writeInt(stats.getCompletedGroupTasks());
+
+            out.writeByte(workNow.size());
+            for (TaskSummary task : workNow) {
+                out.writeLong(task.getId());
+                out.writeUTF(nonNull(task.getTitle()));
+                out.writeUTF(nonNull(task.getCourse()));
+                out.writeUTF(task.getTaskType() != null ? task.getTaskType().name() : TaskType.HOMEWORK.name());
+                out.writeLong(task.getDeadlineMillis());
+                out.writeUTF(task.getPriority() != null ? task.getPriority().name() : Priority.MEDIUM.name());
+                out.writeUTF(task.getStatus().name());
+                out.writeBoolean(task.isCompleted());
+            }
+
+            out.writeInt(coins);
+            out.writeUTF(mascotPackId);
+        }
+        if (!temp.renameTo(file)) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    @Nullable
+    static HomeSnapshot readFrom(@NonNull File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            String userId = in.readUTF();
+
+            CookedMeterResult meter = new CookedMeterResult(in.readByte(), CookedLevel.valueOf(in.readUTF()),
+                    in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                    in.readUTF(), in.readUTF());
+            DashboardStats stats = new DashboardStats(in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                    in.readInt(), in.readInt(), in.readInt(), in.readInt());
+
+            int count = Math.min(in.readByte(), MAX_TASKS);
+            List<TaskSummary> workNow = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                TaskSummary task = new TaskSummary();
+                task.setId(in.readLong());
+                task.setTitle(in.readUTF());
+                task.setCourse(in.readUTF());
+                task.setTaskType(TaskType.valueOf(in.readUTF()));
+                task.setDeadlineMillis(in.readLong());
+                task.setPriority(Priority.valueOf(in.readUTF()));
+                task.setStatus(TaskStatus.valueOf(in.readUTF()));
+                task.setCompleted(in.readBoolean());
+                workNow.add(task);
+            }
+            return new HomeSnapshot(userId, meter, stats, workNow, in.readInt(), in.readUTF());
+        } catch (IOException | IllegalArgumentException e) {
+            Log.w(TAG, "Ignoring unreadable home snapshot", e);
+            return null;
+        }
+    }
+
+    private static String nonNull(@Nullable String value) {
+        return value != null ? value : "";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HomeSnapshot)) return false;
+        HomeSnapshot that = (HomeSnapshot) o;
+        return coins == that.coins
+                && userId.equals(that.userId)
+                && meter.equals(that.meter)
+                && stats.equals(that.stats)
+                && workNow.equals(that.workNow)
+                && mascotPackId.equals(that.mascotPackId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, meter, stats, workNow, coins, mascotPackId);
+    }
+}
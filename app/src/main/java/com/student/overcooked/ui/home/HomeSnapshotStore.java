@@ -0,0 +1,121 @@
+package com.student.overcooked.ui.home;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads and writes the {@link HomeSnapshot} file, off the main thread.
+ *
+ * Startup calls {@link #preload} so the home screen usually finds the snapshot in memory; if
+ * it does not, {@link #get} reads it in the background. Writes are skipped when nothing
+ * changed since the last one.
+ */
+public final class HomeSnapshotStore {
+    private static final String TAG = "HomeSnapshotStore";
+
+    static final String FILE_NAME = "home_snapshot.bin";
+
+    public interface Callback {
+        void onLoaded(@Nullable HomeSnapshot snapshot);
+    }
+
+    private static final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // Only written on ioExecutor
+    private static volatile boolean loaded;
+    @Nullable
+    private static volatile HomeSnapshot current;
+
+    private HomeSnapshotStore() {
+    }
+
+    /**
+     * Read the file into memory, if that has not happened yet.
+     */
+    @WorkerThread
+    public static void preload(@NonNull Context context) {
+        try {
+            ioExecutor.submit(() -> load(context)).get();
+        } catch (Exception e) {
+            Log.w(TAG, "Preloading the home snapshot failed", e);
+        }
+    }
+
+    /**
+     * The snapshot for {@code userId}, or null if there is none. Called back on the main
+     * thread: synchronously when the snapshot is already in memory, otherwise after a read.
+     */
+    @MainThread
+    public static void get(@NonNull Context context, @NonNull String userId, @NonNull Callback callback) {
+        if (loaded) {
+            callback.onLoaded(forUser(userId));
+            return;
+        }
+        ioExecutor.execute(() -> {
+            load(context);
+            HomeSnapshot snapshot = forUser(userId);
+            mainHandler.post(() -> callback.onLoaded(snapshot));
+        });
+    }
+
+    public static void save(@NonNull Context context, @NonNull HomeSnapshot snapshot) {
+        Context appContext = context.getApplicationContext();
+        ioExecutor.execute(() -> {
+            load(appContext);
+            if (snapshot.equals(current)) {
+                return;
+            }
+            try {
+                snapshot.writeTo(file(appContext));
+                current = snapshot;
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to write home snapshot", e);
+            }
+        });
+    }
+
+    /**
+     * Forget the snapshot, e.g. on sign-out.
+     */
+    public static void clear(@NonNull Context context) {
+        Context appContext = context.getApplicationContext();
+        ioExecutor.execute(() -> {
+            current = null;
+            loaded = true;
+            File file = file(appContext);
+            if (file.exists() && !file.delete()) {
+                Log.w(TAG, "Could not delete " + file);
+            }
+        });
+    }
+
+    private static void load(Context context) {
+        if (!loaded) {
+            current = HomeSnapshot.readFrom(file(context));
+            loaded = true;
+        }
+    }
+
+    @Nullable
+    private static HomeSnapshot forUser(String userId) {
+        HomeSnapshot snapshot = current;
+        return snapshot != null && snapshot.getUserId().equals(userId) ? snapshot : null;
+    }
+
+    private static File file(Context context) {
+        return new File(context.getApplicationContext().getFilesDir(), FILE_NAME);
+    }
+}
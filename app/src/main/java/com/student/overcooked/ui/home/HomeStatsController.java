@@ -7,6 +7,7 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.student.overcooked.R;
+import com.student.overcooked.data.model.DashboardStats;
 import com.student.overcooked.ui.adapter.QuickStatItem;
 import com.student.overcooked.ui.adapter.QuickStatsAdapter;
 
@@ -14,22 +15,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Keeps the Quick Stats carousel and coin score in sync with current counts.
+ * Renders the Quick Stats carousel from a {@link DashboardStats} snapshot.
  */
 public class HomeStatsController {
 
     private final Fragment fragment;
     private final QuickStatsAdapter quickStatsAdapter = new QuickStatsAdapter();
 
-    private int pendingCount;
-    private int completedCount;
-    private int overdueCount;
-    private int projectCount;
-    private int totalProjectCount;
-    private int groupCount;
-    private int completedGroupTasks;
-    private int totalGroupTasks;
-
     public HomeStatsController(@NonNull Fragment fragment,
                                @Nullable RecyclerView quickStatsRecycler) {
         this.fragment = fragment;
@@ -39,50 +31,14 @@ public class HomeStatsController {
         }
     }
 
-    public void setPendingCount(int pendingCount) {
-        this.pendingCount = pendingCount;
-        renderStats();
-    }
-
-    public void setCompletedCount(int completedCount) {
-        this.completedCount = completedCount;
-        renderStats();
-    }
-
-    public void setOverdueCount(int overdueCount) {
-        this.overdueCount = overdueCount;
-        renderStats();
-    }
-
-    public void setProjectCount(int projectCount) {
-        this.projectCount = projectCount;
-        renderStats();
-    }
-
-    public void setTotalProjectCount(int totalProjectCount) {
-        this.totalProjectCount = totalProjectCount;
-        renderStats();
-    }
-
-    public void setGroupCount(int groupCount) {
-        this.groupCount = groupCount;
-        renderStats();
-    }
-
-    public void setGroupTaskStats(int completedGroupTasks, int totalGroupTasks) {
-        this.completedGroupTasks = completedGroupTasks;
-        this.totalGroupTasks = totalGroupTasks;
-        renderStats();
-    }
-
-    private void renderStats() {
+    public void render(@NonNull DashboardStats stats) {
         if (!fragment.isAdded()) {
             return;
         }
         List<QuickStatItem> statsList = new ArrayList<>();
         // Include both individual and group tasks
-        int totalTasks = completedCount + pendingCount + totalGroupTasks;
-        int allCompletedTasks = completedCount + completedGroupTasks;
+        int totalTasks = stats.getCompletedTasks() + stats.getPendingTasks() + stats.getTotalGroupTasks();
+        int allCompletedTasks = stats.getCompletedTasks() + stats.getCompletedGroupTasks();
         statsList.add(new QuickStatItem(
                 "Tasks",
                 allCompletedTasks + "/" + totalTasks,
@@ -90,14 +46,15 @@ public class HomeStatsController {
                 R.color.burntOrange
         ));
         // Include both individual projects and groups
-        int allProjects = projectCount + groupCount;
-        int totalAllProjects = totalProjectCount + groupCount;
+        int allProjects = stats.getActiveProjects() + stats.getGroupCount();
+        int totalAllProjects = stats.getTotalProjects() + stats.getGroupCount();
         statsList.add(new QuickStatItem(
                 "Projects",
                 allProjects + "/" + totalAllProjects,
                 R.drawable.ic_add_project,
                 R.color.mustardYellow
         ));
+        int overdueCount = stats.getOverdueTasks();
         statsList.add(new QuickStatItem(
                 "Overdue",
                 String.valueOf(overdueCount),
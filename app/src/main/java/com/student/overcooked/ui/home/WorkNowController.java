@@ -13,14 +13,14 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.student.overcooked.R;
 import com.student.overcooked.data.model.Task;
 import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskSummary;
 import com.student.overcooked.data.repository.TaskRepository;
 import com.student.overcooked.ui.adapter.WorkNowTaskAdapter;
 import com.student.overcooked.ui.dialog.AddEditTaskDialog;
 import com.student.overcooked.ui.dialog.TaskDetailsDialog;
+import com.student.overcooked.util.TaskFilters;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -29,6 +29,8 @@ import java.util.List;
  */
 public class WorkNowController implements TaskDetailsDialog.OnTaskActionListener, AddEditTaskDialog.OnTaskSavedListener {
 
+    private static final int MAX_TASKS = 5;
+
     private final Fragment fragment;
     private final TaskRepository taskRepository;
     private final RecyclerView workNowRecycler;
@@ -36,6 +38,8 @@ public class WorkNowController implements TaskDetailsDialog.OnTaskActionListener
     private final FloatingActionButton fabAddTask;
 
     private final WorkNowTaskAdapter workNowAdapter;
+    @Nullable
+    private List<TaskSummary> liveTasks;
 
     public WorkNowController(@NonNull Fragment fragment,
                              @NonNull TaskRepository taskRepository,
@@ -48,16 +52,16 @@ public class WorkNowController implements TaskDetailsDialog.OnTaskActionListener
         this.emptyStateLayout = emptyStateLayout;
         this.fabAddTask = fabAddTask;
         this.workNowAdapter = new WorkNowTaskAdapter(
-                this::showTaskDetailsDialog,
+                task -> withFullTask(task, this::showTaskDetailsDialog),
                 task -> taskRepository.toggleTaskCompletion(task.getId(), true),
                 new WorkNowTaskAdapter.OnTaskMenuListener() {
                     @Override
-                    public void onEditTask(Task task) {
-                        showEditTaskDialog(task);
+                    public void onEditTask(TaskSummary task) {
+                        withFullTask(task, WorkNowController.this::showEditTaskDialog);
                     }
 
                     @Override
-                    public void onDeleteTask(Task task) {
+                    public void onDeleteTask(TaskSummary task) {
                         showDeleteConfirmation(task);
                     }
                 }
@@ -71,23 +75,29 @@ public class WorkNowController implements TaskDetailsDialog.OnTaskActionListener
         }
     }
 
-    public void submitTasks(@Nullable List<Task> tasks) {
-        List<Task> safeTasks = tasks != null ? tasks : Collections.emptyList();
-        List<Task> priorityTasks = new ArrayList<>();
-        for (Task task : safeTasks) {
-            if (!task.isCompleted() && task.getDeadline() != null) {
-                priorityTasks.add(task);
-            }
-        }
-        priorityTasks.sort((t1, t2) -> {
-            if (t1.getDeadline() == null && t2.getDeadline() == null) return 0;
-            if (t1.getDeadline() == null) return 1;
-            if (t2.getDeadline() == null) return -1;
-            return t1.getDeadline().compareTo(t2.getDeadline());
-        });
-        if (priorityTasks.size() > 5) {
-            priorityTasks = priorityTasks.subList(0, 5);
+    public void submitTasks(@Nullable List<TaskSummary> tasks) {
+        liveTasks = TaskFilters.earliestDeadlines(tasks, MAX_TASKS);
+        show(liveTasks);
+    }
+
+    /**
+     * Show the tasks from the last session's snapshot; ignored once live tasks have arrived.
+     */
+    public void showCachedTasks(@NonNull List<TaskSummary> tasks) {
+        if (liveTasks == null) {
+            show(tasks);
         }
+    }
+
+    /**
+     * The tasks shown from live data, or null until the first live list arrives.
+     */
+    @Nullable
+    public List<TaskSummary> getLiveTasks() {
+        return liveTasks;
+    }
+
+    private void show(@NonNull List<TaskSummary> priorityTasks) {
         if (priorityTasks.isEmpty()) {
             if (emptyStateLayout != null) emptyStateLayout.setVisibility(View.VISIBLE);
             if (workNowRecycler != null) workNowRecycler.setVisibility(View.GONE);
@@ -98,6 +108,26 @@ public class WorkNowController implements TaskDetailsDialog.OnTaskActionListener
         }
     }
 
+    private void withFullTask(@NonNull TaskSummary summary, @NonNull TaskRepository.Callback<Task> action) {
+        taskRepository.loadTask(summary.getId(), task -> {
+            if (task != null && fragment.isAdded()) {
+                action.onResult(task);
+            }
+        });
+    }
+
+    /**
+     * Not tied to the fragment like {@link #withFullTask}: the delete has already been
+     * confirmed to the user.
+     */
+    private void deleteTask(@NonNull TaskSummary summary) {
+        taskRepository.loadTask(summary.getId(), task -> {
+            if (task != null) {
+                taskRepository.deleteTask(task);
+            }
+        });
+    }
+
     private void showEditTaskDialog(@NonNull Task task) {
         AddEditTaskDialog dialog = AddEditTaskDialog.newInstanceEdit(task);
         dialog.setOnTaskSavedListener(this);
@@ -110,12 +140,12 @@ public class WorkNowController implements TaskDetailsDialog.OnTaskActionListener
         dialog.show(fragment.getChildFragmentManager(), "AddTaskDialog");
     }
 
-    private void showDeleteConfirmation(@NonNull Task task) {
+    private void showDeleteConfirmation(@NonNull TaskSummary task) {
         new AlertDialog.Builder(fragment.requireContext())
                 .setTitle(R.string.delete_task)
                 .setMessage(fragment.getString(R.string.delete_task_confirm, task.getTitle()))
                 .setPositiveButton(R.string.delete, (dialog, which) -> {
-                    taskRepository.deleteTask(task);
+                    deleteTask(task);
                     Toast.makeText(fragment.requireContext(), R.string.task_deleted, Toast.LENGTH_SHORT).show();
                 })
                 .setNegativeButton(R.string.cancel, null)
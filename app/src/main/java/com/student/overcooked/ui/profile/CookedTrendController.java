@@ -0,0 +1,68 @@
+package com.student.overcooked.ui.profile;
+
+import android.view.View;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.LiveData;
+
+import com.student.overcooked.R;
+import com.student.overcooked.data.model.CookedMeterTrendPoint;
+import com.student.overcooked.data.repository.CookedMeterHistoryRepository;
+import com.student.overcooked.data.repository.CookedMeterHistoryRepository.TrendRange;
+import com.google.android.material.button.MaterialButtonToggleGroup;
+
+import java.util.List;
+
+/**
+ * Drives the cooked meter history card on the Profile screen.
+ */
+public class CookedTrendController {
+
+    private final Fragment fragment;
+    private final CookedMeterHistoryRepository historyRepository;
+    private final CookedTrendView trendView;
+    private final TextView emptyText;
+
+    @Nullable
+    private LiveData<List<CookedMeterTrendPoint>> source;
+
+    public CookedTrendController(@NonNull Fragment fragment,
+                                 @NonNull CookedMeterHistoryRepository historyRepository,
+                                 @NonNull CookedTrendView trendView,
+                                 @NonNull TextView emptyText,
+                                 @NonNull MaterialButtonToggleGroup rangeToggle) {
+        this.fragment = fragment;
+        this.historyRepository = historyRepository;
+        this.trendView = trendView;
+        this.emptyText = emptyText;
+
+        rangeToggle.addOnButtonCheckedListener((group, checkedId, isChecked) -> {
+            if (!isChecked) return;
+            if (checkedId == R.id.btnTrendYear) {
+                show(TrendRange.YEAR);
+            } else if (checkedId == R.id.btnTrendAll) {
+                show(TrendRange.ALL);
+            } else {
+                show(TrendRange.MONTH);
+            }
+        });
+        rangeToggle.check(R.id.btnTrendMonth);
+    }
+
+    private void show(@NonNull TrendRange range) {
+        if (source != null) {
+            source.removeObservers(fragment.getViewLifecycleOwner());
+        }
+        source = historyRepository.getTrend(range);
+        source.observe(fragment.getViewLifecycleOwner(), this::render);
+    }
+
+    private void render(@Nullable List<CookedMeterTrendPoint> points) {
+        boolean empty = points == null || points.isEmpty();
+        emptyText.setVisibility(empty ? View.VISIBLE : View.GONE);
+        trendView.setPoints(points);
+    }
+}
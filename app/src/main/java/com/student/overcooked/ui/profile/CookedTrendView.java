@@ -0,0 +1,147 @@
+package com.student.overcooked.ui.profile;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.DashPathEffect;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.util.AttributeSet;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+
+import com.student.overcooked.R;
+import com.student.overcooked.data.model.CookedMeterTrendPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Line chart of cooked meter history: the average per day, week or month as a filled line
+ * and the peak as a thinner line above it. Points are spaced by time, so gaps where the app
+ * was not used show as longer segments. Dashed guides mark the level thresholds.
+ */
+public class CookedTrendView extends View {
+
+    private static final int[] LEVEL_GUIDES = {30, 60, 85};
+
+    private final Paint averagePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint peakPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint fillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint guidePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Path averagePath = new Path();
+    private final Path peakPath = new Path();
+    private final Path fillPath = new Path();
+
+    private List<CookedMeterTrendPoint> points = new ArrayList<>();
+
+    public CookedTrendView(Context context) {
+        super(context);
+        init();
+    }
+
+    public CookedTrendView(Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    public CookedTrendView(Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        init();
+    }
+
+    private void init() {
+        int accent = ContextCompat.getColor(getContext(), R.color.burntOrange);
+
+        averagePaint.setStyle(Paint.Style.STROKE);
+        averagePaint.setStrokeWidth(dp(2.5f));
+        averagePaint.setStrokeJoin(Paint.Join.ROUND);
+        averagePaint.setColor(accent);
+
+        peakPaint.setStyle(Paint.Style.STROKE);
+        peakPaint.setStrokeWidth(dp(1f));
+        peakPaint.setColor(ContextCompat.getColor(getContext(), R.color.tomatoRed));
+        peakPaint.setAlpha(140);
+
+        fillPaint.setStyle(Paint.Style.FILL);
+        fillPaint.setColor(accent);
+        fillPaint.setAlpha(40);
+
+        guidePaint.setStyle(Paint.Style.STROKE);
+        guidePaint.setStrokeWidth(dp(1f));
+        guidePaint.setColor(ContextCompat.getColor(getContext(), R.color.divider));
+        guidePaint.setPathEffect(new DashPathEffect(new float[]{dp(4f), dp(4f)}, 0f));
+    }
+
+    public void setPoints(@Nullable List<CookedMeterTrendPoint> points) {
+        this.points = points != null ? new ArrayList<>(points) : new ArrayList<>();
+        invalidate();
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+
+        float left = getPaddingLeft();
+        float top = getPaddingTop() + dp(2f);
+        float right = getWidth() - getPaddingRight();
+        float bottom = getHeight() - getPaddingBottom() - dp(2f);
+        if (right <= left || bottom <= top) return;
+
+        for (int guide : LEVEL_GUIDES) {
+            float y = yFor(guide, top, bottom);
+            canvas.drawLine(left, y, right, y, guidePaint);
+        }
+        if (points.isEmpty()) return;
+
+        long first = points.get(0).getBucketStart();
+        long span = points.get(points.size() - 1).getBucketStart() - first;
+
+        averagePath.reset();
+        peakPath.reset();
+        fillPath.reset();
+        for (int i = 0; i < points.size(); i++) {
+            CookedMeterTrendPoint point = points.get(i);
+            float x = span == 0
+                    ? (left + right) / 2f
+                    : left + (right - left) * ((point.getBucketStart() - first) / (float) span);
+            float avgY = yFor(point.getAveragePercentage(), top, bottom);
+            float peakY = yFor(point.getPeakPercentage(), top, bottom);
+            if (i == 0) {
+                averagePath.moveTo(x, avgY);
+                peakPath.moveTo(x, peakY);
+                fillPath.moveTo(x, bottom);
+            } else {
+                averagePath.lineTo(x, avgY);
+                peakPath.lineTo(x, peakY);
+            }
+            fillPath.lineTo(x, avgY);
+            if (i == points.size() - 1) {
+                fillPath.lineTo(x, bottom);
+                fillPath.close();
+            }
+        }
+
+        if (points.size() == 1) {
+            // A single day has no line to draw; show it as a dot
+            float x = (left + right) / 2f;
+            canvas.drawCircle(x, yFor(points.get(0).getAveragePercentage(), top, bottom), dp(3f), fillPaint);
+            canvas.drawCircle(x, yFor(points.get(0).getAveragePercentage(), top, bottom), dp(3f), averagePaint);
+            return;
+        }
+        canvas.drawPath(fillPath, fillPaint);
+        canvas.drawPath(peakPath, peakPaint);
+        canvas.drawPath(averagePath, averagePaint);
+    }
+
+    private static float yFor(int percentage, float top, float bottom) {
+        int clamped = Math.max(0, Math.min(100, percentage));
+        return bottom - (bottom - top) * (clamped / 100f);
+    }
+
+    private float dp(float dp) {
+        return dp * getResources().getDisplayMetrics().density;
+    }
+}
@@ -0,0 +1,12 @@
+package com.student.overcooked.util;
+
+/**
+ * Source of the current wall-clock time. Date logic asks this instead of
+ * {@code new Date()} so a fixed clock can be swapped in for debugging.
+ */
+public interface Clock {
+
+    Clock SYSTEM = System::currentTimeMillis;
+
+    long currentTimeMillis();
+}
@@ -1,11 +1,11 @@
 package com.student.overcooked.util;
 
 import com.student.overcooked.data.model.CookedLevel;
+import com.student.overcooked.data.model.CookedMeterStats;
 import com.student.overcooked.data.model.Priority;
-import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskSummary;
 
-import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -25,15 +25,16 @@ import java.util.List;
 public class CookedMeterCalculator {
 
     // Configuration constants
-    private static final int MAX_TASKS_BASELINE = 15; // Beyond this, you're at risk
-    private static final int DAYS_URGENT_THRESHOLD = 2; // Tasks due within 2 days are urgent
-    private static final int DAYS_SOON_THRESHOLD = 7; // Tasks due within a week add moderate stress
+    // Package-private so CookedMeterEngine derives its band boundaries from the same values
+    static final int MAX_TASKS_BASELINE = 15; // Beyond this, you're at risk
+    static final int DAYS_URGENT_THRESHOLD = 2; // Tasks due within 2 days are urgent
+    static final int DAYS_SOON_THRESHOLD = 7; // Tasks due within a week add moderate stress
 
     // Weight multipliers
-    private static final double OVERDUE_MULTIPLIER = 3.0;
-    private static final double URGENT_MULTIPLIER = 2.5;
-    private static final double SOON_MULTIPLIER = 1.5;
-    private static final double NORMAL_MULTIPLIER = 1.0;
+    static final double OVERDUE_MULTIPLIER = 3.0;
+    static final double URGENT_MULTIPLIER = 2.5;
+    static final double SOON_MULTIPLIER = 1.5;
+    static final double NORMAL_MULTIPLIER = 1.0;
 
     private CookedMeterCalculator() {
         // Private constructor to prevent instantiation
@@ -45,31 +46,29 @@ public class CookedMeterCalculator {
      * @param tasks List of all tasks (will filter to pending only)
      * @return Percentage from 0 to 100
      */
-    public static int calculateCookedPercentage(List<Task> tasks) {
+    public static int calculateCookedPercentage(List<TaskSummary> tasks) {
+        return calculateCookedPercentage(tasks, DayClock.get().now());
+    }
+
+    static int calculateCookedPercentage(List<TaskSummary> tasks, long now) {
         if (tasks == null || tasks.isEmpty()) {
             return 0;
         }
-        
-        List<Task> pendingTasks = new ArrayList<>();
-        for (Task task : tasks) {
-            if (!task.isCompleted()) {
-                pendingTasks.add(task);
-            }
-        }
-        
-        if (pendingTasks.isEmpty()) {
-            return 0;
-        }
 
         double totalStressScore = 0.0;
-        Date now = new Date();
-
-        for (Task task : pendingTasks) {
+        for (TaskSummary task : tasks) {
+            if (task.isCompleted()) {
+                continue;
+            }
             double baseScore = getBaseScore(task.getPriority());
-            double timeMultiplier = getTimeMultiplier(task.getDeadline(), now);
+            double timeMultiplier = getTimeMultiplier(task.getDeadlineMillis(), now);
             totalStressScore += baseScore * timeMultiplier;
         }
 
+        return toPercentage(totalStressScore);
+    }
+
+    static int toPercentage(double totalStressScore) {
         // Normalize to percentage
         // Max score per task = HIGH priority (3) * OVERDUE multiplier (3.0) = 9
         // With MAX_TASKS_BASELINE tasks at maximum stress = 9 * 15 = 135
@@ -82,7 +81,7 @@ public class CookedMeterCalculator {
     /**
      * Get the cooked level enum based on tasks
      */
-    public static CookedLevel getCookedLevel(List<Task> tasks) {
+    public static CookedLevel getCookedLevel(List<TaskSummary> tasks) {
         int percentage = calculateCookedPercentage(tasks);
         return CookedLevel.fromPercentage(percentage);
     }
@@ -90,45 +89,76 @@ public class CookedMeterCalculator {
     /**
      * Get detailed cooked meter result with all information
      */
-    public static CookedMeterResult getCookedMeterResult(List<Task> tasks) {
+    public static CookedMeterResult getCookedMeterResult(List<TaskSummary> tasks) {
+        // One clock read for the whole pass so every task is classified against the same instant
+        return getCookedMeterResult(tasks, DayClock.get().now());
+    }
+
+    /**
+     * Detailed result at a given instant; the reference the incremental engine is checked against.
+     */
+    public static CookedMeterResult getCookedMeterResult(List<TaskSummary> tasks, long now) {
         if (tasks == null) {
-            tasks = new ArrayList<>();
+            tasks = Collections.emptyList();
         }
-        
-        List<Task> pendingTasks = new ArrayList<>();
-        List<Task> completedTasks = new ArrayList<>();
-        List<Task> overdueTasks = new ArrayList<>();
-        List<Task> urgentTasks = new ArrayList<>();
-        List<Task> todayTasks = new ArrayList<>();
-
-        for (Task task : tasks) {
+
+        int pendingCount = 0;
+        int completedCount = 0;
+        int overdueCount = 0;
+        int urgentCount = 0;
+        int todayCount = 0;
+
+        for (TaskSummary task : tasks) {
             if (task.isCompleted()) {
-                completedTasks.add(task);
+                completedCount++;
             } else {
-                pendingTasks.add(task);
-                if (task.isOverdue()) {
-                    overdueTasks.add(task);
-                } else if (task.daysUntilDeadline() <= DAYS_URGENT_THRESHOLD) {
-                    urgentTasks.add(task);
+                pendingCount++;
+                if (task.isOverdue(now)) {
+                    overdueCount++;
+                } else if (task.daysUntilDeadline(now) <= DAYS_URGENT_THRESHOLD) {
+                    urgentCount++;
                 }
-                if (task.isDueToday()) {
-                    todayTasks.add(task);
+                if (task.isDueToday(now)) {
+                    todayCount++;
                 }
             }
         }
 
-        int percentage = calculateCookedPercentage(tasks);
-        CookedLevel level = CookedLevel.fromPercentage(percentage);
+        int percentage = calculateCookedPercentage(tasks, now);
+        return buildResult(percentage, tasks.size(), pendingCount, completedCount,
+                overdueCount, urgentCount, todayCount);
+    }
 
+    /**
+     * Result from counts aggregated in SQL; identical to the list-based result for the same rows.
+     */
+    public static CookedMeterResult fromStats(CookedMeterStats stats) {
+        if (stats == null) {
+            stats = CookedMeterStats.EMPTY;
+        }
+        return buildResult(
+                toPercentage(stats.getStressHalfUnits() / 2.0),
+                stats.getTotalTasks(),
+                stats.getPendingTasks(),
+                stats.getCompletedTasks(),
+                stats.getOverdueTasks(),
+                stats.getUrgentTasks(),
+                stats.getTodayTasks()
+        );
+    }
+
+    static CookedMeterResult buildResult(int percentage, int totalTasks, int pendingTasks, int completedTasks,
+                                         int overdueTasks, int urgentTasks, int todayTasks) {
+        CookedLevel level = CookedLevel.fromPercentage(percentage);
         return new CookedMeterResult(
                 percentage,
                 level,
-                tasks.size(),
-                pendingTasks.size(),
-                completedTasks.size(),
-                overdueTasks.size(),
-                urgentTasks.size(),
-                todayTasks.size(),
+                totalTasks,
+                pendingTasks,
+                completedTasks,
+                overdueTasks,
+                urgentTasks,
+                todayTasks,
                 level.getMotivationalMessage(),
                 level.getStatusText()
         );
@@ -144,11 +174,11 @@ public class CookedMeterCalculator {
     /**
      * Get time-based multiplier based on deadline proximity
      */
-    private static double getTimeMultiplier(Date deadline, Date now) {
-        if (deadline == null) {
+    private static double getTimeMultiplier(long deadline, long now) {
+        if (deadline == DayClock.NO_TIME) {
             return NORMAL_MULTIPLIER; // No deadline = treat as normal
         }
-        int daysUntilDeadline = (int) ((deadline.getTime() - now.getTime()) / (1000 * 60 * 60 * 24));
+        int daysUntilDeadline = DayClock.daysUntil(deadline, now);
 
         if (daysUntilDeadline < 0) {
             return OVERDUE_MULTIPLIER; // Overdue
@@ -0,0 +1,333 @@
+package com.student.overcooked.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.TaskSummary;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Incremental version of {@link CookedMeterCalculator}.
+ *
+ * Every pending task sits in one urgency band (overdue, urgent, soon, normal) and the engine
+ * keeps a running stress sum per band, so adding, changing or removing a task adjusts the
+ * totals by that task's contribution only. Scores are kept in half units (multipliers 3.0,
+ * 2.5, 1.5 and 1.0 become 6, 5, 3 and 2), which makes the sums exact integers and the final
+ * percentage bit-for-bit equal to the calculator's.
+ *
+ * Time only moves a task between bands at fixed instants derived from its deadline. Those
+ * instants go into a queue; {@link #advanceTo(long)} reclassifies just the tasks whose next
+ * instant has passed, and {@link #nextBoundary()} tells the caller when to wake up next.
+ *
+ * Not thread-safe; drive it from one thread.
+ */
+public final class CookedMeterEngine {
+
+    public static final long NO_BOUNDARY = Long.MAX_VALUE;
+
+    private static final long DAY = DayClock.DAY_MILLIS;
+
+    private static final int BAND_NONE = -1;
+    private static final int BAND_OVERDUE = 0;
+    private static final int BAND_URGENT = 1;
+    private static final int BAND_SOON = 2;
+    private static final int BAND_NORMAL = 3;
+    private static final int[] BAND_HALF_MULTIPLIER = {
+            (int) (CookedMeterCalculator.OVERDUE_MULTIPLIER * 2),
+            (int) (CookedMeterCalculator.URGENT_MULTIPLIER * 2),
+            (int) (CookedMeterCalculator.SOON_MULTIPLIER * 2),
+            (int) (CookedMeterCalculator.NORMAL_MULTIPLIER * 2)
+    };
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final PriorityQueue<Boundary> boundaries = new PriorityQueue<>();
+    private final long[] bandHalfScores = new long[4];
+    private final int[] bandCounts = new int[4];
+
+    private long now;
+    // Global so a task removed and re-added never matches a stale queue entry
+    private int nextVersion;
+    private int completedCount;
+    private int overdueCount;
+    private int urgentCount;
+    private int todayCount;
+
+    public CookedMeterEngine(long now) {
+        this.now = now;
+    }
+
+    // ================= Updates =================
+
+    /**
+     * Bring the engine in line with a full task list, touching only rows that changed.
+     */
+    public void submitList(@Nullable List<TaskSummary> tasks, long now) {
+        advanceTo(now);
+        Set<Long> seen = new HashSet<>();
+        if (tasks != null) {
+            for (TaskSummary task : tasks) {
+                seen.add(task.getId());
+                upsert(task);
+            }
+        }
+        Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next().getValue();
+            if (!seen.contains(entry.id)) {
+                apply(entry, -1);
+                it.remove();
+            }
+        }
+        compactQueueIfNeeded();
+    }
+
+    /**
+     * Add or update one task at the current instant.
+     */
+    public void upsert(@NonNull TaskSummary task) {
+        Entry entry = entries.get(task.getId());
+        int weight = weightOf(task.getPriority());
+        if (entry != null) {
+            if (entry.weight == weight && entry.deadline == task.getDeadlineMillis()
+                    && entry.completed == task.isCompleted()) {
+                return;
+            }
+            apply(entry, -1);
+        } else {
+            entry = new Entry(task.getId());
+            entries.put(entry.id, entry);
+        }
+        entry.weight = weight;
+        entry.deadline = task.getDeadlineMillis();
+        entry.completed = task.isCompleted();
+        entry.version = ++nextVersion;
+        updateDayBounds(entry);
+        classify(entry);
+        apply(entry, +1);
+        scheduleNext(entry);
+    }
+
+    public void remove(long taskId) {
+        Entry entry = entries.remove(taskId);
+        if (entry != null) {
+            apply(entry, -1);
+        }
+    }
+
+    /**
+     * Move the clock forward, reclassifying only tasks that crossed a boundary.
+     */
+    public void advanceTo(long now) {
+        if (now < this.now) {
+            // The wall clock went backwards; boundaries are only valid going forward
+            this.now = now;
+            reclassifyAll();
+            return;
+        }
+        this.now = now;
+        while (!boundaries.isEmpty() && boundaries.peek().at <= now) {
+            Boundary boundary = boundaries.poll();
+            Entry entry = entries.get(boundary.taskId);
+            if (entry == null || entry.version != boundary.version) {
+                continue;
+            }
+            apply(entry, -1);
+            classify(entry);
+            apply(entry, +1);
+            scheduleNext(entry);
+        }
+    }
+
+    /**
+     * Reclassify every task from scratch, e.g. after a time zone change moved local midnight.
+     */
+    public void recalculate() {
+        reclassifyAll();
+    }
+
+    /**
+     * Earliest instant at which the result can change without a task edit, or
+     * {@link #NO_BOUNDARY}.
+     */
+    public long nextBoundary() {
+        while (!boundaries.isEmpty()) {
+            Boundary head = boundaries.peek();
+            Entry entry = entries.get(head.taskId);
+            if (entry != null && entry.version == head.version) {
+                return head.at;
+            }
+            boundaries.poll();
+        }
+        return NO_BOUNDARY;
+    }
+
+    // ================= Result =================
+
+    @NonNull
+    public CookedMeterResult getResult() {
+        long halfScore = 0;
+        int pending = 0;
+        for (int band = 0; band < bandHalfScores.length; band++) {
+            halfScore += bandHalfScores[band];
+            pending += bandCounts[band];
+        }
+        int percentage = pending == 0 ? 0 : CookedMeterCalculator.toPercentage(halfScore / 2.0);
+        return CookedMeterCalculator.buildResult(percentage, entries.size(), pending, completedCount,
+                overdueCount, urgentCount, todayCount);
+    }
+
+    // ================= Internals =================
+
+    private void classify(Entry entry) {
+        if (entry.completed) {
+            entry.band = BAND_NONE;
+            entry.overdue = false;
+            entry.urgent = false;
+            entry.today = false;
+            return;
+        }
+        long deadline = entry.deadline;
+        if (deadline == DayClock.NO_TIME) {
+            entry.band = BAND_NORMAL;
+            entry.overdue = false;
+            entry.urgent = false;
+            entry.today = false;
+            return;
+        }
+        int days = DayClock.daysUntil(deadline, now);
+        if (days < 0) {
+            entry.band = BAND_OVERDUE;
+        } else if (days <= CookedMeterCalculator.DAYS_URGENT_THRESHOLD) {
+            entry.band = BAND_URGENT;
+        } else if (days <= CookedMeterCalculator.DAYS_SOON_THRESHOLD) {
+            entry.band = BAND_SOON;
+        } else {
+            entry.band = BAND_NORMAL;
+        }
+        entry.overdue = DayClock.isOverdue(deadline, false, now);
+        entry.urgent = !entry.overdue && days <= CookedMeterCalculator.DAYS_URGENT_THRESHOLD;
+        entry.today = now >= entry.dayStart && now < entry.dayEnd;
+    }
+
+    private void apply(Entry entry, int sign) {
+        if (entry.completed) {
+            completedCount += sign;
+            return;
+        }
+        bandHalfScores[entry.band] += (long) sign * entry.weight * BAND_HALF_MULTIPLIER[entry.band];
+        bandCounts[entry.band] += sign;
+        if (entry.overdue) overdueCount += sign;
+        if (entry.urgent) urgentCount += sign;
+        if (entry.today) todayCount += sign;
+    }
+
+    /**
+     * Queue the first instant after {@code now} at which any of the task's classifications flips.
+     * Each is the first millisecond at which the corresponding comparison in
+     * {@link #classify(Entry)} gives a different answer.
+     */
+    private void scheduleNext(Entry entry) {
+        if (entry.completed || entry.deadline == DayClock.NO_TIME) {
+            return;
+        }
+        long deadline = entry.deadline;
+        long urgentStart = deadline - (CookedMeterCalculator.DAYS_URGENT_THRESHOLD + 1) * DAY + 1;
+        long soonStart = deadline - (CookedMeterCalculator.DAYS_SOON_THRESHOLD + 1) * DAY + 1;
+        long next = NO_BOUNDARY;
+        next = earliestAfter(next, soonStart);
+        next = earliestAfter(next, urgentStart);
+        next = earliestAfter(next, deadline + 1);      // overdue count
+        next = earliestAfter(next, deadline + DAY);    // overdue band (whole days late)
+        next = earliestAfter(next, entry.dayStart);
+        next = earliestAfter(next, entry.dayEnd);
+        if (next != NO_BOUNDARY) {
+            boundaries.add(new Boundary(next, entry.id, entry.version));
+        }
+    }
+
+    // The deadline's local day never moves, so it is resolved once per edit rather than per tick
+    private static void updateDayBounds(Entry entry) {
+        if (entry.deadline == DayClock.NO_TIME) {
+            entry.dayStart = DayClock.NO_TIME;
+            entry.dayEnd = DayClock.NO_TIME;
+            return;
+        }
+        DayClock clock = DayClock.get();
+        entry.dayStart = clock.startOfDay(entry.deadline);
+        entry.dayEnd = clock.startOfNextDay(entry.deadline);
+    }
+
+    private long earliestAfter(long current, long candidate) {
+        return candidate > now && candidate < current ? candidate : current;
+    }
+
+    private void reclassifyAll() {
+        boundaries.clear();
+        for (Entry entry : entries.values()) {
+            apply(entry, -1);
+            entry.version = ++nextVersion;
+            updateDayBounds(entry);
+            classify(entry);
+            apply(entry, +1);
+            scheduleNext(entry);
+        }
+    }
+
+    private void compactQueueIfNeeded() {
+        if (boundaries.size() <= 2 * entries.size() + 16) {
+            return;
+        }
+        boundaries.removeIf(b -> {
+            Entry entry = entries.get(b.taskId);
+            return entry == null || entry.version != b.version;
+        });
+    }
+
+    private static int weightOf(@Nullable Priority priority) {
+        return (priority != null ? priority : Priority.MEDIUM).getWeight();
+    }
+
+    private static final class Entry {
+        final long id;
+        int version;
+        int weight;
+        long deadline;
+        boolean completed;
+
+        int band = BAND_NONE;
+        boolean overdue;
+        boolean urgent;
+        boolean today;
+        long dayStart;
+        long dayEnd;
+
+        Entry(long id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Boundary implements Comparable<Boundary> {
+        final long at;
+        final long taskId;
+        final int version;
+
+        Boundary(long at, long taskId, int version) {
+            this.at = at;
+            this.taskId = taskId;
+            this.version = version;
+        }
+
+        @Override
+        public int compareTo(Boundary other) {
+            return Long.compare(at, other.at);
+        }
+    }
+}
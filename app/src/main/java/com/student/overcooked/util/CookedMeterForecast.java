@@ -0,0 +1,235 @@
+package com.student.overcooked.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.TaskSummary;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cooked meter percentage sampled every {@link #STEP_MILLIS} over the next
+ * {@link #HORIZON_DAYS} days, assuming no task is edited or completed in the meantime.
+ *
+ * A pending task changes the score at no more than three instants: when it enters the
+ * "soon" band, the "urgent" band and the overdue band. Rather than re-running the
+ * calculator at every sample, each of those transitions is dropped into the sample slot
+ * where it first applies, as a score delta. The curve is then one prefix sum over the slots,
+ * giving O(tasks + slots) for a full build with no sorting needed.
+ *
+ * Per-task contributions are remembered, so a task edit subtracts its old deltas, adds the
+ * new ones, and only the slots from the earliest touched one onwards are summed again.
+ * Samples agree exactly with {@link CookedMeterCalculator} at the same instants.
+ *
+ * Not thread-safe; drive it from one thread.
+ */
+public final class CookedMeterForecast {
+
+    public static final int HORIZON_DAYS = 14;
+    public static final long STEP_MILLIS = 60L * 60L * 1000L;
+    public static final int SAMPLES = (int) (HORIZON_DAYS * DayClock.DAY_MILLIS / STEP_MILLIS) + 1;
+
+    private static final long DAY = DayClock.DAY_MILLIS;
+
+    private final long start;
+    /** Score change in half units taking effect at each slot */
+    private final long[] delta = new long[SAMPLES];
+    /** Running score in half units at each slot; valid below {@link #dirtyFrom} */
+    private final long[] score = new long[SAMPLES];
+    private final int[] percentages = new int[SAMPLES];
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private int dirtyFrom;
+
+    public CookedMeterForecast(long start) {
+        this.start = start;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Bring the forecast in line with a full task list, touching only rows that changed.
+     */
+    public void submitList(@Nullable List<TaskSummary> tasks) {
+        Set<Long> seen = new HashSet<>();
+        if (tasks != null) {
+            for (TaskSummary task : tasks) {
+                seen.add(task.getId());
+                upsert(task);
+            }
+        }
+        Iterator<Map.Entry<Long, Contribution>> it = contributions.entrySet().iterator();
+        while (it.hasNext()) {
+            Contribution contribution = it.next().getValue();
+            if (!seen.contains(contribution.id)) {
+                apply(contribution, -1);
+                it.remove();
+            }
+        }
+    }
+
+    public void upsert(@NonNull TaskSummary task) {
+        Contribution current = contributions.get(task.getId());
+        Priority priority = task.getPriority() != null ? task.getPriority() : Priority.MEDIUM;
+        Contribution updated = new Contribution(task.getId(), priority.getWeight(),
+                task.getDeadlineMillis(), task.isCompleted());
+        if (updated.equals(current)) {
+            return;
+        }
+        if (current != null) {
+            apply(current, -1);
+        }
+        apply(updated, +1);
+        contributions.put(updated.id, updated);
+    }
+
+    /**
+     * The forecast curve, re-summed from the earliest slot touched since the last call.
+     */
+    @NonNull
+    public Curve getCurve() {
+        if (dirtyFrom < SAMPLES) {
+            long running = dirtyFrom == 0 ? 0L : score[dirtyFrom - 1];
+            for (int slot = dirtyFrom; slot < SAMPLES; slot++) {
+                running += delta[slot];
+                score[slot] = running;
+                percentages[slot] = CookedMeterCalculator.toPercentage(running / 2.0);
+            }
+            dirtyFrom = SAMPLES;
+        }
+        return new Curve(start, STEP_MILLIS, percentages.clone());
+    }
+
+    private void apply(Contribution task, int sign) {
+        if (task.completed) {
+            return;
+        }
+        int previous = halfMultiplier(task.deadline, start);
+        addDelta(0, sign * task.weight * previous);
+        if (task.deadline == DayClock.NO_TIME) {
+            return;
+        }
+        // First instants at which the task is in the soon, urgent and overdue bands
+        long[] transitions = {
+                task.deadline - (CookedMeterCalculator.DAYS_SOON_THRESHOLD + 1) * DAY + 1,
+                task.deadline - (CookedMeterCalculator.DAYS_URGENT_THRESHOLD + 1) * DAY + 1,
+                task.deadline + DAY
+        };
+        for (long at : transitions) {
+            if (at <= start) {
+                continue;
+            }
+            long slot = (at - start + STEP_MILLIS - 1) / STEP_MILLIS;
+            if (slot >= SAMPLES) {
+                break;
+            }
+            int next = halfMultiplier(task.deadline, at);
+            addDelta((int) slot, sign * task.weight * (next - previous));
+            previous = next;
+        }
+    }
+
+    private void addDelta(int slot, long value) {
+        delta[slot] += value;
+        dirtyFrom = Math.min(dirtyFrom, slot);
+    }
+
+    /** Same bands as CookedMeterCalculator, doubled so the sums stay integral */
+    private static int halfMultiplier(long deadline, long now) {
+        if (deadline == DayClock.NO_TIME) {
+            return (int) (CookedMeterCalculator.NORMAL_MULTIPLIER * 2);
+        }
+        int days = DayClock.daysUntil(deadline, now);
+        if (days < 0) {
+            return (int) (CookedMeterCalculator.OVERDUE_MULTIPLIER * 2);
+        } else if (days <= CookedMeterCalculator.DAYS_URGENT_THRESHOLD) {
+            return (int) (CookedMeterCalculator.URGENT_MULTIPLIER * 2);
+        } else if (days <= CookedMeterCalculator.DAYS_SOON_THRESHOLD) {
+            return (int) (CookedMeterCalculator.SOON_MULTIPLIER * 2);
+        }
+        return (int) (CookedMeterCalculator.NORMAL_MULTIPLIER * 2);
+    }
+
+    private static final class Contribution {
+        final long id;
+        final int weight;
+        final long deadline;
+        final boolean completed;
+
+        Contribution(long id, int weight, long deadline, boolean completed) {
+            this.id = id;
+            this.weight = weight;
+            this.deadline = deadline;
+            this.completed = completed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Contribution)) return false;
+            Contribution that = (Contribution) o;
+            return id == that.id && weight == that.weight
+                    && deadline == that.deadline && completed == that.completed;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id) * 31 + Long.hashCode(deadline);
+        }
+    }
+
+    /**
+     * Immutable forecast samples: {@code percentages[i]} is the meter at
+     * {@code start + i * stepMillis}.
+     */
+    public static final class Curve {
+        private final long start;
+        private final long stepMillis;
+        private final int[] percentages;
+
+        Curve(long start, long stepMillis, int[] percentages) {
+            this.start = start;
+            this.stepMillis = stepMillis;
+            this.percentages = percentages;
+        }
+
+        public long getStart() { return start; }
+        public long getStepMillis() { return stepMillis; }
+        public int size() { return percentages.length; }
+        public int getPercentage(int index) { return percentages[index]; }
+        public long getTimeAt(int index) { return start + index * stepMillis; }
+
+        /** Index of the highest sample; the earliest one on ties */
+        public int getPeakIndex() {
+            int peak = 0;
+            for (int i = 1; i < percentages.length; i++) {
+                if (percentages[i] > percentages[peak]) {
+                    peak = i;
+                }
+            }
+            return peak;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Curve)) return false;
+            Curve that = (Curve) o;
+            return start == that.start && stepMillis == that.stepMillis
+                    && Arrays.equals(percentages, that.percentages);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(start) + Arrays.hashCode(percentages);
+        }
+    }
+}
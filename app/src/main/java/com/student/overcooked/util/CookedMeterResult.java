@@ -2,6 +2,8 @@ package com.student.overcooked.util;
 
 import com.student.overcooked.data.model.CookedLevel;
 
+import java.util.Objects;
+
 /**
  * Data class containing all cooked meter information
  */
@@ -80,4 +82,34 @@ public class CookedMeterResult {
     public boolean hasOverdueTasks() {
         return overdueTasks > 0;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CookedMeterResult that = (CookedMeterResult) o;
+        return percentage == that.percentage
+                && totalTasks == that.totalTasks
+                && pendingTasks == that.pendingTasks
+                && completedTasks == that.completedTasks
+                && overdueTasks == that.overdueTasks
+                && urgentTasks == that.urgentTasks
+                && todayTasks == that.todayTasks
+                && level == that.level
+                && Objects.equals(motivationalMessage, that.motivationalMessage)
+                && Objects.equals(statusText, that.statusText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(percentage, level, totalTasks, pendingTasks, completedTasks,
+                overdueTasks, urgentTasks, todayTasks, motivationalMessage, statusText);
+    }
+
+    @Override
+    public String toString() {
+        return "CookedMeterResult{" + percentage + "%, pending=" + pendingTasks
+                + ", completed=" + completedTasks + ", overdue=" + overdueTasks
+                + ", urgent=" + urgentTasks + ", today=" + todayTasks + "}";
+    }
 }
@@ -0,0 +1,131 @@
+package com.student.overcooked.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.Calendar;
+
+/**
+ * Allocation-free date classification for tasks and projects.
+ *
+ * Bounds of the current local day are computed once and reused until the clock leaves
+ * that day, so per-row checks in adapters and the cooked meter are plain comparisons.
+ * Call {@link #invalidate()} when the time zone changes.
+ *
+ * Timestamps are epoch millis; {@link #NO_TIME} (0) means "not set".
+ */
+public final class DayClock {
+
+    public static final long NO_TIME = 0L;
+    public static final long DAY_MILLIS = 24L * 60L * 60L * 1000L;
+
+    private static volatile DayClock instance = new DayClock(Clock.SYSTEM);
+
+    private final Clock clock;
+    // Immutable, swapped as a whole so readers never see a half-updated window
+    private volatile DayWindow today;
+
+    private DayClock(@NonNull Clock clock) {
+        this.clock = clock;
+    }
+
+    @NonNull
+    public static DayClock get() {
+        return instance;
+    }
+
+    /**
+     * Replace the time source, e.g. with a fixed clock from the debug menu.
+     */
+    public static void setClock(@NonNull Clock clock) {
+        instance = new DayClock(clock);
+    }
+
+    public long now() {
+        return clock.currentTimeMillis();
+    }
+
+    public void invalidate() {
+        today = null;
+    }
+
+    // ================= Day boundaries =================
+
+    /**
+     * Local midnight at the start of the day containing {@code time}.
+     */
+    public long startOfDay(long time) {
+        return windowFor(time).start;
+    }
+
+    /**
+     * Local midnight at the end of the day containing {@code time}.
+     */
+    public long startOfNextDay(long time) {
+        return windowFor(time).end;
+    }
+
+    @NonNull
+    private DayWindow windowFor(long time) {
+        DayWindow window = today;
+        if (window != null && window.contains(time)) {
+            return window;
+        }
+        // Only the current day is cached; other days are rare enough to compute directly
+        window = computeWindow(time);
+        if (window.contains(now())) {
+            today = window;
+        }
+        return window;
+    }
+
+    @NonNull
+    private static DayWindow computeWindow(long time) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(time);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        long start = calendar.getTimeInMillis();
+        calendar.add(Calendar.DAY_OF_YEAR, 1);
+        return new DayWindow(start, calendar.getTimeInMillis());
+    }
+
+    // ================= Classification =================
+
+    public static boolean isOverdue(long deadline, boolean completed, long now) {
+        return !completed && deadline != NO_TIME && deadline < now;
+    }
+
+    public boolean isDueToday(long deadline, long now) {
+        if (deadline == NO_TIME) {
+            return false;
+        }
+        return windowFor(now).contains(deadline);
+    }
+
+    /**
+     * Whole days until the deadline, truncated toward zero (negative once a full day
+     * overdue), or {@link Integer#MAX_VALUE} without a deadline.
+     */
+    public static int daysUntil(long deadline, long now) {
+        if (deadline == NO_TIME) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) ((deadline - now) / DAY_MILLIS);
+    }
+
+    private static final class DayWindow {
+        final long start;
+        final long end;
+
+        DayWindow(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean contains(long time) {
+            return time >= start && time < end;
+        }
+    }
+}
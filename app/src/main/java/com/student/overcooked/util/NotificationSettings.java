@@ -1,27 +1,21 @@
 package com.student.overcooked.util;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
 import androidx.annotation.NonNull;
 
-public final class NotificationSettings {
+import com.student.overcooked.data.prefs.AppPreferences;
 
-    private static final String PREFS = "notification_settings";
-    private static final String KEY_ENABLED = "enabled";
+public final class NotificationSettings {
 
     private NotificationSettings() {
     }
 
     public static boolean areNotificationsEnabled(@NonNull Context context) {
-        return prefs(context).getBoolean(KEY_ENABLED, false);
+        return AppPreferences.get(context).values().areNotificationsEnabled();
     }
 
     public static void setNotificationsEnabled(@NonNull Context context, boolean enabled) {
-        prefs(context).edit().putBoolean(KEY_ENABLED, enabled).apply();
-    }
-
-    private static SharedPreferences prefs(@NonNull Context context) {
-        return context.getApplicationContext().getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        AppPreferences.get(context).edit(editor -> editor.setNotificationsEnabled(enabled));
     }
 }
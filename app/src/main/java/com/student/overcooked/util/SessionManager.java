@@ -1,7 +1,8 @@
 package com.student.overcooked.util;
 
 import android.content.Context;
-import android.content.SharedPreferences;
+
+import com.student.overcooked.data.prefs.AppPreferences;
 
 /**
  * Persists lightweight session metadata (current Firebase user id) so we can
@@ -9,25 +10,21 @@ import android.content.SharedPreferences;
  */
 public class SessionManager {
 
-    private static final String PREF_NAME = "session_prefs";
-    private static final String KEY_LAST_USER_ID = "last_user_id";
-
-    private final SharedPreferences prefs;
+    private final AppPreferences prefs;
 
     public SessionManager(Context context) {
-        this.prefs = context.getApplicationContext()
-                .getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.prefs = AppPreferences.get(context);
     }
 
     public String getLastUserId() {
-        return prefs.getString(KEY_LAST_USER_ID, null);
+        return prefs.values().getLastUserId();
     }
 
     public void setLastUserId(String userId) {
-        prefs.edit().putString(KEY_LAST_USER_ID, userId).apply();
+        prefs.edit(editor -> editor.setLastUserId(userId));
     }
 
     public void clear() {
-        prefs.edit().remove(KEY_LAST_USER_ID).apply();
+        prefs.edit(editor -> editor.setLastUserId(null));
     }
 }
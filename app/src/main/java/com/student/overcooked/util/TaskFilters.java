@@ -0,0 +1,107 @@
+package com.student.overcooked.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.student.overcooked.data.model.TaskSummary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * List filtering and ordering shared by the Tasks tab and the Home "Work Now" card.
+ *
+ * Kept free of Android types so the benchmark module can compile and measure it directly.
+ */
+public final class TaskFilters {
+
+    public enum Filter {
+        ALL, UPCOMING, COMPLETED, OVERDUE
+    }
+
+    /**
+     * Earliest deadline first; tasks without a deadline go last.
+     */
+    public static final Comparator<TaskSummary> BY_DEADLINE = (t1, t2) -> {
+        long d1 = t1.getDeadlineMillis();
+        long d2 = t2.getDeadlineMillis();
+        if (d1 == DayClock.NO_TIME && d2 == DayClock.NO_TIME) return 0;
+        if (d1 == DayClock.NO_TIME) return 1;
+        if (d2 == DayClock.NO_TIME) return -1;
+        return Long.compare(d1, d2);
+    };
+
+    private TaskFilters() {
+    }
+
+    /**
+     * Tasks matching {@code filter} at {@code now}, in input order except for
+     * {@link Filter#UPCOMING}, which is sorted by {@link #BY_DEADLINE}.
+     */
+    @NonNull
+    public static List<TaskSummary> apply(@Nullable List<TaskSummary> tasks, @NonNull Filter filter, long now) {
+        if (tasks == null || tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<TaskSummary> result = new ArrayList<>();
+        switch (filter) {
+            case ALL:
+                for (TaskSummary task : tasks) {
+                    if (!task.isCompleted()) result.add(task);
+                }
+                break;
+            case UPCOMING:
+                for (TaskSummary task : tasks) {
+                    if (!task.isCompleted() && !task.isOverdue(now)) result.add(task);
+                }
+                result.sort(BY_DEADLINE);
+                break;
+            case COMPLETED:
+                for (TaskSummary task : tasks) {
+                    if (task.isCompleted()) result.add(task);
+                }
+                break;
+            case OVERDUE:
+                for (TaskSummary task : tasks) {
+                    if (!task.isCompleted() && task.isOverdue(now)) result.add(task);
+                }
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * The {@code limit} pending tasks with the earliest deadlines, ignoring tasks without one.
+     *
+     * Keeps a sorted window of at most {@code limit} rows instead of sorting the whole list,
+     * so the cost stays linear for the small limits the Home screen uses. Ties keep their
+     * input order, matching a stable sort.
+     */
+    @NonNull
+    public static List<TaskSummary> earliestDeadlines(@Nullable List<TaskSummary> tasks, int limit) {
+        if (tasks == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<TaskSummary> window = new ArrayList<>(limit + 1);
+        for (TaskSummary task : tasks) {
+            long deadline = task.getDeadlineMillis();
+            if (task.isCompleted() || deadline == DayClock.NO_TIME) {
+                continue;
+            }
+            if (window.size() == limit && deadline >= window.get(limit - 1).getDeadlineMillis()) {
+                continue;
+            }
+            int index = window.size();
+            while (index > 0 && window.get(index - 1).getDeadlineMillis() > deadline) {
+                index--;
+            }
+            window.add(index, task);
+            if (window.size() > limit) {
+                window.remove(limit);
+            }
+        }
+        return window;
+    }
+}
@@ -1,27 +1,21 @@
 package com.student.overcooked.util;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
 import androidx.annotation.NonNull;
 
-public final class UiModeSettings {
+import com.student.overcooked.data.prefs.AppPreferences;
 
-    private static final String PREFS = "ui_settings";
-    private static final String KEY_DARK_MODE = "dark_mode";
+public final class UiModeSettings {
 
     private UiModeSettings() {
     }
 
     public static boolean isDarkModeEnabled(@NonNull Context context) {
-        return prefs(context).getBoolean(KEY_DARK_MODE, false);
+        return AppPreferences.get(context).values().isDarkMode();
     }
 
     public static void setDarkModeEnabled(@NonNull Context context, boolean enabled) {
-        prefs(context).edit().putBoolean(KEY_DARK_MODE, enabled).apply();
-    }
-
-    private static SharedPreferences prefs(@NonNull Context context) {
-        return context.getApplicationContext().getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        AppPreferences.get(context).edit(editor -> editor.setDarkMode(enabled));
     }
 }
@@ -0,0 +1,30 @@
+package com.student.overcooked.widget;
+
+import android.appwidget.AppWidgetManager;
+import android.appwidget.AppWidgetProvider;
+import android.content.Context;
+
+/**
+ * Home-screen widget showing the Cooked Meter level and the next few deadlines.
+ *
+ * The widget declares no update period. The launcher asks for a full render when a widget is
+ * placed or restored; everything after that is pushed by {@link CookedMeterWidgetUpdater}.
+ */
+public class CookedMeterWidgetProvider extends AppWidgetProvider {
+
+    @Override
+    public void onUpdate(Context context, AppWidgetManager appWidgetManager, int[] appWidgetIds) {
+        CookedMeterWidgetUpdater.updateAll(context, appWidgetIds, goAsync());
+        CookedMeterWidgetUpdater.start(context);
+    }
+
+    @Override
+    public void onEnabled(Context context) {
+        CookedMeterWidgetUpdater.start(context);
+    }
+
+    @Override
+    public void onDisabled(Context context) {
+        CookedMeterWidgetUpdater.stop();
+    }
+}
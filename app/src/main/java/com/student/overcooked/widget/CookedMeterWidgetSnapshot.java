@@ -0,0 +1,146 @@
+package com.student.overcooked.widget;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.student.overcooked.data.model.CookedLevel;
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.util.CookedMeterResult;
+import com.student.overcooked.util.TaskFilters;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Everything the home-screen widget shows, small enough to read on every update without
+ * touching the database: the meter level and the next few pending deadlines.
+ *
+ * Stored as a short versioned binary file. An unreadable or older file is treated as
+ * missing and simply rewritten on the next change.
+ */
+final class CookedMeterWidgetSnapshot {
+    private static final String TAG = "CookedWidgetSnapshot";
+
+    static final String FILE_NAME = "cooked_meter_widget.bin";
+    static final int MAX_DEADLINES = 3;
+
+    private static final int FORMAT_VERSION = 1;
+
+    static final CookedMeterWidgetSnapshot EMPTY =
+            new CookedMeterWidgetSnapshot(CookedLevel.COZY, Collections.emptyList());
+
+    @NonNull
+    private final CookedLevel level;
+    @NonNull
+    private final List<Deadline> deadlines;
+
+    CookedMeterWidgetSnapshot(@NonNull CookedLevel level, @NonNull List<Deadline> deadlines) {
+        this.level = level;
+        this.deadlines = Collections.unmodifiableList(new ArrayList<>(deadlines));
+    }
+
+    @NonNull
+    static CookedMeterWidgetSnapshot from(@NonNull CookedMeterResult meter, @Nullable List<TaskSummary> tasks) {
+        List<Deadline> deadlines = new ArrayList<>(MAX_DEADLINES);
+        for (TaskSummary task : TaskFilters.earliestDeadlines(tasks, MAX_DEADLINES)) {
+            deadlines.add(new Deadline(task.getTitle(), task.getDeadlineMillis()));
+        }
+        return new CookedMeterWidgetSnapshot(meter.getLevel(), deadlines);
+    }
+
+    @NonNull
+    CookedLevel getLevel() { return level; }
+
+    @NonNull
+    List<Deadline> getDeadlines() { return deadlines; }
+
+    // ================= Storage =================
+
+    void writeTo(@NonNull File file) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(level.name());
+            out.writeByte(deadlines.size());
+            for (Deadline deadline : deadlines) {
+                out.writeUTF(deadline.title);
+                out.writeLong(deadline.deadlineMillis);
+            }
+        }
+        // The launcher may read at any time, so never expose a half-written file
+        if (!temp.renameTo(file)) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    @NonNull
+    static CookedMeterWidgetSnapshot readFrom(@NonNull File file) {
+        if (!file.exists()) {
+            return EMPTY;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                return EMPTY;
+            }
+            CookedLevel level = CookedLevel.valueOf(in.readUTF());
+            int count = Math.min(in.readByte(), MAX_DEADLINES);
+            List<Deadline> deadlines = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                deadlines.add(new Deadline(in.readUTF(), in.readLong()));
+            }
+            return new CookedMeterWidgetSnapshot(level, deadlines);
+        } catch (IOException | IllegalArgumentException e) {
+            Log.w(TAG, "Ignoring unreadable widget snapshot", e);
+            return EMPTY;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CookedMeterWidgetSnapshot)) return false;
+        CookedMeterWidgetSnapshot that = (CookedMeterWidgetSnapshot) o;
+        return level == that.level && deadlines.equals(that.deadlines);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * level.hashCode() + deadlines.hashCode();
+    }
+
+    static final class Deadline {
+        @NonNull
+        final String title;
+        final long deadlineMillis;
+
+        Deadline(@Nullable String title, long deadlineMillis) {
+            this.title = title != null ? title : "";
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Deadline)) return false;
+            Deadline that = (Deadline) o;
+            return deadlineMillis == that.deadlineMillis && title.equals(that.title);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, deadlineMillis);
+        }
+    }
+}
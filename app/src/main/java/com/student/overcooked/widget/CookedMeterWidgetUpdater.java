@@ -0,0 +1,241 @@
+package com.student.overcooked.widget;
+
+import android.app.PendingIntent;
+import android.appwidget.AppWidgetManager;
+import android.content.BroadcastReceiver;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.Intent;
+import android.text.format.DateFormat;
+import android.util.Log;
+import android.view.View;
+import android.widget.RemoteViews;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+import androidx.lifecycle.Observer;
+
+import com.student.overcooked.MainActivity;
+import com.student.overcooked.OvercookedApplication;
+import com.student.overcooked.R;
+import com.student.overcooked.data.MascotPackStore;
+import com.student.overcooked.data.model.CookedLevel;
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.data.repository.TaskRepository;
+import com.student.overcooked.util.CookedMeterResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the Cooked Meter widget in step with the app while at least one widget is placed.
+ *
+ * Listens to the same meter and task LiveData the Home screen uses, reduces them to a
+ * {@link CookedMeterWidgetSnapshot}, and only when that snapshot differs from the one on disk
+ * rewrites the file and pushes it with {@link AppWidgetManager#partiallyUpdateAppWidget}.
+ * There is no periodic update; the meter LiveData already wakes itself at band boundaries.
+ */
+public final class CookedMeterWidgetUpdater {
+    private static final String TAG = "CookedWidgetUpdater";
+
+    private static final int[] DEADLINE_VIEW_IDS = {
+            R.id.widgetDeadline1, R.id.widgetDeadline2, R.id.widgetDeadline3
+    };
+
+    // File access and widget pushes are serialized here, off the main thread
+    private static final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+
+    @Nullable
+    private static CookedMeterWidgetUpdater running;
+
+    // Only touched on ioExecutor; null until the file has been read once
+    @Nullable
+    private static CookedMeterWidgetSnapshot written;
+
+    private final Context context;
+    private final TaskRepository taskRepository;
+    private final Observer<CookedMeterResult> meterObserver = this::onMeterChanged;
+    private final Observer<List<TaskSummary>> tasksObserver = this::onTasksChanged;
+
+    @Nullable
+    private CookedMeterResult meter;
+    @Nullable
+    private List<TaskSummary> tasks;
+
+    private CookedMeterWidgetUpdater(@NonNull OvercookedApplication app) {
+        this.context = app;
+        this.taskRepository = app.getTaskRepository();
+    }
+
+    // ================= Lifecycle =================
+
+    /**
+     * Start listening if any widget is placed; called once from application start-up.
+     */
+    @MainThread
+    public static void startIfWidgetsPresent(@NonNull Context context) {
+        if (hasWidgets(context)) {
+            start(context);
+        }
+    }
+
+    @MainThread
+    static void start(@NonNull Context context) {
+        if (running != null) {
+            return;
+        }
+        running = new CookedMeterWidgetUpdater((OvercookedApplication) context.getApplicationContext());
+        running.taskRepository.getCookedMeter().observeForever(running.meterObserver);
+        running.taskRepository.getAllTaskSummaries().observeForever(running.tasksObserver);
+    }
+
+    @MainThread
+    static void stop() {
+        if (running == null) {
+            return;
+        }
+        running.taskRepository.getCookedMeter().removeObserver(running.meterObserver);
+        running.taskRepository.getAllTaskSummaries().removeObserver(running.tasksObserver);
+        running = null;
+    }
+
+    static boolean hasWidgets(@NonNull Context context) {
+        return getWidgetIds(context).length > 0;
+    }
+
+    // ================= Updates =================
+
+    private void onMeterChanged(@Nullable CookedMeterResult result) {
+        meter = result;
+        publish();
+    }
+
+    private void onTasksChanged(@Nullable List<TaskSummary> summaries) {
+        tasks = summaries;
+        publish();
+    }
+
+    private void publish() {
+        if (meter == null || tasks == null) {
+            return;
+        }
+        CookedMeterWidgetSnapshot snapshot = CookedMeterWidgetSnapshot.from(meter, tasks);
+        ioExecutor.execute(() -> {
+            if (snapshot.equals(loadWritten(context))) {
+                return;
+            }
+            try {
+                snapshot.writeTo(snapshotFile(context));
+                written = snapshot;
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to write widget snapshot", e);
+            }
+            AppWidgetManager manager = AppWidgetManager.getInstance(context);
+            manager.partiallyUpdateAppWidget(getWidgetIds(context), buildViews(context, snapshot));
+        });
+    }
+
+    /**
+     * Re-render every placed widget from the stored snapshot, e.g. after the mascot pack changed.
+     */
+    public static void refresh(@NonNull Context context) {
+        Context app = context.getApplicationContext();
+        ioExecutor.execute(() -> {
+            int[] ids = getWidgetIds(app);
+            if (ids.length > 0) {
+                AppWidgetManager.getInstance(app).partiallyUpdateAppWidget(ids, buildViews(app, loadWritten(app)));
+            }
+        });
+    }
+
+    /**
+     * Full update for the given widgets, including the click target.
+     * Finishes {@code pendingResult} once the launcher has been handed the views.
+     */
+    static void updateAll(@NonNull Context context, @NonNull int[] widgetIds,
+                          @NonNull BroadcastReceiver.PendingResult pendingResult) {
+        Context app = context.getApplicationContext();
+        ioExecutor.execute(() -> {
+            try {
+                RemoteViews views = buildViews(app, loadWritten(app));
+                Intent open = new Intent(app, MainActivity.class)
+                        .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TOP);
+                views.setOnClickPendingIntent(R.id.widgetRoot, PendingIntent.getActivity(app, 0, open,
+                        PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE));
+                AppWidgetManager.getInstance(app).updateAppWidget(widgetIds, views);
+            } finally {
+                pendingResult.finish();
+            }
+        });
+    }
+
+    // ================= Rendering =================
+
+    @NonNull
+    private static RemoteViews buildViews(@NonNull Context context, @NonNull CookedMeterWidgetSnapshot snapshot) {
+        RemoteViews views = new RemoteViews(context.getPackageName(), R.layout.widget_cooked_meter);
+        CookedLevel level = snapshot.getLevel();
+
+        String packId = new MascotPackStore(context).getSelectedPackId();
+        views.setImageViewResource(R.id.widgetMascot, MascotPackStore.getDrawableForLevel(packId, level));
+        views.setTextViewText(R.id.widgetLevel,
+                context.getString(R.string.widget_cooked_level, level.getDisplayName(), level.getEmoji()));
+        views.setTextColor(R.id.widgetLevel, ContextCompat.getColor(context, getLevelColor(level)));
+
+        List<CookedMeterWidgetSnapshot.Deadline> deadlines = snapshot.getDeadlines();
+        for (int i = 0; i < DEADLINE_VIEW_IDS.length; i++) {
+            if (i < deadlines.size()) {
+                CookedMeterWidgetSnapshot.Deadline deadline = deadlines.get(i);
+                // Absolute dates only: a relative "in 2 days" would go stale without polling
+                String day = DateFormat.format("EEE d MMM", deadline.deadlineMillis).toString();
+                views.setTextViewText(DEADLINE_VIEW_IDS[i],
+                        context.getString(R.string.widget_deadline_item, day, deadline.title));
+                views.setViewVisibility(DEADLINE_VIEW_IDS[i], View.VISIBLE);
+            } else {
+                views.setViewVisibility(DEADLINE_VIEW_IDS[i], View.GONE);
+            }
+        }
+        views.setViewVisibility(R.id.widgetNoDeadlines, deadlines.isEmpty() ? View.VISIBLE : View.GONE);
+        return views;
+    }
+
+    private static int getLevelColor(@NonNull CookedLevel level) {
+        switch (level) {
+            case COZY:
+                return R.color.successGreen;
+            case CRISPY:
+                return R.color.mustardYellow;
+            case COOKED:
+                return R.color.burntOrange;
+            case OVERCOOKED:
+            default:
+                return R.color.tomatoRed;
+        }
+    }
+
+    // ================= Helpers =================
+
+    @NonNull
+    private static CookedMeterWidgetSnapshot loadWritten(@NonNull Context context) {
+        if (written == null) {
+            written = CookedMeterWidgetSnapshot.readFrom(snapshotFile(context));
+        }
+        return written;
+    }
+
+    @NonNull
+    private static File snapshotFile(@NonNull Context context) {
+        return new File(context.getFilesDir(), CookedMeterWidgetSnapshot.FILE_NAME);
+    }
+
+    @NonNull
+    private static int[] getWidgetIds(@NonNull Context context) {
+        return AppWidgetManager.getInstance(context)
+                .getAppWidgetIds(new ComponentName(context, CookedMeterWidgetProvider.class));
+    }
+}
@@ -0,0 +1,25 @@
+package com.student.overcooked.ui.debug;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Debug menu entries that only the stress flavour ships; standard builds have none.
+ */
+final class FlavorDebugTools {
+
+    private FlavorDebugTools() {
+    }
+
+    @NonNull
+    static List<CharSequence> titles(@NonNull Context context) {
+        return Collections.emptyList();
+    }
+
+    static void show(@NonNull Context context, int index) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.student.overcooked.ui.debug;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.R;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Debug menu entries that only the stress flavour ships: loading a synthetic workload into
+ * the app's database and simulating a large group against the in-process Firestore stand-in.
+ */
+final class FlavorDebugTools {
+
+    private FlavorDebugTools() {
+    }
+
+    @NonNull
+    static List<CharSequence> titles(@NonNull Context context) {
+        return Arrays.asList(
+                context.getString(R.string.debug_stress_workload),
+                context.getString(R.string.debug_group_load)
+        );
+    }
+
+    static void show(@NonNull Context context, int index) {
+        if (index == 0) {
+            StressWorkloadDialog.show(context);
+        } else if (index == 1) {
+            GroupLoadDialog.show(context);
+        }
+    }
+}
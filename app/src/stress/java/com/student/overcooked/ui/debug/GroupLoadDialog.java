@@ -0,0 +1,71 @@
+package com.student.overcooked.ui.debug;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.util.Log;
+import android.widget.HorizontalScrollView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.R;
+import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.workload.GroupLoadReport;
+import com.student.overcooked.data.workload.GroupLoadScenario;
+import com.student.overcooked.data.workload.GroupLoadSimulator;
+import com.student.overcooked.data.workload.WorkloadLoader;
+import com.student.overcooked.util.DayClock;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+
+/**
+ * Runs the course-sized group scenario against a scratch database on this device and shows
+ * fan-out, reconcile and propagation latencies. Stress builds only.
+ */
+final class GroupLoadDialog {
+
+    private static final String TAG = "GroupLoad";
+
+    private GroupLoadDialog() {
+    }
+
+    static void show(@NonNull Context context) {
+        int padding = (int) (16 * context.getResources().getDisplayMetrics().density);
+        TextView body = new TextView(context);
+        body.setTypeface(Typeface.MONOSPACE);
+        body.setTextSize(11f);
+        body.setTextIsSelectable(true);
+        body.setPadding(padding, padding, padding, padding);
+        body.setText(R.string.debug_benchmark_running);
+
+        HorizontalScrollView scrollView = new HorizontalScrollView(context);
+        scrollView.addView(body);
+
+        new MaterialAlertDialogBuilder(context)
+                .setTitle(R.string.debug_group_load)
+                .setView(scrollView)
+                .setNegativeButton(R.string.debug_close, null)
+                .show();
+
+        Context appContext = context.getApplicationContext();
+        new Thread(() -> {
+            String report;
+            OvercookedDatabase database = WorkloadLoader.openInMemory(appContext);
+            try {
+                GroupLoadReport result = new GroupLoadSimulator(
+                        GroupLoadScenario.courseGroup(DayClock.get().now()), database).run();
+                report = result.toString();
+                Log.i(TAG, report);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                report = appContext.getString(R.string.debug_benchmark_failed, e.getMessage());
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Group load simulation failed", e);
+                report = appContext.getString(R.string.debug_benchmark_failed, e.getMessage());
+            } finally {
+                database.close();
+            }
+            String text = report;
+            body.post(() -> body.setText(text));
+        }, "group-load").start();
+    }
+}
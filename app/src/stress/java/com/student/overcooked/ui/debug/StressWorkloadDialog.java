@@ -0,0 +1,85 @@
+package com.student.overcooked.ui.debug;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.util.Log;
+import android.widget.HorizontalScrollView;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseUser;
+import com.student.overcooked.OvercookedApplication;
+import com.student.overcooked.R;
+import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.workload.Workload;
+import com.student.overcooked.data.workload.WorkloadGenerator;
+import com.student.overcooked.data.workload.WorkloadLoader;
+import com.student.overcooked.data.workload.WorkloadSpec;
+import com.student.overcooked.util.DayClock;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+
+import java.util.Locale;
+
+/**
+ * Replaces any earlier synthetic data in the app's database with a fresh stress workload.
+ * Stress builds only.
+ */
+final class StressWorkloadDialog {
+
+    private static final String TAG = "StressWorkload";
+
+    private StressWorkloadDialog() {
+    }
+
+    static void show(@NonNull Context context) {
+        int padding = (int) (16 * context.getResources().getDisplayMetrics().density);
+        TextView body = new TextView(context);
+        body.setTypeface(Typeface.MONOSPACE);
+        body.setTextSize(11f);
+        body.setTextIsSelectable(true);
+        body.setPadding(padding, padding, padding, padding);
+        body.setText(R.string.debug_benchmark_running);
+
+        HorizontalScrollView scrollView = new HorizontalScrollView(context);
+        scrollView.addView(body);
+
+        OvercookedDatabase database = OvercookedApplication.getInstance().getDatabase();
+        Context appContext = context.getApplicationContext();
+
+        new MaterialAlertDialogBuilder(context)
+                .setTitle(R.string.debug_stress_workload)
+                .setView(scrollView)
+                .setNeutralButton(R.string.debug_clear, (dialog, which) -> new Thread(() -> {
+                    WorkloadLoader.clear(database);
+                    body.post(() -> Toast.makeText(appContext, R.string.debug_stress_workload_cleared,
+                            Toast.LENGTH_SHORT).show());
+                }, "stress-workload-clear").start())
+                .setNegativeButton(R.string.debug_close, null)
+                .show();
+
+        FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
+        String selfUserId = user != null ? user.getUid() : WorkloadGenerator.ID_PREFIX + "self";
+        new Thread(() -> {
+            String report;
+            try {
+                WorkloadSpec spec = WorkloadSpec.stress(DayClock.get().now());
+                long start = System.nanoTime();
+                Workload workload = new WorkloadGenerator(spec).generate(selfUserId);
+                long generateMs = (System.nanoTime() - start) / 1_000_000L;
+                WorkloadLoader.clear(database);
+                long loadMs = WorkloadLoader.load(database, workload);
+                report = String.format(Locale.US, "%s\n\n%s\n\ngenerated in %d ms\nloaded %d rows in %d ms",
+                        spec, workload, generateMs, workload.getRowCount(), loadMs);
+                Log.i(TAG, report);
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Loading the workload failed", e);
+                report = appContext.getString(R.string.debug_benchmark_failed, e.getMessage());
+            }
+            String result = report;
+            body.post(() -> body.setText(result));
+        }, "stress-workload").start();
+    }
+}
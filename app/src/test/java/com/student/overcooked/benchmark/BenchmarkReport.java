@@ -0,0 +1,232 @@
+package com.student.overcooked.benchmark;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Timing and allocation harness for the benchmarks under {@code src/test}.
+ *
+ * {@link #measure} runs a body a few times and reports the median round per item, with
+ * allocations from the JVM's per-thread counter, so the body must do its work on the calling
+ * thread. {@link #latency} times single calls and reports percentiles. Results are printed as
+ * a table and written as JSON to {@code benchmark.reportDir}, which the Gradle build sets when
+ * run with {@code -Pbenchmarks}.
+ */
+public final class BenchmarkReport {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final int MIN_SAMPLES = 5;
+    private static final int MAX_SAMPLES = 200;
+    private static final long SAMPLE_BUDGET_NANOS = 3_000_000_000L;
+
+    /**
+     * One timed call; returns the nanoseconds to count, so setup and cleanup can be left out.
+     */
+    public interface TimedCall {
+        long run() throws Exception;
+    }
+
+    /**
+     * Named values for one benchmark, in the order they were added.
+     */
+    public static final class Result {
+        public final String name;
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        public Result(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param value a number, a string or a list of strings
+         */
+        public Result put(String key, Object value) {
+            values.put(key, value);
+            return this;
+        }
+
+        public Object get(String key) {
+            return values.get(key);
+        }
+    }
+
+    private final String suite;
+    private final List<Result> results = new ArrayList<>();
+
+    public BenchmarkReport(String suite) {
+        this.suite = suite;
+    }
+
+    /**
+     * Adds {@code items}, {@code nsPerItem} and {@code bytesPerItem}.
+     *
+     * @param items how many items one run of {@code body} processes
+     */
+    public Result measure(String name, int items, Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long[] nanos = new long[MEASURED_ROUNDS];
+        long bytes = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            body.run();
+            nanos[i] = System.nanoTime() - start;
+            bytes += allocatedBytes() - allocatedBefore;
+        }
+        Arrays.sort(nanos);
+        return add(new Result(name)
+                .put("items", items)
+                .put("nsPerItem", (double) nanos[MEASURED_ROUNDS / 2] / items)
+                .put("bytesPerItem", (double) bytes / MEASURED_ROUNDS / items));
+    }
+
+    /**
+     * Adds {@code samples}, {@code p50Micros} and {@code p99Micros}. Samples until
+     * {@value #MAX_SAMPLES} calls or a few seconds have passed, whichever comes first, so slow
+     * calls get fewer samples and their p99 is close to the maximum.
+     */
+    public Result latency(String name, TimedCall call) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            call.run();
+        }
+        long[] samples = new long[MAX_SAMPLES];
+        int count = 0;
+        long deadline = System.nanoTime() + SAMPLE_BUDGET_NANOS;
+        while (count < MAX_SAMPLES && (count < MIN_SAMPLES || System.nanoTime() < deadline)) {
+            samples[count++] = call.run();
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return add(new Result(name)
+                .put("samples", count)
+                .put("p50Micros", percentile(sorted, 50) / 1_000.0)
+                .put("p99Micros", percentile(sorted, 99) / 1_000.0));
+    }
+
+    public Result add(Result result) {
+        results.add(result);
+        return result;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    /**
+     * Print the table and write {@code <suite>.json}. List values go to the JSON only.
+     */
+    public void publish() throws IOException {
+        Set<String> columns = new LinkedHashSet<>();
+        int nameWidth = "benchmark".length();
+        for (Result result : results) {
+            nameWidth = Math.max(nameWidth, result.name.length());
+            for (Map.Entry<String, Object> entry : result.values.entrySet()) {
+                if (!(entry.getValue() instanceof List)) columns.add(entry.getKey());
+            }
+        }
+        StringBuilder table = new StringBuilder(String.format(Locale.US, "%n%s%n", suite));
+        table.append(pad("benchmark", nameWidth));
+        for (String column : columns) {
+            table.append("  ").append(pad(column, 12));
+        }
+        table.append('\n');
+        for (Result result : results) {
+            table.append(pad(result.name, nameWidth));
+            for (String column : columns) {
+                Object value = result.values.get(column);
+                table.append("  ").append(pad(value == null ? "" : format(value), 12));
+            }
+            table.append('\n');
+        }
+        System.out.print(table);
+
+        File dir = new File(System.getProperty("benchmark.reportDir", "build/reports/benchmarks"));
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+        try (Writer writer = new FileWriter(new File(dir, suite + ".json"))) {
+            writer.write("[\n");
+            for (int i = 0; i < results.size(); i++) {
+                Result result = results.get(i);
+                writer.write("  {\"suite\": " + json(suite) + ", \"benchmark\": " + json(result.name));
+                for (Map.Entry<String, Object> entry : result.values.entrySet()) {
+                    writer.write(", " + json(entry.getKey()) + ": " + json(entry.getValue()));
+                }
+                writer.write(i < results.size() - 1 ? "},\n" : "}\n");
+            }
+            writer.write("]\n");
+        }
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            return String.format(Locale.US, "%.1f", ((Number) value).doubleValue());
+        }
+        return String.valueOf(value);
+    }
+
+    private static String pad(String text, int width) {
+        StringBuilder padded = new StringBuilder(text);
+        while (padded.length() < width) {
+            padded.append(' ');
+        }
+        return padded.toString();
+    }
+
+    private static String json(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return format(value);
+        }
+        if (value instanceof List) {
+            StringBuilder array = new StringBuilder("[");
+            for (Object item : (List<?>) value) {
+                if (array.length() > 1) array.append(", ");
+                array.append(json(item));
+            }
+            return array.append(']').toString();
+        }
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toString().toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format(Locale.US, "\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
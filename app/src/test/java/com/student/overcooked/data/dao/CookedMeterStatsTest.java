@@ -0,0 +1,122 @@
+package com.student.overcooked.data.dao;
+
+import android.app.Application;
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.util.CookedMeterCalculator;
+import com.student.overcooked.util.CookedMeterResult;
+import com.student.overcooked.util.DayClock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The cooked meter aggregated in SQL by {@link DashboardDao#getCookedMeterStatsSync} must match
+ * {@link CookedMeterCalculator} over the same rows, including at deadlines a whole number of
+ * days (give or take a millisecond) away, at instants on the band edges and with tombstoned
+ * rows present.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class CookedMeterStatsTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+    private static final long DAY = DayClock.DAY_MILLIS;
+    private static final long SEED = 42L;
+    private static final int ROUNDS = 50;
+    private static final int INSTANTS_PER_ROUND = 20;
+    private static final int MAX_TASKS = 60;
+    /** Days before the deadline at which the meter changes band; -1 is a day after it. */
+    private static final int[] BAND_EDGE_DAYS = {8, 3, 0, -1};
+
+    private OvercookedDatabase database;
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        database = Room.inMemoryDatabaseBuilder(context, OvercookedDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void sqlAggregateMatchesCalculator() {
+        TaskDao taskDao = database.taskDao();
+        DashboardDao dashboardDao = database.dashboardDao();
+        Random random = new Random(SEED);
+        for (int round = 0; round < ROUNDS; round++) {
+            long base = NOW + (long) (random.nextGaussian() * 30 * DAY);
+            taskDao.deleteAllTasks();
+            List<Task> tasks = new ArrayList<>();
+            int count = random.nextInt(MAX_TASKS);
+            for (int i = 0; i < count; i++) {
+                tasks.add(randomTask(random, base));
+            }
+            taskDao.insertTasks(tasks);
+
+            for (int i = 0; i < INSTANTS_PER_ROUND; i++) {
+                long now;
+                if (tasks.isEmpty() || random.nextBoolean()) {
+                    now = base + (long) ((random.nextDouble() * 20 - 10) * DAY);
+                } else {
+                    // On or next to a band edge of one of the tasks
+                    long deadline = tasks.get(random.nextInt(tasks.size())).getDeadlineMillis();
+                    now = deadline - BAND_EDGE_DAYS[random.nextInt(BAND_EDGE_DAYS.length)] * DAY
+                            + random.nextInt(3) - 1;
+                }
+                CookedMeterResult fromList = CookedMeterCalculator.getCookedMeterResult(
+                        taskDao.getAllTaskSummariesSync(), now);
+                CookedMeterResult fromSql = CookedMeterCalculator.fromStats(dashboardDao.getCookedMeterStatsSync(
+                        now, DayClock.get().startOfDay(now), DayClock.get().startOfNextDay(now), null));
+                assertEquals("round " + round + ", now " + now, fromList, fromSql);
+            }
+        }
+    }
+
+    private static Task randomTask(Random random, long now) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+        task.setCompleted(random.nextInt(5) == 0);
+        task.setPendingDelete(random.nextInt(10) == 0);
+        switch (random.nextInt(4)) {
+            case 0:
+                task.setDeadlineMillis(DayClock.NO_TIME);
+                break;
+            case 1:
+                // Exactly on, or one millisecond either side of, a whole-day offset
+                task.setDeadlineMillis(now + (random.nextInt(21) - 10) * DAY + random.nextInt(3) - 1);
+                break;
+            case 2:
+                task.setDeadlineMillis(DayClock.get().startOfDay(now) + (random.nextInt(5) - 2) * DAY);
+                break;
+            default:
+                task.setDeadlineMillis(now + (long) ((random.nextDouble() * 24 - 12) * DAY));
+                break;
+        }
+        return task;
+    }
+}
@@ -0,0 +1,444 @@
+package com.student.overcooked.data.dao;
+
+import android.app.Application;
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.room.Room;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.student.overcooked.benchmark.BenchmarkReport;
+import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.database.QueryProfiler;
+import com.student.overcooked.data.model.Group;
+import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.repository.SearchRepository;
+import com.student.overcooked.data.workload.Workload;
+import com.student.overcooked.data.workload.WorkloadGenerator;
+import com.student.overcooked.data.workload.WorkloadLoader;
+import com.student.overcooked.data.workload.WorkloadSpec;
+import com.student.overcooked.util.DayClock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Latency of every TaskDao, GroupTaskDao, GroupDao, ProjectDao and SearchDao query against an
+ * on-disk database filled from {@link WorkloadSpec#rows}, at 1k, 10k and 100k rows per task table.
+ *
+ * Each query reports p50/p99 latency, the rows it returned or changed, and its
+ * {@code EXPLAIN QUERY PLAN}. Tables the plan scans in full are listed under
+ * {@code fullScans}. SQLite does not expose per-statement row counters through Android, so
+ * {@code rowsScanned} is an estimate: the size of every table scanned in full, plus the rows
+ * returned when the plan searches an index.
+ *
+ * Searches run a broad prefix that matches most rows and a narrow two-word one. The full
+ * {@link SearchRepository#searchSync} pass over all four indexes should stay under
+ * {@value #SEARCH_TARGET_MILLIS} ms at 10k rows, about 20k searchable items.
+ *
+ * LiveData queries are timed from the DAO call until the observer has the first value.
+ * Writes run inside a transaction that is rolled back, so every sample sees the same data.
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class DaoLatencyBenchmark {
+
+    // Fixed so results do not depend on the day the benchmark runs
+    private static final long NOW = 1_760_000_000_000L;
+    private static final String USER_ID = "benchmark-user";
+    private static final long WEEK = 7 * DayClock.DAY_MILLIS;
+
+    private static final long SEARCH_TARGET_MILLIS = 50;
+
+    private static final Pattern PLAN_TABLE = Pattern.compile("^(SCAN|SEARCH) (?:TABLE )?(\\w+)");
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "rows={0}")
+    public static List<Object[]> sizes() {
+        return Arrays.asList(new Object[][]{{1_000}, {10_000}, {100_000}});
+    }
+
+    @Rule
+    public InstantTaskExecutorRule instantTaskExecutorRule = new InstantTaskExecutorRule();
+
+    private final int rows;
+    private OvercookedDatabase database;
+    private SupportSQLiteDatabase sqlite;
+    private Workload workload;
+    private BenchmarkReport report;
+    private final Map<String, Long> tableRows = new HashMap<>();
+
+    // Statements Room issues are collected here while it is non-null
+    private volatile List<Statement> captured;
+
+    public DaoLatencyBenchmark(int rows) {
+        this.rows = rows;
+    }
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        String name = "dao-benchmark-" + rows + ".db";
+        context.deleteDatabase(name);
+        database = Room.databaseBuilder(context, OvercookedDatabase.class, name)
+                .allowMainThreadQueries()
+                .addCallback(new RoomDatabase.Callback() {
+                    @Override
+                    public void onOpen(@NonNull SupportSQLiteDatabase db) {
+                        // Same as the app's database, so FTS triggers behave identically
+                        db.execSQL("PRAGMA recursive_triggers = ON");
+                    }
+                })
+                .setQueryCallback((sql, bindArgs) -> {
+                    List<Statement> sink = captured;
+                    if (sink != null) {
+                        sink.add(new Statement(sql, bindArgs.toArray()));
+                    }
+                }, Runnable::run)
+                .build();
+        sqlite = database.getOpenHelper().getWritableDatabase();
+
+        workload = new WorkloadGenerator(WorkloadSpec.rows(NOW, rows)).generate(USER_ID);
+        List<Task> tasks = workload.getTasks();
+        for (int i = 0; i < tasks.size(); i++) {
+            // Model a synced account: remote ids everywhere, a few edits and local deletes pending
+            Task task = tasks.get(i);
+            task.setFirestoreId("fs-" + task.getId());
+            task.setLastSyncedExists(i % 500 != 1);
+            task.setLastSyncedCompleted(task.isCompleted());
+            task.setPendingSync(i % 100 == 0);
+            task.setPendingDelete(i % 500 == 1);
+        }
+        WorkloadLoader.load(database, workload);
+        report = new BenchmarkReport(getClass().getSimpleName() + "-" + rows);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        report.publish();
+        database.close();
+    }
+
+    @Test
+    public void queries() throws Exception {
+        taskDao();
+        groupTaskDao();
+        groupDao();
+        projectDao();
+        searchDao();
+    }
+
+    private void taskDao() throws Exception {
+        TaskDao dao = database.taskDao();
+        Task task = workload.getTasks().get(workload.getTasks().size() / 2);
+        long projectId = workload.getProjects().get(0).getId();
+        Date now = new Date(NOW);
+        Date nextWeek = new Date(NOW + WEEK);
+
+        observe("TaskDao.getAllTasks", dao::getAllTasks);
+        observe("TaskDao.getPendingTasks", dao::getPendingTasks);
+        observe("TaskDao.getCompletedTasks", dao::getCompletedTasks);
+        observe("TaskDao.getStandaloneTasks", dao::getStandaloneTasks);
+        observe("TaskDao.getTasksByProject", () -> dao.getTasksByProject(projectId));
+        read("TaskDao.getTaskById", () -> dao.getTaskById(task.getId()));
+        observe("TaskDao.getAllTaskSummaries", dao::getAllTaskSummaries);
+        read("TaskDao.getAllTaskSummariesSync", dao::getAllTaskSummariesSync);
+        observe("TaskDao.getTaskSummariesByProject", () -> dao.getTaskSummariesByProject(projectId));
+        observe("TaskDao.getOverdueTasks", () -> dao.getOverdueTasks(now));
+        observe("TaskDao.getTasksDueBetween", () -> dao.getTasksDueBetween(now, nextWeek));
+        read("TaskDao.getTasksDueBetweenSync", () -> dao.getTasksDueBetweenSync(now, nextWeek));
+        observe("TaskDao.getTasksByCourse", () -> dao.getTasksByCourse(task.getCourse()));
+        observe("TaskDao.getPendingTaskCount", dao::getPendingTaskCount);
+        observe("TaskDao.getCompletedTaskCount", dao::getCompletedTaskCount);
+        observe("TaskDao.getOverdueTaskCount", () -> dao.getOverdueTaskCount(now));
+        observe("TaskDao.getNextPendingDeadline", () -> dao.getNextPendingDeadline(now));
+        read("TaskDao.getAllTasksSync", dao::getAllTasksSync);
+        read("TaskDao.getAllTasksIncludingDeletedSync", dao::getAllTasksIncludingDeletedSync);
+        read("TaskDao.getTaskByFirestoreIdSync", () -> dao.getTaskByFirestoreIdSync(task.getFirestoreId()));
+        read("TaskDao.getPendingSyncTasksSync", dao::getPendingSyncTasksSync);
+        read("TaskDao.getTasksMissingFirestoreIdSync", dao::getTasksMissingFirestoreIdSync);
+
+        write("TaskDao.deleteTaskById", () -> dao.deleteTaskById(task.getId()));
+        write("TaskDao.deleteTasksByProject", () -> dao.deleteTasksByProject(projectId));
+        write("TaskDao.updateTaskCompletion", () -> dao.updateTaskCompletion(task.getId(), true, NOW));
+        write("TaskDao.updateTaskStatus", () -> dao.updateTaskStatus(task.getId(), TaskStatus.DONE, true, NOW));
+        write("TaskDao.deleteAllTasks", dao::deleteAllTasks);
+        // An unchanged snapshot, the common case for the realtime listener
+        List<Task> remote = dao.getAllTasksSync();
+        writeCounted("TaskDao.reconcileRemote unchanged", () -> dao.reconcileRemote(remote));
+    }
+
+    private void groupTaskDao() throws Exception {
+        GroupTaskDao dao = database.groupTaskDao();
+        String groupId = workload.getGroups().get(0).getId();
+        GroupTask task = workload.getGroupTasks().get(workload.getGroupTasks().size() / 2);
+        Date now = new Date(NOW);
+        Date nextWeek = new Date(NOW + WEEK);
+
+        observe("GroupTaskDao.getGroupTasks", () -> dao.getGroupTasks(groupId));
+        observe("GroupTaskDao.getGroupTaskSummaries", () -> dao.getGroupTaskSummaries(groupId));
+        read("GroupTaskDao.getGroupTasksSync", () -> dao.getGroupTasksSync(groupId));
+        read("GroupTaskDao.getAllSync", dao::getAllSync);
+        read("GroupTaskDao.getTasksDueBetweenSync", () -> dao.getTasksDueBetweenSync(now, nextWeek));
+        read("GroupTaskDao.getByIdSync", () -> dao.getByIdSync(task.getId()));
+        read("GroupTaskDao.getPendingSyncTasksSync", dao::getPendingSyncTasksSync);
+
+        write("GroupTaskDao.deleteById", () -> dao.deleteById(task.getId()));
+        writeCounted("GroupTaskDao.purgeOrphanedTasks", dao::purgeOrphanedTasks);
+        List<GroupTask> remote = dao.getGroupTasksSync(groupId);
+        writeCounted("GroupTaskDao.reconcile unchanged", () -> dao.reconcile(groupId, remote));
+    }
+
+    private void groupDao() throws Exception {
+        GroupDao dao = database.groupDao();
+        List<Group> groups = workload.getGroups();
+        String groupId = groups.get(0).getId();
+        List<String> someIds = new ArrayList<>();
+        for (Group group : groups.subList(0, Math.min(50, groups.size()))) {
+            someIds.add(group.getId());
+        }
+        // A sync after leaving one group keeps every other id; above 999 ids this also
+        // exceeds the bind variable limit of SQLite before 3.32
+        List<String> allButOne = new ArrayList<>();
+        for (Group group : groups.subList(1, groups.size())) {
+            allButOne.add(group.getId());
+        }
+
+        observe("GroupDao.getAllGroups", dao::getAllGroups);
+        observe("GroupDao.getGroupById", () -> dao.getGroupById(groupId));
+        read("GroupDao.getGroupsByIdsSync", () -> dao.getGroupsByIdsSync(someIds));
+        read("GroupDao.getGroupByIdSync", () -> dao.getGroupByIdSync(groupId));
+
+        write("GroupDao.deleteAllExcept " + allButOne.size() + " ids", () -> dao.deleteAllExcept(allButOne));
+        write("GroupDao.deleteAll", dao::deleteAll);
+        write("GroupDao.deleteById", () -> dao.deleteById(groupId));
+        writeCounted("GroupDao.upsertChanged unchanged", () -> dao.upsertChanged(groups));
+    }
+
+    private void projectDao() throws Exception {
+        ProjectDao dao = database.projectDao();
+        long projectId = workload.getProjects().get(0).getId();
+
+        observe("ProjectDao.getAllProjects", dao::getAllProjects);
+        observe("ProjectDao.getActiveProjects", dao::getActiveProjects);
+        observe("ProjectDao.getCompletedProjects", dao::getCompletedProjects);
+        observe("ProjectDao.getTeamProjects", dao::getTeamProjects);
+        observe("ProjectDao.getIndividualProjects", dao::getIndividualProjects);
+        read("ProjectDao.getProjectById", () -> dao.getProjectById(projectId));
+        observe("ProjectDao.getProjectsByCourse", () -> dao.getProjectsByCourse(workload.getProjects().get(0).getCourse()));
+        observe("ProjectDao.getActiveProjectCount", dao::getActiveProjectCount);
+        observe("ProjectDao.getAllProjectsWithTasks", dao::getAllProjectsWithTasks);
+        observe("ProjectDao.getActiveProjectsWithTasks", dao::getActiveProjectsWithTasks);
+        observe("ProjectDao.getProjectWithTasks", () -> dao.getProjectWithTasks(projectId));
+
+        write("ProjectDao.deleteProjectById", () -> dao.deleteProjectById(projectId));
+        write("ProjectDao.updateProjectCompletion", () -> dao.updateProjectCompletion(projectId, true, NOW));
+        write("ProjectDao.deleteAllProjects", dao::deleteAllProjects);
+    }
+
+    private void searchDao() throws Exception {
+        SearchDao dao = database.searchDao();
+        int limit = SearchRepository.DEFAULT_LIMIT;
+        // "Generated" is in most task descriptions; course and number narrow to a handful
+        read("SearchDao.searchTasks broad", () -> dao.searchTasks("gen*", "title:gen*", limit));
+        read("SearchDao.searchTasks narrow", () -> dao.searchTasks("cs* 24*", "title:cs* title:24*", limit));
+        read("SearchDao.searchGroupTasks broad", () -> dao.searchGroupTasks("gen*", "title:gen*", limit));
+        read("SearchDao.searchGroupTasks narrow", () -> dao.searchGroupTasks("part* 12*", "title:part* title:12*", limit));
+        read("SearchDao.searchMessages", () -> dao.searchMessages("dea*", limit));
+        read("SearchDao.searchResources", () -> dao.searchResources("mee*", "title:mee*", limit));
+
+        SearchRepository repository = new SearchRepository(dao);
+        long items = tableRows("tasks") + tableRows("group_tasks") + tableRows("group_messages")
+                + tableRows("project_resources");
+        for (String query : new String[]{"gen", "cs 24"}) {
+            BenchmarkReport.Result result = read("SearchRepository.searchSync \"" + query + "\"",
+                    () -> repository.searchSync(query, limit));
+            double p99Millis = (Double) result.get("p99Micros") / 1_000.0;
+            result.put("items", items)
+                    .put("withinTarget", p99Millis < SEARCH_TARGET_MILLIS ? "yes" : "no");
+        }
+    }
+
+    // ================= Measuring =================
+
+    private BenchmarkReport.Result read(String name, Supplier<?> query) throws Exception {
+        Object[] value = new Object[1];
+        return record(name, () -> {
+            long start = System.nanoTime();
+            value[0] = query.get();
+            return System.nanoTime() - start;
+        }, () -> resultRows(value[0]));
+    }
+
+    private void observe(String name, Supplier<? extends LiveData<?>> query) throws Exception {
+        Object[] value = new Object[1];
+        Observer<Object> observer = result -> value[0] = result;
+        record(name, () -> {
+            value[0] = null;
+            long start = System.nanoTime();
+            LiveData<?> liveData = query.get();
+            liveData.observeForever(observer);
+            long elapsed = System.nanoTime() - start;
+            liveData.removeObserver(observer);
+            return elapsed;
+        }, () -> resultRows(value[0]));
+    }
+
+    private void write(String name, Runnable statement) throws Exception {
+        long[] changed = new long[1];
+        record(name, () -> rolledBack(() -> {
+            statement.run();
+            changed[0] = changes();
+        }), () -> (int) changed[0]);
+    }
+
+    private void writeCounted(String name, IntSupplier statement) throws Exception {
+        int[] written = new int[1];
+        record(name, () -> rolledBack(() -> written[0] = statement.getAsInt()), () -> written[0]);
+    }
+
+    private long rolledBack(Runnable statement) {
+        sqlite.beginTransaction();
+        try {
+            long start = System.nanoTime();
+            statement.run();
+            return System.nanoTime() - start;
+        } finally {
+            // Never marked successful, so the write is undone
+            sqlite.endTransaction();
+        }
+    }
+
+    private BenchmarkReport.Result record(String name, BenchmarkReport.TimedCall call, IntSupplier rowCount)
+            throws Exception {
+        List<Statement> statements = new ArrayList<>();
+        captured = statements;
+        try {
+            call.run();
+        } finally {
+            captured = null;
+        }
+        int count = rowCount.getAsInt();
+
+        Map<String, Object[]> distinct = new LinkedHashMap<>();
+        for (Statement statement : statements) {
+            if (isExplainable(statement.sql)) distinct.putIfAbsent(statement.sql, statement.args);
+        }
+        List<String> plan = new ArrayList<>();
+        for (Map.Entry<String, Object[]> entry : distinct.entrySet()) {
+            plan.addAll(QueryProfiler.queryPlan(sqlite, entry.getKey(), entry.getValue()));
+        }
+
+        return report.latency(name, call)
+                .put("rows", count)
+                .put("rowsScanned", estimateScanned(plan, count))
+                .put("fullScans", fullScans(plan))
+                .put("tempSort", plan.toString().contains("TEMP B-TREE") ? "yes" : "")
+                .put("plan", plan);
+    }
+
+    // ================= Plans =================
+
+    private long estimateScanned(List<String> plan, int rowCount) {
+        long scanned = 0;
+        boolean searched = false;
+        for (String line : plan) {
+            Matcher matcher = PLAN_TABLE.matcher(line);
+            if (!matcher.find()) continue;
+            if (matcher.group(1).equals("SCAN")) {
+                scanned += tableRows(matcher.group(2));
+            } else {
+                searched = true;
+            }
+        }
+        return scanned + (searched ? rowCount : 0);
+    }
+
+    /**
+     * Tables read in full without an index, e.g. {@code tasks}; index-ordered scans are not
+     * listed, though they still visit every row.
+     */
+    private static String fullScans(List<String> plan) {
+        List<String> tables = new ArrayList<>();
+        for (String line : plan) {
+            Matcher matcher = PLAN_TABLE.matcher(line);
+            if (matcher.find() && matcher.group(1).equals("SCAN") && !line.contains(" USING ")
+                    && !line.contains("VIRTUAL TABLE") && !line.startsWith("SCAN CONSTANT ROW")) {
+                tables.add(matcher.group(2));
+            }
+        }
+        return String.join(" ", tables);
+    }
+
+    private long tableRows(String table) {
+        Long cached = tableRows.get(table);
+        if (cached != null) return cached;
+        long count = 0;
+        try (Cursor cursor = sqlite.query("SELECT COUNT(*) FROM `" + table + "`")) {
+            if (cursor.moveToFirst()) count = cursor.getLong(0);
+        } catch (RuntimeException e) {
+            // Not a table, e.g. a subquery alias
+        }
+        tableRows.put(table, count);
+        return count;
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.trim().toUpperCase(Locale.US);
+        return head.startsWith("SELECT") || head.startsWith("WITH")
+                || head.startsWith("UPDATE") || head.startsWith("DELETE") || head.startsWith("INSERT");
+    }
+
+    private long changes() {
+        List<Statement> sink = captured;
+        captured = null;
+        try (Cursor cursor = sqlite.query("SELECT changes()")) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            captured = sink;
+        }
+    }
+
+    private static int resultRows(Object value) {
+        if (value == null) return 0;
+        if (value instanceof List) return ((List<?>) value).size();
+        return 1;
+    }
+
+    private static final class Statement {
+        final String sql;
+        final Object[] args;
+
+        Statement(String sql, Object[] args) {
+            this.sql = sql;
+            this.args = args;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.student.overcooked.data.dao;
+
+import android.app.Application;
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+import androidx.room.Room;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.student.overcooked.benchmark.BenchmarkReport;
+import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.Priority;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * How much a group task reconciliation writes, comparing the old per-row REPLACE path with
+ * {@link GroupTaskDao#reconcile}, against an unchanged and a lightly edited snapshot.
+ *
+ * Runs against a database file in WAL mode so the WAL frames each pass appends can be read
+ * straight off the -wal file. {@code changes} counts rows touched by INSERT, UPDATE and
+ * DELETE, including the FTS triggers.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class WriteAmplificationBenchmark {
+
+    private static final int ROWS = 5000;
+    private static final String DATABASE_NAME = "write-amp-benchmark.db";
+    private static final String GROUP_ID = "benchmark-group";
+    private static final int WAL_HEADER_BYTES = 32;
+    private static final int WAL_FRAME_HEADER_BYTES = 24;
+    /** One in this many rows is edited for the "changed" snapshot (2%). */
+    private static final int CHANGE_STRIDE = 50;
+
+    private interface Pass {
+        void run(List<GroupTask> remote);
+    }
+
+    private OvercookedDatabase database;
+    private SupportSQLiteDatabase sqlite;
+    private File walFile;
+    private BenchmarkReport report;
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(DATABASE_NAME);
+        database = Room.databaseBuilder(context, OvercookedDatabase.class, DATABASE_NAME)
+                .allowMainThreadQueries()
+                .setJournalMode(RoomDatabase.JournalMode.WRITE_AHEAD_LOGGING)
+                .addCallback(new RoomDatabase.Callback() {
+                    @Override
+                    public void onOpen(@NonNull SupportSQLiteDatabase db) {
+                        // Same as the app's database, so REPLACE fires the FTS delete triggers
+                        db.execSQL("PRAGMA recursive_triggers = ON");
+                    }
+                })
+                .build();
+        sqlite = database.getOpenHelper().getWritableDatabase();
+        walFile = new File(context.getDatabasePath(DATABASE_NAME).getPath() + "-wal");
+        report = new BenchmarkReport(getClass().getSimpleName());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        report.publish();
+        database.close();
+        ApplicationProvider.getApplicationContext().deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void reconcile() throws Exception {
+        GroupTaskDao dao = database.groupTaskDao();
+        List<GroupTask> unchanged = snapshot(false);
+        List<GroupTask> changed = snapshot(true);
+
+        measure("replace unchanged", unchanged, remote -> replaceEachRow(dao, remote));
+        measure("replace 2% changed", changed, remote -> replaceEachRow(dao, remote));
+        measure("reconcile unchanged", unchanged, remote -> dao.reconcile(GROUP_ID, remote));
+        measure("reconcile 2% changed", changed, remote -> dao.reconcile(GROUP_ID, remote));
+    }
+
+    private void measure(String name, List<GroupTask> remote, Pass pass) throws Exception {
+        long[] last = new long[2];
+        report.latency(name, () -> {
+            // Every sample starts from the same seeded state and an empty WAL
+            sqlite.execSQL("DELETE FROM group_tasks");
+            database.groupTaskDao().upsertAll(snapshot(false));
+            checkpoint();
+
+            long changesBefore = totalChanges();
+            long start = System.nanoTime();
+            pass.run(remote);
+            long elapsed = System.nanoTime() - start;
+            last[0] = totalChanges() - changesBefore;
+            last[1] = walFrames();
+            return elapsed;
+        }).put("rows", ROWS).put("changes", last[0]).put("walPages", last[1]);
+    }
+
+    /**
+     * The listener loop as it was before reconciliation moved into the DAO: skip rows with
+     * local edits, REPLACE the rest.
+     */
+    private void replaceEachRow(GroupTaskDao dao, List<GroupTask> remoteTasks) {
+        for (GroupTask remote : remoteTasks) {
+            GroupTask local = dao.getByIdSync(remote.getId());
+            if (local != null && (local.isPendingSync() || local.isPendingDelete())) {
+                continue;
+            }
+            sqlite.insert("group_tasks", SQLiteDatabase.CONFLICT_REPLACE, toValues(remote));
+        }
+    }
+
+    private static ContentValues toValues(GroupTask task) {
+        ContentValues values = new ContentValues();
+        values.put("id", task.getId());
+        values.put("groupId", task.getGroupId());
+        values.put("assigneeId", task.getAssigneeId());
+        values.put("assigneeName", task.getAssigneeName());
+        values.put("createdBy", task.getCreatedBy());
+        values.put("pendingSync", task.isPendingSync());
+        values.put("pendingDelete", task.isPendingDelete());
+        values.put("lastSyncedExists", task.isLastSyncedExists());
+        values.put("lastSyncedCompleted", task.isLastSyncedCompleted());
+        values.put("title", task.getTitle());
+        values.put("description", task.getDescription());
+        values.put("priority", task.getPriority().name());
+        values.put("deadline", task.getDeadlineMillis());
+        values.put("isCompleted", task.isCompleted());
+        values.put("completedAt", task.getCompletedAtMillis());
+        values.put("createdAt", task.getCreatedAtMillis());
+        values.put("status", task.getStatus().name());
+        values.put("rewardClaimed", task.isRewardClaimed());
+        return values;
+    }
+
+    private static List<GroupTask> snapshot(boolean withChanges) {
+        long base = 1_700_000_000_000L;
+        List<GroupTask> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            boolean edited = withChanges && i % CHANGE_STRIDE == 0;
+            tasks.add(new GroupTask(
+                    "task-" + i,
+                    GROUP_ID,
+                    (edited ? "Edited task " : "Task ") + i,
+                    "Benchmark description for task " + i,
+                    "user-" + (i % 7),
+                    "Member " + (i % 7),
+                    Priority.values()[i % Priority.values().length],
+                    new Date(base + i * 3_600_000L),
+                    i % 3 == 0,
+                    i % 3 == 0 ? new Date(base) : null,
+                    "user-0",
+                    new Date(base)
+            ));
+        }
+        return tasks;
+    }
+
+    private void checkpoint() {
+        try (Cursor cursor = sqlite.query("PRAGMA wal_checkpoint(TRUNCATE)")) {
+            cursor.moveToFirst();
+        }
+    }
+
+    private long totalChanges() {
+        try (Cursor cursor = sqlite.query("SELECT total_changes()")) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+        }
+    }
+
+    private long walFrames() {
+        int pageSize;
+        try (Cursor cursor = sqlite.query("PRAGMA page_size")) {
+            pageSize = cursor.moveToFirst() ? cursor.getInt(0) : 4096;
+        }
+        long length = walFile.length();
+        if (length <= WAL_HEADER_BYTES) {
+            return 0L;
+        }
+        return (length - WAL_HEADER_BYTES) / (pageSize + WAL_FRAME_HEADER_BYTES);
+    }
+}
@@ -0,0 +1,73 @@
+package com.student.overcooked.data.workload;
+
+import android.app.Application;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.student.overcooked.benchmark.BenchmarkReport;
+import com.student.overcooked.data.database.OvercookedDatabase;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link GroupLoadScenario#courseGroup} at 6, 50 and 200 members and reports how fan-out,
+ * local decode and reconcile time and end-to-end propagation grow with group size.
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class GroupLoadBenchmark {
+
+    private static final long NOW = 1_760_000_000_000L;
+    private static final long DURATION_MILLIS = 10_000L;
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "members={0}")
+    public static List<Object[]> sizes() {
+        return Arrays.asList(new Object[][]{{6}, {50}, {200}});
+    }
+
+    private final int members;
+
+    public GroupLoadBenchmark(int members) {
+        this.members = members;
+    }
+
+    @Test
+    public void courseGroup() throws Exception {
+        OvercookedDatabase database = WorkloadLoader.openInMemory(ApplicationProvider.getApplicationContext());
+        GroupLoadReport result;
+        try {
+            result = new GroupLoadSimulator(GroupLoadScenario.courseGroup(NOW)
+                    .withMembers(members)
+                    .withDurationMillis(DURATION_MILLIS), database).run();
+        } finally {
+            database.close();
+        }
+        System.out.println(result);
+        assertTrue("no writes were committed", result.getCommits() > 0);
+
+        BenchmarkReport report = new BenchmarkReport(getClass().getSimpleName() + "-" + members);
+        report.add(new BenchmarkReport.Result("courseGroup")
+                .put("members", members)
+                .put("commits", result.getCommits())
+                .put("fanOut", result.getFanOut())
+                .put("docsSent", result.getDocumentsSent())
+                .put("deliveryP99", result.getDeliveryP99())
+                .put("decodeP50", result.getDecodeP50())
+                .put("decodeP99", result.getDecodeP99())
+                .put("reconcileP50", result.getReconcileP50())
+                .put("reconcileP99", result.getReconcileP99())
+                .put("e2eP50", result.getEndToEndP50())
+                .put("e2eP99", result.getEndToEndP99()));
+        report.publish();
+    }
+}
@@ -0,0 +1,226 @@
+package com.student.overcooked.ui.adapter;
+
+import android.app.Application;
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.student.overcooked.R;
+import com.student.overcooked.benchmark.BenchmarkReport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Create, bind and diff costs for one {@link ListAdapter}, against the real item layouts
+ * inflated by Robolectric.
+ *
+ * Absolute numbers are JVM numbers, not device numbers; they are for comparing adapters and
+ * spotting regressions. The plain {@link Application} keeps Firebase out of the picture.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+abstract class AdapterBenchmark<T, VH extends RecyclerView.ViewHolder> {
+
+    static final int ITEM_COUNT = 10_000;
+    // Inflation is by far the slowest step and RecyclerView only creates a screenful of
+    // holders plus its cache, so fewer creations are enough for a stable per-item figure
+    static final int CREATE_COUNT = 500;
+    static final int APPENDED = 100;
+
+    // JUnit runs each test on a new instance, so each test publishes its own report
+    @Rule
+    public final TestName testName = new TestName();
+
+    private FrameLayout parent;
+    private BenchmarkReport report;
+    private List<T> items;
+    private List<T> fresh;
+
+    @NonNull
+    abstract ListAdapter<T, VH> newAdapter();
+
+    @NonNull
+    abstract DiffUtil.ItemCallback<T> diffCallback();
+
+    /**
+     * {@code count} distinct items in display order.
+     */
+    @NonNull
+    abstract List<T> items(int count);
+
+    /**
+     * An equal item that is a different instance, as a fresh database query returns.
+     */
+    @NonNull
+    abstract T copy(@NonNull T item);
+
+    /**
+     * The same item with a visible change, such as a completed task or an edited message.
+     */
+    @NonNull
+    abstract T edit(@NonNull T item);
+
+    @Before
+    public void setUp() {
+        Context context = new ContextThemeWrapper(ApplicationProvider.getApplicationContext(), R.style.Theme_Overcooked);
+        parent = new FrameLayout(context);
+        report = new BenchmarkReport(getClass().getSimpleName() + "-" + testName.getMethodName());
+        List<T> all = items(ITEM_COUNT + APPENDED);
+        items = new ArrayList<>(all.subList(0, ITEM_COUNT));
+        fresh = new ArrayList<>(all.subList(ITEM_COUNT, all.size()));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        report.publish();
+    }
+
+    @Test
+    public void createViewHolders() {
+        ListAdapter<T, VH> adapter = submitted();
+        report.measure("onCreateViewHolder", CREATE_COUNT, () -> {
+            for (int i = 0; i < CREATE_COUNT; i++) {
+                adapter.createViewHolder(parent, adapter.getItemViewType(i));
+            }
+        });
+    }
+
+    @Test
+    public void bindViewHolders() {
+        ListAdapter<T, VH> adapter = submitted();
+        // One holder per view type, rebound for every position as a scrolling list would
+        Map<Integer, VH> holders = new HashMap<>();
+        report.measure("onBindViewHolder", ITEM_COUNT, () -> {
+            for (int i = 0; i < ITEM_COUNT; i++) {
+                int viewType = adapter.getItemViewType(i);
+                VH holder = holders.get(viewType);
+                if (holder == null) {
+                    holder = adapter.createViewHolder(parent, viewType);
+                    holders.put(viewType, holder);
+                }
+                adapter.bindViewHolder(holder, i);
+            }
+        });
+    }
+
+    @Test
+    public void diffUpdates() {
+        List<T> unchanged = new ArrayList<>(ITEM_COUNT);
+        for (T item : items) {
+            unchanged.add(copy(item));
+        }
+        measureDiff("diff unchanged", unchanged, 0);
+
+        List<T> edited = new ArrayList<>(unchanged);
+        int edits = 0;
+        for (int i = 0; i < edited.size(); i += 100) {
+            edited.set(i, edit(edited.get(i)));
+            edits++;
+        }
+        measureDiff("diff 1% edited", edited, edits);
+
+        List<T> insertedTop = new ArrayList<>(ITEM_COUNT + 1);
+        insertedTop.add(fresh.get(0));
+        insertedTop.addAll(unchanged);
+        measureDiff("diff insert at top", insertedTop, 1);
+
+        List<T> removed = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < unchanged.size(); i++) {
+            if (i % 10 != 0) removed.add(unchanged.get(i));
+        }
+        measureDiff("diff 10% removed", removed, ITEM_COUNT - removed.size());
+
+        List<T> appended = new ArrayList<>(unchanged);
+        appended.addAll(fresh);
+        measureDiff("diff " + APPENDED + " appended", appended, APPENDED);
+    }
+
+    private ListAdapter<T, VH> submitted() {
+        ListAdapter<T, VH> adapter = newAdapter();
+        // The first list is applied synchronously, with no diff against an empty list
+        adapter.submitList(items);
+        assertEquals(ITEM_COUNT, adapter.getItemCount());
+        return adapter;
+    }
+
+    private void measureDiff(String name, List<T> newList, int expectedChanges) {
+        int[] changes = new int[1];
+        report.measure(name, ITEM_COUNT, () -> changes[0] = countChanges(diff(items, newList)));
+        assertEquals(name, expectedChanges, changes[0]);
+    }
+
+    /**
+     * Same calculation {@code AsyncListDiffer} runs off the main thread for {@code submitList}.
+     */
+    private DiffUtil.DiffResult diff(List<T> oldList, List<T> newList) {
+        DiffUtil.ItemCallback<T> callback = diffCallback();
+        return DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldList.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newList.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return callback.areItemsTheSame(oldList.get(oldItemPosition), newList.get(newItemPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                return callback.areContentsTheSame(oldList.get(oldItemPosition), newList.get(newItemPosition));
+            }
+        });
+    }
+
+    private static int countChanges(DiffUtil.DiffResult result) {
+        int[] count = new int[1];
+        result.dispatchUpdatesTo(new ListUpdateCallback() {
+            @Override
+            public void onInserted(int position, int n) {
+                count[0] += n;
+            }
+
+            @Override
+            public void onRemoved(int position, int n) {
+                count[0] += n;
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+                count[0]++;
+            }
+
+            @Override
+            public void onChanged(int position, int n, Object payload) {
+                count[0] += n;
+            }
+        });
+        return count[0];
+    }
+}
@@ -0,0 +1,171 @@
+package com.student.overcooked.ui.adapter;
+
+import com.student.overcooked.data.model.GroupMessage;
+import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.GroupTaskSummary;
+import com.student.overcooked.data.model.ProjectResource;
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.data.workload.Workload;
+import com.student.overcooked.data.workload.WorkloadGenerator;
+import com.student.overcooked.data.workload.WorkloadSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapter items built from the stress workload, so every adapter sees realistic titles,
+ * deadlines and completion mix. Group rows are repeated under new ids when the workload has
+ * fewer than requested.
+ */
+final class AdapterFixtures {
+
+    // Fixed so results do not depend on the day the benchmark runs
+    static final long NOW = 1_760_000_000_000L;
+    static final String USER_ID = "benchmark-user";
+
+    private static Workload workload;
+
+    private AdapterFixtures() {
+    }
+
+    static List<TaskSummary> taskSummaries(int count) {
+        List<Task> tasks = new WorkloadGenerator(WorkloadSpec.semester(NOW)).generateTasks(USER_ID, count);
+        List<TaskSummary> result = new ArrayList<>(count);
+        for (Task task : tasks) {
+            TaskSummary summary = new TaskSummary();
+            summary.setId(task.getId());
+            summary.setTitle(task.getTitle());
+            summary.setCourse(task.getCourse());
+            summary.setTaskType(task.getTaskType());
+            summary.setPriority(task.getPriority());
+            summary.setStatus(task.getStatus());
+            summary.setCompleted(task.isCompleted());
+            summary.setDeadlineMillis(task.getDeadlineMillis());
+            result.add(summary);
+        }
+        return result;
+    }
+
+    static TaskSummary copy(TaskSummary task) {
+        TaskSummary copy = new TaskSummary();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setCourse(task.getCourse());
+        copy.setTaskType(task.getTaskType());
+        copy.setPriority(task.getPriority());
+        copy.setStatus(task.getStatus());
+        copy.setCompleted(task.isCompleted());
+        copy.setDeadlineMillis(task.getDeadlineMillis());
+        return copy;
+    }
+
+    static TaskSummary toggled(TaskSummary task) {
+        TaskSummary copy = copy(task);
+        copy.setCompleted(!task.isCompleted());
+        copy.setStatus(copy.isCompleted() ? TaskStatus.DONE : TaskStatus.NOT_STARTED);
+        return copy;
+    }
+
+    static List<GroupTaskSummary> groupTaskSummaries(int count) {
+        List<GroupTask> source = workload().getGroupTasks();
+        List<GroupTaskSummary> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            GroupTask task = source.get(i % source.size());
+            GroupTaskSummary summary = new GroupTaskSummary();
+            summary.setId(task.getId() + suffix(i, source.size()));
+            summary.setGroupId(task.getGroupId());
+            summary.setTitle(task.getTitle());
+            summary.setDescription(task.getDescription());
+            summary.setAssigneeName(task.getAssigneeName());
+            summary.setPriority(task.getPriority());
+            summary.setDeadlineMillis(task.getDeadlineMillis());
+            summary.setCompleted(task.isCompleted());
+            summary.setStatus(task.getStatus());
+            result.add(summary);
+        }
+        return result;
+    }
+
+    static GroupTaskSummary copy(GroupTaskSummary task) {
+        GroupTaskSummary copy = new GroupTaskSummary();
+        copy.setId(task.getId());
+        copy.setGroupId(task.getGroupId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setAssigneeName(task.getAssigneeName());
+        copy.setPriority(task.getPriority());
+        copy.setDeadlineMillis(task.getDeadlineMillis());
+        copy.setCompleted(task.isCompleted());
+        copy.setStatus(task.getStatus());
+        return copy;
+    }
+
+    static GroupTaskSummary toggled(GroupTaskSummary task) {
+        GroupTaskSummary copy = copy(task);
+        copy.setCompleted(!task.isCompleted());
+        copy.setStatus(copy.isCompleted() ? TaskStatus.DONE : TaskStatus.NOT_STARTED);
+        return copy;
+    }
+
+    static List<GroupMessage> messages(int count) {
+        List<GroupMessage> source = workload().getMessages();
+        List<GroupMessage> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            GroupMessage message = source.get(i % source.size());
+            result.add(new GroupMessage(message.getId() + suffix(i, source.size()), message.getGroupId(),
+                    message.getSenderId(), message.getSenderName(), message.getMessage(), message.getTimestamp()));
+        }
+        return result;
+    }
+
+    static GroupMessage copy(GroupMessage message) {
+        return new GroupMessage(message.getId(), message.getGroupId(), message.getSenderId(),
+                message.getSenderName(), message.getMessage(), message.getTimestamp());
+    }
+
+    static GroupMessage edited(GroupMessage message) {
+        GroupMessage copy = copy(message);
+        copy.setMessage(message.getMessage() + " (edited)");
+        return copy;
+    }
+
+    static List<ProjectResource> resources(int count) {
+        List<ProjectResource> source = workload().getResources();
+        List<ProjectResource> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(copy(source.get(i % source.size()), suffix(i, source.size())));
+        }
+        return result;
+    }
+
+    static ProjectResource copy(ProjectResource resource) {
+        return copy(resource, "");
+    }
+
+    static ProjectResource renamed(ProjectResource resource) {
+        ProjectResource copy = copy(resource);
+        copy.setTitle(resource.getTitle() + " (v2)");
+        return copy;
+    }
+
+    private static ProjectResource copy(ProjectResource resource, String idSuffix) {
+        return new ProjectResource(resource.getId() + idSuffix, resource.getGroupId(), resource.getType(),
+                resource.getTitle(), resource.getContent(), resource.getCreatedBy(), resource.getCreatedAt(),
+                resource.getFileUrl(), resource.getFileMimeType(), resource.getFileName(),
+                resource.getFileSizeBytes(), resource.getStoragePath());
+    }
+
+    private static String suffix(int index, int sourceSize) {
+        int round = index / sourceSize;
+        return round == 0 ? "" : "#" + round;
+    }
+
+    private static synchronized Workload workload() {
+        if (workload == null) {
+            workload = new WorkloadGenerator(WorkloadSpec.stress(NOW)).generate(USER_ID);
+        }
+        return workload;
+    }
+}
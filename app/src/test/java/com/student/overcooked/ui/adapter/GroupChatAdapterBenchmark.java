@@ -0,0 +1,47 @@
+package com.student.overcooked.ui.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.student.overcooked.data.model.GroupMessage;
+
+import java.util.List;
+
+/**
+ * The benchmark user is a member of every generated group, so the list mixes sent and
+ * received bubbles and both view types get created and bound.
+ */
+public class GroupChatAdapterBenchmark extends AdapterBenchmark<GroupMessage, RecyclerView.ViewHolder> {
+
+    @NonNull
+    @Override
+    ListAdapter<GroupMessage, RecyclerView.ViewHolder> newAdapter() {
+        return new GroupChatAdapter(AdapterFixtures.USER_ID);
+    }
+
+    @NonNull
+    @Override
+    DiffUtil.ItemCallback<GroupMessage> diffCallback() {
+        return GroupChatAdapter.DIFF_CALLBACK;
+    }
+
+    @NonNull
+    @Override
+    List<GroupMessage> items(int count) {
+        return AdapterFixtures.messages(count);
+    }
+
+    @NonNull
+    @Override
+    GroupMessage copy(@NonNull GroupMessage item) {
+        return AdapterFixtures.copy(item);
+    }
+
+    @NonNull
+    @Override
+    GroupMessage edit(@NonNull GroupMessage item) {
+        return AdapterFixtures.edited(item);
+    }
+}
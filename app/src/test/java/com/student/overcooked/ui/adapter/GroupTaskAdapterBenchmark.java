@@ -0,0 +1,60 @@
+package com.student.overcooked.ui.adapter;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+
+import com.student.overcooked.data.model.GroupTaskSummary;
+
+import java.util.List;
+
+public class GroupTaskAdapterBenchmark extends AdapterBenchmark<GroupTaskSummary, GroupTaskAdapter.TaskViewHolder> {
+
+    @NonNull
+    @Override
+    ListAdapter<GroupTaskSummary, GroupTaskAdapter.TaskViewHolder> newAdapter() {
+        return new GroupTaskAdapter(new GroupTaskAdapter.TaskInteractionListener() {
+            @Override
+            public void onTaskSelected(GroupTaskSummary task) {
+            }
+
+            @Override
+            public void onTaskCompletionToggle(GroupTaskSummary task) {
+            }
+
+            @Override
+            public void onTaskMenuRequested(@NonNull View anchor, GroupTaskSummary task) {
+            }
+
+            @Override
+            public void onTaskLongPressed(@NonNull View anchor, GroupTaskSummary task) {
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    DiffUtil.ItemCallback<GroupTaskSummary> diffCallback() {
+        return GroupTaskAdapter.DIFF_CALLBACK;
+    }
+
+    @NonNull
+    @Override
+    List<GroupTaskSummary> items(int count) {
+        return AdapterFixtures.groupTaskSummaries(count);
+    }
+
+    @NonNull
+    @Override
+    GroupTaskSummary copy(@NonNull GroupTaskSummary item) {
+        return AdapterFixtures.copy(item);
+    }
+
+    @NonNull
+    @Override
+    GroupTaskSummary edit(@NonNull GroupTaskSummary item) {
+        return AdapterFixtures.toggled(item);
+    }
+}
@@ -0,0 +1,50 @@
+package com.student.overcooked.ui.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+
+import com.student.overcooked.data.model.ProjectResource;
+
+import java.util.List;
+
+public class ProjectResourceAdapterBenchmark extends AdapterBenchmark<ProjectResource, ProjectResourceAdapter.ResourceViewHolder> {
+
+    @NonNull
+    @Override
+    ListAdapter<ProjectResource, ProjectResourceAdapter.ResourceViewHolder> newAdapter() {
+        return new ProjectResourceAdapter(new ProjectResourceAdapter.ResourceActionListener() {
+            @Override
+            public void onResourceClick(ProjectResource resource) {
+            }
+
+            @Override
+            public void onResourceDelete(ProjectResource resource) {
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    DiffUtil.ItemCallback<ProjectResource> diffCallback() {
+        return ProjectResourceAdapter.DIFF_CALLBACK;
+    }
+
+    @NonNull
+    @Override
+    List<ProjectResource> items(int count) {
+        return AdapterFixtures.resources(count);
+    }
+
+    @NonNull
+    @Override
+    ProjectResource copy(@NonNull ProjectResource item) {
+        return AdapterFixtures.copy(item);
+    }
+
+    @NonNull
+    @Override
+    ProjectResource edit(@NonNull ProjectResource item) {
+        return AdapterFixtures.renamed(item);
+    }
+}
@@ -0,0 +1,50 @@
+package com.student.overcooked.ui.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+
+import com.student.overcooked.data.model.TaskSummary;
+
+import java.util.List;
+
+public class TaskListAdapterBenchmark extends AdapterBenchmark<TaskSummary, TaskListAdapter.TaskViewHolder> {
+
+    @NonNull
+    @Override
+    ListAdapter<TaskSummary, TaskListAdapter.TaskViewHolder> newAdapter() {
+        return new TaskListAdapter(task -> { }, task -> { }, new TaskListAdapter.OnTaskMenuListener() {
+            @Override
+            public void onEditTask(TaskSummary task) {
+            }
+
+            @Override
+            public void onDeleteTask(TaskSummary task) {
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    DiffUtil.ItemCallback<TaskSummary> diffCallback() {
+        return TaskListAdapter.DIFF_CALLBACK;
+    }
+
+    @NonNull
+    @Override
+    List<TaskSummary> items(int count) {
+        return AdapterFixtures.taskSummaries(count);
+    }
+
+    @NonNull
+    @Override
+    TaskSummary copy(@NonNull TaskSummary item) {
+        return AdapterFixtures.copy(item);
+    }
+
+    @NonNull
+    @Override
+    TaskSummary edit(@NonNull TaskSummary item) {
+        return AdapterFixtures.toggled(item);
+    }
+}
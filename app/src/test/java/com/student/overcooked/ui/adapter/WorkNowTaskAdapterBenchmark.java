@@ -0,0 +1,50 @@
+package com.student.overcooked.ui.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+
+import com.student.overcooked.data.model.TaskSummary;
+
+import java.util.List;
+
+public class WorkNowTaskAdapterBenchmark extends AdapterBenchmark<TaskSummary, WorkNowTaskAdapter.TaskViewHolder> {
+
+    @NonNull
+    @Override
+    ListAdapter<TaskSummary, WorkNowTaskAdapter.TaskViewHolder> newAdapter() {
+        return new WorkNowTaskAdapter(task -> { }, task -> { }, new WorkNowTaskAdapter.OnTaskMenuListener() {
+            @Override
+            public void onEditTask(TaskSummary task) {
+            }
+
+            @Override
+            public void onDeleteTask(TaskSummary task) {
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    DiffUtil.ItemCallback<TaskSummary> diffCallback() {
+        return WorkNowTaskAdapter.DIFF_CALLBACK;
+    }
+
+    @NonNull
+    @Override
+    List<TaskSummary> items(int count) {
+        return AdapterFixtures.taskSummaries(count);
+    }
+
+    @NonNull
+    @Override
+    TaskSummary copy(@NonNull TaskSummary item) {
+        return AdapterFixtures.copy(item);
+    }
+
+    @NonNull
+    @Override
+    TaskSummary edit(@NonNull TaskSummary item) {
+        return AdapterFixtures.toggled(item);
+    }
+}
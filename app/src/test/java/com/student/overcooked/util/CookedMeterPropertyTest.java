@@ -0,0 +1,195 @@
+package com.student.overcooked.util;
+
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.TaskSummary;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Randomised checks that {@link CookedMeterEngine} and {@link CookedMeterForecast} always agree
+ * with {@link CookedMeterCalculator#getCookedMeterResult(List, long)}.
+ *
+ * Each round builds a random task list, then interleaves edits, inserts, deletes and clock
+ * moves. Clock moves favour the instants right around {@link CookedMeterEngine#nextBoundary()}
+ * and deadlines are often placed a whole number of days (give or take a millisecond) from
+ * {@code now}, since that is where an off-by-one would hide. Seeds are fixed, so a failure
+ * names the round and step that reproduce it.
+ */
+public class CookedMeterPropertyTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+    private static final long DAY = DayClock.DAY_MILLIS;
+    private static final long[] SEEDS = {1L, 42L, 20_250_101L};
+
+    private static final int ROUNDS = 100;
+    private static final int STEPS_PER_ROUND = 60;
+    private static final int MAX_TASKS = 40;
+
+    private static final int FORECAST_ROUNDS = 40;
+    private static final int FORECAST_EDITS_PER_ROUND = 5;
+
+    @Test
+    public void engineMatchesCalculator() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (int round = 0; round < ROUNDS; round++) {
+                long now = NOW + (long) (random.nextGaussian() * 30 * DAY);
+                List<TaskSummary> tasks = new ArrayList<>();
+                int initial = random.nextInt(MAX_TASKS);
+                for (int i = 0; i < initial; i++) {
+                    tasks.add(randomTask(random, i + 1, now));
+                }
+                long nextId = initial + 1;
+
+                CookedMeterEngine engine = new CookedMeterEngine(now);
+                engine.submitList(tasks, now);
+
+                for (int step = 0; step < STEPS_PER_ROUND; step++) {
+                    String where = "seed " + seed + ", round " + round + ", step " + step + ", now " + now;
+                    CookedMeterResult expected = CookedMeterCalculator.getCookedMeterResult(tasks, now);
+                    assertEquals(where, expected, engine.getResult());
+
+                    // The result must hold right up to the reported boundary
+                    long boundary = engine.nextBoundary();
+                    if (boundary != CookedMeterEngine.NO_BOUNDARY && boundary - 1 > now) {
+                        assertEquals(where + ", before boundary " + boundary, expected,
+                                CookedMeterCalculator.getCookedMeterResult(tasks, boundary - 1));
+                    }
+
+                    int action = random.nextInt(10);
+                    if (action < 5) {
+                        now = nextInstant(random, engine, now);
+                        engine.advanceTo(now);
+                    } else {
+                        List<TaskSummary> edited = new ArrayList<>(tasks);
+                        if (action < 7 || edited.isEmpty()) {
+                            edited.add(randomTask(random, nextId++, now));
+                        } else if (action < 8) {
+                            edited.remove(random.nextInt(edited.size()));
+                        } else {
+                            int index = random.nextInt(edited.size());
+                            edited.set(index, editTask(random, edited.get(index), now));
+                        }
+                        tasks = edited;
+                        engine.submitList(tasks, now);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Every forecast sample against the calculator at that instant, after a fresh build and
+     * after each incremental edit.
+     */
+    @Test
+    public void forecastMatchesCalculator() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (int round = 0; round < FORECAST_ROUNDS; round++) {
+                long start = NOW + (long) (random.nextGaussian() * 30 * DAY);
+                List<TaskSummary> tasks = new ArrayList<>();
+                int initial = random.nextInt(MAX_TASKS);
+                for (int i = 0; i < initial; i++) {
+                    tasks.add(randomTask(random, i + 1, start + random.nextInt(14) * DAY));
+                }
+                long nextId = initial + 1;
+                CookedMeterForecast forecast = new CookedMeterForecast(start);
+
+                for (int edit = 0; edit <= FORECAST_EDITS_PER_ROUND; edit++) {
+                    if (edit > 0) {
+                        List<TaskSummary> edited = new ArrayList<>(tasks);
+                        long around = start + random.nextInt(14) * DAY;
+                        if (edited.isEmpty() || random.nextBoolean()) {
+                            edited.add(randomTask(random, nextId++, around));
+                        } else if (random.nextBoolean()) {
+                            edited.remove(random.nextInt(edited.size()));
+                        } else {
+                            int index = random.nextInt(edited.size());
+                            edited.set(index, editTask(random, edited.get(index), around));
+                        }
+                        tasks = edited;
+                    }
+                    forecast.submitList(tasks);
+                    CookedMeterForecast.Curve curve = forecast.getCurve();
+                    for (int i = 0; i < curve.size(); i++) {
+                        int expected = CookedMeterCalculator.getCookedMeterResult(tasks, curve.getTimeAt(i))
+                                .getPercentage();
+                        assertEquals("seed " + seed + ", round " + round + ", edit " + edit + ", sample " + i,
+                                expected, curve.getPercentage(i));
+                    }
+                }
+            }
+        }
+    }
+
+    private static long nextInstant(Random random, CookedMeterEngine engine, long now) {
+        long boundary = engine.nextBoundary();
+        switch (random.nextInt(6)) {
+            case 0:
+                return boundary != CookedMeterEngine.NO_BOUNDARY ? boundary : now + DAY;
+            case 1:
+                return boundary != CookedMeterEngine.NO_BOUNDARY ? boundary - 1 : now + 1;
+            case 2:
+                return now + 1 + random.nextInt(60_000);
+            case 3:
+                return now + (long) (random.nextDouble() * 3 * DAY);
+            case 4:
+                // Clock corrections can move time backwards
+                return now - random.nextInt((int) DAY);
+            default:
+                return now + DAY;
+        }
+    }
+
+    private static TaskSummary randomTask(Random random, long id, long now) {
+        TaskSummary task = new TaskSummary();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+        task.setCompleted(random.nextInt(5) == 0);
+        task.setDeadlineMillis(randomDeadline(random, now));
+        return task;
+    }
+
+    private static TaskSummary editTask(Random random, TaskSummary original, long now) {
+        TaskSummary task = new TaskSummary();
+        task.setId(original.getId());
+        task.setTitle(original.getTitle());
+        task.setPriority(original.getPriority());
+        task.setCompleted(original.isCompleted());
+        task.setDeadlineMillis(original.getDeadlineMillis());
+        switch (random.nextInt(3)) {
+            case 0:
+                task.setCompleted(!original.isCompleted());
+                break;
+            case 1:
+                task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+                break;
+            default:
+                task.setDeadlineMillis(randomDeadline(random, now));
+                break;
+        }
+        return task;
+    }
+
+    private static long randomDeadline(Random random, long now) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return DayClock.NO_TIME;
+            case 1:
+                // Exactly on, or one millisecond either side of, a whole-day offset
+                return now + (random.nextInt(21) - 10) * DAY + random.nextInt(3) - 1;
+            case 2:
+                return DayClock.get().startOfDay(now) + (random.nextInt(5) - 2) * DAY;
+            default:
+                return now + (long) ((random.nextDouble() * 24 - 12) * DAY);
+        }
+    }
+}
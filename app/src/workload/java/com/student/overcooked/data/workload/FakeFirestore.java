@@ -0,0 +1,309 @@
+package com.student.overcooked.data.workload;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Firestore collections behind {@code GroupRepository}, for load
+ * simulation without a network or emulator.
+ *
+ * Documents are plain maps. Queries are equality filters, as every group listener uses.
+ * Writes are applied atomically per {@link WriteBatch}; each listener whose results changed
+ * then gets one full snapshot on its own executor, like a device's listener callback. Result
+ * sets are kept per listener, the way the server's indexes do, so fan-out costs the snapshot
+ * copies and not a collection scan.
+ */
+public final class FakeFirestore {
+
+    public static final String GROUPS = "groups";
+    public static final String GROUP_MEMBERS = "group_members";
+    public static final String GROUP_TASKS = "group_tasks";
+    public static final String GROUP_MESSAGES = "group_messages";
+    public static final String GROUP_RESOURCES = "group_resources";
+    public static final String PROJECT_INVITATIONS = "project_invitations";
+
+    /** Firestore rejects batches with more writes than this. */
+    public static final int MAX_BATCH_WRITES = 500;
+
+    public interface SnapshotListener {
+        void onSnapshot(@NonNull QuerySnapshot snapshot);
+    }
+
+    /**
+     * Counterpart of Firestore's {@code ListenerRegistration}.
+     */
+    public interface ListenerRegistration {
+        void remove();
+    }
+
+    public static final class Document {
+        private final String id;
+        private final Map<String, Object> data;
+
+        Document(String id, Map<String, Object> data) {
+            this.id = id;
+            this.data = Collections.unmodifiableMap(data);
+        }
+
+        @NonNull public String getId() { return id; }
+        @NonNull public Map<String, Object> getData() { return data; }
+        @Nullable public Object get(@NonNull String field) { return data.get(field); }
+    }
+
+    public static final class QuerySnapshot {
+        private final List<Document> documents;
+        private final long commitNanos;
+
+        QuerySnapshot(List<Document> documents, long commitNanos) {
+            this.documents = documents;
+            this.commitNanos = commitNanos;
+        }
+
+        @NonNull public List<Document> getDocuments() { return documents; }
+
+        /**
+         * {@link System#nanoTime()} when the write behind this snapshot was committed, or 0
+         * for the snapshot a listener gets when it is added.
+         */
+        public long getCommitNanos() { return commitNanos; }
+    }
+
+    public final class Query {
+        private final String collection;
+        private final Map<String, Object> filters;
+
+        Query(String collection, Map<String, Object> filters) {
+            this.collection = collection;
+            this.filters = filters;
+        }
+
+        @NonNull
+        public Query whereEqualTo(@NonNull String field, @Nullable Object value) {
+            Map<String, Object> narrowed = new LinkedHashMap<>(filters);
+            narrowed.put(field, value);
+            return new Query(collection, narrowed);
+        }
+
+        /**
+         * The listener receives the current results right away, then a snapshot after every
+         * commit that adds, changes or removes one of its documents.
+         */
+        @NonNull
+        public ListenerRegistration addSnapshotListener(@NonNull Executor executor, @NonNull SnapshotListener listener) {
+            Listener entry = new Listener(this, executor, listener);
+            synchronized (FakeFirestore.this) {
+                for (Document document : documents(collection).values()) {
+                    if (matches(document)) entry.results.put(document.getId(), document);
+                }
+                listeners(collection).add(entry);
+                // Queued under the lock, so no commit's snapshot can be queued ahead of it
+                deliver(entry, new QuerySnapshot(new ArrayList<>(entry.results.values()), 0L));
+            }
+            return () -> {
+                synchronized (FakeFirestore.this) {
+                    entry.active = false;
+                    listeners(collection).remove(entry);
+                }
+            };
+        }
+
+        @NonNull
+        public List<Document> get() {
+            synchronized (FakeFirestore.this) {
+                List<Document> result = new ArrayList<>();
+                for (Document document : documents(collection).values()) {
+                    if (matches(document)) result.add(document);
+                }
+                return result;
+            }
+        }
+
+        boolean matches(@Nullable Document document) {
+            if (document == null) return false;
+            for (Map.Entry<String, Object> filter : filters.entrySet()) {
+                if (!Objects.equals(document.get(filter.getKey()), filter.getValue())) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes applied together by {@link #commit()}; listeners see all of them or none.
+     */
+    public final class WriteBatch {
+        private final List<Write> writes = new ArrayList<>();
+
+        @NonNull
+        public WriteBatch set(@NonNull String collection, @NonNull String id, @NonNull Map<String, Object> data) {
+            writes.add(new Write(collection, id, new HashMap<>(data), false));
+            return this;
+        }
+
+        /**
+         * Merge {@code fields} into an existing document; ignored if the document is gone.
+         */
+        @NonNull
+        public WriteBatch update(@NonNull String collection, @NonNull String id, @NonNull Map<String, Object> fields) {
+            writes.add(new Write(collection, id, new HashMap<>(fields), true));
+            return this;
+        }
+
+        @NonNull
+        public WriteBatch delete(@NonNull String collection, @NonNull String id) {
+            writes.add(new Write(collection, id, null, false));
+            return this;
+        }
+
+        public void commit() {
+            apply(writes);
+        }
+    }
+
+    private static final class Write {
+        final String collection;
+        final String id;
+        @Nullable final Map<String, Object> data;
+        final boolean merge;
+
+        Write(String collection, String id, @Nullable Map<String, Object> data, boolean merge) {
+            this.collection = collection;
+            this.id = id;
+            this.data = data;
+            this.merge = merge;
+        }
+    }
+
+    private static final class Listener {
+        final Query query;
+        final Executor executor;
+        final SnapshotListener callback;
+        final Map<String, Document> results = new LinkedHashMap<>();
+        volatile boolean active = true;
+
+        Listener(Query query, Executor executor, SnapshotListener callback) {
+            this.query = query;
+            this.executor = executor;
+            this.callback = callback;
+        }
+    }
+
+    private final Map<String, Map<String, Document>> collections = new HashMap<>();
+    private final Map<String, List<Listener>> listenersByCollection = new HashMap<>();
+
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong documentsWritten = new AtomicLong();
+    private final AtomicLong snapshotsSent = new AtomicLong();
+    private final AtomicLong documentsSent = new AtomicLong();
+
+    @NonNull
+    public Query collection(@NonNull String name) {
+        return new Query(name, Collections.emptyMap());
+    }
+
+    @NonNull
+    public WriteBatch batch() {
+        return new WriteBatch();
+    }
+
+    public void set(@NonNull String collection, @NonNull String id, @NonNull Map<String, Object> data) {
+        batch().set(collection, id, data).commit();
+    }
+
+    public void update(@NonNull String collection, @NonNull String id, @NonNull Map<String, Object> fields) {
+        batch().update(collection, id, fields).commit();
+    }
+
+    public void delete(@NonNull String collection, @NonNull String id) {
+        batch().delete(collection, id).commit();
+    }
+
+    public long getCommitCount() { return commits.get(); }
+    public long getDocumentsWritten() { return documentsWritten.get(); }
+    /** Snapshots handed to listeners after commits, not counting the initial ones. */
+    public long getSnapshotsSent() { return snapshotsSent.get(); }
+    /** Documents across all those snapshots; each snapshot carries its full result set. */
+    public long getDocumentsSent() { return documentsSent.get(); }
+
+    private void apply(List<Write> writes) {
+        synchronized (this) {
+            Set<Listener> touched = new LinkedHashSet<>();
+            for (Write write : writes) {
+                Map<String, Document> documents = documents(write.collection);
+                Document before = documents.get(write.id);
+                Document after;
+                if (write.data == null) {
+                    after = null;
+                    documents.remove(write.id);
+                } else if (write.merge) {
+                    if (before == null) continue;
+                    Map<String, Object> merged = new HashMap<>(before.getData());
+                    merged.putAll(write.data);
+                    after = new Document(write.id, merged);
+                    documents.put(write.id, after);
+                } else {
+                    after = new Document(write.id, write.data);
+                    documents.put(write.id, after);
+                }
+                for (Listener listener : listeners(write.collection)) {
+                    boolean wasIn = listener.query.matches(before);
+                    boolean isIn = listener.query.matches(after);
+                    if (isIn) {
+                        listener.results.put(write.id, after);
+                    } else if (wasIn) {
+                        listener.results.remove(write.id);
+                    }
+                    if (wasIn || isIn) {
+                        touched.add(listener);
+                    }
+                }
+            }
+            long commitNanos = System.nanoTime();
+            commits.incrementAndGet();
+            documentsWritten.addAndGet(writes.size());
+            // Queued in commit order; delivering after the lock is released would let a
+            // concurrent commit's newer snapshot overtake this one
+            for (Listener listener : touched) {
+                QuerySnapshot snapshot = new QuerySnapshot(new ArrayList<>(listener.results.values()), commitNanos);
+                snapshotsSent.incrementAndGet();
+                documentsSent.addAndGet(snapshot.getDocuments().size());
+                deliver(listener, snapshot);
+            }
+        }
+    }
+
+    private static void deliver(Listener listener, QuerySnapshot snapshot) {
+        listener.executor.execute(() -> {
+            if (listener.active) listener.callback.onSnapshot(snapshot);
+        });
+    }
+
+    private Map<String, Document> documents(String collection) {
+        Map<String, Document> documents = collections.get(collection);
+        if (documents == null) {
+            documents = new LinkedHashMap<>();
+            collections.put(collection, documents);
+        }
+        return documents;
+    }
+
+    private List<Listener> listeners(String collection) {
+        List<Listener> listeners = listenersByCollection.get(collection);
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+            listenersByCollection.put(collection, listeners);
+        }
+        return listeners;
+    }
+}
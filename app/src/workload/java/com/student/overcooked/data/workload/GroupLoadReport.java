@@ -0,0 +1,94 @@
+package com.student.overcooked.data.workload;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * What a {@link GroupLoadSimulator} run measured. Latencies are in milliseconds.
+ *
+ * Remote delivery is commit to listener callback on a virtual member. Decode is the local
+ * device turning a task snapshot into rows on its main thread, reconcile is
+ * {@code GroupTaskDao.reconcile} on the database thread, and end-to-end is commit to the end
+ * of that reconcile.
+ */
+public final class GroupLoadReport {
+
+    private final GroupLoadScenario scenario;
+    private final long[] actions;
+    private final long commits;
+    private final long documentsWritten;
+    private final long snapshotsSent;
+    private final long documentsSent;
+    private final LatencyRecorder delivery;
+    private final LatencyRecorder decode;
+    private final LatencyRecorder reconcile;
+    private final LatencyRecorder endToEnd;
+    private final long reconcileWrites;
+    private final long elapsedMillis;
+
+    GroupLoadReport(GroupLoadScenario scenario, long[] actions, FakeFirestore store, LatencyRecorder delivery,
+                    LatencyRecorder decode, LatencyRecorder reconcile, LatencyRecorder endToEnd,
+                    long reconcileWrites, long elapsedMillis) {
+        this.scenario = scenario;
+        this.actions = actions.clone();
+        this.commits = store.getCommitCount();
+        this.documentsWritten = store.getDocumentsWritten();
+        this.snapshotsSent = store.getSnapshotsSent();
+        this.documentsSent = store.getDocumentsSent();
+        this.delivery = delivery;
+        this.decode = decode;
+        this.reconcile = reconcile;
+        this.endToEnd = endToEnd;
+        this.reconcileWrites = reconcileWrites;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @NonNull public GroupLoadScenario getScenario() { return scenario; }
+    public long getCommits() { return commits; }
+    public long getDocumentsWritten() { return documentsWritten; }
+    public long getSnapshotsSent() { return snapshotsSent; }
+    public long getDocumentsSent() { return documentsSent; }
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    /** Listener callbacks triggered per commit, across every device in the group. */
+    public double getFanOut() {
+        return commits == 0 ? 0 : (double) snapshotsSent / commits;
+    }
+
+    public double getDeliveryP50() { return delivery.percentileMillis(50); }
+    public double getDeliveryP99() { return delivery.percentileMillis(99); }
+    public double getDeliveryMax() { return delivery.maxMillis(); }
+    public double getDecodeP50() { return decode.percentileMillis(50); }
+    public double getDecodeP99() { return decode.percentileMillis(99); }
+    public double getReconcileP50() { return reconcile.percentileMillis(50); }
+    public double getReconcileP99() { return reconcile.percentileMillis(99); }
+    public long getReconciles() { return reconcile.getCount(); }
+    public long getReconcileWrites() { return reconcileWrites; }
+    public double getEndToEndP50() { return endToEnd.percentileMillis(50); }
+    public double getEndToEndP99() { return endToEnd.percentileMillis(99); }
+    public double getEndToEndMax() { return endToEnd.maxMillis(); }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                "%s%n%n"
+                        + "ran %d ms: %d chat, %d task edits, %d uploads, %d task batches%n"
+                        + "commits %d, documents written %d%n"
+                        + "snapshots delivered %d (%.1f per commit), documents delivered %d%n%n"
+                        + "                p50 ms    p99 ms    max ms%n"
+                        + "delivery     %9.2f %9.2f %9.2f%n"
+                        + "decode       %9.2f %9.2f %9.2f%n"
+                        + "reconcile    %9.2f %9.2f %9.2f%n"
+                        + "end-to-end   %9.2f %9.2f %9.2f%n%n"
+                        + "reconciles %d, rows written %d",
+                scenario, elapsedMillis, actions[0], actions[1], actions[2], actions[3],
+                commits, documentsWritten, snapshotsSent, getFanOut(), documentsSent,
+                getDeliveryP50(), getDeliveryP99(), getDeliveryMax(),
+                getDecodeP50(), getDecodeP99(), decode.maxMillis(),
+                getReconcileP50(), getReconcileP99(), reconcile.maxMillis(),
+                getEndToEndP50(), getEndToEndP99(), getEndToEndMax(),
+                getReconciles(), reconcileWrites);
+    }
+}
@@ -0,0 +1,101 @@
+package com.student.overcooked.data.workload;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Shape of one {@link GroupLoadSimulator} run: how many members share a group, how long they
+ * stay active and what they do.
+ *
+ * Each member repeats a session of actions separated by exponentially distributed think
+ * times; the action is drawn from the mix below. Seeded like {@link WorkloadSpec}, so two runs
+ * of the same scenario issue the same writes in the same per-member order.
+ */
+public final class GroupLoadScenario {
+
+    /** Percentages of the action mix; whatever is left after these creates a batch of tasks. */
+    public static final int CHAT_PERCENT = 60;
+    public static final int TASK_EDIT_PERCENT = 25;
+    public static final int UPLOAD_PERCENT = 10;
+
+    /** Tasks written in one batch by the "plan the week" action. */
+    public static final int BATCH_SIZE = 3;
+
+    private final long seed;
+    private final long now;
+    private final int members;
+    private final long durationMillis;
+    private final long meanThinkMillis;
+    private final int initialTasks;
+    private final int initialMessages;
+    private final int initialResources;
+    private final int deliveryThreads;
+
+    private GroupLoadScenario(long seed, long now, int members, long durationMillis, long meanThinkMillis,
+                              int initialTasks, int initialMessages, int initialResources, int deliveryThreads) {
+        this.seed = seed;
+        this.now = now;
+        this.members = members;
+        this.durationMillis = durationMillis;
+        this.meanThinkMillis = meanThinkMillis;
+        this.initialTasks = initialTasks;
+        this.initialMessages = initialMessages;
+        this.initialResources = initialResources;
+        this.deliveryThreads = deliveryThreads;
+    }
+
+    /**
+     * A whole course sharing one group in the week before a deadline.
+     */
+    @NonNull
+    public static GroupLoadScenario courseGroup(long now) {
+        return new GroupLoadScenario(WorkloadSpec.DEFAULT_SEED, now, 200, 20_000L, 4_000L,
+                400, 1_000, 60, 4);
+    }
+
+    /**
+     * A typical project team; the baseline to compare {@link #courseGroup} against.
+     */
+    @NonNull
+    public static GroupLoadScenario team(long now) {
+        return new GroupLoadScenario(WorkloadSpec.DEFAULT_SEED, now, 6, 20_000L, 4_000L,
+                24, 200, 10, 4);
+    }
+
+    @NonNull
+    public GroupLoadScenario withMembers(int members) {
+        return new GroupLoadScenario(seed, now, members, durationMillis, meanThinkMillis,
+                initialTasks, initialMessages, initialResources, deliveryThreads);
+    }
+
+    @NonNull
+    public GroupLoadScenario withDurationMillis(long durationMillis) {
+        return new GroupLoadScenario(seed, now, members, durationMillis, meanThinkMillis,
+                initialTasks, initialMessages, initialResources, deliveryThreads);
+    }
+
+    @NonNull
+    public GroupLoadScenario withMeanThinkMillis(long meanThinkMillis) {
+        return new GroupLoadScenario(seed, now, members, durationMillis, meanThinkMillis,
+                initialTasks, initialMessages, initialResources, deliveryThreads);
+    }
+
+    public long getSeed() { return seed; }
+    public long getNow() { return now; }
+    public int getMembers() { return members; }
+    public long getDurationMillis() { return durationMillis; }
+    public long getMeanThinkMillis() { return meanThinkMillis; }
+    public int getInitialTasks() { return initialTasks; }
+    public int getInitialMessages() { return initialMessages; }
+    public int getInitialResources() { return initialResources; }
+    /** Threads shared by the virtual members' listeners, standing in for their devices. */
+    public int getDeliveryThreads() { return deliveryThreads; }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "GroupLoadScenario{seed=" + seed + ", members=" + members + ", durationMillis=" + durationMillis
+                + ", meanThinkMillis=" + meanThinkMillis + ", initialTasks=" + initialTasks
+                + ", initialMessages=" + initialMessages + ", initialResources=" + initialResources
+                + ", deliveryThreads=" + deliveryThreads + '}';
+    }
+}
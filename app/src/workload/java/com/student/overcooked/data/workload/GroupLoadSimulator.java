@@ -0,0 +1,364 @@
+package com.student.overcooked.data.workload;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import com.student.overcooked.data.dao.GroupTaskDao;
+import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.repository.group.GroupTasksDataSource;
+import com.student.overcooked.util.DayClock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Drives one group in a {@link FakeFirestore} with many virtual members and measures what the
+ * local device pays for it.
+ *
+ * Every member listens to the group's tasks, chat, files and member list the way
+ * {@code GroupRepository} does, and acts on a {@link GroupLoadScenario} schedule. The local
+ * device listens to the tasks and runs each snapshot through the same steps as
+ * {@link GroupTasksDataSource}: decode and {@link GroupTasksDataSource#applyRemoteState} on a
+ * "main" thread, then {@link GroupTaskDao#reconcile} on a database thread.
+ *
+ * Reconciled rows land in the given database, so pass a scratch one such as
+ * {@link WorkloadLoader#openInMemory}.
+ */
+public final class GroupLoadSimulator {
+
+    public static final String GROUP_ID = WorkloadGenerator.ID_PREFIX + "load-group";
+
+    private static final int CHAT = 0;
+    private static final int TASK_EDIT = 1;
+    private static final int UPLOAD = 2;
+    private static final int TASK_BATCH = 3;
+
+    private static final String[] MESSAGES = {
+            "Pushed my part", "Who is on the slides?", "Meeting at 5?", "Can someone review section 2",
+            "Done with the references", "Running late", "Check the shared doc", "Deadline moved?"
+    };
+
+    private final GroupLoadScenario scenario;
+    private final GroupTaskDao groupTaskDao;
+
+    private final List<String> taskIds = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLongArray actions = new AtomicLongArray(4);
+
+    private final LatencyRecorder delivery = new LatencyRecorder();
+    private final LatencyRecorder decode = new LatencyRecorder();
+    private final LatencyRecorder reconcile = new LatencyRecorder();
+    private final LatencyRecorder endToEnd = new LatencyRecorder();
+    private final AtomicLong reconcileWrites = new AtomicLong();
+
+    private volatile boolean stopped;
+
+    public GroupLoadSimulator(@NonNull GroupLoadScenario scenario, @NonNull OvercookedDatabase database) {
+        this.scenario = scenario;
+        this.groupTaskDao = database.groupTaskDao();
+    }
+
+    /**
+     * Seed the group, run the scenario for its duration, wait for every queued snapshot to be
+     * handled and report. A simulator runs once.
+     */
+    @WorkerThread
+    @NonNull
+    public GroupLoadReport run() throws InterruptedException {
+        FakeFirestore store = new FakeFirestore();
+        seed(store);
+
+        ExecutorService mainThread = Executors.newSingleThreadExecutor(r -> new Thread(r, "group-load-main"));
+        ExecutorService databaseThread = Executors.newSingleThreadExecutor(r -> new Thread(r, "group-load-db"));
+        ExecutorService devices = Executors.newFixedThreadPool(scenario.getDeliveryThreads(),
+                r -> new Thread(r, "group-load-device"));
+        ScheduledExecutorService actors = Executors.newScheduledThreadPool(2, r -> new Thread(r, "group-load-actor"));
+        List<FakeFirestore.ListenerRegistration> registrations = new ArrayList<>();
+        try {
+            registrations.add(store.collection(FakeFirestore.GROUP_TASKS)
+                    .whereEqualTo("groupId", GROUP_ID)
+                    .addSnapshotListener(mainThread, snapshot -> onLocalSnapshot(snapshot, databaseThread)));
+            // The initial snapshot fills Room; measure from the first real write.
+            drain(mainThread);
+            drain(databaseThread);
+
+            FakeFirestore.SnapshotListener remote = snapshot -> {
+                if (snapshot.getCommitNanos() != 0) {
+                    delivery.record(System.nanoTime() - snapshot.getCommitNanos());
+                }
+            };
+            String[] collections = {FakeFirestore.GROUP_TASKS, FakeFirestore.GROUP_MESSAGES,
+                    FakeFirestore.GROUP_RESOURCES, FakeFirestore.GROUP_MEMBERS};
+            for (int m = 0; m < scenario.getMembers(); m++) {
+                for (String collection : collections) {
+                    registrations.add(store.collection(collection)
+                            .whereEqualTo("groupId", GROUP_ID)
+                            .addSnapshotListener(devices, remote));
+                }
+            }
+
+            long start = System.nanoTime();
+            for (int m = 0; m < scenario.getMembers(); m++) {
+                scheduleNext(actors, store, memberId(m), new Random(scenario.getSeed() + m));
+            }
+            Thread.sleep(scenario.getDurationMillis());
+            stopped = true;
+            actors.shutdownNow();
+            actors.awaitTermination(10, TimeUnit.SECONDS);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+            devices.shutdown();
+            devices.awaitTermination(30, TimeUnit.SECONDS);
+            drain(mainThread);
+            drain(databaseThread);
+
+            long[] counts = new long[actions.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = actions.get(i);
+            }
+            return new GroupLoadReport(scenario, counts, store, delivery, decode, reconcile, endToEnd,
+                    reconcileWrites.get(), elapsedMillis);
+        } finally {
+            stopped = true;
+            for (FakeFirestore.ListenerRegistration registration : registrations) {
+                registration.remove();
+            }
+            actors.shutdownNow();
+            devices.shutdownNow();
+            mainThread.shutdownNow();
+            databaseThread.shutdownNow();
+        }
+    }
+
+    private void onLocalSnapshot(FakeFirestore.QuerySnapshot snapshot, ExecutorService databaseThread) {
+        long start = System.nanoTime();
+        List<GroupTask> remoteTasks = new ArrayList<>(snapshot.getDocuments().size());
+        for (FakeFirestore.Document document : snapshot.getDocuments()) {
+            GroupTask task = decodeTask(document);
+            GroupTasksDataSource.applyRemoteState(task, (String) document.get("status"),
+                    (Boolean) document.get("rewardClaimed"));
+            remoteTasks.add(task);
+        }
+        long commitNanos = snapshot.getCommitNanos();
+        if (commitNanos != 0) {
+            decode.record(System.nanoTime() - start);
+        }
+        databaseThread.execute(() -> {
+            long reconcileStart = System.nanoTime();
+            int writes = groupTaskDao.reconcile(GROUP_ID, remoteTasks);
+            long end = System.nanoTime();
+            if (commitNanos == 0) {
+                return;
+            }
+            reconcile.record(end - reconcileStart);
+            reconcileWrites.addAndGet(writes);
+            endToEnd.record(end - commitNanos);
+        });
+    }
+
+    private void scheduleNext(ScheduledExecutorService actors, FakeFirestore store, String memberId, Random random) {
+        if (stopped) {
+            return;
+        }
+        long think = (long) (-scenario.getMeanThinkMillis() * Math.log(1 - random.nextDouble()));
+        actors.schedule(() -> {
+            if (stopped) {
+                return;
+            }
+            act(store, memberId, random);
+            scheduleNext(actors, store, memberId, random);
+        }, think, TimeUnit.MILLISECONDS);
+    }
+
+    private void act(FakeFirestore store, String memberId, Random random) {
+        long now = DayClock.get().now();
+        int roll = random.nextInt(100);
+        if (roll < GroupLoadScenario.CHAT_PERCENT) {
+            store.set(FakeFirestore.GROUP_MESSAGES, newId("message"),
+                    message(memberId, MESSAGES[random.nextInt(MESSAGES.length)], now));
+            actions.incrementAndGet(CHAT);
+        } else if (roll < GroupLoadScenario.CHAT_PERCENT + GroupLoadScenario.TASK_EDIT_PERCENT) {
+            String taskId = randomTask(random);
+            if (taskId == null) {
+                return;
+            }
+            TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("status", status.name());
+            fields.put("completed", status == TaskStatus.DONE);
+            fields.put("completedAt", status == TaskStatus.DONE ? now : null);
+            fields.put("rewardClaimed", status == TaskStatus.DONE);
+            fields.put("assigneeId", memberId);
+            store.update(FakeFirestore.GROUP_TASKS, taskId, fields);
+            actions.incrementAndGet(TASK_EDIT);
+        } else if (roll < GroupLoadScenario.CHAT_PERCENT + GroupLoadScenario.TASK_EDIT_PERCENT
+                + GroupLoadScenario.UPLOAD_PERCENT) {
+            store.set(FakeFirestore.GROUP_RESOURCES, newId("resource"),
+                    resource(memberId, "upload-" + random.nextInt(1_000) + ".pdf", now));
+            actions.incrementAndGet(UPLOAD);
+        } else {
+            FakeFirestore.WriteBatch batch = store.batch();
+            List<String> created = new ArrayList<>(GroupLoadScenario.BATCH_SIZE);
+            for (int i = 0; i < GroupLoadScenario.BATCH_SIZE; i++) {
+                String taskId = newId("task");
+                batch.set(FakeFirestore.GROUP_TASKS, taskId, task(taskId, memberId, random, now));
+                created.add(taskId);
+            }
+            batch.commit();
+            synchronized (taskIds) {
+                taskIds.addAll(created);
+            }
+            actions.incrementAndGet(TASK_BATCH);
+        }
+    }
+
+    private void seed(FakeFirestore store) {
+        Random random = new Random(scenario.getSeed());
+        long now = scenario.getNow();
+        FakeFirestore.WriteBatch[] batch = {store.batch()};
+        int[] pending = {0};
+        Runnable flushIfFull = () -> {
+            if (++pending[0] == FakeFirestore.MAX_BATCH_WRITES) {
+                batch[0].commit();
+                batch[0] = store.batch();
+                pending[0] = 0;
+            }
+        };
+
+        Map<String, Object> group = new HashMap<>();
+        group.put("id", GROUP_ID);
+        group.put("name", "Load test group");
+        group.put("ownerId", memberId(0));
+        group.put("memberCount", scenario.getMembers());
+        batch[0].set(FakeFirestore.GROUPS, GROUP_ID, group);
+        flushIfFull.run();
+
+        for (int m = 0; m < scenario.getMembers(); m++) {
+            String memberId = memberId(m);
+            Map<String, Object> member = new HashMap<>();
+            member.put("id", GROUP_ID + "-" + memberId);
+            member.put("groupId", GROUP_ID);
+            member.put("userId", memberId);
+            member.put("displayName", "Member " + m);
+            member.put("role", m == 0 ? "OWNER" : "MEMBER");
+            batch[0].set(FakeFirestore.GROUP_MEMBERS, GROUP_ID + "-" + memberId, member);
+            flushIfFull.run();
+        }
+        for (int i = 0; i < scenario.getInitialTasks(); i++) {
+            String taskId = newId("task");
+            batch[0].set(FakeFirestore.GROUP_TASKS, taskId,
+                    task(taskId, memberId(random.nextInt(scenario.getMembers())), random, now));
+            taskIds.add(taskId);
+            flushIfFull.run();
+        }
+        for (int i = 0; i < scenario.getInitialMessages(); i++) {
+            batch[0].set(FakeFirestore.GROUP_MESSAGES, newId("message"),
+                    message(memberId(random.nextInt(scenario.getMembers())),
+                            MESSAGES[random.nextInt(MESSAGES.length)], now - (long) i * 60_000L));
+            flushIfFull.run();
+        }
+        for (int i = 0; i < scenario.getInitialResources(); i++) {
+            batch[0].set(FakeFirestore.GROUP_RESOURCES, newId("resource"),
+                    resource(memberId(random.nextInt(scenario.getMembers())), "notes-" + i + ".pdf", now));
+            flushIfFull.run();
+        }
+        batch[0].commit();
+    }
+
+    private String randomTask(Random random) {
+        synchronized (taskIds) {
+            return taskIds.isEmpty() ? null : taskIds.get(random.nextInt(taskIds.size()));
+        }
+    }
+
+    private String newId(String kind) {
+        return GROUP_ID + "-" + kind + "-" + nextId.getAndIncrement();
+    }
+
+    private static String memberId(int index) {
+        return WorkloadGenerator.ID_PREFIX + "member-" + index;
+    }
+
+    private static Map<String, Object> task(String id, String createdBy, Random random, long now) {
+        Map<String, Object> task = new HashMap<>();
+        task.put("id", id);
+        task.put("groupId", GROUP_ID);
+        task.put("title", "Task " + id.substring(id.lastIndexOf('-') + 1));
+        task.put("description", "");
+        task.put("assigneeId", createdBy);
+        task.put("priority", Priority.values()[random.nextInt(Priority.values().length)].name());
+        task.put("deadline", now + (1 + random.nextInt(14)) * DayClock.DAY_MILLIS);
+        task.put("completed", false);
+        task.put("completedAt", null);
+        task.put("createdBy", createdBy);
+        task.put("createdAt", now);
+        task.put("status", TaskStatus.NOT_STARTED.name());
+        task.put("rewardClaimed", false);
+        return task;
+    }
+
+    private static Map<String, Object> message(String senderId, String content, long timestamp) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("groupId", GROUP_ID);
+        message.put("senderId", senderId);
+        message.put("content", content);
+        message.put("timestamp", timestamp);
+        return message;
+    }
+
+    private static Map<String, Object> resource(String createdBy, String title, long createdAt) {
+        Map<String, Object> resource = new HashMap<>();
+        resource.put("groupId", GROUP_ID);
+        resource.put("type", "FILE");
+        resource.put("title", title);
+        resource.put("createdBy", createdBy);
+        resource.put("createdAt", createdAt);
+        return resource;
+    }
+
+    /**
+     * Counterpart of {@code DocumentSnapshot.toObject(GroupTask.class)} for the fields
+     * {@link #task} writes; dates are stored as epoch millis instead of timestamps.
+     */
+    private static GroupTask decodeTask(FakeFirestore.Document document) {
+        GroupTask task = new GroupTask();
+        task.setId(document.getId());
+        task.setGroupId((String) document.get("groupId"));
+        task.setTitle((String) document.get("title"));
+        task.setDescription((String) document.get("description"));
+        task.setAssigneeId((String) document.get("assigneeId"));
+        Object priority = document.get("priority");
+        task.setPriority(priority != null ? Priority.valueOf((String) priority) : Priority.MEDIUM);
+        task.setDeadlineMillis(millis(document.get("deadline")));
+        task.setCompleted(Boolean.TRUE.equals(document.get("completed")));
+        task.setCompletedAtMillis(millis(document.get("completedAt")));
+        task.setCreatedBy((String) document.get("createdBy"));
+        task.setCreatedAtMillis(millis(document.get("createdAt")));
+        return task;
+    }
+
+    private static long millis(Object value) {
+        return value instanceof Long ? (Long) value : DayClock.NO_TIME;
+    }
+
+    private static void drain(ExecutorService executor) throws InterruptedException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.student.overcooked.data.workload;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Thread-safe latency samples with bounded memory. Past {@value #CAPACITY} samples it keeps a
+ * uniform reservoir, so percentiles stay representative while the count and maximum are exact.
+ */
+final class LatencyRecorder {
+
+    private static final int CAPACITY = 10_000;
+
+    private final long[] reservoir = new long[CAPACITY];
+    private final Random random = new Random(0);
+    private long count;
+    private long maxNanos;
+    private long totalNanos;
+
+    synchronized void record(long nanos) {
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        if (count <= CAPACITY) {
+            reservoir[(int) count - 1] = nanos;
+        } else {
+            long slot = (long) (random.nextDouble() * count);
+            if (slot < CAPACITY) reservoir[(int) slot] = nanos;
+        }
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    synchronized double maxMillis() {
+        return maxNanos / 1_000_000.0;
+    }
+
+    synchronized double meanMillis() {
+        return count == 0 ? 0 : totalNanos / 1_000_000.0 / count;
+    }
+
+    synchronized double percentileMillis(int percent) {
+        int size = (int) Math.min(count, CAPACITY);
+        if (size == 0) return 0;
+        long[] sorted = Arrays.copyOf(reservoir, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percent / 100.0 * size);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
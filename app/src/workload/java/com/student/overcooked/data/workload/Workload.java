@@ -0,0 +1,71 @@
+package com.student.overcooked.data.workload;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.data.model.Group;
+import com.student.overcooked.data.model.GroupMember;
+import com.student.overcooked.data.model.GroupMessage;
+import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.Project;
+import com.student.overcooked.data.model.ProjectResource;
+import com.student.overcooked.data.model.Task;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rows produced by {@link WorkloadGenerator}.
+ *
+ * Group members have no local table; they only exist remotely, so
+ * {@link WorkloadLoader#load(FakeFirestore, Workload)} writes them and the database load
+ * skips them.
+ */
+public final class Workload {
+
+    private final WorkloadSpec spec;
+    private final String selfUserId;
+    private final List<Task> tasks;
+    private final List<Project> projects;
+    private final List<Group> groups;
+    private final List<GroupMember> members;
+    private final List<GroupTask> groupTasks;
+    private final List<GroupMessage> messages;
+    private final List<ProjectResource> resources;
+
+    Workload(WorkloadSpec spec, String selfUserId, List<Task> tasks, List<Project> projects,
+             List<Group> groups, List<GroupMember> members, List<GroupTask> groupTasks,
+             List<GroupMessage> messages, List<ProjectResource> resources) {
+        this.spec = spec;
+        this.selfUserId = selfUserId;
+        this.tasks = Collections.unmodifiableList(tasks);
+        this.projects = Collections.unmodifiableList(projects);
+        this.groups = Collections.unmodifiableList(groups);
+        this.members = Collections.unmodifiableList(members);
+        this.groupTasks = Collections.unmodifiableList(groupTasks);
+        this.messages = Collections.unmodifiableList(messages);
+        this.resources = Collections.unmodifiableList(resources);
+    }
+
+    @NonNull public WorkloadSpec getSpec() { return spec; }
+    @NonNull public String getSelfUserId() { return selfUserId; }
+    @NonNull public List<Task> getTasks() { return tasks; }
+    @NonNull public List<Project> getProjects() { return projects; }
+    @NonNull public List<Group> getGroups() { return groups; }
+    @NonNull public List<GroupMember> getMembers() { return members; }
+    @NonNull public List<GroupTask> getGroupTasks() { return groupTasks; }
+    @NonNull public List<GroupMessage> getMessages() { return messages; }
+    @NonNull public List<ProjectResource> getResources() { return resources; }
+
+    public int getRowCount() {
+        return tasks.size() + projects.size() + groups.size() + groupTasks.size()
+                + messages.size() + resources.size();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "Workload{tasks=" + tasks.size() + ", projects=" + projects.size() + ", groups=" + groups.size()
+                + ", members=" + members.size() + ", groupTasks=" + groupTasks.size()
+                + ", messages=" + messages.size() + ", resources=" + resources.size() + '}';
+    }
+}
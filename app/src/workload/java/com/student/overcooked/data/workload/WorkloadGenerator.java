@@ -0,0 +1,350 @@
+package com.student.overcooked.data.workload;
+
+import androidx.annotation.NonNull;
+
+import com.student.overcooked.data.model.Group;
+import com.student.overcooked.data.model.GroupMember;
+import com.student.overcooked.data.model.GroupMessage;
+import com.student.overcooked.data.model.GroupRole;
+import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.Project;
+import com.student.overcooked.data.model.ProjectResource;
+import com.student.overcooked.data.model.ProjectResourceType;
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskStatus;
+import com.student.overcooked.data.model.TaskType;
+import com.student.overcooked.util.DayClock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Seeded generator for realistic local datasets.
+ *
+ * Shapes follow what real accounts look like rather than uniform noise:
+ * <ul>
+ *   <li>Deadlines cluster around a past, a midterm and a finals exam week, with a uniform
+ *       background and one task in ten undated.</li>
+ *   <li>Past deadlines are mostly completed, future ones mostly not.</li>
+ *   <li>Group sizes are Pareto distributed: many small study groups, a few large classes.
+ *       A few members take part in many groups.</li>
+ *   <li>Chat arrives in bursts of quick replies separated by long quiet gaps, and a few
+ *       members write most of it.</li>
+ * </ul>
+ *
+ * Each section draws from its own seeded stream, so changing one count does not reshuffle
+ * the others. Every generated row carries the {@link #ID_PREFIX} marker, in its id, group id,
+ * Firestore id or (for projects) description, so a workload can be loaded next to real data
+ * and removed again. Only uses model classes, so the JVM benchmark module compiles it too.
+ */
+public final class WorkloadGenerator {
+
+    /**
+     * Placeholder local ids start here. {@link WorkloadLoader} swaps them for ids the database
+     * assigns, so they only link tasks to projects within a workload.
+     */
+    public static final long ID_BASE = 1L << 40;
+    public static final String ID_PREFIX = "synthetic-";
+    /** Description of every generated project; projects have no other free-form key. */
+    public static final String PROJECT_MARKER = ID_PREFIX + "project";
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = DayClock.DAY_MILLIS;
+
+    private static final int STREAM_TASKS = 1;
+    private static final int STREAM_PROJECTS = 2;
+    private static final int STREAM_GROUPS = 3;
+    private static final int STREAM_CHAT = 4;
+    private static final int STREAM_RESOURCES = 5;
+
+    private static final double GROUP_SIZE_ALPHA = 1.4;
+    private static final double MEAN_BURST_GAP_HOURS = 30;
+    private static final double MEAN_BURST_LENGTH = 10;
+    private static final double MEAN_REPLY_SECONDS = 45;
+
+    private static final String[] COURSES = {
+            "MATH 201", "CS 240", "PHYS 110", "CHEM 105", "ECON 101", "HIST 220", "ENG 150", "BIO 130"
+    };
+    private static final int[] DEADLINE_HOURS = {9, 12, 17, 23, 23, 23};
+    private static final String[] WORDS = {
+            "ok", "lab", "report", "due", "tomorrow", "who", "is", "doing", "the", "slides", "meet",
+            "library", "at", "5", "I", "can", "take", "part", "2", "sent", "draft", "check", "please",
+            "thanks", "sorry", "late", "exam", "notes", "link", "question", "about", "deadline", "done"
+    };
+    private static final String[] PROJECT_COLORS = {"#FF6B35", "#4CAF50", "#2196F3", "#9C27B0", "#FFD93D"};
+
+    private final WorkloadSpec spec;
+    private final long now;
+    private final long[] examWeeks;
+
+    public WorkloadGenerator(@NonNull WorkloadSpec spec) {
+        this.spec = spec;
+        this.now = spec.getNow();
+        this.examWeeks = new long[]{now - 3 * 7 * DAY, now + 4 * 7 * DAY, now + 11 * 7 * DAY};
+    }
+
+    /**
+     * @param selfUserId owner of the personal tasks and a member of every group
+     */
+    @NonNull
+    public Workload generate(@NonNull String selfUserId) {
+        List<Project> projects = generateProjects();
+        List<Task> tasks = generateTasks(selfUserId, spec.getPersonalTasks(), projects.size());
+
+        Random groupRandom = stream(STREAM_GROUPS);
+        Random chatRandom = stream(STREAM_CHAT);
+        Random resourceRandom = stream(STREAM_RESOURCES);
+        int userPool = Math.max(8, spec.getGroups() * 4);
+
+        List<Group> groups = new ArrayList<>(spec.getGroups());
+        List<GroupMember> members = new ArrayList<>();
+        List<GroupTask> groupTasks = new ArrayList<>();
+        List<GroupMessage> messages = new ArrayList<>();
+        List<ProjectResource> resources = new ArrayList<>();
+
+        for (int g = 0; g < spec.getGroups(); g++) {
+            String groupId = ID_PREFIX + "group-" + g;
+            List<String> memberIds = pickMembers(groupRandom, selfUserId, userPool);
+            String adminId = memberIds.get(0);
+            long createdAt = now - (long) ((30 + groupRandom.nextDouble() * 60) * DAY);
+
+            for (int m = 0; m < memberIds.size(); m++) {
+                String userId = memberIds.get(m);
+                members.add(new GroupMember(groupId + "-" + userId, groupId, userId, displayName(userId),
+                        userId + "@example.com", m == 0 ? GroupRole.ADMIN : GroupRole.MEMBER,
+                        new Date(createdAt + m * HOUR), false));
+            }
+
+            int completed = 0;
+            int taskCount = (int) Math.round(memberIds.size() * spec.getGroupTasksPerMember()
+                    * (0.5 + groupRandom.nextDouble()));
+            for (int t = 0; t < taskCount; t++) {
+                String assigneeId = memberIds.get(groupRandom.nextInt(memberIds.size()));
+                long deadline = sampleDeadline(groupRandom);
+                boolean isCompleted = sampleCompleted(groupRandom, deadline);
+                if (isCompleted) completed++;
+                groupTasks.add(new GroupTask(groupId + "-task-" + t, groupId,
+                        "Part " + (t + 1) + " of the group deliverable",
+                        "Generated group task", assigneeId, displayName(assigneeId), samplePriority(groupRandom),
+                        toDate(deadline), isCompleted, isCompleted ? new Date(completedAt(groupRandom, deadline)) : null,
+                        adminId, new Date(createdAt + t * MINUTE)));
+            }
+
+            String course = COURSES[g % COURSES.length];
+            groups.add(new Group(groupId, course + " study group " + (g + 1), course, "Generated group",
+                    joinCode(g), adminId, new Date(createdAt), memberIds.size(), taskCount, completed,
+                    false, new Date(examWeeks[examWeeks.length - 1])));
+
+            int messageCount = Math.max(1, spec.getMessagesPerGroup() * memberIds.size() / 8);
+            addChat(chatRandom, groupId, memberIds, messageCount, createdAt, messages);
+
+            int resourceCount = (int) Math.round(spec.getResourcesPerGroup() * (0.5 + resourceRandom.nextDouble()));
+            for (int r = 0; r < resourceCount; r++) {
+                resources.add(sampleResource(resourceRandom, groupId + "-resource-" + r, groupId,
+                        memberIds.get(resourceRandom.nextInt(memberIds.size())), createdAt));
+            }
+        }
+        return new Workload(spec, selfUserId, tasks, projects, groups, members, groupTasks, messages, resources);
+    }
+
+    /**
+     * Personal tasks only, with no projects; for callers that need a task list of a given size.
+     */
+    @NonNull
+    public List<Task> generateTasks(@NonNull String userId, int count) {
+        return generateTasks(userId, count, 0);
+    }
+
+    // ================= Personal data =================
+
+    private List<Project> generateProjects() {
+        Random random = stream(STREAM_PROJECTS);
+        List<Project> projects = new ArrayList<>(spec.getProjects());
+        for (int i = 0; i < spec.getProjects(); i++) {
+            long deadline = sampleDeadline(random);
+            boolean completed = sampleCompleted(random, deadline);
+            projects.add(new Project(ID_BASE + i, "Project " + (i + 1), PROJECT_MARKER,
+                    COURSES[random.nextInt(COURSES.length)], toDate(deadline), random.nextInt(4) == 0, completed,
+                    PROJECT_COLORS[i % PROJECT_COLORS.length], new Date(now - 40 * DAY),
+                    completed ? new Date(completedAt(random, deadline)) : null));
+        }
+        return projects;
+    }
+
+    private List<Task> generateTasks(String userId, int count, int projectCount) {
+        Random random = stream(STREAM_TASKS);
+        TaskType[] types = TaskType.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String course = COURSES[random.nextInt(COURSES.length)];
+            TaskType type = types[random.nextInt(types.length)];
+            long deadline = sampleDeadline(random);
+            boolean completed = sampleCompleted(random, deadline);
+
+            Task task = new Task();
+            task.setId(ID_BASE + i);
+            task.setFirestoreId(ID_PREFIX + "task-" + i);
+            task.setUserId(userId);
+            task.setTitle(course + " " + type.getDisplayName() + " " + (i + 1));
+            task.setDescription(random.nextInt(3) == 0 ? "" : "Generated " + type.getDisplayName().toLowerCase(Locale.US));
+            task.setCourse(course);
+            task.setTaskType(type);
+            task.setPriority(samplePriority(random));
+            task.setDeadlineMillis(deadline);
+            task.setCompleted(completed);
+            task.setStatus(completed ? TaskStatus.DONE
+                    : random.nextInt(10) < 3 ? TaskStatus.IN_PROGRESS : TaskStatus.NOT_STARTED);
+            task.setCompletedAtMillis(completed ? completedAt(random, deadline) : DayClock.NO_TIME);
+            task.setCreatedAtMillis(now - (long) (random.nextDouble() * 60 * DAY));
+            task.setRewardClaimed(completed);
+            if (projectCount > 0 && random.nextInt(10) < 3) {
+                // Earlier projects collect more tasks
+                task.setProjectId(ID_BASE + zipf(random, projectCount));
+            }
+            task.setNotes(random.nextInt(4) == 0 ? "Generated notes" : "");
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    // ================= Groups =================
+
+    private List<String> pickMembers(Random random, String selfUserId, int userPool) {
+        // Pareto: x >= 1, so sizes start at 3 and have a long tail
+        double x = Math.pow(1 - random.nextDouble(), -1 / GROUP_SIZE_ALPHA);
+        int size = (int) Math.min(spec.getMaxGroupSize(), 1 + Math.ceil(2 * x));
+        Set<String> ids = new LinkedHashSet<>();
+        ids.add(selfUserId);
+        // Half the picks are skewed, so a handful of users turn up in many groups
+        while (ids.size() < Math.min(size, userPool + 1)) {
+            int user = random.nextBoolean() ? zipf(random, userPool) : random.nextInt(userPool);
+            ids.add(ID_PREFIX + "user-" + user);
+        }
+        List<String> result = new ArrayList<>(ids);
+        Collections.rotate(result, -random.nextInt(result.size()));
+        return result;
+    }
+
+    private void addChat(Random random, String groupId, List<String> memberIds, int count, long since,
+                         List<GroupMessage> out) {
+        // Walk backwards from now so the latest bursts are always present
+        List<GroupMessage> chat = new ArrayList<>(count);
+        long t = now - (long) (exponential(random, MEAN_BURST_GAP_HOURS / 4) * HOUR);
+        while (chat.size() < count && t > since) {
+            int burst = 1 + (int) exponential(random, MEAN_BURST_LENGTH - 1);
+            for (int i = 0; i < burst && chat.size() < count; i++) {
+                String senderId = memberIds.get(zipf(random, memberIds.size()));
+                chat.add(new GroupMessage(groupId + "-message-" + chat.size(), groupId, senderId,
+                        displayName(senderId), sentence(random), new Date(t)));
+                t -= (long) (exponential(random, MEAN_REPLY_SECONDS) * 1000) + 1000;
+            }
+            t -= (long) (exponential(random, MEAN_BURST_GAP_HOURS) * HOUR);
+        }
+        Collections.reverse(chat);
+        out.addAll(chat);
+    }
+
+    private ProjectResource sampleResource(Random random, String id, String groupId, String createdBy, long since) {
+        long createdAt = since + (long) (random.nextDouble() * (now - since));
+        int roll = random.nextInt(100);
+        if (roll < 50) {
+            return new ProjectResource(id, groupId, ProjectResourceType.NOTE, "Meeting notes",
+                    sentence(random), createdBy, new Date(createdAt), null, null, null, 0L, null);
+        } else if (roll < 85) {
+            return new ProjectResource(id, groupId, ProjectResourceType.LINK, "Reading",
+                    "https://example.com/" + id, createdBy, new Date(createdAt), null, null, null, 0L, null);
+        }
+        // Log-normal file sizes: most are small documents, a few are large slide decks
+        long size = (long) Math.exp(12 + 1.5 * random.nextGaussian());
+        String fileName = id + ".pdf";
+        return new ProjectResource(id, groupId, ProjectResourceType.FILE, fileName, "", createdBy,
+                new Date(createdAt), "https://example.com/files/" + fileName, "application/pdf", fileName,
+                size, "groups/" + groupId + "/" + fileName);
+    }
+
+    // ================= Distributions =================
+
+    private long sampleDeadline(Random random) {
+        double roll = random.nextDouble();
+        if (roll < 0.1) {
+            return DayClock.NO_TIME;
+        }
+        long t;
+        if (roll < 0.65) {
+            t = examWeeks[random.nextInt(examWeeks.length)] + (long) (random.nextGaussian() * 3 * DAY);
+        } else {
+            t = now + (long) ((random.nextDouble() * 104 - 14) * DAY);
+        }
+        // Deadlines fall on the hour, mostly late in the evening
+        return Math.floorDiv(t, DAY) * DAY + DEADLINE_HOURS[random.nextInt(DEADLINE_HOURS.length)] * HOUR;
+    }
+
+    private boolean sampleCompleted(Random random, long deadline) {
+        if (deadline == DayClock.NO_TIME) {
+            return random.nextInt(10) < 3;
+        }
+        return deadline < now ? random.nextInt(100) < 85 : random.nextInt(100) < 15;
+    }
+
+    private long completedAt(Random random, long deadline) {
+        long end = deadline == DayClock.NO_TIME ? now : Math.min(deadline, now);
+        return end - (long) (random.nextDouble() * 3 * DAY);
+    }
+
+    private static Priority samplePriority(Random random) {
+        int roll = random.nextInt(10);
+        return roll < 3 ? Priority.LOW : roll < 8 ? Priority.MEDIUM : Priority.HIGH;
+    }
+
+    /** Index in [0, n) with probability proportional to 1 / (i + 1). */
+    private static int zipf(Random random, int n) {
+        double harmonic = Math.log(n) + 0.5772;
+        double target = random.nextDouble() * harmonic;
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / (i + 1);
+            if (sum >= target) {
+                return i;
+            }
+        }
+        return n - 1;
+    }
+
+    private static double exponential(Random random, double mean) {
+        return -Math.log(1 - random.nextDouble()) * mean;
+    }
+
+    private static String sentence(Random random) {
+        int length = 3 + random.nextInt(12);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) text.append(' ');
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static String displayName(String userId) {
+        return userId.startsWith(ID_PREFIX) ? "Student " + userId.substring(userId.lastIndexOf('-') + 1) : "You";
+    }
+
+    private static String joinCode(int index) {
+        return String.format(Locale.US, "Z%05d", index);
+    }
+
+    private static Date toDate(long millis) {
+        return millis == DayClock.NO_TIME ? null : new Date(millis);
+    }
+
+    private Random stream(int section) {
+        return new Random(spec.getSeed() * 31 + section);
+    }
+}
@@ -0,0 +1,238 @@
+package com.student.overcooked.data.workload;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import com.student.overcooked.data.database.OvercookedDatabase;
+import com.student.overcooked.data.model.Group;
+import com.student.overcooked.data.model.GroupMember;
+import com.student.overcooked.data.model.GroupMessage;
+import com.student.overcooked.data.model.GroupTask;
+import com.student.overcooked.data.model.Project;
+import com.student.overcooked.data.model.ProjectResource;
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.util.DayClock;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes a {@link Workload} into an {@link OvercookedDatabase}, either the app's own or a
+ * throwaway in-memory one, or its group side into a {@link FakeFirestore}.
+ *
+ * Personal tasks keep their synthetic Firestore id but are never marked for sync or as
+ * existing remotely, so they do not leave the device and remote reconciliation leaves them
+ * alone. {@link #clear} removes everything the generator produced, found by its
+ * {@link WorkloadGenerator#ID_PREFIX} marker, and nothing else.
+ */
+public final class WorkloadLoader {
+
+    private WorkloadLoader() {
+    }
+
+    /**
+     * In-memory database with the app's schema and type converters, for benchmarks.
+     */
+    @NonNull
+    public static OvercookedDatabase openInMemory(@NonNull Context context) {
+        return Room.inMemoryDatabaseBuilder(context.getApplicationContext(), OvercookedDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    /**
+     * Insert every local row of the workload in one transaction. Projects and tasks get ids
+     * from the database, as real rows do, and the workload's objects are updated to match.
+     *
+     * @return time spent in milliseconds
+     */
+    @WorkerThread
+    public static long load(@NonNull OvercookedDatabase database, @NonNull Workload workload) {
+        long start = System.nanoTime();
+        database.runInTransaction(() -> {
+            Map<Long, Long> projectIds = new HashMap<>();
+            for (Project project : workload.getProjects()) {
+                long placeholder = project.getId();
+                project.setId(0);
+                project.setId(database.projectDao().insertProject(project));
+                projectIds.put(placeholder, project.getId());
+            }
+            for (Task task : workload.getTasks()) {
+                if (task.getProjectId() != null) {
+                    task.setProjectId(projectIds.get(task.getProjectId()));
+                }
+                task.setId(0);
+                task.setId(database.taskDao().insertTask(task));
+            }
+            database.groupDao().insertAll(workload.getGroups());
+            database.groupTaskDao().upsertAll(workload.getGroupTasks());
+            database.groupMessageDao().insertAll(workload.getMessages());
+            database.projectResourceDao().upsertAll(workload.getResources());
+        });
+        return (System.nanoTime() - start) / 1_000_000L;
+    }
+
+    /**
+     * Write the workload's groups, members, group tasks, messages and resources into
+     * {@code store} as the documents Firestore would hold for them, in full batches. Dates are
+     * stored as epoch millis, as {@link GroupLoadSimulator} reads them, and unset ones as null.
+     *
+     * @return time spent in milliseconds
+     */
+    public static long load(@NonNull FakeFirestore store, @NonNull Workload workload) {
+        long start = System.nanoTime();
+        Batcher batcher = new Batcher(store);
+        for (Group group : workload.getGroups()) {
+            batcher.set(FakeFirestore.GROUPS, group.getId(), toMap(group));
+        }
+        for (GroupMember member : workload.getMembers()) {
+            batcher.set(FakeFirestore.GROUP_MEMBERS, member.getId(), toMap(member));
+        }
+        for (GroupTask task : workload.getGroupTasks()) {
+            batcher.set(FakeFirestore.GROUP_TASKS, task.getId(), toMap(task));
+        }
+        for (GroupMessage message : workload.getMessages()) {
+            batcher.set(FakeFirestore.GROUP_MESSAGES, message.getId(), toMap(message));
+        }
+        for (ProjectResource resource : workload.getResources()) {
+            batcher.set(FakeFirestore.GROUP_RESOURCES, resource.getId(), toMap(resource));
+        }
+        batcher.commit();
+        return (System.nanoTime() - start) / 1_000_000L;
+    }
+
+    /**
+     * Delete all generated rows, leaving real data in place.
+     */
+    @WorkerThread
+    public static void clear(@NonNull OvercookedDatabase database) {
+        SupportSQLiteDatabase db = database.getOpenHelper().getWritableDatabase();
+        Object[] idPattern = {WorkloadGenerator.ID_PREFIX + "%"};
+        Object[] projectMarker = {WorkloadGenerator.PROJECT_MARKER};
+        database.runInTransaction(() -> {
+            db.execSQL("DELETE FROM tasks WHERE firestoreId LIKE ?", idPattern);
+            db.execSQL("DELETE FROM projects WHERE description = ?", projectMarker);
+            db.execSQL("DELETE FROM group_tasks WHERE groupId LIKE ?", idPattern);
+            db.execSQL("DELETE FROM group_messages WHERE groupId LIKE ?", idPattern);
+            db.execSQL("DELETE FROM project_resources WHERE groupId LIKE ?", idPattern);
+            db.execSQL("DELETE FROM groups WHERE id LIKE ?", idPattern);
+        });
+    }
+
+    /** A write batch that commits itself whenever it reaches Firestore's size limit. */
+    private static final class Batcher {
+        private final FakeFirestore store;
+        private FakeFirestore.WriteBatch batch;
+        private int pending;
+
+        Batcher(FakeFirestore store) {
+            this.store = store;
+            this.batch = store.batch();
+        }
+
+        void set(String collection, String id, Map<String, Object> data) {
+            batch.set(collection, id, data);
+            if (++pending == FakeFirestore.MAX_BATCH_WRITES) {
+                commit();
+            }
+        }
+
+        void commit() {
+            if (pending > 0) {
+                batch.commit();
+                batch = store.batch();
+                pending = 0;
+            }
+        }
+    }
+
+    private static Map<String, Object> toMap(Group group) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", group.getId());
+        map.put("name", group.getName());
+        map.put("subject", group.getSubject());
+        map.put("description", group.getDescription());
+        map.put("joinCode", group.getJoinCode());
+        map.put("createdBy", group.getCreatedBy());
+        map.put("createdAt", time(group.getCreatedAt()));
+        map.put("memberCount", group.getMemberCount());
+        map.put("totalTasks", group.getTotalTasks());
+        map.put("completedTasks", group.getCompletedTasks());
+        map.put("individualProject", group.isIndividualProject());
+        map.put("deadline", time(group.getDeadline()));
+        return map;
+    }
+
+    private static Map<String, Object> toMap(GroupMember member) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", member.getId());
+        map.put("groupId", member.getGroupId());
+        map.put("userId", member.getUserId());
+        map.put("userName", member.getUserName());
+        map.put("userEmail", member.getUserEmail());
+        map.put("role", member.getRole() != null ? member.getRole().name() : null);
+        map.put("joinedAt", time(member.getJoinedAt()));
+        map.put("pending", member.isPending());
+        return map;
+    }
+
+    private static Map<String, Object> toMap(GroupTask task) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", task.getId());
+        map.put("groupId", task.getGroupId());
+        map.put("title", task.getTitle());
+        map.put("description", task.getDescription());
+        map.put("assigneeId", task.getAssigneeId());
+        map.put("assigneeName", task.getAssigneeName());
+        map.put("priority", task.getPriority() != null ? task.getPriority().name() : null);
+        map.put("deadline", time(task.getDeadlineMillis()));
+        map.put("completed", task.isCompleted());
+        map.put("completedAt", time(task.getCompletedAtMillis()));
+        map.put("createdBy", task.getCreatedBy());
+        map.put("createdAt", time(task.getCreatedAtMillis()));
+        map.put("status", task.getStatus().name());
+        map.put("rewardClaimed", task.isRewardClaimed());
+        return map;
+    }
+
+    private static Map<String, Object> toMap(GroupMessage message) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", message.getId());
+        map.put("groupId", message.getGroupId());
+        map.put("senderId", message.getSenderId());
+        map.put("senderName", message.getSenderName());
+        map.put("message", message.getMessage());
+        map.put("timestamp", time(message.getTimestamp()));
+        return map;
+    }
+
+    private static Map<String, Object> toMap(ProjectResource resource) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", resource.getId());
+        map.put("groupId", resource.getGroupId());
+        map.put("type", resource.getType() != null ? resource.getType().name() : null);
+        map.put("title", resource.getTitle());
+        map.put("content", resource.getContent());
+        map.put("createdBy", resource.getCreatedBy());
+        map.put("createdAt", time(resource.getCreatedAt()));
+        map.put("fileUrl", resource.getFileUrl());
+        map.put("fileMimeType", resource.getFileMimeType());
+        map.put("fileName", resource.getFileName());
+        map.put("fileSizeBytes", resource.getFileSizeBytes());
+        map.put("storagePath", resource.getStoragePath());
+        return map;
+    }
+
+    private static Long time(Date date) {
+        return date != null ? date.getTime() : null;
+    }
+
+    private static Long time(long millis) {
+        return millis != DayClock.NO_TIME ? millis : null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.student.overcooked.data.workload;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Size and shape of a synthetic dataset for {@link WorkloadGenerator}.
+ *
+ * The same spec and seed always produce the same rows, so numbers from two runs or two
+ * commits are comparable. Use one of the presets and adjust with the {@code with*} copies.
+ */
+public final class WorkloadSpec {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    private final long seed;
+    private final long now;
+    private final int personalTasks;
+    private final int projects;
+    private final int groups;
+    private final int maxGroupSize;
+    private final int groupTasksPerMember;
+    private final int messagesPerGroup;
+    private final int resourcesPerGroup;
+
+    private WorkloadSpec(long seed, long now, int personalTasks, int projects, int groups, int maxGroupSize,
+                         int groupTasksPerMember, int messagesPerGroup, int resourcesPerGroup) {
+        this.seed = seed;
+        this.now = now;
+        this.personalTasks = personalTasks;
+        this.projects = projects;
+        this.groups = groups;
+        this.maxGroupSize = maxGroupSize;
+        this.groupTasksPerMember = groupTasksPerMember;
+        this.messagesPerGroup = messagesPerGroup;
+        this.resourcesPerGroup = resourcesPerGroup;
+    }
+
+    /**
+     * One busy student over a semester.
+     */
+    @NonNull
+    public static WorkloadSpec semester(long now) {
+        return new WorkloadSpec(DEFAULT_SEED, now, 150, 6, 5, 12, 3, 400, 8);
+    }
+
+    /**
+     * Well past anything a real account reaches; for the stress flavour and benchmarks.
+     */
+    @NonNull
+    public static WorkloadSpec stress(long now) {
+        return new WorkloadSpec(DEFAULT_SEED, now, 20_000, 200, 150, 120, 4, 2_000, 40);
+    }
+
+    /**
+     * About {@code rows} personal tasks and as many group tasks, with projects and groups in
+     * proportion and almost no chat; for measuring queries at a given table size.
+     */
+    @NonNull
+    public static WorkloadSpec rows(long now, int rows) {
+        return new WorkloadSpec(DEFAULT_SEED, now, rows, Math.max(1, rows / 100), Math.max(1, rows / 25),
+                12, 4, 0, 0);
+    }
+
+    @NonNull
+    public WorkloadSpec withSeed(long seed) {
+        return new WorkloadSpec(seed, now, personalTasks, projects, groups, maxGroupSize,
+                groupTasksPerMember, messagesPerGroup, resourcesPerGroup);
+    }
+
+    @NonNull
+    public WorkloadSpec withPersonalTasks(int personalTasks) {
+        return new WorkloadSpec(seed, now, personalTasks, projects, groups, maxGroupSize,
+                groupTasksPerMember, messagesPerGroup, resourcesPerGroup);
+    }
+
+    @NonNull
+    public WorkloadSpec withGroups(int groups) {
+        return new WorkloadSpec(seed, now, personalTasks, projects, groups, maxGroupSize,
+                groupTasksPerMember, messagesPerGroup, resourcesPerGroup);
+    }
+
+    public long getSeed() { return seed; }
+    public long getNow() { return now; }
+    public int getPersonalTasks() { return personalTasks; }
+    public int getProjects() { return projects; }
+    public int getGroups() { return groups; }
+    public int getMaxGroupSize() { return maxGroupSize; }
+    public int getGroupTasksPerMember() { return groupTasksPerMember; }
+    public int getMessagesPerGroup() { return messagesPerGroup; }
+    public int getResourcesPerGroup() { return resourcesPerGroup; }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WorkloadSpec{seed=" + seed + ", personalTasks=" + personalTasks + ", projects=" + projects
+                + ", groups=" + groups + ", maxGroupSize=" + maxGroupSize
+                + ", groupTasksPerMember=" + groupTasksPerMember + ", messagesPerGroup=" + messagesPerGroup
+                + ", resourcesPerGroup=" + resourcesPerGroup + '}';
+    }
+}
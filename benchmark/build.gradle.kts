@@ -0,0 +1,73 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+// The app module is an Android application and cannot be a JVM dependency, so the
+// benchmarks compile the app's Android-free classes straight from its source tree.
+// Anything added here must not import android.* or Firebase runtime classes.
+val appSources = listOf(
+    "com/student/overcooked/data/database/Converters.java",
+    "com/student/overcooked/data/model/BaseTask.java",
+    "com/student/overcooked/data/model/CookedLevel.java",
+    "com/student/overcooked/data/model/CookedMeterStats.java",
+    "com/student/overcooked/data/model/Group.java",
+    "com/student/overcooked/data/model/GroupMember.java",
+    "com/student/overcooked/data/model/GroupMessage.java",
+    "com/student/overcooked/data/model/GroupRole.java",
+    "com/student/overcooked/data/model/GroupTask.java",
+    "com/student/overcooked/data/model/MemberRole.java",
+    "com/student/overcooked/data/model/Priority.java",
+    "com/student/overcooked/data/model/Project.java",
+    "com/student/overcooked/data/model/ProjectResource.java",
+    "com/student/overcooked/data/model/ProjectResourceType.java",
+    "com/student/overcooked/data/model/Task.java",
+    "com/student/overcooked/data/model/TaskStatus.java",
+    "com/student/overcooked/data/model/TaskSummary.java",
+    "com/student/overcooked/data/model/TaskType.java",
+    "com/student/overcooked/data/repository/task/TaskMapCodec.java",
+    "com/student/overcooked/data/workload/Workload.java",
+    "com/student/overcooked/data/workload/WorkloadGenerator.java",
+    "com/student/overcooked/data/workload/WorkloadSpec.java",
+    "com/student/overcooked/util/Clock.java",
+    "com/student/overcooked/util/CookedMeterCalculator.java",
+    "com/student/overcooked/util/CookedMeterEngine.java",
+    "com/student/overcooked/util/CookedMeterResult.java",
+    "com/student/overcooked/util/DayClock.java",
+    "com/student/overcooked/util/TaskFilters.java"
+)
+
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf("../app/src/main/java", "../app/src/workload/java", "src/stubs/java"))
+            include(appSources)
+            include("com/google/firebase/firestore/Exclude.java")
+        }
+    }
+}
+
+dependencies {
+    // Annotation-only artifacts; both are plain JVM jars
+    implementation(libs.androidx.annotation)
+    implementation(libs.androidx.room.common)
+}
+
+// ./gradlew :benchmark:jmh [-Pjmh.includes=TaskList]
+// Results land in build/results/jmh/results.json; keep one per commit to compare runs.
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    timeUnit.set("us")
+    benchmarkMode.set(listOf("avgt"))
+    (findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,60 @@
+package com.student.overcooked.benchmark;
+
+import com.student.overcooked.data.database.Converters;
+import com.student.overcooked.data.model.Task;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * The Room type converters a task row goes through on write and on read, once per row.
+ */
+@State(Scope.Benchmark)
+public class ConvertersBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int taskCount;
+
+    private List<Task> tasks;
+    private String[] priorities;
+    private String[] types;
+    private String[] statuses;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskFixtures.tasks(taskCount);
+        priorities = new String[taskCount];
+        types = new String[taskCount];
+        statuses = new String[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            Task task = tasks.get(i);
+            priorities[i] = Converters.fromPriority(task.getPriority());
+            types[i] = Converters.fromTaskType(task.getTaskType());
+            statuses[i] = Converters.fromTaskStatus(task.getStatus());
+        }
+    }
+
+    @Benchmark
+    public void encodeRows(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(Converters.fromPriority(task.getPriority()));
+            blackhole.consume(Converters.fromTaskType(task.getTaskType()));
+            blackhole.consume(Converters.fromTaskStatus(task.getStatus()));
+        }
+    }
+
+    @Benchmark
+    public void decodeRows(Blackhole blackhole) {
+        for (int i = 0; i < taskCount; i++) {
+            blackhole.consume(Converters.toPriority(priorities[i]));
+            blackhole.consume(Converters.toTaskType(types[i]));
+            blackhole.consume(Converters.toTaskStatus(statuses[i]));
+        }
+    }
+}
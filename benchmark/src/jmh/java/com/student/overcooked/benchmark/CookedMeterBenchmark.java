@@ -0,0 +1,56 @@
+package com.student.overcooked.benchmark;
+
+import com.student.overcooked.data.model.Priority;
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.util.CookedMeterCalculator;
+import com.student.overcooked.util.CookedMeterEngine;
+import com.student.overcooked.util.CookedMeterResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Full recomputation against the incremental engine for the two updates Home actually sees:
+ * Room re-emitting an unchanged list, and a single task edit.
+ */
+@State(Scope.Benchmark)
+public class CookedMeterBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int taskCount;
+
+    private List<TaskSummary> tasks;
+    private CookedMeterEngine engine;
+    private TaskSummary edited;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskFixtures.summaries(taskCount);
+        engine = new CookedMeterEngine(TaskFixtures.NOW);
+        engine.submitList(tasks, TaskFixtures.NOW);
+        edited = tasks.get(taskCount / 2);
+    }
+
+    @Benchmark
+    public CookedMeterResult calculator() {
+        return CookedMeterCalculator.getCookedMeterResult(tasks, TaskFixtures.NOW);
+    }
+
+    @Benchmark
+    public CookedMeterResult engineUnchangedList() {
+        engine.submitList(tasks, TaskFixtures.NOW);
+        return engine.getResult();
+    }
+
+    @Benchmark
+    public CookedMeterResult engineSingleEdit() {
+        edited.setPriority(edited.getPriority() == Priority.HIGH ? Priority.LOW : Priority.HIGH);
+        engine.upsert(edited);
+        return engine.getResult();
+    }
+}
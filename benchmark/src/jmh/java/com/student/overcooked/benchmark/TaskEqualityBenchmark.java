@@ -0,0 +1,52 @@
+package com.student.overcooked.benchmark;
+
+import com.student.overcooked.data.model.Task;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * {@code Task.equals} and {@code hashCode} as DiffUtil and {@code DistinctLiveData} call them:
+ * one comparison per row against an equal copy loaded from a separate query.
+ */
+@State(Scope.Benchmark)
+public class TaskEqualityBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int taskCount;
+
+    private List<Task> current;
+    private List<Task> reloaded;
+
+    @Setup
+    public void setUp() {
+        current = TaskFixtures.tasks(taskCount);
+        reloaded = TaskFixtures.tasks(taskCount);
+    }
+
+    @Benchmark
+    public int contentsTheSame() {
+        int same = 0;
+        for (int i = 0; i < taskCount; i++) {
+            if (current.get(i).equals(reloaded.get(i))) {
+                same++;
+            }
+        }
+        return same;
+    }
+
+    @Benchmark
+    public int listHashCode() {
+        return current.hashCode();
+    }
+
+    @Benchmark
+    public boolean listEquals() {
+        return current.equals(reloaded);
+    }
+}
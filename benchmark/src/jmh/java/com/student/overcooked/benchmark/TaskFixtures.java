@@ -0,0 +1,50 @@
+package com.student.overcooked.benchmark;
+
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.data.workload.WorkloadGenerator;
+import com.student.overcooked.data.workload.WorkloadSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Task lists from the app's {@link WorkloadGenerator}, so benchmarks see the same deadline
+ * clustering and completion mix as the stress build.
+ */
+final class TaskFixtures {
+
+    // Fixed so results do not depend on the day the benchmark runs
+    static final long NOW = 1_760_000_000_000L;
+
+    private static final String USER_ID = "benchmark-user";
+
+    private TaskFixtures() {
+    }
+
+    static List<Task> tasks(int count) {
+        List<Task> tasks = new WorkloadGenerator(WorkloadSpec.semester(NOW)).generateTasks(USER_ID, count);
+        for (Task task : tasks) {
+            // Generated tasks are local-only; give them the remote id a synced task would have
+            task.setFirestoreId("fs-" + task.getId());
+        }
+        return tasks;
+    }
+
+    static List<TaskSummary> summaries(int count) {
+        List<TaskSummary> result = new ArrayList<>(count);
+        for (Task task : tasks(count)) {
+            TaskSummary summary = new TaskSummary();
+            summary.setId(task.getId());
+            summary.setTitle(task.getTitle());
+            summary.setCourse(task.getCourse());
+            summary.setTaskType(task.getTaskType());
+            summary.setPriority(task.getPriority());
+            summary.setStatus(task.getStatus());
+            summary.setCompleted(task.isCompleted());
+            summary.setDeadlineMillis(task.getDeadlineMillis());
+            result.add(summary);
+        }
+        return result;
+    }
+}
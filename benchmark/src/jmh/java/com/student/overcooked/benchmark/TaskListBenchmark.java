@@ -0,0 +1,56 @@
+package com.student.overcooked.benchmark;
+
+import com.student.overcooked.data.model.TaskSummary;
+import com.student.overcooked.util.TaskFilters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The list work done on every task emission: the Home "Work Now" top five and the Tasks tab
+ * filters. {@code fullSortTopFive} is the sort-then-truncate approach kept as a baseline.
+ */
+@State(Scope.Benchmark)
+public class TaskListBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int taskCount;
+
+    @Param({"ALL", "UPCOMING", "COMPLETED", "OVERDUE"})
+    public TaskFilters.Filter filter;
+
+    private List<TaskSummary> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskFixtures.summaries(taskCount);
+    }
+
+    @Benchmark
+    public List<TaskSummary> filter() {
+        return TaskFilters.apply(tasks, filter, TaskFixtures.NOW);
+    }
+
+    @Benchmark
+    public List<TaskSummary> workNowTopFive() {
+        return TaskFilters.earliestDeadlines(tasks, 5);
+    }
+
+    @Benchmark
+    public List<TaskSummary> fullSortTopFive() {
+        List<TaskSummary> pending = new ArrayList<>();
+        for (TaskSummary task : tasks) {
+            if (!task.isCompleted() && task.getDeadline() != null) {
+                pending.add(task);
+            }
+        }
+        pending.sort(TaskFilters.BY_DEADLINE);
+        return pending.size() > 5 ? pending.subList(0, 5) : pending;
+    }
+}
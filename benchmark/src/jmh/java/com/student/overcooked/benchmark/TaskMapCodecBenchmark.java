@@ -0,0 +1,52 @@
+package com.student.overcooked.benchmark;
+
+import com.student.overcooked.data.model.Task;
+import com.student.overcooked.data.repository.task.TaskMapCodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Realtime Database encoding used by the sync worker, and decoding used by the live listener
+ * for every task on each remote change.
+ */
+@State(Scope.Benchmark)
+public class TaskMapCodecBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int taskCount;
+
+    private List<Task> tasks;
+    private List<Map<String, Object>> encoded;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskFixtures.tasks(taskCount);
+        encoded = new ArrayList<>(taskCount);
+        for (Task task : tasks) {
+            encoded.add(TaskMapCodec.toMap(task));
+        }
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(TaskMapCodec.toMap(task));
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        for (Map<String, Object> map : encoded) {
+            blackhole.consume(TaskMapCodec.fromMap((String) map.get("firestoreId"), map));
+        }
+    }
+}
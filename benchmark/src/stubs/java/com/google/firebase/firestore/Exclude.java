@@ -0,0 +1,16 @@
+package com.google.firebase.firestore;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Compile-time stand-in for the Firestore annotation on {@code BaseTask}. The real one ships
+ * in an Android archive the JVM benchmarks cannot depend on; it only affects Firestore's
+ * reflection-based mapper, which never runs here.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+public @interface Exclude {
+}